@@ -1,17 +1,208 @@
 package com.schedulebuilder.class_scheduler.config;
 
+import com.schedulebuilder.class_scheduler.util.UpstreamThrottle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * Configuration class to define RestTemplate bean.
+ * Upstream calls go through a pooled Apache HttpClient so connections (and their TLS sessions)
+ * are kept alive between requests, with explicit timeouts instead of blocking forever.
+ * Interactive course searches use a separate non-blocking client so waiting on the upstream API
+ * doesn't hold a thread per request.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    // Request bodies smaller than this aren't worth compressing
+    private static final int GZIP_MIN_REQUEST_BYTES = 1024;
+
+    @Value("${upstream.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${upstream.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${upstream.http.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${upstream.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${upstream.http.pool-timeout-ms:2000}")
+    private long poolTimeoutMs;
+
+    @Value("${upstream.http.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${upstream.http.idle-evict-seconds:60}")
+    private long idleEvictSeconds;
+
+    @Value("${upstream.http.gzip-requests:false}")
+    private boolean gzipRequests;
+
+    @Value("${upstream.throttle.requests-per-second:20}")
+    private double throttleRequestsPerSecond;
+
+    @Value("${upstream.throttle.burst:40}")
+    private int throttleBurst;
+
+    @Value("${upstream.throttle.max-concurrent:16}")
+    private int throttleMaxConcurrent;
+
+    @Value("${upstream.throttle.interactive-reserve:4}")
+    private int throttleInteractiveReserve;
+
+    @Value("${upstream.throttle.interactive-max-wait-ms:2000}")
+    private long throttleInteractiveMaxWaitMs;
+
+    @Value("${upstream.throttle.background-max-wait-ms:30000}")
+    private long throttleBackgroundMaxWaitMs;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+
+        // Content compression is on by default: requests advertise gzip/deflate and responses are decoded transparently
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient upstreamAsyncHttpClient() {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(connectionConfig())
+                // Use HTTP/2 when the server offers it over ALPN, multiplexing requests on one connection
+                .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build())
+                .build();
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+        client.start();
+        return client;
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient upstreamHttpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(upstreamHttpClient));
+        if (gzipRequests) {
+            restTemplate.getInterceptors().add(gzipRequestInterceptor());
+        }
+        return restTemplate;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public UpstreamThrottle upstreamThrottle(MeterRegistry meterRegistry) {
+        Map<UpstreamThrottle.Priority, Timer> waitTimers = new EnumMap<>(UpstreamThrottle.Priority.class);
+        Map<UpstreamThrottle.Priority, Counter> rejections = new EnumMap<>(UpstreamThrottle.Priority.class);
+        for (UpstreamThrottle.Priority priority : UpstreamThrottle.Priority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            waitTimers.put(priority, Timer.builder("upstream.throttle.wait")
+                    .description("Time upstream requests waited for a rate/concurrency slot")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            rejections.put(priority, Counter.builder("upstream.throttle.rejected")
+                    .description("Upstream requests that gave up waiting for a slot")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+
+        UpstreamThrottle throttle = new UpstreamThrottle(throttleRequestsPerSecond, throttleBurst,
+                throttleMaxConcurrent, throttleInteractiveReserve,
+                throttleInteractiveMaxWaitMs, throttleBackgroundMaxWaitMs,
+                new UpstreamThrottle.WaitListener() {
+                    @Override
+                    public void onAdmitted(UpstreamThrottle.Priority priority, long waitNanos) {
+                        waitTimers.get(priority).record(waitNanos, TimeUnit.NANOSECONDS);
+                    }
+
+                    @Override
+                    public void onRejected(UpstreamThrottle.Priority priority) {
+                        rejections.get(priority).increment();
+                    }
+                });
+
+        Gauge.builder("upstream.throttle.in-flight", throttle, UpstreamThrottle::getInFlight).register(meterRegistry);
+        Gauge.builder("upstream.throttle.queued", throttle, UpstreamThrottle::getQueued).register(meterRegistry);
+        return throttle;
+    }
+
+    private ConnectionConfig connectionConfig() {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+
+    private ClientHttpRequestInterceptor gzipRequestInterceptor() {
+        return (request, body, execution) -> {
+            if (body.length < GZIP_MIN_REQUEST_BYTES) {
+                return execution.execute(request, body);
+            }
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return execution.execute(request, gzip(body));
+        };
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        return buffer.toByteArray();
     }
 }
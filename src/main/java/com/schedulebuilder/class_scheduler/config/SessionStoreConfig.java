@@ -0,0 +1,39 @@
+package com.schedulebuilder.class_scheduler.config;
+
+import com.schedulebuilder.class_scheduler.service.SessionAttributeCodec;
+import com.schedulebuilder.class_scheduler.service.SessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Puts the {@link StoredSessionFilter} in front of everything else that might touch the session.
+ * The filter is only registered when there is a {@link SessionStore} bean, so setting
+ * session.store.type to a value no backend handles (e.g. "servlet") falls back to the
+ * container's in-memory sessions.
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    @Value("${session.store.cookie-name:CYPLAN_SESSION}")
+    private String cookieName;
+
+    @Value("${server.servlet.session.timeout:30m}")
+    private Duration timeout;
+
+    @Bean
+    @ConditionalOnBean(SessionStore.class)
+    public FilterRegistrationBean<StoredSessionFilter> storedSessionFilter(SessionStore sessionStore,
+                                                                          SessionAttributeCodec codec) {
+        FilterRegistrationBean<StoredSessionFilter> registration =
+                new FilterRegistrationBean<>(new StoredSessionFilter(sessionStore, codec, cookieName, timeout));
+        // Same slot Spring Session uses: ahead of the flash map and MVC machinery
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+        return registration;
+    }
+}
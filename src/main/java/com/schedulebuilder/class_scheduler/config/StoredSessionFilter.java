@@ -0,0 +1,348 @@
+package com.schedulebuilder.class_scheduler.config;
+
+import com.schedulebuilder.class_scheduler.service.SessionAttributeCodec;
+import com.schedulebuilder.class_scheduler.service.SessionStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replaces the container's {@link HttpSession} with one loaded from a {@link SessionStore} at the
+ * start of a request and written back at the end, identified by its own cookie. Between requests
+ * sessions only live in the store, so they survive restarts and the heap doesn't grow with the
+ * number of users. A session is only rewritten when an attribute was changed or removed;
+ * otherwise the store is just told it was accessed.
+ *
+ * <p>Async requests (e.g. /addCourses completing on a search thread) keep using the session loaded
+ * by their first dispatch, and it is saved when the async dispatch finishes.</p>
+ *
+ * <p>Sessions are saved whole and without locking, so concurrent requests from one session are
+ * last-writer-wins: each works on its own copy, and the one that finishes last overwrites the
+ * attributes the others changed (e.g. a course added in one tab while another generates
+ * schedules).</p>
+ */
+public class StoredSessionFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = Logger.getLogger(StoredSessionFilter.class.getName());
+    private static final String CURRENT_SESSION = StoredSessionFilter.class.getName() + ".SESSION";
+    private static final int SESSION_ID_BYTES = 24;
+    // Unchanged sessions refresh their expiry at most this often
+    private static final long TOUCH_INTERVAL_MILLIS = 60_000;
+
+    private final SessionStore store;
+    private final SessionAttributeCodec codec;
+    private final String cookieName;
+    private final int maxInactiveSeconds;
+    private final SecureRandom random = new SecureRandom();
+
+    public StoredSessionFilter(SessionStore store, SessionAttributeCodec codec, String cookieName, Duration timeout) {
+        this.store = store;
+        this.codec = codec;
+        this.cookieName = cookieName;
+        this.maxInactiveSeconds = (int) timeout.getSeconds();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SessionRequest sessionRequest = new SessionRequest(request, response);
+        try {
+            chain.doFilter(sessionRequest, response);
+        } finally {
+            if (!sessionRequest.isAsyncStarted()) {
+                sessionRequest.commit();
+            }
+        }
+    }
+
+    private String newSessionId() {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Enum<?>;
+    }
+
+    private final class SessionRequest extends HttpServletRequestWrapper {
+
+        private final HttpServletResponse response;
+        private String requestedSessionId;
+        private boolean requestedSessionIdRead;
+
+        private SessionRequest(HttpServletRequest request, HttpServletResponse response) {
+            super(request);
+            this.response = response;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            StoredHttpSession session = currentSession();
+            if (session != null) {
+                return session;
+            }
+
+            String sessionId = getRequestedSessionId();
+            if (sessionId != null) {
+                session = load(sessionId);
+            }
+            if (session == null && create) {
+                long now = System.currentTimeMillis();
+                session = new StoredHttpSession(newSessionId(), now, now, maxInactiveSeconds, new LinkedHashMap<>(), true);
+                writeCookie(this, response, session.id, Duration.ofSeconds(-1));
+            }
+            if (session != null) {
+                setAttribute(CURRENT_SESSION, session);
+            }
+            return session;
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            if (!requestedSessionIdRead) {
+                requestedSessionIdRead = true;
+                Cookie[] cookies = super.getCookies();
+                if (cookies != null) {
+                    for (Cookie cookie : cookies) {
+                        if (cookieName.equals(cookie.getName())) {
+                            requestedSessionId = cookie.getValue();
+                            break;
+                        }
+                    }
+                }
+            }
+            return requestedSessionId;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            StoredHttpSession session = currentSession();
+            return session != null && !session.isNew && !session.invalidated;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromCookie() {
+            return getRequestedSessionId() != null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromURL() {
+            return false;
+        }
+
+        @Override
+        public String changeSessionId() {
+            StoredHttpSession session = currentSession();
+            if (session == null) {
+                throw new IllegalStateException("No session to change the ID of");
+            }
+            store.delete(session.id);
+            session.id = newSessionId();
+            session.dirty = true;
+            writeCookie(this, response, session.id, Duration.ofSeconds(-1));
+            return session.id;
+        }
+
+        private StoredHttpSession currentSession() {
+            StoredHttpSession session = (StoredHttpSession) getAttribute(CURRENT_SESSION);
+            return session != null && !session.invalidated ? session : null;
+        }
+
+        private StoredHttpSession load(String sessionId) {
+            SessionStore.StoredSession stored = store.load(sessionId);
+            if (stored == null) {
+                return null;
+            }
+            try {
+                return new StoredHttpSession(sessionId, stored.creationTime(), stored.lastAccessedTime(),
+                        stored.maxInactiveSeconds(), codec.decode(stored.attributes()), false);
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Discarding undecodable session", e);
+                store.delete(sessionId);
+                return null;
+            }
+        }
+
+        private void commit() {
+            StoredHttpSession session = (StoredHttpSession) getAttribute(CURRENT_SESSION);
+            if (session == null) {
+                return;
+            }
+            // An async dispatch commits again; only the first commit after a change has work to do
+            removeAttribute(CURRENT_SESSION);
+
+            if (session.invalidated) {
+                if (!response.isCommitted()) {
+                    writeCookie(this, response, "", Duration.ZERO);
+                }
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            if (session.dirty || session.isNew) {
+                try {
+                    store.save(session.id, new SessionStore.StoredSession(session.creationTime, now,
+                            session.maxInactiveSeconds, codec.encode(session.attributes)));
+                } catch (IOException | RuntimeException e) {
+                    logger.log(Level.WARNING, "Could not save session", e);
+                }
+            } else if (now - session.lastAccessedTime > TOUCH_INTERVAL_MILLIS) {
+                store.touch(session.id, now);
+            }
+        }
+    }
+
+    private final class StoredHttpSession implements HttpSession {
+
+        private String id;
+        private final long creationTime;
+        private final long lastAccessedTime;
+        private int maxInactiveSeconds;
+        private final Map<String, Object> attributes;
+        private final boolean isNew;
+        private boolean dirty;
+        private boolean invalidated;
+
+        private StoredHttpSession(String id, long creationTime, long lastAccessedTime, int maxInactiveSeconds,
+                                  Map<String, Object> attributes, boolean isNew) {
+            this.id = id;
+            this.creationTime = creationTime;
+            this.lastAccessedTime = lastAccessedTime;
+            this.maxInactiveSeconds = maxInactiveSeconds;
+            this.attributes = Collections.synchronizedMap(attributes);
+            this.isNew = isNew;
+        }
+
+        @Override
+        public long getCreationTime() {
+            checkValid();
+            return creationTime;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            checkValid();
+            return lastAccessedTime;
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return StoredSessionFilter.this.getServletContext();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+            maxInactiveSeconds = interval;
+            dirty = true;
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return maxInactiveSeconds;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            checkValid();
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            checkValid();
+            synchronized (attributes) {
+                return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+            }
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            checkValid();
+            if (value == null) {
+                removeAttribute(name);
+                return;
+            }
+            Object previous = attributes.put(name, value);
+            // Re-setting an equal immutable value (e.g. the academic period on every page load) changes
+            // nothing. Anything else may have been mutated in place, so it is always saved.
+            if (!(isImmutable(value) && value.equals(previous))) {
+                dirty = true;
+            }
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            checkValid();
+            if (attributes.remove(name) != null) {
+                dirty = true;
+            }
+        }
+
+        @Override
+        public void invalidate() {
+            checkValid();
+            invalidated = true;
+            store.delete(id);
+        }
+
+        @Override
+        public boolean isNew() {
+            checkValid();
+            return isNew;
+        }
+
+        private void checkValid() {
+            if (invalidated) {
+                throw new IllegalStateException("Session " + id + " has been invalidated");
+            }
+        }
+    }
+}
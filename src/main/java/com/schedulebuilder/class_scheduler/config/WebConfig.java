@@ -1,11 +1,20 @@
 package com.schedulebuilder.class_scheduler.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
 
 /**
- * Web configuration to enable CORS for development with Vite dev server
+ * Web configuration: CORS for development with the Vite dev server, and HTTP caching for the
+ * built assets and the JSON API. Response compression is configured in application.properties.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -18,4 +27,35 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    /**
+     * Vite puts a content hash in every file name under js/, css/ and assets/, so a changed file is
+     * a new URL and browsers can keep these for a year without revalidating. Precompressed .br and
+     * .gz siblings are served to browsers that accept them.
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : new String[] {"js", "css", "assets"}) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver());
+        }
+    }
+
+    /**
+     * ETags for the JSON API, so repeated GETs (department lists, academic periods) are answered
+     * with 304 instead of the body. Streamed responses such as schedule job events are skipped by
+     * the filter. The tags are weak because the connector may gzip the body, and a strong tag
+     * promises the exact bytes.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> apiEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
 }
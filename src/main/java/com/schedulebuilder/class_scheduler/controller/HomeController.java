@@ -3,28 +3,53 @@ package com.schedulebuilder.class_scheduler.controller;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
 import com.schedulebuilder.class_scheduler.model.ScheduleBuilder;
 import com.schedulebuilder.class_scheduler.model.Section;
-import com.schedulebuilder.class_scheduler.model.SectionType;
 import com.schedulebuilder.class_scheduler.model.AcademicPeriod;
 import com.schedulebuilder.class_scheduler.model.SchedulePreferences;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
 import com.schedulebuilder.class_scheduler.model.CourseSearchRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleCursor;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleResult;
+import com.schedulebuilder.class_scheduler.model.ScheduleSummary;
 import com.schedulebuilder.class_scheduler.service.ApiService;
+import com.schedulebuilder.class_scheduler.service.CourseCatalogService;
 import com.schedulebuilder.class_scheduler.service.CourseService;
+import com.schedulebuilder.class_scheduler.service.ScheduleCursorCodec;
+import com.schedulebuilder.class_scheduler.service.ScheduleJob;
+import com.schedulebuilder.class_scheduler.service.ScheduleJobService;
+import com.schedulebuilder.class_scheduler.service.ScheduleService;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.logging.Level;
 
 @Controller
@@ -39,6 +64,12 @@ public class HomeController {
     private static final String SESSION_CURRENT_ACADEMIC_PERIOD = "currentAcademicPeriod";
     private static final String SESSION_ONLINE_SECTIONS = "onlineSections";
     private static final String SESSION_TBD_SECTIONS = "tbdSections";
+    private static final String SESSION_SCHEDULE_REQUEST = "scheduleRequest";
+    private static final int MAX_SCHEDULE_PAGE_SIZE = 20;
+    private static final String SCHEDULE_TIMEOUT_MESSAGE = "Generating schedules is taking longer than expected. Please try again shortly.";
+    private static final String COURSES_UNAVAILABLE_MESSAGE = "Some of this schedule's courses couldn't be loaded. Please try again shortly.";
+    // One entry of a pasted course list, e.g. "COMS 2280" or "math2650"
+    private static final Pattern COURSE_ENTRY_PATTERN = Pattern.compile("([A-Za-z][A-Za-z ]*?)\\s*(\\d{2,4}[A-Za-z]?)");
 
     @Autowired
     private ApiService apiService;
@@ -46,9 +77,44 @@ public class HomeController {
     @Autowired
     private CourseService courseService;
 
-    @SuppressWarnings("unchecked")
-    private List<Map<Course, List<Section>>> getSchedulesFromSession(HttpSession session) {
-        return (List<Map<Course, List<Section>>>) session.getAttribute(SESSION_GENERATED_SCHEDULES);
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ScheduleCursorCodec scheduleCursorCodec;
+
+    @Autowired
+    private ScheduleJobService scheduleJobService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Runs the session updates that follow async course lookups, rather than the HTTP client's
+    // I/O threads or the common pool
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor requestExecutor;
+
+    // Whether adding courses regenerates schedules with default preferences right away
+    @Value("${schedule.generate-on-add:true}")
+    private boolean generateOnAdd;
+
+    /**
+     * The page posts the schedule filters and preferences as JSON form fields; they are bound to
+     * typed values here, once, and carried that way from then on. The map parameters must be named
+     * explicitly; an unnamed {@code @RequestParam Map} binds every request parameter instead.
+     */
+    @InitBinder({"preferences", "instructorPreferences", "selectedSections"})
+    public void initScheduleFormBinder(WebDataBinder binder) {
+        binder.registerCustomEditor(SchedulePreferencesForm.class, JsonParamEditor.preferences(objectMapper));
+        binder.registerCustomEditor(Map.class, JsonParamEditor.byCourse(objectMapper));
+    }
+
+    private GeneratedSchedules getSchedulesFromSession(HttpSession session) {
+        return (GeneratedSchedules) session.getAttribute(SESSION_GENERATED_SCHEDULES);
     }
     
     @SuppressWarnings("unchecked")
@@ -74,10 +140,12 @@ public class HomeController {
         session.removeAttribute(SESSION_SELECTED_SECTIONS);
         session.removeAttribute(SESSION_ONLINE_SECTIONS);
         session.removeAttribute(SESSION_TBD_SECTIONS);
+        session.removeAttribute(SESSION_SCHEDULE_REQUEST);
     }
 
     @GetMapping("/")
     public String home(@RequestParam(required = false, defaultValue = DEFAULT_ACADEMIC_PERIOD) String academicPeriod,
+                       @RequestParam(required = false) String cursor,
                        Model model,
                        HttpSession session) {
         try {
@@ -100,7 +168,6 @@ public class HomeController {
 
             // Fetch departments
             String departmentsJson = apiService.fetchDepartments(academicPeriod);
-            ObjectMapper objectMapper = new ObjectMapper();
             JsonNode rootNode = objectMapper.readTree(departmentsJson);
             List<String> departments = new ArrayList<>();
 
@@ -108,6 +175,11 @@ public class HomeController {
 
             model.addAttribute("departments", departments);
 
+            // A cursor carries the whole schedule position, so it's rendered without the session
+            if (cursor != null && !cursor.isEmpty() && addCursorSchedule(cursor, model)) {
+                return "index";
+            }
+
             // Get courses and selected sections from session
             @SuppressWarnings("unchecked")
             List<Course> courses = (List<Course>) session.getAttribute("courses");
@@ -124,25 +196,100 @@ public class HomeController {
             model.addAttribute("selectedSections", selectedSections);
 
             // Add schedule navigation information
-            List<Map<Course, List<Section>>> schedules = getSchedulesFromSession(session);
+            GeneratedSchedules schedules = getSchedulesFromSession(session);
             Integer currentIndex = (Integer) session.getAttribute("currentScheduleIndex");
+            ScheduleRequest request = (ScheduleRequest) session.getAttribute(SESSION_SCHEDULE_REQUEST);
 
             model.addAttribute("scheduleCount", schedules != null ? schedules.size() : 0);
             model.addAttribute("currentScheduleIndex", currentIndex != null ? currentIndex : 0);
+            model.addAttribute("scheduleCursor", schedules != null && !schedules.isEmpty() && request != null
+                    ? scheduleCursorCodec.encode(ScheduleCursor.of(request, schedules, currentIndex != null ? currentIndex : 0))
+                    : "");
 
         } catch (Exception e) {
             model.addAttribute("academicPeriods", Collections.emptyList());
             model.addAttribute("departments", Collections.singletonList("Error fetching departments."));
             model.addAttribute("courses", new ArrayList<>());
-            e.printStackTrace();
+            model.addAttribute("scheduleCursor", "");
+            logger.log(Level.WARNING, "Error loading the home page", e);
         }
 
         return "index";
     }
 
+    // Renders the schedule a cursor points at; false if the cursor is invalid or its courses are gone
+    private boolean addCursorSchedule(String token, Model model) {
+        ScheduleCursor cursor;
+        try {
+            cursor = scheduleCursorCodec.decode(token);
+        } catch (IllegalArgumentException e) {
+            logger.info("Ignoring schedule cursor: " + e.getMessage());
+            return false;
+        }
+
+        ScheduleRequest request = cursor.request();
+        List<Course> courses = scheduleService.findCourses(request.academicPeriodId(), request.courseIds());
+        if (courses.size() != request.courseIds().size()) {
+            return false;
+        }
+
+        // Only online/TBD sections are needed here; the in-person ones come from the cursor itself
+        ScheduleResult prepared = scheduleService.prepare(courses, request);
+        List<Section> selectedSections = resolveSections(courses, cursor.sectionNumbers());
+        int index = cursor.index();
+        int scheduleCount = cursor.scheduleCount();
+        if (selectedSections == null) {
+            // A section listed in the cursor no longer exists, so regenerate from the request
+            GeneratedSchedules schedules;
+            try {
+                schedules = scheduleJobService.regenerate(courses, request).schedules();
+            } catch (RejectedExecutionException | TimeoutException e) {
+                logger.info("Could not regenerate cursor schedules: " + e.getMessage());
+                return false;
+            }
+            if (schedules.isEmpty()) {
+                return false;
+            }
+            scheduleCount = schedules.size();
+            index = Math.min(index, scheduleCount - 1);
+            selectedSections = schedules.getSections(index);
+            token = scheduleCursorCodec.encode(ScheduleCursor.of(request, schedules, index));
+        }
+        selectedSections.addAll(prepared.onlineSections());
+        selectedSections.addAll(prepared.tbdSections());
+
+        model.addAttribute("courses", courses);
+        model.addAttribute("selectedSections", selectedSections);
+        model.addAttribute("scheduleCount", scheduleCount);
+        model.addAttribute("currentScheduleIndex", index);
+        model.addAttribute("scheduleCursor", token);
+        return true;
+    }
+
+    // Looks up the cursor's section numbers in the given courses, or returns null if one is missing
+    private static List<Section> resolveSections(List<Course> courses, List<List<String>> sectionNumbers) {
+        if (sectionNumbers.size() != courses.size()) {
+            return null;
+        }
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < courses.size(); i++) {
+            for (String sectionNumber : sectionNumbers.get(i)) {
+                Section section = courses.get(i).getSections().stream()
+                        .filter(s -> sectionNumber.equals(s.getSectionNumber()))
+                        .findFirst()
+                        .orElse(null);
+                if (section == null) {
+                    return null;
+                }
+                sections.add(section);
+            }
+        }
+        return sections;
+    }
+
     @PostMapping("/addCourse")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> addCourse(@RequestParam(required = false) String courseSubject,
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> addCourse(@RequestParam(required = false) String courseSubject,
                                                         @RequestParam(required = false) String courseNumber,
                                                         @RequestParam(required = false) String academicPeriodId,
                                                         HttpSession session) {
@@ -152,13 +299,13 @@ public class HomeController {
         if (courseSubject == null || courseSubject.trim().isEmpty()) {
             response.put("success", false);
             response.put("message", "Course subject is required");
-            return ResponseEntity.ok(response);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
         }
 
         if (courseNumber == null || courseNumber.trim().isEmpty()) {
             response.put("success", false);
             response.put("message", "Course number is required");
-            return ResponseEntity.ok(response);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
         }
 
         logger.info("=== Add Course Request ===");
@@ -166,198 +313,280 @@ public class HomeController {
         logger.info("courseNumber: " + courseNumber);
         logger.info("academicPeriodId: " + academicPeriodId);
 
-        try {
-            // Use academic period from session if not provided
-            if (academicPeriodId == null || academicPeriodId.isEmpty()) {
-                academicPeriodId = (String) session.getAttribute("currentAcademicPeriod");
-                if (academicPeriodId == null) {
-                    academicPeriodId = "ACADEMIC_PERIOD-2025Fall";
-                }
+        String periodId = resolveAcademicPeriod(academicPeriodId, session);
+
+        return findCoursesAsync(periodId, courseSubject, courseNumber)
+                .thenComposeAsync(allCourses -> addMatchingCourses(allCourses, courseNumber, session), requestExecutor)
+                .exceptionally(e -> errorResponse("Error adding course", e));
+    }
+
+    @PostMapping("/addCourses")
+    @ResponseBody
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> addCourses(@RequestParam(required = false) String courseList,
+                                                         @RequestParam(required = false) String academicPeriodId,
+                                                         HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        if (courseList == null || courseList.trim().isEmpty()) {
+            response.put("success", false);
+            response.put("message", "Course list is required");
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+        }
+
+        logger.info("=== Add Courses Request ===");
+        logger.info("courseList: " + courseList);
+
+        String periodId = resolveAcademicPeriod(academicPeriodId, session);
+
+        // Parse entries like "COMS 2280, MATH 2650" and start every lookup at once
+        List<Map<String, Object>> results = new ArrayList<>();
+        Map<String, String[]> entries = new LinkedHashMap<>();
+        for (String entry : courseList.split("[,;\\n]+")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Matcher matcher = COURSE_ENTRY_PATTERN.matcher(trimmed);
+            if (!matcher.matches()) {
+                results.add(courseResult(trimmed, false, "Not a course (expected e.g. COMS 2280)."));
+                continue;
             }
+            String subject = matcher.group(1).trim().toUpperCase();
+            String number = matcher.group(2).toUpperCase();
+            entries.putIfAbsent(subject + " " + number, new String[] {subject, number});
+        }
+
+        Map<String, CompletableFuture<List<Course>>> lookups = new LinkedHashMap<>();
+        entries.forEach((name, entry) -> lookups.put(name, findCoursesAsync(periodId, entry[0], entry[1])));
+
+        return CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                .thenComposeAsync(done -> {
+                    List<Course> sessionCourses = getCoursesFromSession(session);
+                    int addedCount = 0;
+
+                    for (Map.Entry<String, CompletableFuture<List<Course>>> lookup : lookups.entrySet()) {
+                        String name = lookup.getKey();
+                        List<Course> allCourses = lookup.getValue().join();
+                        List<Course> newCourses = matchCourseNumber(allCourses, entries.get(name)[1]);
+                        if (allCourses.isEmpty()) {
+                            results.add(courseResult(name, false, "Course does not exist."));
+                        } else if (newCourses.isEmpty()) {
+                            results.add(courseResult(name, false, "Course does not exist or has no available sections."));
+                        } else if (addNewCourses(sessionCourses, newCourses) == 0) {
+                            results.add(courseResult(name, false, "Course is already added to your schedule."));
+                        } else {
+                            results.add(courseResult(name, true, "Course successfully added!"));
+                            addedCount++;
+                        }
+                    }
 
-            // Update session with the current academic period
-            session.setAttribute("currentAcademicPeriod", academicPeriodId);
+                    response.put("success", addedCount > 0);
+                    response.put("message", "Added " + addedCount + " of " + results.size() + " courses.");
+                    response.put("results", results);
+                    if (addedCount == 0) {
+                        return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+                    }
 
-            // Fetch and parse courses for the given courseSubject and courseNumber
-            String coursesJson = apiService.fetchCourses(academicPeriodId, courseSubject, courseNumber);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(coursesJson);
-            JsonNode dataNode = rootNode.path("data");
+                    // Regenerate once for the whole batch instead of once per course
+                    session.setAttribute("courses", sessionCourses);
+                    return regenerateSchedulesAsync(sessionCourses, session)
+                            .thenApply(regenerated -> ResponseEntity.ok(response));
+                }, requestExecutor)
+                .exceptionally(e -> errorResponse("Error adding courses", e));
+    }
 
-            if (!dataNode.isArray() || dataNode.size() == 0) {
-                response.put("success", false);
-                response.put("message", "Course does not exist.");
-                return ResponseEntity.ok(response);
+    // Uses the academic period from the request, else the session's, and remembers it in the session
+    private String resolveAcademicPeriod(String academicPeriodId, HttpSession session) {
+        if (academicPeriodId == null || academicPeriodId.isEmpty()) {
+            academicPeriodId = (String) session.getAttribute("currentAcademicPeriod");
+            if (academicPeriodId == null) {
+                academicPeriodId = "ACADEMIC_PERIOD-2025Fall";
             }
+        }
 
-            // Use CourseService to parse courses
-            List<Course> allCourses = courseService.parseCourses(dataNode);
-            
-            // Smart course number matching
-            List<Course> newCourses = new ArrayList<>();
+        session.setAttribute("currentAcademicPeriod", academicPeriodId);
+        return academicPeriodId;
+    }
+
+    // Looks the subject up in the prefetched catalog, falling back to a live search if it isn't loaded yet.
+    // The live search is non-blocking, so the servlet thread is released while the upstream API responds.
+    private CompletableFuture<List<Course>> findCoursesAsync(String academicPeriodId, String courseSubject, String courseNumber) {
+        Optional<List<Course>> catalogCourses = courseCatalogService.findSubjectCourses(academicPeriodId, courseSubject);
+        return catalogCourses.isPresent()
+                ? CompletableFuture.completedFuture(catalogCourses.get())
+                : apiService.fetchCourseListAsync(academicPeriodId, courseSubject, courseNumber);
+    }
+
+    // Adds the courses matching the requested number to the session and regenerates schedules
+    private CompletableFuture<ResponseEntity<Map<String, Object>>> addMatchingCourses(List<Course> allCourses, String courseNumber,
+                                                                                      HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        if (allCourses.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "Course does not exist.");
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+        }
+
+        List<Course> newCourses = matchCourseNumber(allCourses, courseNumber);
+
+        // Check if no valid courses were found after smart matching
+        if (newCourses.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "Course does not exist or has no available sections.");
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+        }
+
+        // Retrieve existing courses from session or create a new list
+        List<Course> sessionCourses = getCoursesFromSession(session);
+
+        // Check if no new courses were added due to duplicates
+        if (addNewCourses(sessionCourses, newCourses) == 0) {
+            response.put("success", false);
+            response.put("message", "Course is already added to your schedule.");
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+        }
+
+        session.setAttribute("courses", sessionCourses);
+
+        response.put("success", true);
+        response.put("message", "Course successfully added!");
+        // Auto-generate schedules if there are courses
+        return regenerateSchedulesAsync(sessionCourses, session)
+                .thenApply(regenerated -> ResponseEntity.ok(response));
+    }
+
+    // Picks the courses whose number matches what the student typed, allowing abbreviated numbers
+    private List<Course> matchCourseNumber(List<Course> allCourses, String courseNumber) {
+        List<Course> newCourses = new ArrayList<>();
 
-            for (Course course : allCourses) {
-                String courseName = course.getCourseId();
-                String extractedNumber = courseName.substring(courseName.lastIndexOf(' ') + 1);
+        for (Course course : allCourses) {
+            String courseName = course.getCourseId();
+            String extractedNumber = courseName.substring(courseName.lastIndexOf(' ') + 1);
 
-                // Check for exact match first (e.g., "2500H" matches "2500H")
-                if (courseNumber.equalsIgnoreCase(extractedNumber)) {
+            // Check for exact match first (e.g., "2500H" matches "2500H")
+            if (courseNumber.equalsIgnoreCase(extractedNumber)) {
+                newCourses.add(course);
+            }
+            // Check if user entered abbreviated number (e.g., "250" should match only "2500", not "2500H")
+            else if (courseNumber.length() == 3 && extractedNumber.length() >= 4) {
+                String expandedCourseNumber = courseNumber + "0"; // "250" becomes "2500"
+                if (extractedNumber.equals(expandedCourseNumber)) { // Exact match only, not startsWith
                     newCourses.add(course);
                 }
-                // Check if user entered abbreviated number (e.g., "250" should match only "2500", not "2500H")
-                else if (courseNumber.length() == 3 && extractedNumber.length() >= 4) {
-                    String expandedCourseNumber = courseNumber + "0"; // "250" becomes "2500"
-                    if (extractedNumber.equals(expandedCourseNumber)) { // Exact match only, not startsWith
-                        newCourses.add(course);
-                    }
-                }
-                // Check if user entered 2-digit abbreviated number (e.g., "85" should match only "850", not "850H")
-                else if (courseNumber.length() == 2 && extractedNumber.length() >= 3) {
-                    String expandedCourseNumber = courseNumber + "0"; // "85" becomes "850"
-                    if (extractedNumber.equals(expandedCourseNumber)) { // Exact match only, not startsWith
-                        newCourses.add(course);
-                    }
-                }
             }
-            
-            // Check if no valid courses were found after smart matching
-            if (newCourses.isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Course does not exist or has no available sections.");
-                return ResponseEntity.ok(response);
+            // Check if user entered 2-digit abbreviated number (e.g., "85" should match only "850", not "850H")
+            else if (courseNumber.length() == 2 && extractedNumber.length() >= 3) {
+                String expandedCourseNumber = courseNumber + "0"; // "85" becomes "850"
+                if (extractedNumber.equals(expandedCourseNumber)) { // Exact match only, not startsWith
+                    newCourses.add(course);
+                }
             }
+        }
 
-            // Retrieve existing courses from session or create a new list
-            List<Course> sessionCourses = (List<Course>) session.getAttribute("courses");
-            if (sessionCourses == null) {
-                sessionCourses = new ArrayList<>();
-            }
+        return newCourses;
+    }
 
-            // Check for duplicates before adding
-            int addedCount = 0;
-            for (Course newCourse : newCourses) {
-                boolean exists = sessionCourses.stream()
-                        .anyMatch(existingCourse -> existingCourse.getCourseId().equals(newCourse.getCourseId()));
-                if (!exists) {
-                    sessionCourses.add(newCourse);
-                    addedCount++;
-                }
-            }
-            
-            // Check if no new courses were added due to duplicates
-            if (addedCount == 0) {
-                response.put("success", false);
-                response.put("message", "Course is already added to your schedule.");
-                return ResponseEntity.ok(response);
+    // Adds the courses that aren't already in the list, returning how many were added
+    private int addNewCourses(List<Course> sessionCourses, List<Course> newCourses) {
+        int addedCount = 0;
+        for (Course newCourse : newCourses) {
+            boolean exists = sessionCourses.stream()
+                    .anyMatch(existingCourse -> existingCourse.getCourseId().equals(newCourse.getCourseId()));
+            if (!exists) {
+                sessionCourses.add(newCourse);
+                addedCount++;
             }
+        }
+        return addedCount;
+    }
 
-            session.setAttribute("courses", sessionCourses);
+    // Regenerates schedules for the session's courses, keeping online and TBD sections visible. The
+    // search runs on the schedule job pool and the session is updated on the request executor afterwards.
+    private CompletableFuture<Void> regenerateSchedulesAsync(List<Course> sessionCourses, HttpSession session) {
+        if (!generateOnAdd) {
+            // The client generates with its own preferences; schedules for the old course list are stale
+            removeGeneratedSchedules(session);
+            return CompletableFuture.completedFuture(null);
+        }
 
-            // Auto-generate schedules if there are courses
-            try {
-                logger.info("Auto-generating schedules for " + sessionCourses.size() + " courses");
-
-                // Separate sections by type: online, TBD, and in-person
-                // Only in-person sections participate in schedule generation
-                List<Section> onlineSections = new ArrayList<>();
-                List<Section> tbdSections = new ArrayList<>();
-                List<Course> inPersonCourses = new ArrayList<>();
-
-                for (Course course : sessionCourses) {
-                    List<Section> inPersonSections = new ArrayList<>();
-                    for (Section section : course.getSections()) {
-                        if (section.getSectionType() == SectionType.ONLINE) {
-                            onlineSections.add(section);
-                        } else if (section.getSectionType() == SectionType.TBD) {
-                            tbdSections.add(section);
-                        } else if (section.isSchedulable()) {
-                            inPersonSections.add(section);
+        logger.info("Auto-generating schedules for " + sessionCourses.size() + " courses");
+        ScheduleRequest request = ScheduleRequest.automatic(getCurrentAcademicPeriod(session), sessionCourses);
+        return scheduleJobService.generateAsync(session.getId(), sessionCourses, request)
+                .handleAsync((result, error) -> {
+                    if (error == null) {
+                        renderScheduleResult(session, request, result);
+                        if (!result.schedules().isEmpty()) {
+                            logger.info("Auto-generated " + result.schedules().size() + " schedules successfully");
                         }
+                    } else if (unwrap(error) instanceof CancellationException) {
+                        // A newer request from this session is generating schedules and will store them
+                        logger.info("Auto-generation superseded by a newer request");
+                    } else {
+                        logger.log(Level.WARNING, "Error auto-generating schedules, continuing without schedules", unwrap(error));
+                        // Don't clear online sections on error - keep them visible
+                        removeGeneratedSchedules(session);
                     }
+                    return null;
+                }, requestExecutor);
+    }
 
-                    if (!inPersonSections.isEmpty()) {
-                        Course inPersonCourse = new Course(course.getCourseId(), course.getCourseName(), course.getDescription());
-                        for (Section section : inPersonSections) {
-                            inPersonCourse.addSection(section);
-                        }
-                        inPersonCourses.add(inPersonCourse);
-                    }
-                }
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 
-                logger.info("Separated " + onlineSections.size() + " online sections and " + tbdSections.size() + " TBD sections from auto-generation");
-
-                // Store online and TBD sections in session so we can add them back when navigating
-                session.setAttribute(SESSION_ONLINE_SECTIONS, onlineSections);
-                session.setAttribute(SESSION_TBD_SECTIONS, tbdSections);
-
-                // If there are ONLY non-schedulable courses (online/TBD), just display them
-                if (inPersonCourses.isEmpty() && (!onlineSections.isEmpty() || !tbdSections.isEmpty())) {
-                    logger.info("All courses are non-schedulable (online/TBD) - displaying without schedule generation");
-                    List<Section> allNonSchedulable = new ArrayList<>();
-                    allNonSchedulable.addAll(onlineSections);
-                    allNonSchedulable.addAll(tbdSections);
-                    session.setAttribute("selectedSections", allNonSchedulable);
-                    session.removeAttribute("generatedSchedules");
-                    session.removeAttribute("currentScheduleIndex");
-                } else if (!inPersonCourses.isEmpty()) {
-                    // Generate schedules for in-person courses
-                    List<Map<Course, List<Section>>> schedules = ScheduleBuilder.generateNonConflictingSchedules(inPersonCourses, 100, null);
-
-                    if (!schedules.isEmpty()) {
-                        session.setAttribute("generatedSchedules", schedules);
-                        session.setAttribute("currentScheduleIndex", 0);
-
-                        // Flatten sections for display (handle multiple sections per course)
-                        Map<Course, List<Section>> firstSchedule = schedules.get(0);
-                        List<Section> allSections = new ArrayList<>();
-                        for (Map.Entry<Course, List<Section>> entry : firstSchedule.entrySet()) {
-                            allSections.addAll(entry.getValue());
-                        }
+    private void renderScheduleResult(HttpSession session, ScheduleRequest request, ScheduleResult result) {
+        // Store online and TBD sections in session so we can add them back when navigating
+        session.setAttribute(SESSION_ONLINE_SECTIONS, result.onlineSections());
+        session.setAttribute(SESSION_TBD_SECTIONS, result.tbdSections());
+
+        if (result.inPersonCourses().isEmpty() && !result.hasNonSchedulableSections()) {
+            // No courses at all
+            removeGeneratedSchedules(session);
+            session.removeAttribute(SESSION_SELECTED_SECTIONS);
+        } else if (!result.schedules().isEmpty()) {
+            // Online and TBD sections are shown alongside every schedule (they don't affect scheduling)
+            storeGeneratedSchedules(session, request, result);
+        } else {
+            // Only online/TBD courses, or no valid in-person schedule: keep the online and TBD sections visible
+            if (result.hasNonSchedulableSections()) {
+                session.setAttribute(SESSION_SELECTED_SECTIONS, result.nonSchedulableSections());
+                logger.info("Displaying " + result.onlineSections().size() + " online sections and "
+                        + result.tbdSections().size() + " TBD sections only");
+            }
+            removeGeneratedSchedules(session);
+        }
+    }
 
-                        // Add online and TBD sections back for display
-                        allSections.addAll(onlineSections);
-                        allSections.addAll(tbdSections);
+    // Stores freshly generated schedules with the first one selected
+    private void storeGeneratedSchedules(HttpSession session, ScheduleRequest request, ScheduleResult result) {
+        session.setAttribute(SESSION_GENERATED_SCHEDULES, result.schedules());
+        session.setAttribute(SESSION_CURRENT_SCHEDULE_INDEX, 0);
+        session.setAttribute(SESSION_SCHEDULE_REQUEST, request);
+        session.setAttribute(SESSION_SELECTED_SECTIONS, result.displaySections(0));
+    }
 
-                        session.setAttribute("selectedSections", allSections);
-                        logger.info("Auto-generated " + schedules.size() + " schedules successfully");
-                    } else {
-                        logger.info("No valid schedules could be generated for in-person courses");
-                        // Keep online and TBD sections even if in-person scheduling fails
-                        if (!onlineSections.isEmpty() || !tbdSections.isEmpty()) {
-                            List<Section> nonSchedulableSections = new ArrayList<>();
-                            nonSchedulableSections.addAll(onlineSections);
-                            nonSchedulableSections.addAll(tbdSections);
-                            session.setAttribute("selectedSections", nonSchedulableSections);
-                            logger.info("Displaying " + onlineSections.size() + " online sections and " + tbdSections.size() + " TBD sections only");
-                        }
-                        session.removeAttribute("generatedSchedules");
-                        session.removeAttribute("currentScheduleIndex");
-                    }
-                } else {
-                    // No courses at all
-                    session.removeAttribute("generatedSchedules");
-                    session.removeAttribute("currentScheduleIndex");
-                    session.removeAttribute("selectedSections");
-                    session.removeAttribute(SESSION_ONLINE_SECTIONS);
-                    session.removeAttribute(SESSION_TBD_SECTIONS);
-                }
-            } catch (Exception e) {
-                logger.log(Level.WARNING, "Error auto-generating schedules, continuing without schedules", e);
-                // Don't clear online sections on error - keep them visible
-                session.removeAttribute("generatedSchedules");
-                session.removeAttribute("currentScheduleIndex");
-            }
+    private void removeGeneratedSchedules(HttpSession session) {
+        session.removeAttribute(SESSION_GENERATED_SCHEDULES);
+        session.removeAttribute(SESSION_CURRENT_SCHEDULE_INDEX);
+        session.removeAttribute(SESSION_SCHEDULE_REQUEST);
+    }
 
-            response.put("success", true);
-            response.put("message", "Course successfully added!");
-            return ResponseEntity.ok(response);
+    private static Map<String, Object> courseResult(String course, boolean success, String message) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("course", course);
+        result.put("success", success);
+        result.put("message", message);
+        return result;
+    }
 
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error adding course", e);
-            response.put("success", false);
-            response.put("message", "Error fetching courses: " + e.getMessage());
-            return ResponseEntity.ok(response);
-        }
+    private ResponseEntity<Map<String, Object>> errorResponse(String logMessage, Throwable e) {
+        Throwable cause = unwrap(e);
+        logger.log(Level.SEVERE, logMessage, cause);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "Error fetching courses: " + cause.getMessage());
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/changeAcademicPeriod")
@@ -367,8 +596,7 @@ public class HomeController {
         try {
             // Clear all session data when changing academic period
             session.removeAttribute("courses");
-            session.removeAttribute("generatedSchedules");
-            session.removeAttribute("currentScheduleIndex");
+            removeGeneratedSchedules(session);
             session.removeAttribute("selectedSections");
             session.removeAttribute(SESSION_ONLINE_SECTIONS);
             session.removeAttribute(SESSION_TBD_SECTIONS);
@@ -385,9 +613,9 @@ public class HomeController {
     }
 
     @PostMapping("/generateSchedules")
-    public String generateSchedules(@RequestParam(required = false) String preferences,
-                                  @RequestParam(required = false) String instructorPreferences,
-                                  @RequestParam(required = false) String selectedSections,
+    public String generateSchedules(@RequestParam(required = false) SchedulePreferencesForm preferences,
+                                  @RequestParam(name = "instructorPreferences", required = false) Map<String, List<String>> instructorPreferences,
+                                  @RequestParam(name = "selectedSections", required = false) Map<String, List<String>> selectedSections,
                                   HttpSession session, RedirectAttributes redirectAttributes) {
         List<Course> courses = (List<Course>) session.getAttribute("courses");
         if (courses == null || courses.isEmpty()) {
@@ -397,118 +625,62 @@ public class HomeController {
 
         try {
             logger.info("=== Generate Schedules Request ===");
-            if (preferences != null && !preferences.trim().isEmpty()) {
+            if (preferences != null) {
                 logger.info("Schedule Preferences: " + preferences);
             }
-            if (instructorPreferences != null && !instructorPreferences.trim().isEmpty()) {
+            if (instructorPreferences != null) {
                 logger.info("Instructor Preferences: " + instructorPreferences);
             }
-            if (selectedSections != null && !selectedSections.trim().isEmpty()) {
+            if (selectedSections != null) {
                 logger.info("Selected Sections: " + selectedSections);
             }
 
-            // Apply selected section filtering first
-            List<Course> filteredCourses = courses;
-            if (selectedSections != null && !selectedSections.trim().isEmpty()) {
-                filteredCourses = applySelectedSections(courses, selectedSections);
-                logger.info("After section filtering: " + filteredCourses.size() + " courses");
-            }
+            ScheduleRequest request = new ScheduleRequest(getCurrentAcademicPeriod(session), ScheduleRequest.courseIds(courses),
+                    preferences, instructorPreferences, selectedSections, false);
+            ScheduleResult result = scheduleJobService.generate(session.getId(), courses, request);
+            renderScheduleResult(session, request, result);
+            addGenerationMessage(result, redirectAttributes);
+        } catch (RejectedExecutionException e) {
+            // A form post, so report it on the page rather than as a bare error status
+            redirectAttributes.addFlashAttribute("errorMessage", "The server is busy generating schedules. Please try again shortly.");
+        } catch (CancellationException e) {
+            // Superseded by a newer request from this session, which shows its own result
+            logger.info("Schedule generation superseded by a newer request");
+        } catch (TimeoutException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", SCHEDULE_TIMEOUT_MESSAGE);
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Error generating schedules: " + e.getMessage());
+            logger.log(Level.WARNING, "Error generating schedules", e);
+        }
 
-            // Apply instructor preferences to filter course sections
-            filteredCourses = applyInstructorPreferences(filteredCourses, instructorPreferences);
-            logger.info("After instructor filtering: " + filteredCourses.size() + " courses");
-
-            // Separate sections by type: online, TBD, and in-person
-            // Only in-person sections participate in schedule generation
-            List<Section> onlineSections = new ArrayList<>();
-            List<Section> tbdSections = new ArrayList<>();
-            List<Course> inPersonCourses = new ArrayList<>();
-
-            for (Course course : filteredCourses) {
-                List<Section> inPersonSections = new ArrayList<>();
-                for (Section section : course.getSections()) {
-                    if (section.getSectionType() == SectionType.ONLINE) {
-                        // Collect online sections separately
-                        onlineSections.add(section);
-                    } else if (section.getSectionType() == SectionType.TBD) {
-                        // Collect TBD sections separately
-                        tbdSections.add(section);
-                    } else if (section.isSchedulable()) {
-                        // Keep schedulable in-person sections for schedule generation
-                        inPersonSections.add(section);
-                    }
-                }
+        return "redirect:/";
+    }
 
-                // Only add course if it has in-person sections
-                if (!inPersonSections.isEmpty()) {
-                    Course inPersonCourse = new Course(course.getCourseId(), course.getCourseName(), course.getDescription());
-                    for (Section section : inPersonSections) {
-                        inPersonCourse.addSection(section);
-                    }
-                    inPersonCourses.add(inPersonCourse);
-                }
+    // Tells the student what was generated, or why nothing was
+    private static void addGenerationMessage(ScheduleResult result, RedirectAttributes redirectAttributes) {
+        List<Section> onlineSections = result.onlineSections();
+        List<Section> tbdSections = result.tbdSections();
+        SchedulePreferences schedulePreferences = result.preferences();
+
+        // If there are ONLY non-schedulable courses (online/TBD), they were just displayed
+        if (result.inPersonCourses().isEmpty() && result.hasNonSchedulableSections()) {
+            logger.info("All courses are non-schedulable (online/TBD) - displaying without schedule generation");
+            String message = "Displaying ";
+            if (!onlineSections.isEmpty()) {
+                message += onlineSections.size() + " online course(s)";
             }
-
-            logger.info("Separated " + onlineSections.size() + " online sections and " + tbdSections.size() + " TBD sections from schedule generation");
-            logger.info("Using " + inPersonCourses.size() + " in-person courses for schedule generation");
-
-            // Store online and TBD sections in session so we can add them back when navigating
-            session.setAttribute(SESSION_ONLINE_SECTIONS, onlineSections);
-            session.setAttribute(SESSION_TBD_SECTIONS, tbdSections);
-
-            // Use only in-person courses for schedule generation
-            filteredCourses = inPersonCourses;
-
-            // Parse preferences if provided
-            SchedulePreferences schedulePreferences = null;
-            boolean uniqueSchedulesOnly = false; // Default to false (show all schedules)
-
-            if (preferences != null && !preferences.trim().isEmpty()) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode preferencesNode = objectMapper.readTree(preferences);
-
-                    schedulePreferences = new SchedulePreferences();
-
-                    // Parse preferred days
-                    JsonNode preferredDaysNode = preferencesNode.path("preferredDays");
-                    if (preferredDaysNode.isArray()) {
-                        List<String> preferredDays = new ArrayList<>();
-                        preferredDaysNode.forEach(day -> preferredDays.add(day.asText()));
-                        schedulePreferences.setPreferredDays(preferredDays);
-                    }
-
-                    // Parse other preferences
-                    schedulePreferences.setTimePreference(preferencesNode.path("timePreference").asText(""));
-                    schedulePreferences.setGapPreference(preferencesNode.path("gapPreference").asText(""));
-                    schedulePreferences.setScheduleStyle(preferencesNode.path("scheduleStyle").asText(""));
-
-                    // Parse uniqueSchedulesOnly preference
-                    JsonNode uniqueSchedulesNode = preferencesNode.path("uniqueSchedulesOnly");
-                    if (!uniqueSchedulesNode.isMissingNode()) {
-                        uniqueSchedulesOnly = uniqueSchedulesNode.asBoolean(false);
-                    }
-
-                    logger.info("Parsed schedule preferences: " + schedulePreferences + ", uniqueSchedulesOnly: " + uniqueSchedulesOnly);
-                } catch (Exception e) {
-                    logger.log(Level.WARNING, "Error parsing preferences, using defaults", e);
-                    schedulePreferences = null;
-                }
+            if (!tbdSections.isEmpty()) {
+                if (!onlineSections.isEmpty()) message += " and ";
+                message += tbdSections.size() + " TBD course(s)";
             }
-
-            // Generate schedules with preferences using filtered courses
-            // Note: The filtered courses already prioritize preferred instructors, so we don't filter out too many options
-
-            // If there are ONLY non-schedulable courses (online/TBD), just display them
-            if (filteredCourses.isEmpty() && (!onlineSections.isEmpty() || !tbdSections.isEmpty())) {
-                logger.info("All courses are non-schedulable (online/TBD) - displaying without schedule generation");
-                List<Section> allNonSchedulable = new ArrayList<>();
-                allNonSchedulable.addAll(onlineSections);
-                allNonSchedulable.addAll(tbdSections);
-                session.setAttribute("selectedSections", allNonSchedulable);
-                session.removeAttribute("generatedSchedules");
-                session.removeAttribute("currentScheduleIndex");
-                String message = "Displaying ";
+            message += ". These courses don't require scheduling.";
+            redirectAttributes.addFlashAttribute("successMessage", message);
+        } else if (result.inPersonCourses().isEmpty()) {
+            // No courses at all
+            redirectAttributes.addFlashAttribute("errorMessage", "No courses to schedule.");
+        } else if (result.schedules().isEmpty()) {
+            if (result.hasNonSchedulableSections()) {
+                String message = "No valid schedules found for in-person courses. Displaying ";
                 if (!onlineSections.isEmpty()) {
                     message += onlineSections.size() + " online course(s)";
                 }
@@ -516,88 +688,54 @@ public class HomeController {
                     if (!onlineSections.isEmpty()) message += " and ";
                     message += tbdSections.size() + " TBD course(s)";
                 }
-                message += ". These courses don't require scheduling.";
-                redirectAttributes.addFlashAttribute("successMessage", message);
-            } else if (!filteredCourses.isEmpty()) {
-                // Generate schedules for in-person courses
-                List<Map<Course, List<Section>>> schedules = ScheduleBuilder.generateNonConflictingSchedules(filteredCourses, 100, schedulePreferences, uniqueSchedulesOnly);
-
-                if (schedules.isEmpty()) {
-                    // Keep online and TBD sections even if in-person scheduling fails
-                    if (!onlineSections.isEmpty() || !tbdSections.isEmpty()) {
-                        List<Section> nonSchedulableSections = new ArrayList<>();
-                        nonSchedulableSections.addAll(onlineSections);
-                        nonSchedulableSections.addAll(tbdSections);
-                        session.setAttribute("selectedSections", nonSchedulableSections);
-                        logger.info("Displaying " + onlineSections.size() + " online sections and " + tbdSections.size() + " TBD sections only (no valid in-person schedules)");
-                        String message = "No valid schedules found for in-person courses. Displaying ";
-                        if (!onlineSections.isEmpty()) {
-                            message += onlineSections.size() + " online course(s)";
-                        }
-                        if (!tbdSections.isEmpty()) {
-                            if (!onlineSections.isEmpty()) message += " and ";
-                            message += tbdSections.size() + " TBD course(s)";
-                        }
-                        message += ".";
-                        redirectAttributes.addFlashAttribute("errorMessage", message);
-                    } else {
-                        redirectAttributes.addFlashAttribute("errorMessage",
-                            "No valid schedules found. This may be due to conflicting times, insufficient commute time, or missing required recitations/labs.");
-                    }
-                    session.removeAttribute("generatedSchedules");
-                    session.removeAttribute("currentScheduleIndex");
-                } else {
-                    session.setAttribute("generatedSchedules", schedules);
-                    session.setAttribute("currentScheduleIndex", 0);
-
-                    // Flatten sections for display (handle multiple sections per course)
-                    Map<Course, List<Section>> firstSchedule = schedules.get(0);
-                    List<Section> allSections = new ArrayList<>();
-                    for (Map.Entry<Course, List<Section>> entry : firstSchedule.entrySet()) {
-                        allSections.addAll(entry.getValue());
-                    }
-
-                    // Add online and TBD sections back for display (they don't affect scheduling)
-                    allSections.addAll(onlineSections);
-                    allSections.addAll(tbdSections);
-                    logger.info("Added " + onlineSections.size() + " online sections and " + tbdSections.size() + " TBD sections to display");
-
-                    session.setAttribute("selectedSections", allSections);
-
-                    String message = "Generated " + schedules.size() + " valid schedule(s) with proper commute time and recitation requirements.";
-                    if (schedulePreferences != null && !schedulePreferences.hasNoPreferences()) {
-                        message += " Schedules are ordered by preference match - Schedule 1 is the best match for your preferences!";
-                    } else {
-                        message += " Schedules are ordered by overall quality score.";
-                    }
-                    if (!onlineSections.isEmpty() || !tbdSections.isEmpty()) {
-                        message += " (+ ";
-                        if (!onlineSections.isEmpty()) {
-                            message += onlineSections.size() + " online";
-                        }
-                        if (!tbdSections.isEmpty()) {
-                            if (!onlineSections.isEmpty()) message += " and ";
-                            message += tbdSections.size() + " TBD";
-                        }
-                        message += " course(s))";
-                    }
-                    redirectAttributes.addFlashAttribute("successMessage", message);
-                }
+                message += ".";
+                redirectAttributes.addFlashAttribute("errorMessage", message);
             } else {
-                // No courses at all
-                redirectAttributes.addFlashAttribute("errorMessage", "No courses to schedule.");
+                redirectAttributes.addFlashAttribute("errorMessage",
+                    "No valid schedules found. This may be due to conflicting times, insufficient commute time, or missing required recitations/labs.");
             }
-        } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage", "Error generating schedules: " + e.getMessage());
-            e.printStackTrace();
+        } else {
+            String message = "Generated " + result.schedules().size() + " valid schedule(s) with proper commute time and recitation requirements.";
+            if (schedulePreferences != null && !schedulePreferences.hasNoPreferences()) {
+                message += " Schedules are ordered by preference match - Schedule 1 is the best match for your preferences!";
+            } else {
+                message += " Schedules are ordered by overall quality score.";
+            }
+            if (result.hasNonSchedulableSections()) {
+                message += " (+ ";
+                if (!onlineSections.isEmpty()) {
+                    message += onlineSections.size() + " online";
+                }
+                if (!tbdSections.isEmpty()) {
+                    if (!onlineSections.isEmpty()) message += " and ";
+                    message += tbdSections.size() + " TBD";
+                }
+                message += " course(s))";
+            }
+            redirectAttributes.addFlashAttribute("successMessage", message);
         }
-
-        return "redirect:/";
     }
 
     @PostMapping("/nextSchedule")
-    public String nextSchedule(HttpSession session, RedirectAttributes redirectAttributes) {
-        List<Map<Course, List<Section>>> schedules = getSchedulesFromSession(session);
+    public String nextSchedule(@RequestParam(required = false) String cursor,
+                               HttpSession session, RedirectAttributes redirectAttributes) {
+        return stepSchedule(cursor, 1, "Switched to the next schedule.", session, redirectAttributes);
+    }
+
+    @PostMapping("/previousSchedule")
+    public String previousSchedule(@RequestParam(required = false) String cursor,
+                                   HttpSession session, RedirectAttributes redirectAttributes) {
+        return stepSchedule(cursor, -1, "Switched to the previous schedule.", session, redirectAttributes);
+    }
+
+    // Moves to a neighbouring schedule, wrapping around at either end
+    private String stepSchedule(String cursor, int step, String message,
+                                HttpSession session, RedirectAttributes redirectAttributes) {
+        if (cursor != null && !cursor.isEmpty()) {
+            return stepScheduleCursor(cursor, step, message, redirectAttributes);
+        }
+
+        GeneratedSchedules schedules = getSchedulesFromSession(session);
         Integer currentScheduleIndex = (Integer) session.getAttribute(SESSION_CURRENT_SCHEDULE_INDEX);
 
         if (schedules == null || schedules.isEmpty()) {
@@ -605,14 +743,11 @@ public class HomeController {
             return "redirect:/";
         }
 
-        currentScheduleIndex = (currentScheduleIndex + 1) % schedules.size();
+        currentScheduleIndex = Math.floorMod(currentScheduleIndex + step, schedules.size());
         session.setAttribute("currentScheduleIndex", currentScheduleIndex);
 
-        Map<Course, List<Section>> nextSchedule = schedules.get(currentScheduleIndex);
-        List<Section> allSections = new ArrayList<>();
-        for (Map.Entry<Course, List<Section>> entry : nextSchedule.entrySet()) {
-            allSections.addAll(entry.getValue());
-        }
+        // Only the displayed schedule is expanded back into sections
+        List<Section> allSections = schedules.getSections(currentScheduleIndex);
 
         // Add online and TBD sections back for display
         @SuppressWarnings("unchecked")
@@ -629,77 +764,197 @@ public class HomeController {
 
         session.setAttribute("selectedSections", allSections);
 
-        redirectAttributes.addFlashAttribute("successMessage", "Switched to the next schedule.");
+        redirectAttributes.addFlashAttribute("successMessage", message);
         return "redirect:/";
     }
 
-    @PostMapping("/previousSchedule")
-    public String previousSchedule(HttpSession session, RedirectAttributes redirectAttributes) {
-        List<Map<Course, List<Section>>> schedules = getSchedulesFromSession(session);
-        Integer currentScheduleIndex = (Integer) session.getAttribute(SESSION_CURRENT_SCHEDULE_INDEX);
+    // Regenerates the cursor's schedules (deterministic for the same courses) and points it at the neighbour
+    private String stepScheduleCursor(String token, int step, String message, RedirectAttributes redirectAttributes) {
+        try {
+            ScheduleCursor cursor = scheduleCursorCodec.decode(token);
+            ScheduleRequest request = cursor.request();
+            List<Course> courses = scheduleService.findCourses(request.academicPeriodId(), request.courseIds());
+            // A course missing after an upstream error would regenerate a different schedule list
+            if (courses.size() != request.courseIds().size()) {
+                redirectAttributes.addFlashAttribute("errorMessage", COURSES_UNAVAILABLE_MESSAGE);
+                return "redirect:/";
+            }
+            GeneratedSchedules schedules = scheduleJobService.regenerate(courses, request).schedules();
 
-        if (schedules == null || schedules.isEmpty()) {
-            redirectAttributes.addFlashAttribute("errorMessage", "No schedules available.");
-            return "redirect:/";
-        }
+            if (schedules.isEmpty()) {
+                redirectAttributes.addFlashAttribute("errorMessage", "No schedules available.");
+                return "redirect:/";
+            }
 
-        // Decrement index and handle wrap-around
-        currentScheduleIndex = (currentScheduleIndex - 1 + schedules.size()) % schedules.size();
-        session.setAttribute("currentScheduleIndex", currentScheduleIndex);
+            int nextIndex = Math.floorMod(cursor.index() + step, schedules.size());
+            redirectAttributes.addAttribute("academicPeriod", request.academicPeriodId());
+            redirectAttributes.addAttribute("cursor", scheduleCursorCodec.encode(ScheduleCursor.of(request, schedules, nextIndex)));
+            redirectAttributes.addFlashAttribute("successMessage", message);
+        } catch (IllegalArgumentException e) {
+            logger.info("Rejected schedule cursor: " + e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", "This schedule link is invalid or has expired.");
+        } catch (RejectedExecutionException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "The server is busy generating schedules. Please try again shortly.");
+        } catch (TimeoutException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", SCHEDULE_TIMEOUT_MESSAGE);
+        }
+        return "redirect:/";
+    }
 
-        Map<Course, List<Section>> previousSchedule = schedules.get(currentScheduleIndex);
-        List<Section> allSections = new ArrayList<>();
-        for (Map.Entry<Course, List<Section>> entry : previousSchedule.entrySet()) {
-            allSections.addAll(entry.getValue());
+    /**
+     * Returns a page of generated schedules as JSON so the page can move between schedules without a
+     * redirect and full re-render. Schedules come from the cursor if one is given, else the session.
+     *
+     * @param index  First schedule of the page; defaults to the cursor's or session's current one.
+     * @param limit  Schedules per page (1 to {@value #MAX_SCHEDULE_PAGE_SIZE}).
+     * @param cursor Optional cursor from a previous response or page load.
+     */
+    @GetMapping("/api/schedules")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getSchedulesApi(@RequestParam(required = false) Integer index,
+                                                               @RequestParam(defaultValue = "1") int limit,
+                                                               @RequestParam(required = false) String cursor,
+                                                               HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+        ScheduleRequest request;
+        GeneratedSchedules schedules;
+        List<Section> onlineSections;
+        List<Section> tbdSections;
+        SchedulePreferences preferences;
+        int currentIndex;
+
+        if (cursor != null && !cursor.isEmpty()) {
+            ScheduleCursor scheduleCursor;
+            try {
+                scheduleCursor = scheduleCursorCodec.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                response.put("success", false);
+                response.put("message", "This schedule link is invalid or has expired.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            request = scheduleCursor.request();
+            List<Course> courses = scheduleService.findCourses(request.academicPeriodId(), request.courseIds());
+            if (courses.size() != request.courseIds().size()) {
+                response.put("success", false);
+                response.put("message", COURSES_UNAVAILABLE_MESSAGE);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+            }
+            ScheduleResult result;
+            try {
+                result = scheduleJobService.regenerate(courses, request);
+            } catch (RejectedExecutionException e) {
+                response.put("success", false);
+                response.put("message", "The server is busy generating schedules. Please try again shortly.");
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+            } catch (TimeoutException e) {
+                response.put("success", false);
+                response.put("message", SCHEDULE_TIMEOUT_MESSAGE);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+            }
+            schedules = result.schedules();
+            onlineSections = result.onlineSections();
+            tbdSections = result.tbdSections();
+            preferences = result.preferences();
+            currentIndex = scheduleCursor.index();
+        } else {
+            request = (ScheduleRequest) session.getAttribute(SESSION_SCHEDULE_REQUEST);
+            schedules = getSchedulesFromSession(session);
+            onlineSections = sessionSections(session, SESSION_ONLINE_SECTIONS);
+            tbdSections = sessionSections(session, SESSION_TBD_SECTIONS);
+            preferences = request != null ? scheduleService.preferencesFor(request) : null;
+            Integer sessionIndex = (Integer) session.getAttribute(SESSION_CURRENT_SCHEDULE_INDEX);
+            currentIndex = sessionIndex != null ? sessionIndex : 0;
         }
 
-        // Add online and TBD sections back for display
-        @SuppressWarnings("unchecked")
-        List<Section> onlineSections = (List<Section>) session.getAttribute(SESSION_ONLINE_SECTIONS);
-        if (onlineSections != null) {
-            allSections.addAll(onlineSections);
+        int total = schedules != null ? schedules.size() : 0;
+        int start = total > 0 ? Math.floorMod(index != null ? index : currentIndex, total) : 0;
+        int end = Math.min(total, start + Math.max(1, Math.min(limit, MAX_SCHEDULE_PAGE_SIZE)));
+
+        List<Map<String, Object>> page = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            Map<Course, List<Section>> schedule = schedules.get(i);
+            List<Section> sections = schedules.getSections(i);
+            sections.addAll(onlineSections);
+            sections.addAll(tbdSections);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("index", i);
+            entry.put("score", ScheduleBuilder.scoreSchedule(schedule, preferences));
+            entry.put("summary", ScheduleSummary.of(sections));
+            entry.put("sections", sections);
+            entry.put("cursor", request != null ? scheduleCursorCodec.encode(ScheduleCursor.of(request, schedules, i)) : "");
+            page.add(entry);
         }
 
-        @SuppressWarnings("unchecked")
-        List<Section> tbdSections = (List<Section>) session.getAttribute(SESSION_TBD_SECTIONS);
-        if (tbdSections != null) {
-            allSections.addAll(tbdSections);
+        response.put("success", true);
+        response.put("total", total);
+        response.put("index", start);
+        response.put("schedules", page);
+        response.put("nonSchedulableSections", total == 0 ? concat(onlineSections, tbdSections) : List.of());
+        return ResponseEntity.ok(response);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Section> sessionSections(HttpSession session, String attribute) {
+        List<Section> sections = (List<Section>) session.getAttribute(attribute);
+        return sections != null ? sections : List.of();
+    }
+
+    private static List<Section> concat(List<Section> first, List<Section> second) {
+        List<Section> sections = new ArrayList<>(first);
+        sections.addAll(second);
+        return sections;
+    }
+
+    /**
+     * Starts generating schedules for the session's courses in the background. Progress and
+     * schedules are streamed from /api/schedule-jobs/{jobId}/events; the session's current
+     * schedules are left alone, and the final event carries a cursor for the new ones instead.
+     */
+    @PostMapping("/api/schedule-jobs")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> startScheduleJob(@RequestParam(required = false) SchedulePreferencesForm preferences,
+                                                                @RequestParam(name = "instructorPreferences", required = false) Map<String, List<String>> instructorPreferences,
+                                                                @RequestParam(name = "selectedSections", required = false) Map<String, List<String>> selectedSections,
+                                                                HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+        List<Course> courses = getCoursesFromSession(session);
+        if (courses.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "No courses added to generate schedules.");
+            return ResponseEntity.ok(response);
         }
 
-        session.setAttribute("selectedSections", allSections);
+        ScheduleRequest request = new ScheduleRequest(getCurrentAcademicPeriod(session), ScheduleRequest.courseIds(courses),
+                preferences, instructorPreferences, selectedSections, false);
+        try {
+            ScheduleJob job = scheduleJobService.submit(session.getId(), courses, request);
+            response.put("success", true);
+            response.put("jobId", job.getId());
+            return ResponseEntity.accepted().body(response);
+        } catch (RejectedExecutionException e) {
+            logger.warning("Schedule job queue is full");
+            response.put("success", false);
+            response.put("message", "The server is busy generating schedules. Please try again shortly.");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+        }
+    }
 
-        redirectAttributes.addFlashAttribute("successMessage", "Switched to the previous schedule.");
-        return "redirect:/";
+    @GetMapping("/api/schedule-jobs/{jobId}/events")
+    public ResponseEntity<SseEmitter> getScheduleJobEvents(@PathVariable String jobId) {
+        SseEmitter emitter = scheduleJobService.subscribe(jobId);
+        return emitter != null ? ResponseEntity.ok(emitter) : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/api/academic-periods")
     @ResponseBody
-    public ResponseEntity<String> getAcademicPeriodsApi() {
+    public ResponseEntity<Map<String, Object>> getAcademicPeriodsApi() {
         try {
             List<AcademicPeriod> periods = apiService.fetchAcademicPeriods();
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> response = new HashMap<>();
-
-            List<Map<String, Object>> periodsList = new ArrayList<>();
-            for (AcademicPeriod period : periods) {
-                Map<String, Object> periodMap = new HashMap<>();
-                periodMap.put("id", period.getId());
-                periodMap.put("name", period.getDisplayName());
-                periodMap.put("isCurrent", period.isActive());
-                periodMap.put("startDate", period.getStartDate());
-                periodsList.add(periodMap);
-            }
-
-            response.put("data", periodsList);
-            String json = objectMapper.writeValueAsString(response);
-
-            return ResponseEntity.ok()
-                    .header("Content-Type", "application/json")
-                    .body(json);
+            return ResponseEntity.ok(Map.of("data", periods));
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Error fetching academic periods", e);
-            return ResponseEntity.status(500)
-                    .body("{\"error\": \"Failed to fetch academic periods\"}");
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch academic periods"));
         }
     }
 
@@ -735,8 +990,7 @@ public class HomeController {
 
                     // Clear ALL schedule-related attributes
                     session.removeAttribute("selectedSections");
-                    session.removeAttribute("generatedSchedules");
-                    session.removeAttribute("currentScheduleIndex");
+                    removeGeneratedSchedules(session);
                     session.removeAttribute(SESSION_ONLINE_SECTIONS);
                     session.removeAttribute(SESSION_TBD_SECTIONS);
 
@@ -757,152 +1011,4 @@ public class HomeController {
             return ResponseEntity.ok(response);
         }
     }
-    
-    /**
-     * Apply selected section filtering to courses
-     * Only include sections that are explicitly selected for each course
-     */
-    private List<Course> applySelectedSections(List<Course> courses, String selectedSectionsJson) {
-        if (selectedSectionsJson == null || selectedSectionsJson.trim().isEmpty()) {
-            return courses;
-        }
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode selectedSectionsNode = objectMapper.readTree(selectedSectionsJson);
-
-            List<Course> filteredCourses = new ArrayList<>();
-
-            for (Course course : courses) {
-                JsonNode courseSections = selectedSectionsNode.path(course.getCourseId());
-
-                if (courseSections.isArray() && courseSections.size() > 0) {
-                    // Course has selected sections - filter to only include those
-                    // Section IDs are in format "courseId-sectionNumber"
-                    Set<String> selectedSectionNumbers = new HashSet<>();
-                    courseSections.forEach(node -> {
-                        String sectionId = node.asText();
-                        // Extract section number from "courseId-sectionNumber" format
-                        int lastDash = sectionId.lastIndexOf('-');
-                        if (lastDash > 0) {
-                            selectedSectionNumbers.add(sectionId.substring(lastDash + 1));
-                        }
-                    });
-
-                    List<Section> filteredSections = course.getSections().stream()
-                        .filter(section -> selectedSectionNumbers.contains(section.getSectionNumber()))
-                        .collect(java.util.stream.Collectors.toList());
-
-                    if (!filteredSections.isEmpty()) {
-                        Course filteredCourse = new Course(
-                            course.getCourseId(),
-                            course.getCourseName(),
-                            course.getDescription(),
-                            filteredSections
-                        );
-                        filteredCourses.add(filteredCourse);
-                        logger.info("Filtered " + course.getCourseId() + " to " + filteredSections.size() + " selected sections");
-                    }
-                } else {
-                    // No filtering for this course - include all sections
-                    filteredCourses.add(course);
-                }
-            }
-
-            return filteredCourses;
-
-        } catch (Exception e) {
-            logger.log(Level.WARNING, "Error parsing selected sections, using all courses", e);
-            return courses;
-        }
-    }
-
-    /**
-     * Apply instructor preferences to filter course sections
-     * Focus on Lecture/Studio instructors but apply filtering to other formats when possible
-     */
-    private List<Course> applyInstructorPreferences(List<Course> courses, String instructorPreferencesJson) {
-        if (instructorPreferencesJson == null || instructorPreferencesJson.trim().isEmpty()) {
-            return courses; // No preferences, return all courses unchanged
-        }
-        
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode preferencesNode = objectMapper.readTree(instructorPreferencesJson);
-            
-            List<Course> filteredCourses = new ArrayList<>();
-            
-            for (Course course : courses) {
-                JsonNode coursePrefs = preferencesNode.path(course.getCourseId());
-                
-                if (coursePrefs.isArray() && coursePrefs.size() > 0) {
-                    // Course has instructor preferences - filter sections
-                    Set<String> preferredInstructors = new HashSet<>();
-                    coursePrefs.forEach(node -> preferredInstructors.add(node.asText()));
-                    
-                    List<Section> filteredSections = new ArrayList<>();
-                    
-                    for (Section section : course.getSections()) {
-                        // Apply filtering logic based on format priority
-                        String format = section.getInstructionalFormat();
-                        String instructor = section.getInstructor();
-                        
-                        if (format != null && instructor != null && !instructor.equals("N/A")) {
-                            // Always include preferred instructors regardless of format
-                            if (preferredInstructors.contains(instructor)) {
-                                filteredSections.add(section);
-                            }
-                            // For primary formats (Lecture/Studio) - include non-preferred only if no preferred options exist
-                            else if (format.equalsIgnoreCase("Lecture") || format.equalsIgnoreCase("Studio")) {
-                                // Check if any preferred instructors teach this specific primary format
-                                boolean hasPreferredForPrimaryFormat = course.getSections().stream()
-                                    .anyMatch(s -> s.getInstructionalFormat() != null && 
-                                                 s.getInstructionalFormat().equals(format) &&
-                                                 s.getInstructor() != null &&
-                                                 preferredInstructors.contains(s.getInstructor()));
-                                
-                                // If no preferred instructors teach this primary format, include all sections of this format
-                                if (!hasPreferredForPrimaryFormat) {
-                                    filteredSections.add(section);
-                                }
-                            }
-                            // Other formats - include non-preferred only if no preferred options exist for this format
-                            else {
-                                // Check if any preferred instructors teach this format
-                                boolean hasPreferredForThisFormat = course.getSections().stream()
-                                    .anyMatch(s -> s.getInstructionalFormat() != null && 
-                                                 s.getInstructionalFormat().equals(format) &&
-                                                 s.getInstructor() != null &&
-                                                 preferredInstructors.contains(s.getInstructor()));
-                                
-                                // If no preferred instructors teach this format, include all sections of this format
-                                if (!hasPreferredForThisFormat) {
-                                    filteredSections.add(section);
-                                }
-                            }
-                        } else {
-                            // No instructor info or N/A - always include
-                            filteredSections.add(section);
-                        }
-                    }
-                    
-                    // Only add course if it has sections after filtering
-                    if (!filteredSections.isEmpty()) {
-                        Course filteredCourse = new Course(course.getCourseId(), course.getCourseName(), course.getDescription(), filteredSections);
-                        filteredCourses.add(filteredCourse);
-                    }
-                } else {
-                    // No preferences for this course - include all sections
-                    filteredCourses.add(course);
-                }
-            }
-            
-            return filteredCourses;
-            
-        } catch (Exception e) {
-            logger.log(Level.WARNING, "Error parsing instructor preferences, using all courses", e);
-            return courses; // Fallback to original courses if parsing fails
-        }
-    }
-
 }
@@ -0,0 +1,60 @@
+package com.schedulebuilder.class_scheduler.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+
+import java.beans.PropertyEditorSupport;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Binds a request parameter holding JSON, such as the schedule preferences the page posts as a form
+ * field, to a typed value. Blank or malformed JSON binds as null, so a bad filter falls back to the
+ * defaults instead of failing the request.
+ */
+class JsonParamEditor extends PropertyEditorSupport {
+
+    private static final Logger logger = Logger.getLogger(JsonParamEditor.class.getName());
+
+    private final ObjectReader reader;
+
+    JsonParamEditor(ObjectReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Binds {@link SchedulePreferencesForm}s, ignoring fields this version doesn't know about.
+     */
+    static JsonParamEditor preferences(ObjectMapper objectMapper) {
+        return new JsonParamEditor(objectMapper.readerFor(SchedulePreferencesForm.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    /**
+     * Binds per-course lists such as {"COMS 2280": ["COMS 2280-1"]}.
+     */
+    static JsonParamEditor byCourse(ObjectMapper objectMapper) {
+        return new JsonParamEditor(objectMapper.readerFor(new TypeReference<Map<String, List<String>>>() {}));
+    }
+
+    @Override
+    public void setAsText(String text) {
+        if (text == null || text.isBlank()) {
+            setValue(null);
+            return;
+        }
+
+        try {
+            setValue(reader.readValue(text));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error parsing " + reader.getValueType() + " parameter, ignoring it", e);
+            setValue(null);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.schedulebuilder.class_scheduler.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An academic period, serialized for the page as {@code id}, {@code name}, {@code isCurrent},
+ * {@code startDate} and {@code endDate}.
+ */
 public class AcademicPeriod {
     private String id;
     private String displayName;
@@ -63,6 +69,7 @@ public class AcademicPeriod {
         this.id = id;
     }
 
+    @JsonProperty("name")
     public String getDisplayName() {
         return displayName;
     }
@@ -87,6 +94,7 @@ public class AcademicPeriod {
         this.endDate = endDate;
     }
 
+    @JsonProperty("isCurrent")
     public boolean isActive() {
         return isActive;
     }
@@ -0,0 +1,85 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, indexed copy of one academic period's course catalog.
+ * Courses are looked up by subject (for the add-course flow) or by full course ID.
+ */
+public class CatalogSnapshot {
+    private final String academicPeriodId;
+    private final Map<String, List<Course>> coursesBySubject;
+    private final Map<String, Course> coursesById;
+    private final Instant refreshedAt;
+
+    public CatalogSnapshot(String academicPeriodId, Map<String, List<Course>> coursesBySubject, Instant refreshedAt) {
+        this.academicPeriodId = academicPeriodId;
+        this.refreshedAt = refreshedAt;
+
+        Map<String, List<Course>> subjects = new HashMap<>();
+        Map<String, Course> byId = new HashMap<>();
+        for (Map.Entry<String, List<Course>> entry : coursesBySubject.entrySet()) {
+            List<Course> courses = List.copyOf(entry.getValue());
+            subjects.put(normalize(entry.getKey()), courses);
+            for (Course course : courses) {
+                byId.put(normalize(course.getCourseId()), course);
+            }
+        }
+        this.coursesBySubject = Collections.unmodifiableMap(subjects);
+        this.coursesById = Collections.unmodifiableMap(byId);
+    }
+
+    public String getAcademicPeriodId() {
+        return academicPeriodId;
+    }
+
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public Set<String> getSubjects() {
+        return coursesBySubject.keySet();
+    }
+
+    public Map<String, List<Course>> getCoursesBySubject() {
+        return coursesBySubject;
+    }
+
+    /**
+     * @return All courses in the subject, or null if the subject isn't in this snapshot.
+     */
+    public List<Course> findSubject(String subject) {
+        return coursesBySubject.get(normalize(subject));
+    }
+
+    /**
+     * @return The course with the given ID (e.g. "COMS 2270"), or null if not present.
+     */
+    public Course findCourse(String courseId) {
+        return coursesById.get(normalize(courseId));
+    }
+
+    public int getCourseCount() {
+        return coursesById.size();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogSnapshot{" +
+                "academicPeriodId='" + academicPeriodId + '\'' +
+                ", subjects=" + coursesBySubject.size() +
+                ", courses=" + coursesById.size() +
+                ", refreshedAt=" + refreshedAt +
+                '}';
+    }
+}
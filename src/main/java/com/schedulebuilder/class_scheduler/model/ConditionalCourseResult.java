@@ -0,0 +1,16 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.List;
+
+/**
+ * Result of a conditional course search.
+ *
+ * @param courses   The parsed courses, or null if the response was unchanged since the previous validator.
+ * @param validator Validator to send with the next request.
+ */
+public record ConditionalCourseResult(List<Course> courses, UpstreamValidator validator) {
+
+    public boolean isModified() {
+        return courses != null;
+    }
+}
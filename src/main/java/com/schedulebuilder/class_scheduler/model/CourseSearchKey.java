@@ -0,0 +1,16 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.Locale;
+
+/**
+ * Identifies one upstream course search. Subject and number are normalized so that
+ * "coms 2270" and "COMS 2270 " share the same cached response.
+ */
+public record CourseSearchKey(String academicPeriodId, String subject, String number) {
+
+    public CourseSearchKey {
+        academicPeriodId = academicPeriodId != null ? academicPeriodId.trim() : "";
+        subject = subject != null ? subject.trim().toUpperCase(Locale.ROOT) : "";
+        number = number != null ? number.trim().toUpperCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,10 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.List;
+
+/**
+ * Courses parsed from one upstream course search, along with the size of the response body
+ * they were parsed from (used to weigh cache entries).
+ */
+public record CourseSearchResult(List<Course> courses, long responseBytes) {
+}
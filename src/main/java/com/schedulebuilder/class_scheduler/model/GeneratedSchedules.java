@@ -0,0 +1,165 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact form of a list of generated schedules, kept in the session instead of one
+ * {@code Map<Course, List<Section>>} per schedule. Each schedule is a row of section indices into
+ * the courses it was generated from: {@link #SLOTS_PER_COURSE} slots per course (a primary and a
+ * secondary section at most), with -1 for unused slots. Maps are only built for the schedule
+ * being displayed.
+ */
+public final class GeneratedSchedules {
+
+    public static final int SLOTS_PER_COURSE = 2;
+
+    private final List<Course> courses;
+    private final short[] rows;
+    private final int rowWidth;
+    private final int size;
+
+    private GeneratedSchedules(List<Course> courses, short[] rows, int size) {
+        this.courses = courses;
+        this.rows = rows;
+        this.rowWidth = courses.size() * SLOTS_PER_COURSE;
+        this.size = size;
+    }
+
+    /**
+     * Encodes schedules produced by {@link ScheduleBuilder} from the given courses.
+     *
+     * @param courses   The courses the schedules were generated from.
+     * @param schedules The generated schedules.
+     * @throws IllegalArgumentException If a schedule uses a section that isn't one of its course's
+     *                                  sections, or more sections of a course than there are slots.
+     */
+    public static GeneratedSchedules encode(List<Course> courses, List<Map<Course, List<Section>>> schedules) {
+        List<Course> courseList = List.copyOf(courses);
+        int rowWidth = courseList.size() * SLOTS_PER_COURSE;
+        short[] rows = new short[schedules.size() * rowWidth];
+
+        for (int row = 0; row < schedules.size(); row++) {
+            Map<Course, List<Section>> schedule = schedules.get(row);
+            for (int c = 0; c < courseList.size(); c++) {
+                Course course = courseList.get(c);
+                List<Section> sections = schedule.getOrDefault(course, Collections.emptyList());
+                if (sections.size() > SLOTS_PER_COURSE) {
+                    throw new IllegalArgumentException("Schedule uses " + sections.size() + " sections of " + course.getCourseId());
+                }
+
+                int offset = row * rowWidth + c * SLOTS_PER_COURSE;
+                for (int slot = 0; slot < SLOTS_PER_COURSE; slot++) {
+                    rows[offset + slot] = slot < sections.size() ? sectionIndex(course, sections.get(slot)) : -1;
+                }
+            }
+        }
+        return new GeneratedSchedules(courseList, rows, schedules.size());
+    }
+
+    /**
+     * Rebuilds schedules from rows previously taken from {@link #getRows()}, e.g. after reading a
+     * persisted session.
+     *
+     * @throws IllegalArgumentException If the rows don't fit the courses.
+     */
+    public static GeneratedSchedules fromRows(List<Course> courses, short[] rows, int size) {
+        List<Course> courseList = List.copyOf(courses);
+        int rowWidth = courseList.size() * SLOTS_PER_COURSE;
+        if (size < 0 || rows.length != size * rowWidth) {
+            throw new IllegalArgumentException(rows.length + " slots don't fit " + size + " schedules of " + courseList.size() + " courses");
+        }
+        for (int i = 0; i < rows.length; i++) {
+            int sectionCount = courseList.get((i % rowWidth) / SLOTS_PER_COURSE).getSections().size();
+            if (rows[i] < -1 || rows[i] >= sectionCount) {
+                throw new IllegalArgumentException("Section index " + rows[i] + " out of range");
+            }
+        }
+        return new GeneratedSchedules(courseList, rows.clone(), size);
+    }
+
+    /**
+     * The courses the schedules were generated from, in slot order.
+     */
+    public List<Course> getCourses() {
+        return courses;
+    }
+
+    /**
+     * A copy of the section index rows, {@link #SLOTS_PER_COURSE} slots per course per schedule.
+     */
+    public short[] getRows() {
+        return rows.clone();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Builds the schedule at the given index, in course order.
+     */
+    public Map<Course, List<Section>> get(int index) {
+        Map<Course, List<Section>> schedule = new LinkedHashMap<>();
+        int offset = rowOffset(index);
+        for (int c = 0; c < courses.size(); c++) {
+            Course course = courses.get(c);
+            List<Section> sections = new ArrayList<>(SLOTS_PER_COURSE);
+            for (int slot = 0; slot < SLOTS_PER_COURSE; slot++) {
+                short sectionIndex = rows[offset + c * SLOTS_PER_COURSE + slot];
+                if (sectionIndex >= 0) {
+                    sections.add(course.getSections().get(sectionIndex));
+                }
+            }
+            if (!sections.isEmpty()) {
+                schedule.put(course, sections);
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * Returns every section in the schedule at the given index, for display.
+     */
+    public List<Section> getSections(int index) {
+        List<Section> sections = new ArrayList<>();
+        int offset = rowOffset(index);
+        for (int c = 0; c < courses.size(); c++) {
+            List<Section> courseSections = courses.get(c).getSections();
+            for (int slot = 0; slot < SLOTS_PER_COURSE; slot++) {
+                short sectionIndex = rows[offset + c * SLOTS_PER_COURSE + slot];
+                if (sectionIndex >= 0) {
+                    sections.add(courseSections.get(sectionIndex));
+                }
+            }
+        }
+        return sections;
+    }
+
+    private int rowOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Schedule " + index + " of " + size);
+        }
+        return index * rowWidth;
+    }
+
+    private static short sectionIndex(Course course, Section section) {
+        List<Section> sections = course.getSections();
+        for (int i = 0; i < sections.size(); i++) {
+            if (sections.get(i) == section) {
+                if (i > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException(course.getCourseId() + " has too many sections to encode");
+                }
+                return (short) i;
+            }
+        }
+        throw new IllegalArgumentException("Section " + section.getSectionNumber() + " is not a section of " + course.getCourseId());
+    }
+}
@@ -0,0 +1,82 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The instructional formats the upstream API commonly reports. Values that don't exactly match one
+ * of these labels are kept as text on the section and reported as {@link #OTHER}.
+ */
+public enum InstructionalFormat {
+    LECTURE("Lecture"),
+    LABORATORY("Laboratory"),
+    LAB("Lab"),
+    RECITATION("Recitation"),
+    DISCUSSION("Discussion"),
+    STUDIO("Studio"),
+    SEMINAR("Seminar"),
+    QUIZ("Quiz"),
+    WORKSHOP("Workshop"),
+    TUTORIAL("Tutorial"),
+    UNKNOWN("Unknown"),
+    OTHER(null);
+
+    private static final Map<String, InstructionalFormat> BY_LABEL = new HashMap<>();
+
+    static {
+        for (InstructionalFormat format : values()) {
+            if (format.label != null) {
+                BY_LABEL.put(format.label, format);
+            }
+        }
+    }
+
+    private final String label;
+    private final boolean secondary;
+
+    InstructionalFormat(String label) {
+        this.label = label;
+        this.secondary = isSecondaryLabel(label);
+    }
+
+    /**
+     * Looks up the format with exactly this label.
+     *
+     * @return The format, or {@link #OTHER} if no label matches.
+     */
+    public static InstructionalFormat fromLabel(String label) {
+        InstructionalFormat format = label != null ? BY_LABEL.get(label) : null;
+        return format != null ? format : OTHER;
+    }
+
+    /**
+     * Whether a format label names a secondary section type (recitation, lab, discussion, etc.).
+     */
+    public static boolean isSecondaryLabel(String label) {
+        if (label == null) {
+            return false;
+        }
+        String lower = label.toLowerCase();
+        for (String keyword : Keywords.SECONDARY) {
+            if (lower.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isSecondary() {
+        return secondary;
+    }
+
+    // Separate class so the keywords are initialized before the constants that use them
+    private static final class Keywords {
+        private static final String[] SECONDARY = {
+                "recitation", "discussion", "laboratory", "lab", "quiz", "workshop", "tutorial", "studio", "seminar"
+        };
+    }
+}
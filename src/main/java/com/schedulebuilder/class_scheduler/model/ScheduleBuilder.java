@@ -1,5 +1,7 @@
 package com.schedulebuilder.class_scheduler.model;
 
+import com.schedulebuilder.class_scheduler.util.SectionFields;
+
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -18,6 +20,7 @@ public class ScheduleBuilder {
     private static final String RECITATION_FORMAT = "Recitation";
     private static final String DISCUSSION_FORMAT = "Discussion";
     private static final String ONLINE_TIME = "N/A";
+    private static final int PROGRESS_INTERVAL_NODES = 1024;
 
     public static List<Map<Course, List<Section>>> generateNonConflictingSchedules(List<Course> courses, int maxSchedules) {
         return generateNonConflictingSchedules(courses, maxSchedules, null, true);
@@ -28,6 +31,15 @@ public class ScheduleBuilder {
     }
 
     public static List<Map<Course, List<Section>>> generateNonConflictingSchedules(List<Course> courses, int maxSchedules, SchedulePreferences preferences, boolean uniqueSchedulesOnly) {
+        return generateNonConflictingSchedules(courses, maxSchedules, preferences, uniqueSchedulesOnly, ProgressListener.NONE);
+    }
+
+    /**
+     * Generates schedules while reporting the search's progress, e.g. to stream it to the browser.
+     * The listener sees candidates in the order they are found, before duplicates are removed and
+     * the final ranking is applied.
+     */
+    public static List<Map<Course, List<Section>>> generateNonConflictingSchedules(List<Course> courses, int maxSchedules, SchedulePreferences preferences, boolean uniqueSchedulesOnly, ProgressListener listener) {
         maxSchedules = Math.min(maxSchedules, ABSOLUTE_MAX_SCHEDULES);
 
         // Pre-process courses to ensure recitation requirements are met
@@ -43,7 +55,9 @@ public class ScheduleBuilder {
         int generationTarget = uniqueSchedulesOnly ? maxSchedules * 3 : maxSchedules;
 
         List<Map<Course, List<Section>>> schedules = new ArrayList<>();
-        generateSchedulesRecursive(new HashMap<>(), new ArrayList<>(validCourses), schedules, generationTarget, preferences);
+        SearchProgress progress = new SearchProgress(listener);
+        generateSchedulesRecursive(new HashMap<>(), new ArrayList<>(validCourses), schedules, generationTarget, preferences, progress);
+        listener.onProgress(progress.nodesExplored, schedules.size());
 
         // Conditionally deduplicate schedules that differ only by location/instructor
         List<Map<Course, List<Section>>> finalSchedules = schedules;
@@ -153,17 +167,22 @@ public class ScheduleBuilder {
             List<Course> remainingCourses,
             List<Map<Course, List<Section>>> schedules,
             int maxSchedules,
-            SchedulePreferences preferences) {
+            SchedulePreferences preferences,
+            SearchProgress progress) {
         
-        if (schedules.size() >= maxSchedules) {
+        if (schedules.size() >= maxSchedules || progress.listener.isCancelled()) {
             return;
         }
+        progress.nodeExplored(schedules.size());
 
         if (remainingCourses.isEmpty()) {
             // Validate that the schedule meets all requirements before adding
             if (isValidCompleteSchedule(currentSchedule)) {
                 logger.log(Level.INFO, "Adding valid schedule with " + currentSchedule.size() + " courses");
-                schedules.add(new HashMap<>(currentSchedule));
+                Map<Course, List<Section>> schedule = new HashMap<>(currentSchedule);
+                schedules.add(schedule);
+                int score = progress.listener.needsScores() ? calculateScheduleScore(schedule, preferences) : 0;
+                progress.listener.onScheduleFound(schedule, score, progress.nodesExplored, schedules.size());
             } else {
                 logger.log(Level.WARNING, "Schedule failed validation - not adding to results");
             }
@@ -185,7 +204,64 @@ public class ScheduleBuilder {
 
             // Check if this combination conflicts with existing schedule
             if (!hasConflicts(newSchedule)) {
-                generateSchedulesRecursive(newSchedule, nextRemainingCourses, schedules, maxSchedules, preferences);
+                generateSchedulesRecursive(newSchedule, nextRemainingCourses, schedules, maxSchedules, preferences, progress);
+            }
+        }
+    }
+
+    /**
+     * Receives progress from a schedule search. Called on the searching thread, so implementations
+     * should return quickly.
+     */
+    public interface ProgressListener {
+        ProgressListener NONE = new ProgressListener() {
+            @Override
+            public void onProgress(long nodesExplored, int schedulesFound) {
+            }
+
+            @Override
+            public void onScheduleFound(Map<Course, List<Section>> schedule, int score, long nodesExplored, int schedulesFound) {
+            }
+        };
+
+        /**
+         * Called periodically during the search and once when it ends.
+         */
+        void onProgress(long nodesExplored, int schedulesFound);
+
+        /**
+         * Called for each valid schedule as soon as it is found; the schedule must not be modified.
+         * The score is 0 unless {@link #needsScores()} returns true.
+         */
+        void onScheduleFound(Map<Course, List<Section>> schedule, int score, long nodesExplored, int schedulesFound);
+
+        /**
+         * Whether {@link #onScheduleFound} needs each schedule's score; scoring is skipped otherwise.
+         */
+        default boolean needsScores() {
+            return false;
+        }
+
+        /**
+         * Checked at every search node; returning true stops the search with what was found so far.
+         */
+        default boolean isCancelled() {
+            return false;
+        }
+    }
+
+    // Node count for one search, reported to the listener every PROGRESS_INTERVAL_NODES nodes
+    private static final class SearchProgress {
+        private final ProgressListener listener;
+        private long nodesExplored;
+
+        private SearchProgress(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        private void nodeExplored(int schedulesFound) {
+            if (++nodesExplored % PROGRESS_INTERVAL_NODES == 0) {
+                listener.onProgress(nodesExplored, schedulesFound);
             }
         }
     }
@@ -265,26 +341,19 @@ public class ScheduleBuilder {
      */
     private static boolean isSecondarySection(Section section) {
         String sectionNumber = section.getSectionNumber();
-        String format = section.getInstructionalFormat();
+        InstructionalFormat format = section.getFormat();
         
         // Method 1: Check instructional format
         if (format != null) {
-            String formatLower = format.toLowerCase();
-            // Check for various secondary section types
-            if (formatLower.contains("recitation") || 
-                formatLower.contains("discussion") || 
-                formatLower.contains("laboratory") || 
-                formatLower.contains("lab") ||
-                formatLower.contains("quiz") ||
-                formatLower.contains("workshop") ||
-                formatLower.contains("tutorial") ||
-                formatLower.contains("studio") ||
-                formatLower.contains("seminar")) {
+            // Check for various secondary section types (precomputed for the known formats)
+            if (format == InstructionalFormat.OTHER
+                    ? InstructionalFormat.isSecondaryLabel(section.getInstructionalFormat())
+                    : format.isSecondary()) {
                 return true;
             }
             
             // Explicitly marked as lecture means it's primary
-            if (format.equalsIgnoreCase("Lecture")) {
+            if (hasFormat(section, InstructionalFormat.LECTURE)) {
                 return false;
             }
         }
@@ -299,13 +368,20 @@ public class ScheduleBuilder {
         }
         
         // Method 3: Check for "Arranged" format which often indicates discussion/lab
-        if (format != null && format.toLowerCase().contains("arranged")) {
+        if (format == InstructionalFormat.OTHER && section.getInstructionalFormat().toLowerCase().contains("arranged")) {
             return true;
         }
         
         return false;
     }
 
+    // Case-insensitive format check that only falls back to comparing text for unrecognized labels
+    private static boolean hasFormat(Section section, InstructionalFormat expected) {
+        InstructionalFormat format = section.getFormat();
+        return format == expected
+                || format == InstructionalFormat.OTHER && expected.getLabel().equalsIgnoreCase(section.getInstructionalFormat());
+    }
+
     /**
      * Check if a primary section and secondary section are compatible
      * Implements specific lab-lecture pairing logic:
@@ -313,12 +389,8 @@ public class ScheduleBuilder {
      * - For other sections (discussions, studios, etc.): independent sections
      */
     private static boolean areSectionsCompatible(Section primary, Section secondary, Course course) {
-        String primaryFormat = primary.getInstructionalFormat();
-        String secondaryFormat = secondary.getInstructionalFormat();
-        
         // Check if this is specifically a lab-lecture pairing (only "Lab" format gets special treatment)
-        boolean isLectureLab = (primaryFormat != null && primaryFormat.equalsIgnoreCase("Lecture")) &&
-                               (secondaryFormat != null && secondaryFormat.equalsIgnoreCase("Lab"));
+        boolean isLectureLab = hasFormat(primary, InstructionalFormat.LECTURE) && hasFormat(secondary, InstructionalFormat.LAB);
         
         if (isLectureLab) {
             return handleLabLecturePairing(primary, secondary, course);
@@ -333,17 +405,23 @@ public class ScheduleBuilder {
      */
     private static boolean handleLabLecturePairing(Section lecture, Section lab, Course course) {
         
-        // Get all lab sections and their unique instructors
-        Set<String> labInstructors = new HashSet<>();
+        // Check whether the lab sections have more than one instructor (IDs are equal for equal names)
+        int labInstructorId = -1;
+        boolean multipleLabInstructors = false;
         for (Section section : course.getSections()) {
-            if (isLabSection(section) && section.getInstructor() != null && !section.getInstructor().isEmpty()) {
-                labInstructors.add(section.getInstructor());
+            if (isLabSection(section) && section.getInstructorId() >= 0) {
+                if (labInstructorId < 0) {
+                    labInstructorId = section.getInstructorId();
+                } else if (section.getInstructorId() != labInstructorId) {
+                    multipleLabInstructors = true;
+                    break;
+                }
             }
         }
         
         // If multiple lab instructors, require instructor match
-        if (labInstructors.size() > 1) {
-            return lecture.getInstructor() != null && lecture.getInstructor().equals(lab.getInstructor());
+        if (multipleLabInstructors) {
+            return sameInstructor(lecture, lab);
         }
         
         // If single lab instructor (or no instructor info), allow pairing with any lecture
@@ -356,7 +434,7 @@ public class ScheduleBuilder {
      */
     private static boolean handleOtherSectionPairing(Section primary, Section secondary) {
         // If sections share the same instructor, they're likely linked
-        if (primary.getInstructor() != null && primary.getInstructor().equals(secondary.getInstructor())) {
+        if (sameInstructor(primary, secondary)) {
             return true;
         }
         
@@ -396,12 +474,15 @@ public class ScheduleBuilder {
         return true;
     }
     
+    private static boolean sameInstructor(Section section1, Section section2) {
+        return section1.getInstructorId() >= 0 && section1.getInstructorId() == section2.getInstructorId();
+    }
+
     /**
      * Check if a section is specifically a lab section (only exact "Lab" format)
      */
     private static boolean isLabSection(Section section) {
-        String format = section.getInstructionalFormat();
-        return format != null && format.equalsIgnoreCase("Lab");
+        return hasFormat(section, InstructionalFormat.LAB);
     }
     
 
@@ -469,39 +550,20 @@ public class ScheduleBuilder {
 
     private static boolean sectionsConflict(Section section1, Section section2) {
         // Skip conflict check if either section is online, N/A, or has TBD time
-        if (section1.getTimeStart().equals("N/A") || section2.getTimeStart().equals("N/A") ||
-            section1.getTimeStart().equals("TBD") || section2.getTimeStart().equals("TBD") ||
-            section1.getTimeStart().equals("Online") || section2.getTimeStart().equals("Online")) {
+        if (hasNoMeetingTime(section1) || hasNoMeetingTime(section2)) {
             return false;
         }
 
-        // Check day overlap
-        String[] days1 = section1.getDaysOfTheWeek().split(",");
-        String[] days2 = section2.getDaysOfTheWeek().split(",");
-        
-        for (String day1 : days1) {
-            for (String day2 : days2) {
-                if (day1.trim().equals(day2.trim())) {
-                    // If days overlap, check time overlap WITH commute time
-                    if (timesConflictWithCommuteTime(section1.getTimeStart(), section1.getTimeEnd(),
-                            section2.getTimeStart(), section2.getTimeEnd())) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        // If days overlap, check time overlap WITH commute time
+        return shareCommonDay(section1, section2)
+                && timesConflictWithCommuteTime(startMinutes(section1), endMinutes(section1),
+                        startMinutes(section2), endMinutes(section2));
     }
 
     /**
      * Enhanced time conflict check that includes minimum commute time
      */
-    private static boolean timesConflictWithCommuteTime(String start1, String end1, String start2, String end2) {
-        int start1Minutes = convertTimeToMinutes(start1);
-        int end1Minutes = convertTimeToMinutes(end1);
-        int start2Minutes = convertTimeToMinutes(start2);
-        int end2Minutes = convertTimeToMinutes(end2);
-        
+    private static boolean timesConflictWithCommuteTime(int start1Minutes, int end1Minutes, int start2Minutes, int end2Minutes) {
         // Check if times overlap directly
         boolean directOverlap = (start1Minutes < end2Minutes && start2Minutes < end1Minutes);
         
@@ -520,51 +582,30 @@ public class ScheduleBuilder {
         return directOverlap || insufficientCommuteTime;
     }
 
-    private static int convertTimeToMinutes(String time) {
-        if (time == null || ONLINE_TIME.equals(time) || "TBD".equals(time) || "Online".equals(time)) {
-            return 0;
-        }
-        
-        try {
-            String[] parts = time.trim().split(" ");
-            if (parts.length != 2) {
-                logger.log(Level.WARNING, "Invalid time format: " + time);
-                return 0;
-            }
-            
-            String[] timeParts = parts[0].split(":");
-            if (timeParts.length != 2) {
-                logger.log(Level.WARNING, "Invalid time parts: " + parts[0]);
-                return 0;
-            }
-            
-            int hours = Integer.parseInt(timeParts[0]);
-            int minutes = Integer.parseInt(timeParts[1]);
-            
-            // Validate hour and minute ranges
-            if (hours < 1 || hours > 12 || minutes < 0 || minutes > 59) {
-                logger.log(Level.WARNING, "Invalid hour/minute values: " + hours + ":" + minutes);
-                return 0;
-            }
-            
-            String period = parts[1].toUpperCase();
-            if ("PM".equals(period) && hours != 12) {
-                hours += 12;
-            } else if ("AM".equals(period) && hours == 12) {
-                hours = 0;
-            } else if (!"AM".equals(period) && !"PM".equals(period)) {
-                logger.log(Level.WARNING, "Invalid AM/PM indicator: " + parts[1]);
-                return 0;
-            }
-            
-            return hours * 60 + minutes;
-        } catch (NumberFormatException e) {
-            logger.log(Level.WARNING, "Number parsing error for time: " + time, e);
-            return 0;
-        } catch (Exception e) {
-            logger.log(Level.WARNING, "Unexpected error parsing time: " + time, e);
-            return 0;
-        }
+    // Sections keep their times pre-parsed; anything that isn't a clock time counts as midnight
+    private static int startMinutes(Section section) {
+        return Math.max(0, section.getStartMinutes());
+    }
+
+    private static int endMinutes(Section section) {
+        return Math.max(0, section.getEndMinutes());
+    }
+
+    private static boolean hasNoMeetingTime(Section section) {
+        return section.getStartMinutes() < 0 && isPlaceholderTime(section.getTimeStart());
+    }
+
+    private static boolean isPlaceholderTime(String time) {
+        return ONLINE_TIME.equals(time) || "TBD".equals(time) || "Online".equals(time);
+    }
+
+    /**
+     * Scores a schedule the way generated schedules are ranked; higher is better.
+     *
+     * @param preferences The user's preferences, or null to score without them.
+     */
+    public static int scoreSchedule(Map<Course, List<Section>> schedule, SchedulePreferences preferences) {
+        return calculateScheduleScore(schedule, preferences);
     }
 
     private static int calculateScheduleScore(Map<Course, List<Section>> schedule) {
@@ -588,7 +629,7 @@ public class ScheduleBuilder {
 
         // Prefer schedules with appropriate gaps (including commute time)
         for (int i = 0; i < sections.size() - 1; i++) {
-            int gap = getTimeDifference(sections.get(i).getTimeEnd(), sections.get(i + 1).getTimeStart());
+            int gap = getTimeDifference(sections.get(i), sections.get(i + 1));
             if (gap >= 10 && gap <= 30) score += 15;  // Ideal gap (10-30 minutes)
             else if (gap >= 30 && gap <= 60) score += 10; // Acceptable gap
             else if (gap > 60) score -= (gap / 30);    // Penalize large gaps
@@ -598,8 +639,17 @@ public class ScheduleBuilder {
         // Prefer balanced days
         Map<String, Integer> classesPerDay = new HashMap<>();
         for (Section section : sections) {
-            for (String day : section.getDaysOfTheWeek().split(",")) {
-                classesPerDay.merge(day.trim(), 1, Integer::sum);
+            int dayMask = section.getDayMask();
+            if (dayMask >= 0) {
+                for (int day = 0; day < SectionFields.dayCount(); day++) {
+                    if ((dayMask & (1 << day)) != 0) {
+                        classesPerDay.merge(SectionFields.dayName(day), 1, Integer::sum);
+                    }
+                }
+            } else {
+                for (String day : section.getDaysOfTheWeek().split(",")) {
+                    classesPerDay.merge(day.trim(), 1, Integer::sum);
+                }
             }
         }
         int maxClassesInDay = classesPerDay.values().stream().mapToInt(i -> i).max().orElse(0);
@@ -607,7 +657,7 @@ public class ScheduleBuilder {
 
         // Prefer reasonable start times (9AM-3PM)
         for (Section section : sections) {
-            if (isReasonableStartTime(section.getTimeStart())) {
+            if (isReasonableStartTime(section)) {
                 score += 5;
             }
         }
@@ -665,26 +715,18 @@ public class ScheduleBuilder {
         return true;
     }
 
-    private static boolean isReasonableStartTime(String time) {
-        if (time.equals("N/A") || time.equals("TBD") || time.equals("Online")) return false;
+    private static boolean isReasonableStartTime(Section section) {
+        if (hasNoMeetingTime(section)) return false;
         
-        try {
-            int minutes = convertTimeToMinutes(time);
-            int hour = minutes / 60;
-            return (hour >= REASONABLE_START_HOUR_MIN && hour <= REASONABLE_START_HOUR_MAX);
-        } catch (Exception e) {
-            return false;
-        }
+        int hour = startMinutes(section) / 60;
+        return (hour >= REASONABLE_START_HOUR_MIN && hour <= REASONABLE_START_HOUR_MAX);
     }
 
-    private static int getTimeDifference(String time1, String time2) {
-        if (time1.equals("N/A") || time2.equals("N/A") ||
-            time1.equals("TBD") || time2.equals("TBD") ||
-            time1.equals("Online") || time2.equals("Online")) return 0;
+    // Gap between the end of the first section and the start of the second
+    private static int getTimeDifference(Section first, Section second) {
+        if (first.getEndMinutes() < 0 && isPlaceholderTime(first.getTimeEnd()) || hasNoMeetingTime(second)) return 0;
         
-        int minutes1 = convertTimeToMinutes(time1);
-        int minutes2 = convertTimeToMinutes(time2);
-        return Math.abs(minutes2 - minutes1);
+        return Math.abs(startMinutes(second) - endMinutes(first));
     }
 
     /**
@@ -706,6 +748,15 @@ public class ScheduleBuilder {
         // Score based on preferred days
         if (preferences.getPreferredDays() != null && !preferences.getPreferredDays().isEmpty()) {
             for (Section section : inPersonSections) {
+                int dayMask = section.getDayMask();
+                if (dayMask >= 0) {
+                    for (int day = 0; day < SectionFields.dayCount(); day++) {
+                        if ((dayMask & (1 << day)) != 0) {
+                            preferenceScore += preferences.isDayPreferred(SectionFields.dayName(day)) ? 15 : -5;
+                        }
+                    }
+                    continue;
+                }
                 String[] sectionDays = section.getDaysOfTheWeek().split(",");
                 for (String day : sectionDays) {
                     if (preferences.isDayPreferred(day.trim())) {
@@ -742,8 +793,7 @@ public class ScheduleBuilder {
     }
 
     private static boolean matchesTimePreference(Section section, SchedulePreferences preferences) {
-        int startMinutes = convertTimeToMinutes(section.getTimeStart());
-        int startHour = startMinutes / 60;
+        int startHour = startMinutes(section) / 60;
 
         switch (preferences.getTimePreference().toLowerCase()) {
             case "morning":
@@ -764,7 +814,7 @@ public class ScheduleBuilder {
         sections.sort((s1, s2) -> {
             int dayCompare = s1.getDaysOfTheWeek().compareTo(s2.getDaysOfTheWeek());
             if (dayCompare != 0) return dayCompare;
-            return Integer.compare(convertTimeToMinutes(s1.getTimeStart()), convertTimeToMinutes(s2.getTimeStart()));
+            return Integer.compare(startMinutes(s1), startMinutes(s2));
         });
 
         for (int i = 0; i < sections.size() - 1; i++) {
@@ -773,7 +823,7 @@ public class ScheduleBuilder {
             
             // Only check gaps on the same day
             if (shareCommonDay(current, next)) {
-                int gap = getTimeDifference(current.getTimeEnd(), next.getTimeStart());
+                int gap = getTimeDifference(current, next);
                 int minGap = preferences.getMinGapMinutes();
                 int maxGap = preferences.getMaxGapMinutes();
                 
@@ -830,6 +880,13 @@ public class ScheduleBuilder {
     }
 
     private static boolean shareCommonDay(Section section1, Section section2) {
+        int mask1 = section1.getDayMask();
+        int mask2 = section2.getDayMask();
+        if (mask1 >= 0 && mask2 >= 0) {
+            return (mask1 & mask2) != 0;
+        }
+
+        // Days that aren't a plain day list are compared as text
         String[] days1 = section1.getDaysOfTheWeek().split(",");
         String[] days2 = section2.getDaysOfTheWeek().split(",");
         
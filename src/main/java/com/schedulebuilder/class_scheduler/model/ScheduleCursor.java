@@ -0,0 +1,40 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Position in a list of generated schedules, carried by the client instead of the session so any
+ * instance can render or page through the schedules.
+ *
+ * @param request        The request the schedules were generated from.
+ * @param index          The index of the displayed schedule.
+ * @param scheduleCount  How many schedules the request produced.
+ * @param sectionNumbers The displayed schedule's in-person section numbers, one list per entry of
+ *                       {@code request.courseIds()}, so it can be shown without regenerating.
+ */
+public record ScheduleCursor(ScheduleRequest request, int index, int scheduleCount, List<List<String>> sectionNumbers) {
+
+    public ScheduleCursor {
+        sectionNumbers = sectionNumbers.stream().map(List::copyOf).toList();
+    }
+
+    /**
+     * The cursor for one of the schedules generated from a request.
+     */
+    public static ScheduleCursor of(ScheduleRequest request, GeneratedSchedules schedules, int index) {
+        Map<Course, List<Section>> schedule = schedules.get(index);
+        List<List<String>> sectionNumbers = new ArrayList<>();
+        for (String courseId : request.courseIds()) {
+            List<String> numbers = new ArrayList<>();
+            for (Map.Entry<Course, List<Section>> entry : schedule.entrySet()) {
+                if (entry.getKey().getCourseId().equals(courseId)) {
+                    entry.getValue().forEach(section -> numbers.add(section.getSectionNumber()));
+                }
+            }
+            sectionNumbers.add(numbers);
+        }
+        return new ScheduleCursor(request, index, schedules.size(), sectionNumbers);
+    }
+}
@@ -0,0 +1,42 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Schedule preferences as the page sends them, bound from the {@code preferences} JSON form field
+ * of a schedule request. Missing fields are null.
+ *
+ * @param preferredDays        Days to favour, e.g. "Mon".
+ * @param timePreference       "morning", "afternoon" or "evening".
+ * @param gapPreference        "none", "minimal", "short", "medium" or "long".
+ * @param scheduleStyle        "compact" or "spread".
+ * @param uniqueSchedulesOnly  Whether schedules differing only in equivalent sections are dropped.
+ */
+public record SchedulePreferencesForm(List<String> preferredDays, String timePreference, String gapPreference,
+                                      String scheduleStyle, Boolean uniqueSchedulesOnly) {
+
+    public SchedulePreferencesForm {
+        if (preferredDays != null) {
+            preferredDays = preferredDays.stream().filter(Objects::nonNull).toList();
+        }
+    }
+
+    /**
+     * The preferences schedules are ranked by.
+     */
+    public SchedulePreferences toSchedulePreferences() {
+        SchedulePreferences preferences = new SchedulePreferences();
+        if (preferredDays != null) {
+            preferences.setPreferredDays(preferredDays);
+        }
+        preferences.setTimePreference(timePreference != null ? timePreference : "");
+        preferences.setGapPreference(gapPreference != null ? gapPreference : "");
+        preferences.setScheduleStyle(scheduleStyle != null ? scheduleStyle : "");
+        return preferences;
+    }
+
+    public boolean isUniqueSchedulesOnly() {
+        return Boolean.TRUE.equals(uniqueSchedulesOnly);
+    }
+}
@@ -0,0 +1,56 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Everything needed to regenerate a set of schedules: the term, the courses, and the filters and
+ * preferences sent by the page.
+ *
+ * @param academicPeriodId      The academic period the courses belong to.
+ * @param courseIds             IDs of the courses to schedule, e.g. "COMS 2280".
+ * @param preferences           Schedule preferences, or null.
+ * @param instructorPreferences Preferred instructor names per course ID, or null.
+ * @param selectedSections      Selected section IDs ("courseId-sectionNumber") per course ID, or null.
+ * @param autoGenerated         Whether this is the automatic generation after adding courses, which
+ *                              ignores preferences and only keeps unique schedules.
+ */
+public record ScheduleRequest(String academicPeriodId, List<String> courseIds, SchedulePreferencesForm preferences,
+                              Map<String, List<String>> instructorPreferences,
+                              Map<String, List<String>> selectedSections, boolean autoGenerated) {
+
+    public ScheduleRequest {
+        courseIds = List.copyOf(courseIds);
+        instructorPreferences = copyOf(instructorPreferences);
+        selectedSections = copyOf(selectedSections);
+    }
+
+    /**
+     * The request for the schedules generated automatically when courses are added.
+     */
+    public static ScheduleRequest automatic(String academicPeriodId, List<Course> courses) {
+        return new ScheduleRequest(academicPeriodId, courseIds(courses), null, null, null, true);
+    }
+
+    public static List<String> courseIds(List<Course> courses) {
+        return courses.stream().map(Course::getCourseId).toList();
+    }
+
+    // An empty list means the course isn't filtered, so such entries (and empty maps) are dropped
+    private static Map<String, List<String>> copyOf(Map<String, List<String>> byCourse) {
+        if (byCourse == null) {
+            return null;
+        }
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        byCourse.forEach((courseId, values) -> {
+            List<String> nonNull = values != null ? values.stream().filter(Objects::nonNull).toList() : List.of();
+            if (courseId != null && !nonNull.isEmpty()) {
+                copy.put(courseId, nonNull);
+            }
+        });
+        return copy.isEmpty() ? null : Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,41 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of filtering and scheduling a course list.
+ *
+ * @param inPersonCourses The courses with schedulable in-person sections, after filtering.
+ * @param onlineSections  Online sections, shown alongside every schedule.
+ * @param tbdSections     Sections without meeting times, shown alongside every schedule.
+ * @param preferences     The parsed schedule preferences, or null if none were given.
+ * @param uniqueSchedulesOnly Whether schedules differing only in equivalent sections are dropped.
+ * @param schedules       The generated schedules; empty if nothing was generated.
+ */
+public record ScheduleResult(List<Course> inPersonCourses, List<Section> onlineSections, List<Section> tbdSections,
+                             SchedulePreferences preferences, boolean uniqueSchedulesOnly, GeneratedSchedules schedules) {
+
+    public boolean hasNonSchedulableSections() {
+        return !onlineSections.isEmpty() || !tbdSections.isEmpty();
+    }
+
+    /**
+     * The sections to display for a schedule: its in-person sections plus the online and TBD ones.
+     */
+    public List<Section> displaySections(int scheduleIndex) {
+        List<Section> sections = new ArrayList<>(schedules.getSections(scheduleIndex));
+        sections.addAll(onlineSections);
+        sections.addAll(tbdSections);
+        return sections;
+    }
+
+    /**
+     * The online and TBD sections, for when there is no in-person schedule to show.
+     */
+    public List<Section> nonSchedulableSections() {
+        List<Section> sections = new ArrayList<>(onlineSections);
+        sections.addAll(tbdSections);
+        return sections;
+    }
+}
@@ -0,0 +1,60 @@
+package com.schedulebuilder.class_scheduler.model;
+
+import com.schedulebuilder.class_scheduler.util.SectionFields;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * At-a-glance facts about one schedule, for listing schedules without laying them out.
+ *
+ * @param sectionCount   Number of sections, including online and TBD ones.
+ * @param credits        Total credits, counting each course once (e.g. "16" or "15.5").
+ * @param days           Days with at least one class, in week order (e.g. ["Mon", "Wed"]).
+ * @param earliestStart  Earliest class start, e.g. "9:00 AM", or null if nothing has a time.
+ * @param latestEnd      Latest class end, e.g. "4:15 PM", or null if nothing has a time.
+ * @param minutesPerWeek Scheduled class time per week.
+ */
+public record ScheduleSummary(int sectionCount, String credits, List<String> days, String earliestStart,
+                              String latestEnd, int minutesPerWeek) {
+
+    public static ScheduleSummary of(List<Section> sections) {
+        // A course's sections (lecture, lab, ...) usually repeat the course's credits, so count each course once
+        Map<String, Integer> creditsByCourse = new HashMap<>();
+        int dayMask = 0;
+        int earliest = Integer.MAX_VALUE;
+        int latest = -1;
+        int minutesPerWeek = 0;
+
+        for (Section section : sections) {
+            if (section.getCreditsTenths() > 0) {
+                creditsByCourse.merge(section.getCourseId(), section.getCreditsTenths(), Math::max);
+            }
+
+            int start = section.getStartMinutes();
+            int end = section.getEndMinutes();
+            if (section.getDayMask() <= 0 || start < 0 || end <= start) {
+                continue;
+            }
+            dayMask |= section.getDayMask();
+            earliest = Math.min(earliest, start);
+            latest = Math.max(latest, end);
+            minutesPerWeek += (end - start) * Integer.bitCount(section.getDayMask());
+        }
+
+        List<String> days = new ArrayList<>();
+        for (int day = 0; day < SectionFields.dayCount(); day++) {
+            if ((dayMask & (1 << day)) != 0) {
+                days.add(SectionFields.dayName(day));
+            }
+        }
+
+        int creditsTenths = creditsByCourse.values().stream().mapToInt(Integer::intValue).sum();
+        return new ScheduleSummary(sections.size(), SectionFields.formatCredits(creditsTenths), days,
+                latest >= 0 ? SectionFields.formatMinutes(earliest) : null,
+                latest >= 0 ? SectionFields.formatMinutes(latest) : null,
+                minutesPerWeek);
+    }
+}
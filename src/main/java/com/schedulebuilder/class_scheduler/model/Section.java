@@ -1,172 +1,235 @@
 package com.schedulebuilder.class_scheduler.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.schedulebuilder.class_scheduler.util.NameDictionary;
+import com.schedulebuilder.class_scheduler.util.SectionFields;
+
 import java.util.List;
 
 public class Section {
-    private String daysOfTheWeek; // e.g., "TR" -> "Tuesday, Thursday"
-    private int openSeats;
-    private String instructor;
-    private String courseId;
-    private String timeStart; // e.g., "1:10 PM"
-    private String timeEnd;   // e.g., "2:00 PM"
-    private String sectionNumber; // e.g., 1, 2, 3, A, B, C
-    private String description; // Course description
-    private String instructionalFormat; // e.g., "Lecture", "Laboratory", "Recitation"
-    private String location; // Room/building information
-    private String deliveryMode; // e.g., "Online", "In-Person", "Hybrid"
-    private String credits; // Course credits (e.g., "3", "4.5")
-    private SectionType sectionType; // Type of section (IN_PERSON, ONLINE, TBD)
-
-    // Constructor
-    public Section(String daysOfTheWeek, int openSeats, String instructor, String courseId, 
-                   String timeStart, String timeEnd, String sectionNumber) {
-        this.daysOfTheWeek = validateAndTrim(daysOfTheWeek, "Days of the Week");
-        this.openSeats = Math.max(0, openSeats);
-        this.instructor = validateAndTrim(instructor, "Instructor");
-        this.courseId = validateAndTrim(courseId, "Course ID");
-        this.timeStart = validateAndTrim(timeStart, "Time Start");
-        this.timeEnd = validateAndTrim(timeEnd, "Time End");
-        this.sectionNumber = validateAndTrim(sectionNumber, "Section Number");
+    // Process-wide and append-only: names of periods the catalog has pruned stay registered. That is
+    // bounded by the distinct instructor and room names seen since startup, a few thousand per term.
+    private static final NameDictionary INSTRUCTORS = new NameDictionary();
+    private static final NameDictionary LOCATIONS = new NameDictionary();
+
+    // Sections are immutable: the catalog shares one instance between every search result, session
+    // and cached schedule that lists it, and replaces it when the listing changes.
+    // Days, times, credits and format are held in primitive form. The matching *Text field is only
+    // set when a value has no exact primitive form (e.g. "TBD", "Online"); the getters rebuild the
+    // display string from the primitive otherwise, using shared instances.
+    private final byte dayMask; // SectionFields day bits, e.g. "Mon,Wed,Fri"
+    private final String daysText;
+    private final int openSeats;
+    private final int instructorId;
+    private final String courseId;
+    private final short startMinutes; // Minutes since midnight, e.g. "1:10 PM" -> 790
+    private final String timeStartText;
+    private final short endMinutes;
+    private final String timeEndText;
+    private final String sectionNumber; // e.g., 1, 2, 3, A, B, C
+    private final String description; // Course description
+    private final InstructionalFormat format; // e.g., "Lecture", "Laboratory", "Recitation"
+    private final String formatText;
+    private final int locationId; // Room/building information
+    private final String deliveryMode; // e.g., "Online", "In-Person", "Hybrid"
+    private final short creditsTenths; // Course credits in tenths (e.g., "4.5" -> 45)
+    private final String creditsText;
+    private final SectionType sectionType; // Type of section (IN_PERSON, ONLINE, TBD)
+
+    public Section(String daysOfTheWeek, int openSeats, String instructor, String courseId,
+                   String timeStart, String timeEnd, String sectionNumber, String instructionalFormat, String location, String deliveryMode, String credits) {
+        this(daysOfTheWeek, openSeats, instructor, courseId, timeStart, timeEnd, sectionNumber, instructionalFormat,
+                location, deliveryMode, credits, null);
+    }
+
+    public Section(String daysOfTheWeek, int openSeats, String instructor, String courseId,
+                   String timeStart, String timeEnd, String sectionNumber, String instructionalFormat, String location,
+                   String deliveryMode, String credits, SectionType sectionType) {
+        this(daysOfTheWeek, openSeats, instructor, courseId, timeStart, timeEnd, sectionNumber, instructionalFormat,
+                location, deliveryMode, credits, sectionType, null);
     }
 
     // Full constructor with all fields
-    public Section(String daysOfTheWeek, int openSeats, String instructor, String courseId, 
-                   String timeStart, String timeEnd, String sectionNumber, String instructionalFormat, String location, String deliveryMode, String credits) {
-        this.daysOfTheWeek = validateAndTrim(daysOfTheWeek, "Days of the Week");
+    public Section(String daysOfTheWeek, int openSeats, String instructor, String courseId,
+                   String timeStart, String timeEnd, String sectionNumber, String instructionalFormat, String location,
+                   String deliveryMode, String credits, SectionType sectionType, String description) {
+        String days = validateAndTrim(daysOfTheWeek);
+        int mask = SectionFields.parseDayMask(days);
+        this.dayMask = (byte) mask;
+        this.daysText = mask >= 0 && SectionFields.formatDayMask(mask).equals(days) ? null : days;
+
         this.openSeats = Math.max(0, openSeats);
-        this.instructor = validateAndTrim(instructor, "Instructor");
-        this.courseId = validateAndTrim(courseId, "Course ID");
-        this.timeStart = validateAndTrim(timeStart, "Time Start");
-        this.timeEnd = validateAndTrim(timeEnd, "Time End");
-        this.sectionNumber = validateAndTrim(sectionNumber, "Section Number");
-        this.instructionalFormat = instructionalFormat != null ? instructionalFormat.trim() : "Unknown";
-        this.location = location != null ? location.trim() : "TBA";
+        this.instructorId = INSTRUCTORS.idOf(validateAndTrim(instructor));
+        this.courseId = validateAndTrim(courseId);
+
+        String start = validateAndTrim(timeStart);
+        this.startMinutes = (short) SectionFields.parseMinutes(start);
+        this.timeStartText = startMinutes >= 0 && SectionFields.formatMinutes(startMinutes).equals(start) ? null : start;
+        String end = validateAndTrim(timeEnd);
+        this.endMinutes = (short) SectionFields.parseMinutes(end);
+        this.timeEndText = endMinutes >= 0 && SectionFields.formatMinutes(endMinutes).equals(end) ? null : end;
+
+        this.sectionNumber = validateAndTrim(sectionNumber);
+        this.description = description;
+
+        String label = instructionalFormat != null ? instructionalFormat.trim() : "Unknown";
+        this.format = InstructionalFormat.fromLabel(label);
+        this.formatText = format == InstructionalFormat.OTHER ? label : null;
+
+        this.locationId = LOCATIONS.idOf(location != null ? location.trim() : "TBA");
         this.deliveryMode = deliveryMode != null ? deliveryMode.trim() : "In-Person";
-        this.credits = credits != null ? credits.trim() : "0";
+
+        String creditValue = credits != null ? credits.trim() : "0";
+        this.creditsTenths = (short) SectionFields.parseCreditsTenths(creditValue);
+        this.creditsText = creditsTenths >= 0 && SectionFields.formatCredits(creditsTenths).equals(creditValue) ? null : creditValue;
+
+        this.sectionType = sectionType;
     }
 
     // Method to determine if this is a lecture section
     public boolean isLecture() {
-        return "Lecture".equalsIgnoreCase(instructionalFormat);
+        return format == InstructionalFormat.LECTURE || "Lecture".equalsIgnoreCase(formatText);
     }
 
     // Method to determine if this is a recitation section
     public boolean isRecitation() {
-        return "Recitation".equalsIgnoreCase(instructionalFormat);
+        return format == InstructionalFormat.RECITATION || "Recitation".equalsIgnoreCase(formatText);
     }
 
     // Method to determine if this is a lab section
     public boolean isLab() {
-        return "Laboratory".equalsIgnoreCase(instructionalFormat) || "Lab".equalsIgnoreCase(instructionalFormat);
+        return format == InstructionalFormat.LABORATORY || format == InstructionalFormat.LAB
+                || "Laboratory".equalsIgnoreCase(formatText) || "Lab".equalsIgnoreCase(formatText);
     }
 
-    // Getters and Setters
+    // Getters
     public String getDaysOfTheWeek() {
-        return daysOfTheWeek;
-    }
-
-    public void setDaysOfTheWeek(String daysOfTheWeek) {
-        this.daysOfTheWeek = validateAndTrim(daysOfTheWeek, "Days of the Week");
+        return daysText != null ? daysText : SectionFields.formatDayMask(dayMask);
     }
 
     public int getOpenSeats() {
         return openSeats;
     }
 
-    public void setOpenSeats(int openSeats) {
-        this.openSeats = Math.max(0, openSeats);
-    }
-
     public String getInstructor() {
-        return instructor;
-    }
-
-    public void setInstructor(String instructor) {
-        this.instructor = validateAndTrim(instructor, "Instructor");
+        return INSTRUCTORS.nameOf(instructorId);
     }
 
     public String getCourseId() {
         return courseId;
     }
 
-    public void setCourseId(String courseId) {
-        this.courseId = validateAndTrim(courseId, "Course ID");
-    }
-
     public String getTimeStart() {
-        return timeStart;
-    }
-
-    public void setTimeStart(String timeStart) {
-        this.timeStart = validateAndTrim(timeStart, "Time Start");
+        return timeStartText != null ? timeStartText : SectionFields.formatMinutes(startMinutes);
     }
 
     public String getTimeEnd() {
-        return timeEnd;
-    }
-
-    public void setTimeEnd(String timeEnd) {
-        this.timeEnd = validateAndTrim(timeEnd, "Time End");
+        return timeEndText != null ? timeEndText : SectionFields.formatMinutes(endMinutes);
     }
 
     public String getSectionNumber() {
         return sectionNumber;
     }
 
-    public void setSectionNumber(String sectionNumber) {
-        this.sectionNumber = validateAndTrim(sectionNumber, "Section Number");
-    }
-
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
+    public String getInstructionalFormat() {
+        if (format == null) {
+            return null;
+        }
+        return format == InstructionalFormat.OTHER ? formatText : format.getLabel();
     }
 
-    public String getInstructionalFormat() {
-        return instructionalFormat;
+    public String getLocation() {
+        return LOCATIONS.nameOf(locationId);
+    }
+
+    public String getDeliveryMode() {
+        return deliveryMode;
     }
 
-    public void setInstructionalFormat(String instructionalFormat) {
-        this.instructionalFormat = instructionalFormat != null ? instructionalFormat.trim() : "Unknown";
+    public boolean isOnline() {
+        return "Online".equalsIgnoreCase(deliveryMode);
     }
 
-    public String getLocation() {
-        return location;
+    public String getCredits() {
+        if (creditsText != null) {
+            return creditsText;
+        }
+        return creditsTenths >= 0 ? SectionFields.formatCredits(creditsTenths) : null;
     }
 
-    public void setLocation(String location) {
-        this.location = location != null ? location.trim() : "TBA";
+    public SectionType getSectionType() {
+        return sectionType;
     }
 
-    public String getDeliveryMode() {
-        return deliveryMode;
+    // Primitive views for the schedule engine, not part of the JSON shape
+
+    /**
+     * @return SectionFields day bits, or -1 if the days aren't a plain day list (e.g. "TBD").
+     */
+    @JsonIgnore
+    public int getDayMask() {
+        return dayMask;
     }
 
-    public void setDeliveryMode(String deliveryMode) {
-        this.deliveryMode = deliveryMode != null ? deliveryMode.trim() : "In-Person";
+    /**
+     * @return Start time in minutes since midnight, or -1 if it isn't a clock time.
+     */
+    @JsonIgnore
+    public int getStartMinutes() {
+        return startMinutes;
     }
 
-    public boolean isOnline() {
-        return "Online".equalsIgnoreCase(deliveryMode);
+    /**
+     * @return End time in minutes since midnight, or -1 if it isn't a clock time.
+     */
+    @JsonIgnore
+    public int getEndMinutes() {
+        return endMinutes;
     }
 
-    public String getCredits() {
-        return credits;
+    /**
+     * @return Credits in tenths, or -1 if they aren't a plain number.
+     */
+    @JsonIgnore
+    public int getCreditsTenths() {
+        return creditsTenths;
     }
 
-    public void setCredits(String credits) {
-        this.credits = credits != null ? credits.trim() : "0";
+    /**
+     * @return The format, {@link InstructionalFormat#OTHER} for unrecognized labels, or null if unset.
+     */
+    @JsonIgnore
+    public InstructionalFormat getFormat() {
+        return format;
     }
 
-    public SectionType getSectionType() {
-        return sectionType;
+    /**
+     * @return An ID that is equal for sections with the same instructor, or -1 if unset.
+     */
+    @JsonIgnore
+    public int getInstructorId() {
+        return instructorId;
     }
 
-    public void setSectionType(SectionType sectionType) {
-        this.sectionType = sectionType;
+    /**
+     * Looks up the instructor ID sections use for a name, e.g. to match user preferences.
+     *
+     * @return The ID, or -1 if no section has this instructor.
+     */
+    public static int findInstructorId(String instructor) {
+        return INSTRUCTORS.find(instructor);
+    }
+
+    /**
+     * @return An ID that is equal for sections with the same location, or -1 if unset.
+     */
+    @JsonIgnore
+    public int getLocationId() {
+        return locationId;
     }
 
     /**
@@ -175,26 +238,26 @@ public class Section {
      */
     public boolean isSchedulable() {
         return sectionType == SectionType.IN_PERSON &&
-               daysOfTheWeek != null && !daysOfTheWeek.equals("TBD") &&
-               timeStart != null && !timeStart.equals("TBD") &&
-               timeEnd != null && !timeEnd.equals("TBD");
+               !"TBD".equals(daysText) &&
+               !"TBD".equals(timeStartText) &&
+               !"TBD".equals(timeEndText);
     }
 
     @Override
     public String toString() {
         return "Section{" +
-                "daysOfTheWeek='" + daysOfTheWeek + '\'' +
+                "daysOfTheWeek='" + getDaysOfTheWeek() + '\'' +
                 ", openSeats=" + openSeats +
-                ", instructor='" + instructor + '\'' +
+                ", instructor='" + getInstructor() + '\'' +
                 ", courseId='" + courseId + '\'' +
-                ", timeStart='" + timeStart + '\'' +
-                ", timeEnd='" + timeEnd + '\'' +
+                ", timeStart='" + getTimeStart() + '\'' +
+                ", timeEnd='" + getTimeEnd() + '\'' +
                 ", sectionNumber='" + sectionNumber + '\'' +
                 ", description='" + description + '\'' +
-                ", instructionalFormat='" + instructionalFormat + '\'' +
-                ", location='" + location + '\'' +
+                ", instructionalFormat='" + getInstructionalFormat() + '\'' +
+                ", location='" + getLocation() + '\'' +
                 ", deliveryMode='" + deliveryMode + '\'' +
-                ", credits='" + credits + '\'' +
+                ", credits='" + getCredits() + '\'' +
                 '}';
     }
 
@@ -202,7 +265,7 @@ public class Section {
         return sections != null ? sections.indexOf(this) : -1;
     }
     
-    private String validateAndTrim(String value, String fieldName) {
+    private static String validateAndTrim(String value) {
         if (value == null || value.trim().isEmpty()) {
             // Allow "TBD" as a default for missing time/day information
             return "TBD";
@@ -0,0 +1,13 @@
+package com.schedulebuilder.class_scheduler.model;
+
+/**
+ * What we know about the last upstream response for a request, used to skip unchanged bodies.
+ * The ETag and Last-Modified values are sent back as conditional headers when upstream provided them;
+ * the content hash catches unchanged bodies when it didn't.
+ *
+ * @param etag          The response's ETag header, or null.
+ * @param lastModified  The response's Last-Modified header, or null.
+ * @param contentHash   SHA-256 of the response body, or null if the body wasn't read.
+ */
+public record UpstreamValidator(String etag, String lastModified, String contentHash) {
+}
@@ -1,18 +1,50 @@
 package com.schedulebuilder.class_scheduler.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.CourseSearchKey;
 import com.schedulebuilder.class_scheduler.model.CourseSearchRequest;
+import com.schedulebuilder.class_scheduler.model.CourseSearchResult;
 import com.schedulebuilder.class_scheduler.model.AcademicPeriod;
+import com.schedulebuilder.class_scheduler.model.ConditionalCourseResult;
+import com.schedulebuilder.class_scheduler.model.UpstreamValidator;
+import com.schedulebuilder.class_scheduler.util.CircuitBreaker;
+import com.schedulebuilder.class_scheduler.util.SingleFlight;
+import com.schedulebuilder.class_scheduler.util.UpstreamThrottle;
+import com.schedulebuilder.class_scheduler.util.WeightedCache;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import jakarta.annotation.PreDestroy;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.time.LocalDate;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -24,22 +56,113 @@ import com.fasterxml.jackson.databind.JsonNode;
 @Service
 public class ApiService {
 
+    private static final Logger logger = Logger.getLogger(ApiService.class.getName());
+
+    private final String baseUrl;
     private final RestTemplate restTemplate;
+    private final CloseableHttpAsyncClient asyncHttpClient;
     private final ObjectMapper objectMapper;
+    private final ExecutorService refreshExecutor;
+    private final CourseService courseService;
+    private final CanonicalCatalog canonicalCatalog;
+    private final WeightedCache<CourseSearchKey, CourseSearchResult> courseSearchCache;
+    // Academic periods and subject lists rarely change, so they're kept and served stale while the API is down
+    private final WeightedCache<String, List<AcademicPeriod>> academicPeriodCache;
+    private final WeightedCache<String, String> departmentCache;
+    // Shared by every upstream call so a struggling API fails fast instead of tying up request threads
+    private final CircuitBreaker upstreamCircuit;
+    private final UpstreamThrottle upstreamThrottle;
+    // Concurrent misses for the same search or subject list share one upstream request
+    private final SingleFlight<CourseSearchKey, CourseSearchResult> courseSearchFlights = new SingleFlight<>();
+    private final SingleFlight<String, String> departmentFlights = new SingleFlight<>();
 
     @Autowired
-    public ApiService(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public ApiService(@Value("${upstream.base-url:https://api.classes.iastate.edu}") String baseUrl,
+                      RestTemplate restTemplate, CloseableHttpAsyncClient asyncHttpClient,
+                      UpstreamThrottle upstreamThrottle, ObjectMapper objectMapper,
+                      CourseService courseService, CanonicalCatalog canonicalCatalog,
+                      @Value("${upstream.course-cache.max-bytes:33554432}") long courseCacheMaxBytes,
+                      @Value("${upstream.course-cache.refresh-after-seconds:60}") long courseCacheRefreshAfterSeconds,
+                      @Value("${upstream.course-cache.ttl-seconds:300}") long courseCacheTtlSeconds,
+                      @Value("${upstream.reference-cache.refresh-after-seconds:600}") long referenceCacheRefreshAfterSeconds,
+                      @Value("${upstream.reference-cache.ttl-seconds:3600}") long referenceCacheTtlSeconds,
+                      @Value("${upstream.circuit.failure-threshold:5}") int circuitFailureThreshold,
+                      @Value("${upstream.circuit.open-seconds:30}") long circuitOpenSeconds) {
+        // Tolerate a trailing slash in the configured URL
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         this.restTemplate = restTemplate;
+        this.asyncHttpClient = asyncHttpClient;
+        this.upstreamThrottle = upstreamThrottle;
         this.objectMapper = objectMapper;
+        this.courseService = courseService;
+        this.canonicalCatalog = canonicalCatalog;
+        this.refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(() -> UpstreamThrottle.runWithPriority(UpstreamThrottle.Priority.BACKGROUND, runnable),
+                    "course-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Parsed results are weighed by the size of the response body they came from
+        this.courseSearchCache = new WeightedCache<>(
+                courseCacheMaxBytes,
+                courseCacheRefreshAfterSeconds * 1000,
+                courseCacheTtlSeconds * 1000,
+                CourseSearchResult::responseBytes,
+                refreshExecutor);
+        this.academicPeriodCache = new WeightedCache<>(
+                1,
+                referenceCacheRefreshAfterSeconds * 1000,
+                referenceCacheTtlSeconds * 1000,
+                periods -> 1,
+                refreshExecutor);
+        this.departmentCache = new WeightedCache<>(
+                courseCacheMaxBytes,
+                referenceCacheRefreshAfterSeconds * 1000,
+                referenceCacheTtlSeconds * 1000,
+                String::length,
+                refreshExecutor);
+        // 4xx responses mean we sent a bad request, not that the API is unhealthy
+        this.upstreamCircuit = new CircuitBreaker("university-api", circuitFailureThreshold,
+                circuitOpenSeconds * 1000,
+                e -> !(e instanceof HttpClientErrorException) && !(e instanceof UpstreamThrottle.ThrottledException));
     }
 
-    // Fetches available academic periods
+    // Fetches available academic periods, serving the last successful list if the API is unavailable
     public List<AcademicPeriod> fetchAcademicPeriods() {
+        try {
+            return fetchUpstreamAcademicPeriods();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error fetching academic periods from API, using the fallback list", e);
+            return fallbackAcademicPeriods();
+        }
+    }
+
+    /**
+     * Fetches the academic periods the API knows about, serving the last successful list if the API
+     * is unavailable. Unlike {@link #fetchAcademicPeriods} this never substitutes the hardcoded list.
+     *
+     * @throws RuntimeException If the API has never answered.
+     */
+    public List<AcademicPeriod> fetchUpstreamAcademicPeriods() {
+        return academicPeriodCache.get("academic-periods", key -> fetchAcademicPeriodsUpstream());
+    }
+
+    // Hardcoded periods for when the API has never answered
+    public static List<AcademicPeriod> fallbackAcademicPeriods() {
         List<AcademicPeriod> periods = new ArrayList<>();
-        String url = "https://api.classes.iastate.edu/api/academic-periods";
-        
+        periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2025Fall", "2025 Fall Semester (08/25/2025-12/19/2025)", "2025-08-25", "2025-12-19", true));
+        periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2025Spring", "2025 Spring Semester (01/21/2025-05/16/2025)", "2025-01-21", "2025-05-16", false));
+        periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2025Summer", "2025 Summer Semester (05/19/2025-08/08/2025)", "2025-05-19", "2025-08-08", false));
+        periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2024Winter", "2024-2025 Winter Session (12/23/2024-01/17/2025)", "2024-12-23", "2025-01-17", false));
+        return periods;
+    }
+
+    private List<AcademicPeriod> fetchAcademicPeriodsUpstream() {
+        List<AcademicPeriod> periods = new ArrayList<>();
+        String url = baseUrl + "/api/academic-periods";
+
         try {
-            String response = restTemplate.getForObject(url, String.class);
+            String response = callUpstream(() -> restTemplate.getForObject(url, String.class));
             JsonNode rootNode = objectMapper.readTree(response);
             JsonNode dataNode = rootNode.path("data");
             
@@ -63,17 +186,13 @@ public class ApiService {
                     periods.add(new AcademicPeriod(id, name, startDateFormatted, endDateStr, isCurrent));
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Error fetching academic periods from API: " + e.getMessage());
-            e.printStackTrace();
-            
-            // Fallback to hardcoded periods if API fails
-            periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2025Fall", "2025 Fall Semester (08/25/2025-12/19/2025)", "2025-08-25", "2025-12-19", true));
-            periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2025Spring", "2025 Spring Semester (01/21/2025-05/16/2025)", "2025-01-21", "2025-05-16", false));
-            periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2025Summer", "2025 Summer Semester (05/19/2025-08/08/2025)", "2025-05-19", "2025-08-08", false));
-            periods.add(new AcademicPeriod("ACADEMIC_PERIOD-2024Winter", "2024-2025 Winter Session (12/23/2024-01/17/2025)", "2024-12-23", "2025-01-17", false));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid academic period list", e);
+        }
+
+        if (periods.isEmpty()) {
+            throw new IllegalStateException("Empty academic period list");
         }
-        
         return periods;
     }
     
@@ -93,7 +212,7 @@ public class ApiService {
                 String year = parts[2];
                 return year + "-" + String.format("%02d", Integer.parseInt(month)) + "-" + String.format("%02d", Integer.parseInt(day));
             } catch (Exception e) {
-                System.err.println("Error parsing end date from name: " + name);
+                logger.log(Level.FINE, "Error parsing end date from name: " + name, e);
             }
         }
         
@@ -103,40 +222,212 @@ public class ApiService {
 
     // Fetches all departments for the given academic period
     public String fetchDepartments(String academicPeriod) {
-        String url = "https://api.classes.iastate.edu/api/course-subjects?academicPeriod=" + academicPeriod;
         try {
-            return restTemplate.getForObject(url, String.class);
+            return fetchDepartmentsUpstream(academicPeriod);
         } catch (Exception e) {
-            System.err.println("Error fetching departments from API: " + e.getMessage());
-            e.printStackTrace();
+            logger.log(Level.WARNING, "Error fetching departments from API for " + academicPeriod, e);
             return "{\"error\": \"Error fetching departments. Please try again later.\"}";
         }
     }
 
-    // Fetches courses based on the academic period, department, and course ID
-    public String fetchCourses(String academicPeriodId, String department, String courseId) {
-        String url = "https://api.classes.iastate.edu/api/courses/search";
-        CourseSearchRequest requestPayload = new CourseSearchRequest(academicPeriodId, department, courseId);
+    // Fetches the subject codes for the given academic period, throwing if the upstream call fails
+    public List<String> fetchSubjects(String academicPeriod) {
+        try {
+            JsonNode rootNode = objectMapper.readTree(fetchDepartmentsUpstream(academicPeriod));
+            List<String> subjects = new ArrayList<>();
+            rootNode.path("data").forEach(subjectNode -> subjects.add(subjectNode.asText()));
+            return subjects;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid subject list for " + academicPeriod, e);
+        }
+    }
+
+    private String fetchDepartmentsUpstream(String academicPeriod) {
+        String url = baseUrl + "/api/course-subjects?academicPeriod=" + academicPeriod;
+        return departmentCache.get(url, cacheKey -> departmentFlights.execute(cacheKey, key -> {
+            String body = callUpstream(() -> restTemplate.getForObject(key, String.class));
+            if (body == null) {
+                throw new IllegalStateException("Empty response from subject list");
+            }
+            return body;
+        }));
+    }
 
-        // DEBUG: Log what we're sending
-        System.out.println("=== API Request Debug ===");
-        System.out.println("URL: " + url);
-        System.out.println("Payload: " + requestPayload.toString());
+    // Fetches and parses courses based on the academic period, department, and course ID.
+    // Successful results are cached briefly so popular courses don't hit the upstream API on every add.
+    // The returned list is shared between callers and must not be modified.
+    public List<Course> fetchCourseList(String academicPeriodId, String department, String courseId) {
+        CourseSearchKey key = new CourseSearchKey(academicPeriodId, department, courseId);
+        try {
+            return courseSearchCache.get(key, k -> courseSearchFlights.execute(k, this::searchCoursesUpstream)).courses();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error fetching courses from API for " + key, e);
+            return List.of();
+        }
+    }
+
+    // Non-blocking variant of fetchCourseList: the upstream request runs on the async HTTP client, so
+    // callers can wait on the future without holding a thread for the whole round trip.
+    public CompletableFuture<List<Course>> fetchCourseListAsync(String academicPeriodId, String department, String courseId) {
+        CourseSearchKey key = new CourseSearchKey(academicPeriodId, department, courseId);
+        return courseSearchCache.getAsync(key, k -> courseSearchFlights.executeAsync(k, this::searchCoursesUpstreamAsync))
+                .thenApply(CourseSearchResult::courses)
+                .exceptionally(e -> {
+                    logger.log(Level.WARNING, "Error fetching courses from API for " + key, e);
+                    return List.of();
+                });
+    }
+
+    // Fetches every course in a subject without going through the search cache, throwing if the upstream call fails.
+    // Used by the catalog prefetch, which keeps its own copy. When a previous validator is given, the request is
+    // sent conditionally and the body is only parsed if upstream says (or its hash shows) that it changed.
+    public ConditionalCourseResult fetchSubjectCoursesIfChanged(String academicPeriodId, String subject, UpstreamValidator previous) {
+        CourseSearchKey key = new CourseSearchKey(academicPeriodId, subject, "");
+        CourseSearchRequest requestPayload = new CourseSearchRequest(key.academicPeriodId(), key.subject(), key.number());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+        if (previous != null && previous.etag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, previous.etag());
+        }
+        if (previous != null && previous.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        }
+        HttpEntity<CourseSearchRequest> requestEntity = new HttpEntity<>(requestPayload, headers);
+
+        ConditionalCourseResult result = callUpstream(() -> restTemplate.execute(courseSearchUrl(), HttpMethod.POST,
+                restTemplate.httpEntityCallback(requestEntity),
+                response -> {
+                    if (response.getStatusCode().value() == 304) {
+                        return new ConditionalCourseResult(null, previous);
+                    }
+
+                    String etag = response.getHeaders().getETag();
+                    String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+                    // Buffered rather than streamed so the hash can be checked before spending time on the parse
+                    byte[] body = response.getBody().readAllBytes();
+                    String contentHash = HexFormat.of().formatHex(sha256().digest(body));
+                    UpstreamValidator validator = new UpstreamValidator(etag, lastModified, contentHash);
+                    if (previous != null && contentHash.equals(previous.contentHash())) {
+                        return new ConditionalCourseResult(null, validator);
+                    }
+                    List<Course> courses = courseService.parseCourses(new ByteArrayInputStream(body)).courses();
+                    return new ConditionalCourseResult(canonicalCatalog.intern(academicPeriodId, courses), validator);
+                }));
+        if (result == null) {
+            throw new IllegalStateException("Empty response from course search");
+        }
+        return result;
+    }
+
+    // Every upstream call fails fast while the circuit is open, then waits its turn in the throttle
+    private <T> T callUpstream(Supplier<T> call) {
+        return upstreamCircuit.call(() -> upstreamThrottle.call(UpstreamThrottle.currentPriority(), call));
+    }
+
+    private <T> CompletableFuture<T> callUpstreamAsync(Supplier<CompletableFuture<T>> call) {
+        return upstreamCircuit.callAsync(() -> upstreamThrottle.callAsync(UpstreamThrottle.currentPriority(), call));
+    }
+
+    private String courseSearchUrl() {
+        return baseUrl + "/api/courses/search";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private CourseSearchResult searchCoursesUpstream(CourseSearchKey key) {
+        String url = courseSearchUrl();
+        CourseSearchRequest requestPayload = new CourseSearchRequest(key.academicPeriodId(), key.subject(), key.number());
+
+        logger.fine(() -> "Course search " + url + ": " + requestPayload);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Content-Type", "application/json");
 
         HttpEntity<CourseSearchRequest> requestEntity = new HttpEntity<>(requestPayload, headers);
 
+        // Parse straight off the response stream instead of buffering the body as a String
+        CourseSearchResult result = callUpstream(() -> restTemplate.execute(url, HttpMethod.POST,
+                restTemplate.httpEntityCallback(requestEntity),
+                response -> courseService.parseCourses(response.getBody())));
+        if (result == null) {
+            throw new IllegalStateException("Empty response from course search");
+        }
+        logger.fine(() -> "Course search response: " + result.courses().size() + " courses, " + result.responseBytes() + " bytes");
+        return new CourseSearchResult(canonicalCatalog.intern(key.academicPeriodId(), result.courses()), result.responseBytes());
+    }
+
+    private CompletableFuture<CourseSearchResult> searchCoursesUpstreamAsync(CourseSearchKey key) {
+        CourseSearchRequest requestPayload = new CourseSearchRequest(key.academicPeriodId(), key.subject(), key.number());
+        logger.fine(() -> "Async course search: " + requestPayload);
+
+        return callUpstreamAsync(() -> {
+            SimpleHttpRequest request;
+            try {
+                request = SimpleRequestBuilder.post(courseSearchUrl())
+                        .setBody(objectMapper.writeValueAsBytes(requestPayload), ContentType.APPLICATION_JSON)
+                        .build();
+            } catch (JsonProcessingException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+
+            CompletableFuture<SimpleHttpResponse> exchange = new CompletableFuture<>();
+            asyncHttpClient.execute(request, new FutureCallback<SimpleHttpResponse>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    exchange.complete(response);
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    exchange.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    exchange.cancel(false);
+                }
+            });
+
+            // Parse off the I/O reactor thread so one large response doesn't stall other connections
+            return exchange.thenApplyAsync(response -> parseSearchResponse(key, response));
+        });
+    }
+
+    private CourseSearchResult parseSearchResponse(CourseSearchKey key, SimpleHttpResponse response) {
+        int status = response.getCode();
+        if (status >= 400 && status < 500) {
+            throw new HttpClientErrorException(HttpStatusCode.valueOf(status));
+        }
+        if (status >= 500) {
+            throw new HttpServerErrorException(HttpStatusCode.valueOf(status));
+        }
+        if (status >= 300) {
+            throw new IllegalStateException("Unexpected status " + status + " from course search");
+        }
+
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            throw new IllegalStateException("Empty response from course search");
+        }
         try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-            System.out.println("API Response: " + (response.getBody() != null ? response.getBody().substring(0, Math.min(200, response.getBody().length())) : "null"));
-            return response.getBody();
-        } catch (Exception e) {
-            System.err.println("Error fetching courses from API: " + e.getMessage());
-            e.printStackTrace();
-            return "{\"error\": \"Error fetching courses. Please try again later.\"}";
+            CourseSearchResult result = courseService.parseCourses(new ByteArrayInputStream(body));
+            logger.fine(() -> "Async course search response: " + result.courses().size() + " courses, " + result.responseBytes() + " bytes");
+            return new CourseSearchResult(canonicalCatalog.intern(key.academicPeriodId(), result.courses()), result.responseBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
 }
@@ -0,0 +1,124 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.Section;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of canonical {@link Course} and {@link Section} instances, keyed by
+ * academic period, course ID and section number. Every parsed search result and catalog snapshot
+ * is passed through {@link #intern} so that all caches, snapshots and sessions share one instance
+ * per section instead of each holding its own copy.
+ *
+ * <p>Shared instances are read-only once registered. A listing that differs in anything,
+ * including the open seat count, registers the new instance in place of the old one, so readers
+ * holding the old instance keep a consistent (if stale) copy.
+ */
+@Service
+public class CanonicalCatalog {
+
+    private final ConcurrentHashMap<SectionKey, Section> sections = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<CourseKey, Course> courses = new ConcurrentHashMap<>();
+    // Period of every section registered so far, including replaced ones sessions may still hold.
+    // Section doesn't override equals, so this is keyed by identity.
+    private final Map<Section, String> sectionPeriods = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Replaces each course and section with its canonical instance, registering new or changed ones.
+     *
+     * @param academicPeriodId The period the courses belong to.
+     * @param parsed           Freshly parsed courses.
+     * @return The canonical courses, in the same order.
+     */
+    public List<Course> intern(String academicPeriodId, List<Course> parsed) {
+        List<Course> canonicalCourses = new ArrayList<>(parsed.size());
+        for (Course course : parsed) {
+            canonicalCourses.add(intern(academicPeriodId, course));
+        }
+        return canonicalCourses;
+    }
+
+    private Course intern(String academicPeriodId, Course course) {
+        List<Section> canonicalSections = new ArrayList<>(course.getSections().size());
+        for (Section section : course.getSections()) {
+            SectionKey key = new SectionKey(academicPeriodId, section.getCourseId(), section.getSectionNumber());
+            Section canonical = sections.compute(key, (k, existing) ->
+                    existing != null && sameListing(existing, section) ? existing : section);
+            if (canonical == section) {
+                sectionPeriods.put(section, academicPeriodId);
+            }
+            canonicalSections.add(canonical);
+        }
+
+        // Sections are canonical by now, so an unchanged course has an identical section list
+        CourseKey key = new CourseKey(academicPeriodId, course.getCourseId());
+        return courses.compute(key, (k, existing) ->
+                existing != null
+                        && existing.getCourseName().equals(course.getCourseName())
+                        && existing.getSections().equals(canonicalSections)
+                        ? existing
+                        : new Course(course.getCourseId(), course.getCourseName(), course.getDescription(), canonicalSections));
+    }
+
+    /**
+     * @return The current instance of a section, or null if it isn't registered.
+     */
+    public Section findSection(String academicPeriodId, String courseId, String sectionNumber) {
+        return sections.get(new SectionKey(academicPeriodId, courseId, sectionNumber));
+    }
+
+    /**
+     * @return The current instance of a course, or null if it isn't registered.
+     */
+    public Course findCourse(String academicPeriodId, String courseId) {
+        return courses.get(new CourseKey(academicPeriodId, courseId));
+    }
+
+    /**
+     * @return The period a registered section (current or replaced) belongs to, or null if it was never registered.
+     */
+    public String findPeriod(Section section) {
+        return sectionPeriods.get(section);
+    }
+
+    /**
+     * Drops every instance belonging to a period not in the given list.
+     */
+    public void retainPeriods(Collection<String> academicPeriodIds) {
+        sections.keySet().removeIf(key -> !academicPeriodIds.contains(key.academicPeriodId()));
+        courses.keySet().removeIf(key -> !academicPeriodIds.contains(key.academicPeriodId()));
+    }
+
+    public int getSectionCount() {
+        return sections.size();
+    }
+
+    private static boolean sameListing(Section a, Section b) {
+        return a.getOpenSeats() == b.getOpenSeats()
+                && Objects.equals(a.getDaysOfTheWeek(), b.getDaysOfTheWeek())
+                && Objects.equals(a.getTimeStart(), b.getTimeStart())
+                && Objects.equals(a.getTimeEnd(), b.getTimeEnd())
+                && Objects.equals(a.getInstructor(), b.getInstructor())
+                && Objects.equals(a.getInstructionalFormat(), b.getInstructionalFormat())
+                && Objects.equals(a.getLocation(), b.getLocation())
+                && Objects.equals(a.getDeliveryMode(), b.getDeliveryMode())
+                && Objects.equals(a.getCredits(), b.getCredits())
+                && Objects.equals(a.getDescription(), b.getDescription())
+                && a.getSectionType() == b.getSectionType();
+    }
+
+    private record SectionKey(String academicPeriodId, String courseId, String sectionNumber) {
+    }
+
+    private record CourseKey(String academicPeriodId, String courseId) {
+    }
+}
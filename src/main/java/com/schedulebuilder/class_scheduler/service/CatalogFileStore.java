@@ -0,0 +1,370 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.CatalogSnapshot;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import com.schedulebuilder.class_scheduler.util.SectionFields;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persists catalog snapshots in a compact binary file so a restarted dyno can serve lookups
+ * immediately instead of re-fetching every subject from upstream.
+ *
+ * <p>Layout (big-endian): a header, a string table holding every distinct string once
+ * (instructors, locations, formats, course IDs, ...), then column-oriented course and section
+ * tables of string-table indexes and primitives. Times, days and credits are stored as
+ * minutes, a day bitmask and tenths of a credit; their string column is only filled in (-1
+ * otherwise) when the original text can't be reproduced from the primitive. Files are written
+ * to a temporary name and atomically renamed. A file is read whole and decoded once at startup,
+ * since every section ends up in the canonical catalog anyway.</p>
+ *
+ * <p>Snapshots are only kept when catalog.snapshot-dir is set, and the directory has to outlive
+ * the process for them to help: a dyno's local disk (including the temp dir) is wiped on restart.</p>
+ */
+@Service
+public class CatalogFileStore {
+
+    private static final Logger logger = Logger.getLogger(CatalogFileStore.class.getName());
+    private static final int MAGIC = 0x43595043; // "CYPC"
+    private static final short VERSION = 1;
+    private static final String EXTENSION = ".cat";
+    private static final int NO_STRING = -1;
+
+    // Null when snapshots aren't persisted
+    private final Path directory;
+
+    public CatalogFileStore(@Value("${catalog.snapshot-dir:}") String directory) {
+        this.directory = directory == null || directory.isBlank() ? null : Paths.get(directory);
+        if (this.directory == null) {
+            logger.info("catalog.snapshot-dir is not set; catalog snapshots won't be saved between restarts");
+        }
+    }
+
+    /**
+     * Writes the snapshot to this store's directory, replacing any earlier file for the same period.
+     */
+    public void save(CatalogSnapshot snapshot) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(fileName(snapshot.getAcademicPeriodId()));
+            Path temp = Files.createTempFile(directory, "catalog", ".tmp");
+            try {
+                Files.write(temp, encode(snapshot));
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not save catalog for " + snapshot.getAcademicPeriodId(), e);
+        }
+    }
+
+    /**
+     * Loads every readable snapshot file in this store's directory. Corrupt or outdated files are skipped.
+     */
+    public List<CatalogSnapshot> loadAll() {
+        List<CatalogSnapshot> snapshots = new ArrayList<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return snapshots;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    snapshots.add(read(file));
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Skipping unreadable catalog file " + file, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not list catalog directory " + directory, e);
+        }
+        return snapshots;
+    }
+
+    /**
+     * Reads and decodes one snapshot file.
+     */
+    public CatalogSnapshot read(Path file) throws IOException {
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Truncated or corrupt catalog file " + file, e);
+        }
+    }
+
+    byte[] encode(CatalogSnapshot snapshot) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<String> subjects = new ArrayList<>(snapshot.getCoursesBySubject().keySet());
+        List<Course> courses = new ArrayList<>();
+        List<Section> sections = new ArrayList<>();
+        int[] subjectFirstCourse = new int[subjects.size()];
+        List<Integer> courseFirstSection = new ArrayList<>();
+
+        for (int i = 0; i < subjects.size(); i++) {
+            subjectFirstCourse[i] = courses.size();
+            for (Course course : snapshot.getCoursesBySubject().get(subjects.get(i))) {
+                courseFirstSection.add(sections.size());
+                courses.add(course);
+                sections.addAll(course.getSections());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        // Intern everything up front so the string table can be written before the columns
+        int periodRef = intern(strings, snapshot.getAcademicPeriodId());
+        int[] subjectRefs = new int[subjects.size()];
+        for (int i = 0; i < subjects.size(); i++) {
+            subjectRefs[i] = intern(strings, subjects.get(i));
+        }
+        int[][] courseRefs = new int[2][courses.size()];
+        for (int i = 0; i < courses.size(); i++) {
+            courseRefs[0][i] = intern(strings, courses.get(i).getCourseId());
+            courseRefs[1][i] = intern(strings, courses.get(i).getCourseName());
+        }
+
+        int count = sections.size();
+        int[] sectionCourseId = new int[count];
+        int[] sectionNumber = new int[count];
+        int[] instructor = new int[count];
+        int[] location = new int[count];
+        int[] format = new int[count];
+        int[] deliveryMode = new int[count];
+        short[] startMinutes = new short[count];
+        short[] endMinutes = new short[count];
+        byte[] dayMask = new byte[count];
+        short[] creditsTenths = new short[count];
+        int[] openSeats = new int[count];
+        byte[] sectionType = new byte[count];
+        int[] timeStartText = new int[count];
+        int[] timeEndText = new int[count];
+        int[] daysText = new int[count];
+        int[] creditsText = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            Section section = sections.get(i);
+            sectionCourseId[i] = intern(strings, section.getCourseId());
+            sectionNumber[i] = intern(strings, section.getSectionNumber());
+            instructor[i] = intern(strings, section.getInstructor());
+            location[i] = intern(strings, section.getLocation());
+            format[i] = intern(strings, section.getInstructionalFormat());
+            deliveryMode[i] = intern(strings, section.getDeliveryMode());
+            openSeats[i] = section.getOpenSeats();
+            sectionType[i] = (byte) (section.getSectionType() != null ? section.getSectionType().ordinal() : -1);
+
+            int start = SectionFields.parseMinutes(section.getTimeStart());
+            startMinutes[i] = (short) start;
+            timeStartText[i] = start >= 0 && SectionFields.formatMinutes(start).equals(section.getTimeStart())
+                    ? NO_STRING : intern(strings, section.getTimeStart());
+
+            int end = SectionFields.parseMinutes(section.getTimeEnd());
+            endMinutes[i] = (short) end;
+            timeEndText[i] = end >= 0 && SectionFields.formatMinutes(end).equals(section.getTimeEnd())
+                    ? NO_STRING : intern(strings, section.getTimeEnd());
+
+            int days = SectionFields.parseDayMask(section.getDaysOfTheWeek());
+            dayMask[i] = (byte) days;
+            daysText[i] = days >= 0 && SectionFields.formatDayMask(days).equals(section.getDaysOfTheWeek())
+                    ? NO_STRING : intern(strings, section.getDaysOfTheWeek());
+
+            int credits = SectionFields.parseCreditsTenths(section.getCredits());
+            creditsTenths[i] = (short) credits;
+            creditsText[i] = credits >= 0 && SectionFields.formatCredits(credits).equals(section.getCredits())
+                    ? NO_STRING : intern(strings, section.getCredits());
+        }
+
+        // Header
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(snapshot.getRefreshedAt().toEpochMilli());
+        out.writeInt(periodRef);
+
+        // String table
+        out.writeInt(strings.size());
+        for (String value : strings.keySet()) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+
+        // Subjects
+        out.writeInt(subjects.size());
+        for (int i = 0; i < subjects.size(); i++) {
+            out.writeInt(subjectRefs[i]);
+            out.writeInt(subjectFirstCourse[i]);
+        }
+
+        // Courses
+        out.writeInt(courses.size());
+        writeInts(out, courseRefs[0]);
+        writeInts(out, courseRefs[1]);
+        for (int first : courseFirstSection) {
+            out.writeInt(first);
+        }
+
+        // Sections
+        out.writeInt(count);
+        writeInts(out, sectionCourseId);
+        writeInts(out, sectionNumber);
+        writeInts(out, instructor);
+        writeInts(out, location);
+        writeInts(out, format);
+        writeInts(out, deliveryMode);
+        writeShorts(out, startMinutes);
+        writeShorts(out, endMinutes);
+        out.write(dayMask);
+        writeShorts(out, creditsTenths);
+        writeInts(out, openSeats);
+        out.write(sectionType);
+        writeInts(out, timeStartText);
+        writeInts(out, timeEndText);
+        writeInts(out, daysText);
+        writeInts(out, creditsText);
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    CatalogSnapshot decode(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a catalog file");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported catalog file version " + version);
+        }
+        Instant refreshedAt = Instant.ofEpochMilli(buffer.getLong());
+        int periodRef = buffer.getInt();
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] utf8 = new byte[buffer.getInt()];
+            buffer.get(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        int subjectCount = buffer.getInt();
+        int[] subjectRefs = new int[subjectCount];
+        int[] subjectFirstCourse = new int[subjectCount];
+        for (int i = 0; i < subjectCount; i++) {
+            subjectRefs[i] = buffer.getInt();
+            subjectFirstCourse[i] = buffer.getInt();
+        }
+
+        int courseCount = buffer.getInt();
+        int[] courseIds = readInts(buffer, courseCount);
+        int[] courseNames = readInts(buffer, courseCount);
+        int[] courseFirstSection = readInts(buffer, courseCount);
+
+        int count = buffer.getInt();
+        int[] sectionCourseId = readInts(buffer, count);
+        int[] sectionNumber = readInts(buffer, count);
+        int[] instructor = readInts(buffer, count);
+        int[] location = readInts(buffer, count);
+        int[] format = readInts(buffer, count);
+        int[] deliveryMode = readInts(buffer, count);
+        short[] startMinutes = readShorts(buffer, count);
+        short[] endMinutes = readShorts(buffer, count);
+        byte[] dayMask = new byte[count];
+        buffer.get(dayMask);
+        short[] creditsTenths = readShorts(buffer, count);
+        int[] openSeats = readInts(buffer, count);
+        byte[] sectionType = new byte[count];
+        buffer.get(sectionType);
+        int[] timeStartText = readInts(buffer, count);
+        int[] timeEndText = readInts(buffer, count);
+        int[] daysText = readInts(buffer, count);
+        int[] creditsText = readInts(buffer, count);
+
+        SectionType[] types = SectionType.values();
+        Map<String, List<Course>> coursesBySubject = new HashMap<>();
+        for (int s = 0; s < subjectCount; s++) {
+            int firstCourse = subjectFirstCourse[s];
+            int endCourse = s + 1 < subjectCount ? subjectFirstCourse[s + 1] : courseCount;
+            List<Course> courses = new ArrayList<>(endCourse - firstCourse);
+
+            for (int c = firstCourse; c < endCourse; c++) {
+                int firstSection = courseFirstSection[c];
+                int endSection = c + 1 < courseCount ? courseFirstSection[c + 1] : count;
+                List<Section> sections = new ArrayList<>(endSection - firstSection);
+
+                for (int i = firstSection; i < endSection; i++) {
+                    String timeStart = timeStartText[i] != NO_STRING ? strings[timeStartText[i]] : SectionFields.formatMinutes(startMinutes[i]);
+                    String timeEnd = timeEndText[i] != NO_STRING ? strings[timeEndText[i]] : SectionFields.formatMinutes(endMinutes[i]);
+                    String days = daysText[i] != NO_STRING ? strings[daysText[i]] : SectionFields.formatDayMask(dayMask[i]);
+                    String credits = creditsText[i] != NO_STRING ? strings[creditsText[i]] : SectionFields.formatCredits(creditsTenths[i]);
+
+                    Section section = new Section(days, openSeats[i], strings[instructor[i]], strings[sectionCourseId[i]],
+                            timeStart, timeEnd, strings[sectionNumber[i]], strings[format[i]], strings[location[i]],
+                            strings[deliveryMode[i]], credits, sectionType[i] >= 0 ? types[sectionType[i]] : null);
+                    sections.add(section);
+                }
+                courses.add(new Course(strings[courseIds[c]], strings[courseNames[c]], "", sections));
+            }
+            coursesBySubject.put(strings[subjectRefs[s]], courses);
+        }
+
+        return new CatalogSnapshot(strings[periodRef], coursesBySubject, refreshedAt);
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        return strings.computeIfAbsent(value != null ? value : "", key -> strings.size());
+    }
+
+    private static String fileName(String academicPeriodId) {
+        return academicPeriodId.replaceAll("[^A-Za-z0-9_-]", "_") + EXTENSION;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeShorts(DataOutputStream out, short[] values) throws IOException {
+        for (short value : values) {
+            out.writeShort(value);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static short[] readShorts(ByteBuffer buffer, int count) {
+        short[] values = new short[count];
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + count * Short.BYTES);
+        return values;
+    }
+}
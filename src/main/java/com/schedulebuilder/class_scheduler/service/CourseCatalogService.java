@@ -0,0 +1,350 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.AcademicPeriod;
+import com.schedulebuilder.class_scheduler.model.CatalogSnapshot;
+import com.schedulebuilder.class_scheduler.model.ConditionalCourseResult;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.UpstreamValidator;
+import com.schedulebuilder.class_scheduler.util.UpstreamThrottle;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps an in-memory copy of the full course catalog for each active academic period.
+ * A background job pages through every subject from the upstream API and swaps in a new
+ * snapshot when done; subjects that fail to refresh keep their previous data, so lookups
+ * keep working (with stale data) while the university API is down.
+ * Between full refreshes, a lighter job re-requests each subject conditionally and swaps in
+ * the subjects whose listings changed, mostly open seat counts during registration.
+ * A subject's validator is only remembered together with the courses it describes, so a body
+ * that was fetched but not published is fetched again next time.
+ */
+@Service
+public class CourseCatalogService {
+
+    private static final Logger logger = Logger.getLogger(CourseCatalogService.class.getName());
+
+    private final ApiService apiService;
+    private final CatalogFileStore catalogFileStore;
+    private final CanonicalCatalog canonicalCatalog;
+    private final boolean prefetchEnabled;
+    private final int maxPeriods;
+    private final long subjectDelayMillis;
+    private final boolean seatRefreshEnabled;
+    private final Map<String, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+    // Last response validator per "period|subject", so unchanged subjects aren't re-parsed
+    private final Map<String, UpstreamValidator> validators = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CourseCatalogService(ApiService apiService, CatalogFileStore catalogFileStore, CanonicalCatalog canonicalCatalog,
+                                @Value("${catalog.prefetch.enabled:true}") boolean prefetchEnabled,
+                                @Value("${catalog.prefetch.max-periods:3}") int maxPeriods,
+                                @Value("${catalog.prefetch.subject-delay-ms:250}") long subjectDelayMillis,
+                                @Value("${catalog.seats.enabled:true}") boolean seatRefreshEnabled) {
+        this.apiService = apiService;
+        this.catalogFileStore = catalogFileStore;
+        this.canonicalCatalog = canonicalCatalog;
+        this.prefetchEnabled = prefetchEnabled;
+        this.maxPeriods = maxPeriods;
+        this.subjectDelayMillis = subjectDelayMillis;
+        this.seatRefreshEnabled = seatRefreshEnabled;
+    }
+
+    /**
+     * Restores the snapshots saved by the last refresh so lookups work right after a restart.
+     */
+    @PostConstruct
+    void loadSavedSnapshots() {
+        if (!prefetchEnabled) {
+            return;
+        }
+        for (CatalogSnapshot saved : catalogFileStore.loadAll()) {
+            // Share section instances with live search results instead of keeping a second copy
+            Map<String, List<Course>> coursesBySubject = new HashMap<>();
+            saved.getCoursesBySubject().forEach((subject, courses) ->
+                    coursesBySubject.put(subject, canonicalCatalog.intern(saved.getAcademicPeriodId(), courses)));
+            CatalogSnapshot snapshot = new CatalogSnapshot(saved.getAcademicPeriodId(), coursesBySubject, saved.getRefreshedAt());
+            snapshots.putIfAbsent(snapshot.getAcademicPeriodId(), snapshot);
+            logger.info("Loaded saved catalog " + snapshot);
+        }
+    }
+
+    /**
+     * Refreshes the catalog for every academic period that is current or hasn't ended yet.
+     */
+    @Scheduled(initialDelayString = "${catalog.prefetch.initial-delay-ms:10000}",
+               fixedDelayString = "${catalog.prefetch.interval-ms:1800000}")
+    public void refreshActivePeriods() {
+        if (!prefetchEnabled) {
+            return;
+        }
+        // Let student-facing lookups go first when upstream capacity is short
+        UpstreamThrottle.runWithPriority(UpstreamThrottle.Priority.BACKGROUND, this::refreshActivePeriodCatalogs);
+    }
+
+    private void refreshActivePeriodCatalogs() {
+        // Only a list the API actually returned says which periods are gone; the hardcoded fallback doesn't
+        List<AcademicPeriod> periods;
+        boolean fromUpstream;
+        try {
+            periods = apiService.fetchUpstreamAcademicPeriods();
+            fromUpstream = true;
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Could not fetch academic periods, refreshing the fallback periods without pruning", e);
+            periods = ApiService.fallbackAcademicPeriods();
+            fromUpstream = false;
+        }
+
+        LocalDate today = LocalDate.now();
+        List<String> periodIds = periods.stream()
+                .filter(period -> period.isActive() || !hasEnded(period, today))
+                .limit(maxPeriods)
+                .map(AcademicPeriod::getId)
+                .toList();
+
+        for (String periodId : periodIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            refreshPeriod(periodId);
+        }
+
+        if (fromUpstream && !periodIds.isEmpty()) {
+            snapshots.keySet().retainAll(periodIds);
+            validators.keySet().removeIf(key -> !periodIds.contains(key.substring(0, key.indexOf('|'))));
+            canonicalCatalog.retainPeriods(periodIds);
+        }
+    }
+
+    /**
+     * Fetches every subject of the period and replaces its snapshot.
+     *
+     * @param academicPeriodId The academic period to refresh.
+     * @return The new snapshot, or the previous one if the subject list couldn't be fetched.
+     */
+    public CatalogSnapshot refreshPeriod(String academicPeriodId) {
+        CatalogSnapshot previous = snapshots.get(academicPeriodId);
+
+        List<String> subjects;
+        try {
+            subjects = apiService.fetchSubjects(academicPeriodId);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Could not fetch subjects for " + academicPeriodId + ", keeping previous catalog", e);
+            return previous;
+        }
+
+        long started = System.currentTimeMillis();
+        Map<String, List<Course>> coursesBySubject = new HashMap<>();
+        Map<String, UpstreamValidator> fetchedValidators = new HashMap<>();
+        int failures = 0;
+
+        for (String subject : subjects) {
+            List<Course> stale = previous != null ? previous.findSubject(subject) : null;
+            try {
+                String validatorKey = validatorKey(academicPeriodId, subject);
+                ConditionalCourseResult result = apiService.fetchSubjectCoursesIfChanged(
+                        academicPeriodId, subject, stale != null ? validators.get(validatorKey) : null);
+                fetchedValidators.put(validatorKey, result.validator());
+                coursesBySubject.put(subject, result.isModified() ? result.courses() : stale);
+            } catch (Exception e) {
+                failures++;
+                if (stale != null) {
+                    coursesBySubject.put(subject, stale);
+                }
+                logger.log(Level.FINE, "Could not refresh " + subject + " for " + academicPeriodId, e);
+            }
+
+            if (!pause()) {
+                logger.info("Catalog refresh for " + academicPeriodId + " interrupted");
+                return previous;
+            }
+        }
+
+        CatalogSnapshot snapshot = new CatalogSnapshot(academicPeriodId, coursesBySubject, Instant.now());
+        snapshots.put(academicPeriodId, snapshot);
+        validators.putAll(fetchedValidators);
+        catalogFileStore.save(snapshot);
+        logger.info("Refreshed catalog " + snapshot + " in " + (System.currentTimeMillis() - started)
+                + " ms (" + failures + " subjects failed)");
+        return snapshot;
+    }
+
+    /**
+     * Re-requests every subject of the loaded catalogs conditionally and swaps in every subject whose
+     * response changed: open seat counts, but also times, rooms, instructors or added and removed
+     * sections. Published sections are shared and never modified, so a changed subject always gets
+     * new instances.
+     */
+    @Scheduled(initialDelayString = "${catalog.seats.initial-delay-ms:300000}",
+               fixedDelayString = "${catalog.seats.interval-ms:300000}")
+    public void refreshSeatCounts() {
+        if (!prefetchEnabled || !seatRefreshEnabled) {
+            return;
+        }
+        UpstreamThrottle.runWithPriority(UpstreamThrottle.Priority.BACKGROUND, () -> {
+            for (String periodId : List.copyOf(snapshots.keySet())) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                refreshSeats(periodId);
+            }
+        });
+    }
+
+    /**
+     * Refreshes the changed subjects of one loaded period.
+     *
+     * @param academicPeriodId The academic period to refresh.
+     * @return The number of sections whose open seat count changed.
+     */
+    public int refreshSeats(String academicPeriodId) {
+        CatalogSnapshot snapshot = snapshots.get(academicPeriodId);
+        if (snapshot == null) {
+            return 0;
+        }
+
+        long started = System.currentTimeMillis();
+        Map<String, List<Course>> replaced = new HashMap<>();
+        Map<String, UpstreamValidator> fetchedValidators = new HashMap<>();
+        int changedSeats = 0;
+        int unchanged = 0;
+
+        for (String subject : snapshot.getSubjects()) {
+            String validatorKey = validatorKey(academicPeriodId, subject);
+            try {
+                ConditionalCourseResult result = apiService.fetchSubjectCoursesIfChanged(
+                        academicPeriodId, subject, validators.get(validatorKey));
+                fetchedValidators.put(validatorKey, result.validator());
+
+                if (!result.isModified()) {
+                    unchanged++;
+                } else {
+                    // Replaced even when no seat count moved: something else in the listing did
+                    changedSeats += Math.max(countSeatChanges(snapshot.findSubject(subject), result.courses()), 0);
+                    replaced.put(subject, result.courses());
+                }
+            } catch (Exception e) {
+                logger.log(Level.FINE, "Could not refresh seats for " + subject + " in " + academicPeriodId, e);
+            }
+
+            if (!pause()) {
+                break;
+            }
+        }
+
+        if (!replaced.isEmpty()) {
+            Map<String, List<Course>> coursesBySubject = new HashMap<>(snapshot.getCoursesBySubject());
+            coursesBySubject.putAll(replaced);
+            snapshot = new CatalogSnapshot(academicPeriodId, coursesBySubject, snapshot.getRefreshedAt());
+            snapshots.put(academicPeriodId, snapshot);
+            catalogFileStore.save(snapshot);
+        }
+        validators.putAll(fetchedValidators);
+        logger.info("Refreshed seats for " + academicPeriodId + " in " + (System.currentTimeMillis() - started) + " ms: "
+                + changedSeats + " seat counts changed, " + replaced.size() + " subjects replaced, " + unchanged + " subjects unchanged");
+        return changedSeats;
+    }
+
+    /**
+     * Compares open seat counts between the cached and freshly fetched courses of a subject.
+     *
+     * @return How many sections' seat counts differ, or -1 if the two don't have the same sections.
+     */
+    private static int countSeatChanges(List<Course> cached, List<Course> fresh) {
+        if (cached == null) {
+            return -1;
+        }
+
+        Map<String, Section> cachedSections = new HashMap<>();
+        for (Course course : cached) {
+            for (Section section : course.getSections()) {
+                cachedSections.put(sectionKey(section), section);
+            }
+        }
+
+        List<Section> freshSections = new ArrayList<>();
+        for (Course course : fresh) {
+            freshSections.addAll(course.getSections());
+        }
+        if (freshSections.size() != cachedSections.size()) {
+            return -1;
+        }
+        for (Section section : freshSections) {
+            if (!cachedSections.containsKey(sectionKey(section))) {
+                return -1;
+            }
+        }
+
+        int changed = 0;
+        for (Section section : freshSections) {
+            if (cachedSections.get(sectionKey(section)).getOpenSeats() != section.getOpenSeats()) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private static String sectionKey(Section section) {
+        return section.getCourseId() + "|" + section.getSectionNumber();
+    }
+
+    private static String validatorKey(String academicPeriodId, String subject) {
+        return academicPeriodId + "|" + subject.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Looks up all courses in a subject from the local catalog.
+     *
+     * @return The subject's courses, or empty if the period or subject hasn't been loaded.
+     */
+    public Optional<List<Course>> findSubjectCourses(String academicPeriodId, String subject) {
+        CatalogSnapshot snapshot = snapshots.get(academicPeriodId);
+        return snapshot == null ? Optional.empty() : Optional.ofNullable(snapshot.findSubject(subject));
+    }
+
+    public CatalogSnapshot getSnapshot(String academicPeriodId) {
+        return snapshots.get(academicPeriodId);
+    }
+
+    // Spaces subject requests out so a full refresh doesn't hammer the upstream API
+    private boolean pause() {
+        if (subjectDelayMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(subjectDelayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean hasEnded(AcademicPeriod period, LocalDate today) {
+        if (period.getEndDate() == null) {
+            return false;
+        }
+        try {
+            return LocalDate.parse(period.getEndDate()).isBefore(today);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
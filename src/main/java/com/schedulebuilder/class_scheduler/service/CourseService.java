@@ -1,12 +1,21 @@
 package com.schedulebuilder.class_scheduler.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.CourseSearchResult;
 import com.schedulebuilder.class_scheduler.model.Section;
 import com.schedulebuilder.class_scheduler.model.SectionType;
+import com.schedulebuilder.class_scheduler.util.StringPool;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -18,188 +27,256 @@ import java.util.logging.Level;
 public class CourseService {
     
     private static final Logger logger = Logger.getLogger(CourseService.class.getName());
+    // Enough slots for every course ID and title in a few terms' catalogs
+    private static final int STRING_POOL_SIZE = 16384;
+
+    private final JsonFactory jsonFactory;
+    // Parsed values repeat across sections, subjects and refreshes; share one instance of each
+    private final StringPool stringPool = new StringPool(STRING_POOL_SIZE);
+
+    @Autowired
+    public CourseService(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
 
     /**
-     * Parses courses and their sections from a given JSON node.
+     * Parses a course search response straight off the response stream, building courses and
+     * sections in a single pass without materializing the body or a JSON tree. Fields the
+     * scheduler doesn't use (such as long course descriptions) are skipped unread.
      *
-     * @param dataNode The JSON node containing course data.
-     * @return A list of parsed courses.
+     * @param body The raw course search response body.
+     * @return The parsed courses and the number of bytes read.
+     * @throws IOException If the stream cannot be read or is not valid JSON.
      */
-    public List<Course> parseCourses(JsonNode dataNode) {
+    public CourseSearchResult parseCourses(InputStream body) throws IOException {
         List<Course> courses = new ArrayList<>();
-        
-        if (dataNode == null || !dataNode.isArray()) {
-            logger.log(Level.WARNING, "Invalid dataNode provided to parseCourses");
-            return courses;
-        }
-        
-        for (JsonNode courseNode : dataNode) {
-            try {
-                Course course = parseSingleCourse(courseNode);
-                if (course != null) {
-                    courses.add(course);
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                logger.log(Level.WARNING, "Course search response is not a JSON object");
+                return new CourseSearchResult(courses, 0);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        Course course = streamSingleCourse(parser);
+                        if (course != null) {
+                            courses.add(course);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
                 }
-            } catch (Exception e) {
-                logger.log(Level.WARNING, "Error parsing course node", e);
             }
+
+            long bytesRead = Math.max(0, parser.getCurrentLocation().getByteOffset());
+            return new CourseSearchResult(Collections.unmodifiableList(courses), bytesRead);
         }
-        return courses;
     }
-    
-    private Course parseSingleCourse(JsonNode courseNode) {
-        if (courseNode == null) {
-            return null;
-        }
-        
-        try {
-            // Try "courseNumber" first, then fall back to "number"
-            String courseId = courseNode.path("courseNumber").asText("");
-            if (courseId.isEmpty()) {
-                courseId = courseNode.path("number").asText("");
-            }
-            String courseName = courseNode.path("title").asText("");
-            String description = courseNode.path("description").asText("");
 
-            if (courseId.isEmpty()) {
-                logger.log(Level.WARNING, "Course missing courseNumber/number, skipping");
-                return null;
-            }
-            
-            Course course = new Course(courseId, courseName, description);
-
-            // Parse sections
-            JsonNode sectionsNode = courseNode.path("sections");
-            if (sectionsNode.isArray()) {
-                for (JsonNode sectionNode : sectionsNode) {
-                    try {
-                        Section section = parseSection(sectionNode);
-                        if (section != null) {
-                            course.addSection(section);
+    private Course streamSingleCourse(JsonParser parser) throws IOException {
+        String courseNumber = "";
+        String number = "";
+        String courseName = "";
+        List<Section> sections = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "courseNumber" -> courseNumber = readText(parser, "");
+                case "number" -> number = readText(parser, "");
+                case "title" -> courseName = readText(parser, "");
+                case "sections" -> {
+                    if (parser.currentToken() == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            Section section = streamSection(parser);
+                            if (section != null) {
+                                sections.add(section);
+                            }
                         }
-                    } catch (Exception e) {
-                        logger.log(Level.WARNING, "Error parsing section for course " + courseId, e);
+                    } else {
+                        parser.skipChildren();
                     }
                 }
+                default -> parser.skipChildren();
             }
-            
-            return course.getSections().isEmpty() ? null : course;
+        }
+
+        // Try "courseNumber" first, then fall back to "number"
+        String courseId = courseNumber.isEmpty() ? number : courseNumber;
+        if (courseId.isEmpty()) {
+            logger.log(Level.WARNING, "Course missing courseNumber/number, skipping");
+            return null;
+        }
+        if (sections.isEmpty()) {
+            return null;
+        }
+
+        try {
+            // Descriptions are never displayed, so they are not kept
+            return new Course(stringPool.intern(courseId), stringPool.intern(courseName), "", sections);
+        } catch (IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Error parsing course " + courseId, e);
+            return null;
+        }
+    }
+
+    private Section streamSection(JsonParser parser) throws IOException {
+        String meetingPatterns = "";
+        String instructionalFormat = "Unknown";
+        String location = "TBA";
+        String courseNumber = "";
+        String courseId = "";
+        String sectionNumber = "";
+        String instructors = "TBA";
+        String deliveryMode = "In-Person";
+        int openSeats = 0;
+        String credits = "0";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "meetingPatterns" -> meetingPatterns = readText(parser, "");
+                case "instructionalFormat" -> instructionalFormat = readText(parser, "Unknown");
+                case "locations" -> location = readText(parser, "TBA");
+                case "courseNumber" -> courseNumber = readText(parser, "");
+                case "courseId" -> courseId = readText(parser, "");
+                case "number" -> sectionNumber = readText(parser, "");
+                case "instructors" -> instructors = readText(parser, "TBA");
+                case "deliveryMode" -> deliveryMode = readText(parser, "In-Person");
+                case "openSeats" -> openSeats = readInt(parser);
+                case "credits" -> credits = readText(parser, "0");
+                default -> parser.skipChildren();
+            }
+        }
+
+        try {
+            // Try courseNumber first, then fall back to courseId
+            return buildSection(meetingPatterns, instructionalFormat, location,
+                    courseNumber.isEmpty() ? courseId : courseNumber, sectionNumber,
+                    instructors, deliveryMode, openSeats, credits);
         } catch (Exception e) {
-            logger.log(Level.WARNING, "Error parsing course", e);
+            logger.log(Level.WARNING, "Error parsing section", e);
             return null;
         }
     }
 
+    // Mirrors JsonNode.asText(default): null falls back to the default, containers read as empty
+    private static String readText(JsonParser parser, String defaultValue) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return defaultValue;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return "";
+    }
+
+    // Mirrors JsonNode.asInt(0): numbers are truncated, numeric strings are parsed, anything else is 0
+    private static int readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isNumeric() || token == JsonToken.VALUE_STRING) {
+            return parser.getValueAsInt(0);
+        }
+        parser.skipChildren();
+        return 0;
+    }
+
     /**
-     * Parses a section from a JSON node.
+     * Builds a section from raw upstream field values, deriving days, times and section type.
      *
-     * @param sectionNode The JSON node containing section data.
-     * @return A parsed Section object.
+     * @return The section, or null if required fields are missing.
      */
-    private Section parseSection(JsonNode sectionNode) {
-        if (sectionNode == null) {
-            return null;
-        }
-        
-        try {
-            String meetingPatterns = sectionNode.path("meetingPatterns").asText("");
-            String daysOfTheWeek = "N/A";
-            String timeStart = "N/A";
-            String timeEnd = "N/A";
-
-            if (!meetingPatterns.isEmpty() && meetingPatterns.contains("|")) {
-                String[] parts = meetingPatterns.split("\\|");
-                if (parts.length >= 1) {
-                    daysOfTheWeek = convertDaysOfWeek(parts[0].trim());
-                }
-                if (parts.length >= 2) {
-                    String[] times = parts[1].trim().split("-");
-                    if (times.length == 2) {
-                        timeStart = times[0].trim();
-                        timeEnd = times[1].trim();
-                    }
-                }
-            }
+    private Section buildSection(String meetingPatterns, String instructionalFormat, String location,
+                                 String courseId, String sectionNumber, String instructors,
+                                 String deliveryMode, int openSeats, String credits) {
+        String daysOfTheWeek = "N/A";
+        String timeStart = "N/A";
+        String timeEnd = "N/A";
 
-            // Extract other fields with defaults
-            String instructionalFormat = sectionNode.path("instructionalFormat").asText("Unknown");
-            String location = sectionNode.path("locations").asText("TBA");
-            // Try courseNumber first, then fall back to courseId
-            String courseId = sectionNode.path("courseNumber").asText("");
-            if (courseId.isEmpty()) {
-                courseId = sectionNode.path("courseId").asText("");
+        if (!meetingPatterns.isEmpty() && meetingPatterns.contains("|")) {
+            String[] parts = meetingPatterns.split("\\|");
+            if (parts.length >= 1) {
+                daysOfTheWeek = convertDaysOfWeek(parts[0].trim());
             }
-            String sectionNumber = sectionNode.path("number").asText("");
-            String instructors = sectionNode.path("instructors").asText("TBA");
-            String deliveryMode = sectionNode.path("deliveryMode").asText("In-Person");
-            int openSeats = sectionNode.path("openSeats").asInt(0);
-            String credits = sectionNode.path("credits").asText("0");
-
-            // Validate required fields
-            if (courseId.isEmpty() || sectionNumber.isEmpty()) {
-                logger.log(Level.WARNING, "Section missing required fields: courseId=" + courseId + ", number=" + sectionNumber);
-                return null;
+            if (parts.length >= 2) {
+                String[] times = parts[1].trim().split("-");
+                if (times.length == 2) {
+                    timeStart = times[0].trim();
+                    timeEnd = times[1].trim();
+                }
             }
+        }
 
-            // Handle sections with missing time/day information
-            boolean hasValidDays = daysOfTheWeek != null && !daysOfTheWeek.equals("N/A") && !daysOfTheWeek.isEmpty();
-            boolean hasValidTime = timeStart != null && !timeStart.equals("N/A") && timeEnd != null && !timeEnd.equals("N/A");
-            boolean isOnline = deliveryMode != null && deliveryMode.equalsIgnoreCase("Online");
+        // Validate required fields
+        if (courseId.isEmpty() || sectionNumber.isEmpty()) {
+            logger.log(Level.WARNING, "Section missing required fields: courseId=" + courseId + ", number=" + sectionNumber);
+            return null;
+        }
 
-            // Determine section type
-            SectionType sectionType;
+        // Handle sections with missing time/day information
+        boolean hasValidDays = daysOfTheWeek != null && !daysOfTheWeek.equals("N/A") && !daysOfTheWeek.isEmpty();
+        boolean hasValidTime = timeStart != null && !timeStart.equals("N/A") && timeEnd != null && !timeEnd.equals("N/A");
+        boolean isOnline = deliveryMode != null && deliveryMode.equalsIgnoreCase("Online");
 
-            // If online course, set appropriate values
-            if (isOnline) {
-                sectionType = SectionType.ONLINE;
-                if (!hasValidDays) {
-                    daysOfTheWeek = "Online";
-                    logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " is online - setting days to Online");
-                }
-                if (!hasValidTime) {
-                    timeStart = "Online";
-                    timeEnd = "Online";
-                    logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " is online - setting times to Online");
-                }
-            } else if (!hasValidDays || !hasValidTime) {
-                // For in-person courses with missing data, set to TBD
-                sectionType = SectionType.TBD;
-                if (!hasValidDays) {
-                    daysOfTheWeek = "TBD";
-                    logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " has no meeting days - setting to TBD");
-                }
+        // Determine section type
+        SectionType sectionType;
 
-                if (!hasValidTime) {
-                    timeStart = "TBD";
-                    timeEnd = "TBD";
-                    logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " has no meeting times - setting to TBD");
-                }
-            } else {
-                // Valid in-person section with complete schedule information
-                sectionType = SectionType.IN_PERSON;
+        // If online course, set appropriate values
+        if (isOnline) {
+            sectionType = SectionType.ONLINE;
+            if (!hasValidDays) {
+                daysOfTheWeek = "Online";
+                logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " is online - setting days to Online");
+            }
+            if (!hasValidTime) {
+                timeStart = "Online";
+                timeEnd = "Online";
+                logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " is online - setting times to Online");
+            }
+        } else if (!hasValidDays || !hasValidTime) {
+            // For in-person courses with missing data, set to TBD
+            sectionType = SectionType.TBD;
+            if (!hasValidDays) {
+                daysOfTheWeek = "TBD";
+                logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " has no meeting days - setting to TBD");
             }
 
-            Section section = new Section(
-                    daysOfTheWeek,
-                    openSeats,
-                    instructors,
-                    courseId,
-                    timeStart,
-                    timeEnd,
-                    sectionNumber,
-                    instructionalFormat,
-                    location,
-                    deliveryMode,
-                    credits
-            );
-
-            // Set the section type
-            section.setSectionType(sectionType);
-
-            return section;
-        } catch (Exception e) {
-            logger.log(Level.WARNING, "Error parsing section", e);
-            return null;
+            if (!hasValidTime) {
+                timeStart = "TBD";
+                timeEnd = "TBD";
+                logger.log(Level.INFO, "Section " + courseId + " Section " + sectionNumber + " has no meeting times - setting to TBD");
+            }
+        } else {
+            // Valid in-person section with complete schedule information
+            sectionType = SectionType.IN_PERSON;
         }
+
+        // Instructor and location are dictionary-encoded by Section itself, and days, times, format
+        // and credits are kept in primitive form, so only the fields still stored as strings are pooled
+        Section section = new Section(
+                daysOfTheWeek,
+                openSeats,
+                instructors,
+                stringPool.intern(courseId),
+                timeStart,
+                timeEnd,
+                stringPool.intern(sectionNumber),
+                instructionalFormat,
+                location,
+                stringPool.intern(deliveryMode),
+                credits,
+                sectionType
+        );
+
+        return section;
     }
 
     /**
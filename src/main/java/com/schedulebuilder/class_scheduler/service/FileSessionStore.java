@@ -0,0 +1,214 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded {@link SessionStore} keeping one small file per session in a local directory. Good for
+ * a single instance (sessions survive restarts) and for tests; instances that don't share the
+ * directory need a networked backend instead. It is only used when session.store.type is "file",
+ * and session.store.dir must then name a directory that outlives the process (not a dyno's local
+ * disk or the temp directory, which are wiped on restart).
+ *
+ * <p>File layout (big-endian): magic, version, creation time, last access time, max inactive
+ * seconds, then the length-prefixed attribute payload. Writes go to a temporary file that is
+ * atomically renamed; {@link #touch} only rewrites the last access time in place.</p>
+ */
+@Service
+@ConditionalOnProperty(name = "session.store.type", havingValue = "file")
+public class FileSessionStore implements SessionStore {
+
+    private static final Logger logger = Logger.getLogger(FileSessionStore.class.getName());
+    private static final int MAGIC = 0x43595053; // "CYPS"
+    private static final short VERSION = 1;
+    private static final String EXTENSION = ".session";
+    private static final int LAST_ACCESSED_OFFSET = Integer.BYTES + Short.BYTES + Long.BYTES;
+    // Session IDs come from cookies, so anything else is rejected before it gets near a file name
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{16,128}");
+
+    private final Path directory;
+
+    public FileSessionStore(@Value("${session.store.dir:}") String directory) {
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalStateException("session.store.dir must be set when session.store.type=file");
+        }
+        this.directory = Paths.get(directory);
+    }
+
+    @Override
+    public StoredSession load(String sessionId) {
+        Path file = file(sessionId);
+        if (file == null) {
+            return null;
+        }
+
+        StoredSession session;
+        try {
+            session = decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Discarding unreadable session file " + file, e);
+            delete(sessionId);
+            return null;
+        }
+
+        if (session.isExpired(System.currentTimeMillis())) {
+            delete(sessionId);
+            return null;
+        }
+        return session;
+    }
+
+    @Override
+    public void save(String sessionId, StoredSession session) {
+        Path file = file(sessionId);
+        if (file == null) {
+            throw new IllegalArgumentException("Invalid session ID");
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "session", ".tmp");
+            try {
+                Files.write(temp, encode(session));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not save session " + file, e);
+        }
+    }
+
+    @Override
+    public void touch(String sessionId, long lastAccessedTime) {
+        Path file = file(sessionId);
+        if (file == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, lastAccessedTime);
+            channel.write(buffer, LAST_ACCESSED_OFFSET);
+        } catch (NoSuchFileException e) {
+            // Deleted or purged since it was loaded; nothing to refresh
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not touch session " + file, e);
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        Path file = file(sessionId);
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not delete session " + file, e);
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${session.store.purge-interval-ms:600000}",
+               fixedDelayString = "${session.store.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    if (readHeader(file).isExpired(now)) {
+                        Files.deleteIfExists(file);
+                        purged++;
+                    }
+                } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+                    Files.deleteIfExists(file);
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not list session directory " + directory, e);
+        }
+
+        if (purged > 0) {
+            logger.info("Purged " + purged + " expired sessions");
+        }
+    }
+
+    private Path file(String sessionId) {
+        return sessionId != null && SESSION_ID_PATTERN.matcher(sessionId).matches()
+                ? directory.resolve(sessionId + EXTENSION)
+                : null;
+    }
+
+    // Reads just the fixed-size header, leaving the payload empty
+    private static StoredSession readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(LAST_ACCESSED_OFFSET + Long.BYTES + Integer.BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            return decodeHeader(header);
+        }
+    }
+
+    private static byte[] encode(StoredSession session) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(session.attributes().length + 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(session.creationTime());
+        out.writeLong(session.lastAccessedTime());
+        out.writeInt(session.maxInactiveSeconds());
+        out.writeInt(session.attributes().length);
+        out.write(session.attributes());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static StoredSession decode(ByteBuffer buffer) {
+        StoredSession header = decodeHeader(buffer);
+        byte[] attributes = new byte[buffer.getInt()];
+        buffer.get(attributes);
+        return new StoredSession(header.creationTime(), header.lastAccessedTime(), header.maxInactiveSeconds(), attributes);
+    }
+
+    private static StoredSession decodeHeader(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a session file");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported session file version " + version);
+        }
+        return new StoredSession(buffer.getLong(), buffer.getLong(), buffer.getInt(), new byte[0]);
+    }
+}
@@ -0,0 +1,254 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.ScheduleCursor;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Encodes {@link ScheduleCursor}s as compact, URL-safe tokens signed with HMAC-SHA256, so clients
+ * can carry their schedule position and any instance sharing the secret can trust it.
+ *
+ * <p>Token layout: base64url(payload || mac), where mac is the first {@value #MAC_LENGTH} bytes of
+ * HMAC-SHA256(payload) and the payload is a versioned binary encoding of the cursor and the time it
+ * was issued. Tokens older than the configured maximum age are rejected.
+ */
+@Service
+public class ScheduleCursorCodec {
+
+    private static final Logger logger = Logger.getLogger(ScheduleCursorCodec.class.getName());
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 16;
+    private static final int VERSION = 3;
+    // Far larger than any real cursor; keeps decoding of junk input cheap
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    private final SecretKeySpec key;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    @Autowired
+    public ScheduleCursorCodec(@Value("${schedule.cursor.secret:}") String secret,
+                               @Value("${schedule.cursor.max-age-seconds:604800}") long maxAgeSeconds) {
+        this(secret, Duration.ofSeconds(maxAgeSeconds), Clock.systemUTC());
+    }
+
+    ScheduleCursorCodec(String secret, Duration maxAge, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            logger.warning("schedule.cursor.secret is not set; schedule links will only work on this instance until restart");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, MAC_ALGORITHM);
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public String encode(ScheduleCursor cursor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ScheduleRequest request = cursor.request();
+            out.writeByte(VERSION);
+            out.writeLong(clock.millis());
+            out.writeUTF(request.academicPeriodId());
+            out.writeShort(request.courseIds().size());
+            for (String courseId : request.courseIds()) {
+                out.writeUTF(courseId);
+            }
+            out.writeBoolean(request.autoGenerated());
+            writePreferences(out, request.preferences());
+            writeByCourse(out, request.instructorPreferences());
+            writeByCourse(out, request.selectedSections());
+            out.writeShort(cursor.index());
+            out.writeShort(cursor.scheduleCount());
+            for (List<String> numbers : cursor.sectionNumbers()) {
+                out.writeByte(numbers.size());
+                for (String number : numbers) {
+                    out.writeUTF(number);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Schedule cursor is too large to encode", e);
+        }
+
+        byte[] payload = bytes.toByteArray();
+        byte[] token = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(mac(payload), 0, token, payload.length, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * @throws IllegalArgumentException If the token is malformed, its signature doesn't match or it has expired.
+     */
+    public ScheduleCursor decode(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Invalid schedule cursor");
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid schedule cursor", e);
+        }
+        if (bytes.length <= MAC_LENGTH) {
+            throw new IllegalArgumentException("Invalid schedule cursor");
+        }
+
+        byte[] payload = Arrays.copyOf(bytes, bytes.length - MAC_LENGTH);
+        byte[] expectedMac = Arrays.copyOf(mac(payload), MAC_LENGTH);
+        if (!MessageDigest.isEqual(expectedMac, Arrays.copyOfRange(bytes, payload.length, bytes.length))) {
+            throw new IllegalArgumentException("Schedule cursor signature does not match");
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readUnsignedByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported schedule cursor version");
+            }
+            long issuedAt = in.readLong();
+            if (clock.millis() - issuedAt > maxAge.toMillis()) {
+                throw new IllegalArgumentException("Schedule cursor has expired");
+            }
+            String academicPeriodId = in.readUTF();
+            int courseCount = in.readUnsignedShort();
+            List<String> courseIds = new ArrayList<>(courseCount);
+            for (int i = 0; i < courseCount; i++) {
+                courseIds.add(in.readUTF());
+            }
+            boolean autoGenerated = in.readBoolean();
+            SchedulePreferencesForm preferences = readPreferences(in);
+            Map<String, List<String>> instructorPreferences = readByCourse(in);
+            Map<String, List<String>> selectedSections = readByCourse(in);
+            int index = in.readUnsignedShort();
+            int scheduleCount = in.readUnsignedShort();
+            List<List<String>> sectionNumbers = new ArrayList<>(courseCount);
+            for (int i = 0; i < courseCount; i++) {
+                int count = in.readUnsignedByte();
+                List<String> numbers = new ArrayList<>(count);
+                for (int n = 0; n < count; n++) {
+                    numbers.add(in.readUTF());
+                }
+                sectionNumbers.add(numbers);
+            }
+
+            ScheduleRequest request = new ScheduleRequest(academicPeriodId, courseIds, preferences,
+                    instructorPreferences, selectedSections, autoGenerated);
+            return new ScheduleCursor(request, index, scheduleCount, sectionNumbers);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid schedule cursor", e);
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            // Mac instances aren't thread-safe, and creating one is cheap next to a page render
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private static void writeOptional(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readOptional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writePreferences(DataOutputStream out, SchedulePreferencesForm preferences) throws IOException {
+        out.writeBoolean(preferences != null);
+        if (preferences == null) {
+            return;
+        }
+        out.writeBoolean(preferences.preferredDays() != null);
+        if (preferences.preferredDays() != null) {
+            writeList(out, preferences.preferredDays());
+        }
+        writeOptional(out, preferences.timePreference());
+        writeOptional(out, preferences.gapPreference());
+        writeOptional(out, preferences.scheduleStyle());
+        Boolean uniqueSchedulesOnly = preferences.uniqueSchedulesOnly();
+        out.writeByte(uniqueSchedulesOnly == null ? -1 : uniqueSchedulesOnly ? 1 : 0);
+    }
+
+    private static SchedulePreferencesForm readPreferences(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        List<String> preferredDays = in.readBoolean() ? readList(in) : null;
+        String timePreference = readOptional(in);
+        String gapPreference = readOptional(in);
+        String scheduleStyle = readOptional(in);
+        byte uniqueSchedulesOnly = in.readByte();
+        return new SchedulePreferencesForm(preferredDays, timePreference, gapPreference, scheduleStyle,
+                uniqueSchedulesOnly < 0 ? null : uniqueSchedulesOnly == 1);
+    }
+
+    // Absent and empty are the same to a schedule request, so both are written as no entries
+    private static void writeByCourse(DataOutputStream out, Map<String, List<String>> byCourse) throws IOException {
+        out.writeShort(byCourse != null ? byCourse.size() : 0);
+        if (byCourse != null) {
+            for (Map.Entry<String, List<String>> entry : byCourse.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeList(out, entry.getValue());
+            }
+        }
+    }
+
+    private static Map<String, List<String>> readByCourse(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Map<String, List<String>> byCourse = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            byCourse.put(in.readUTF(), readList(in));
+        }
+        return byCourse;
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        out.writeShort(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,269 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.ScheduleBuilder;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleResult;
+import com.schedulebuilder.class_scheduler.model.ScheduleSummary;
+import com.schedulebuilder.class_scheduler.model.Section;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One schedule search queued on {@link ScheduleJobService}, and the browsers listening to it over
+ * Server-Sent Events. The search thread only records progress here; events are sent from the
+ * service's event thread, at most every {@value #EVENT_INTERVAL_MILLIS} ms: a "progress" event
+ * and, when a better schedule turned up since the last one, a "schedule" event with it. The stream
+ * ends with a "complete", "failed" or "cancelled" event. Late subscribers first get the current
+ * progress and best schedule so far.
+ *
+ * <p>Cancelling a job stops its search at the next node it explores.</p>
+ */
+public class ScheduleJob implements ScheduleBuilder.ProgressListener {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    private static final long EVENT_INTERVAL_MILLIS = 250;
+
+    private final String id;
+    private final String sessionId;
+    private final List<Course> courses;
+    private final ScheduleRequest request;
+    private final double cost;
+    // Sends every event, one at a time, so slow browsers never hold up the search thread
+    private final ScheduledExecutorService events;
+    private final CompletableFuture<ScheduleResult> result = new CompletableFuture<>();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile boolean cancelled;
+    private volatile long nodesExplored;
+    private volatile int schedulesFound;
+    private volatile long finishedAt;
+    private volatile int bestScore = Integer.MIN_VALUE;
+    private Map<String, Object> bestSchedule;
+    private boolean bestScheduleSent;
+    private Map<String, Object> finalEvent;
+    private String finalEventName;
+    private boolean flushScheduled;
+    private long lastFlush;
+
+    ScheduleJob(String id, String sessionId, List<Course> courses, ScheduleRequest request, double cost,
+                ScheduledExecutorService events) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.courses = List.copyOf(courses);
+        this.request = request;
+        this.cost = cost;
+        this.events = events;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * The estimated search cost; cheaper jobs run first.
+     */
+    double getCost() {
+        return cost;
+    }
+
+    /**
+     * Completes with the job's result, or exceptionally if it failed or was cancelled.
+     */
+    CompletableFuture<ScheduleResult> getResult() {
+        return result;
+    }
+
+    List<Course> getCourses() {
+        return courses;
+    }
+
+    ScheduleRequest getRequest() {
+        return request;
+    }
+
+    long getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Streams this job's events to the emitter, starting with a snapshot of where the search is.
+     */
+    public void subscribe(SseEmitter emitter) {
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+
+        events.execute(() -> {
+            Map<String, Object> progress;
+            Map<String, Object> schedule;
+            String eventName;
+            Map<String, Object> event;
+            synchronized (this) {
+                progress = progress();
+                schedule = bestSchedule;
+                eventName = finalEventName;
+                event = finalEvent;
+            }
+
+            if (!send(emitter, "progress", progress) || (schedule != null && !send(emitter, "schedule", schedule))) {
+                return;
+            }
+            if (event != null) {
+                send(emitter, eventName, event);
+                emitter.complete();
+            } else {
+                // The final event hasn't been broadcast yet: it runs on this thread after this task
+                subscribers.add(emitter);
+            }
+        });
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public void onProgress(long nodesExplored, int schedulesFound) {
+        this.nodesExplored = nodesExplored;
+        this.schedulesFound = schedulesFound;
+        requestFlush();
+    }
+
+    @Override
+    public boolean needsScores() {
+        return true;
+    }
+
+    @Override
+    public void onScheduleFound(Map<Course, List<Section>> schedule, int score, long nodesExplored, int schedulesFound) {
+        this.nodesExplored = nodesExplored;
+        this.schedulesFound = schedulesFound;
+
+        // Only a better schedule is worth building an event for; only this thread writes bestScore
+        if (score > bestScore) {
+            bestScore = score;
+            List<Section> sections = new ArrayList<>();
+            schedule.values().forEach(sections::addAll);
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("score", score);
+            event.put("summary", ScheduleSummary.of(sections));
+            event.put("sections", sections);
+            synchronized (this) {
+                bestSchedule = event;
+                bestScheduleSent = false;
+            }
+        }
+        requestFlush();
+    }
+
+    void started() {
+        status = Status.RUNNING;
+    }
+
+    /**
+     * Publishes the final event and closes every stream. The result future must be completed first.
+     */
+    void finish(Status finalStatus, String eventName, Map<String, Object> event) {
+        synchronized (this) {
+            status = finalStatus;
+            finishedAt = System.currentTimeMillis();
+            event.putAll(progress());
+            finalEventName = eventName;
+            finalEvent = event;
+        }
+        events.execute(() -> {
+            broadcast(eventName, event);
+            subscribers.forEach(SseEmitter::complete);
+            subscribers.clear();
+        });
+    }
+
+    // Schedules a send of the latest progress, no sooner than EVENT_INTERVAL_MILLIS after the last one
+    private void requestFlush() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (flushScheduled || finalEvent != null) {
+                return;
+            }
+            flushScheduled = true;
+            events.schedule(this::flush, Math.max(0, lastFlush + EVENT_INTERVAL_MILLIS - now), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        Map<String, Object> progress;
+        Map<String, Object> schedule = null;
+        synchronized (this) {
+            flushScheduled = false;
+            lastFlush = System.currentTimeMillis();
+            if (finalEvent != null) {
+                return;
+            }
+            progress = progress();
+            if (bestSchedule != null && !bestScheduleSent) {
+                schedule = bestSchedule;
+                bestScheduleSent = true;
+            }
+        }
+        broadcast("progress", progress);
+        if (schedule != null) {
+            broadcast("schedule", schedule);
+        }
+    }
+
+    private Map<String, Object> progress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("status", status.name());
+        progress.put("nodesExplored", nodesExplored);
+        progress.put("schedulesFound", schedulesFound);
+        progress.put("bestScore", bestSchedule != null ? bestSchedule.get("score") : null);
+        return progress;
+    }
+
+    private void broadcast(String eventName, Map<String, Object> data) {
+        for (SseEmitter emitter : subscribers) {
+            if (!send(emitter, eventName, data)) {
+                subscribers.remove(emitter);
+            }
+        }
+    }
+
+    // A failed send means the browser went away; the search carries on for the other subscribers
+    private static boolean send(SseEmitter emitter, String eventName, Map<String, Object> data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.ScheduleCursor;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedules every schedule search, so a few users with big course lists can't tie up every core.
+ * Searches run on a small worker pool; waiting ones are ordered by estimated cost, so cheap
+ * requests stay fast while expensive ones queue. Each session has at most one search in flight: a
+ * new request cancels the session's previous one, queued or running. Regenerating an earlier
+ * request to page through it ({@link #regenerate}) is read-only and takes no part in that, so
+ * paging never cancels a search the user just started. When the queue is full new
+ * searches are rejected rather than piling up, and results that are already cached skip the queue
+ * entirely.
+ *
+ * <p>Searches are either waited for by the request that asked ({@link #generate}) or streamed to
+ * clients as {@link ScheduleJob}s ({@link #submit}). Finished streamed jobs are kept for a while so
+ * a client that connects late still gets the result, as a signed {@link ScheduleCursor} it can
+ * page through like any other schedule list.</p>
+ */
+@Service
+public class ScheduleJobService {
+
+    private static final Logger logger = Logger.getLogger(ScheduleJobService.class.getName());
+
+    private final ScheduleService scheduleService;
+    private final ScheduleCursorCodec scheduleCursorCodec;
+    private final ThreadPoolExecutor executor;
+    // Sends the jobs' SSE events, so searches never wait on a browser
+    private final ScheduledThreadPoolExecutor eventExecutor;
+    private final int queueCapacity;
+    private final AtomicLong sequence = new AtomicLong();
+    // Streamed jobs by job ID, until they've been finished for retentionMillis
+    private final Map<String, ScheduleJob> jobs = new ConcurrentHashMap<>();
+    // The one queued or running search per session
+    private final Map<String, QueuedJob> sessionJobs = new ConcurrentHashMap<>();
+    private final long retentionMillis;
+    private final long sseTimeoutMillis;
+    private final long waitTimeoutMillis;
+
+    public ScheduleJobService(ScheduleService scheduleService,
+                              ScheduleCursorCodec scheduleCursorCodec,
+                              @Value("${schedule.jobs.threads:2}") int threads,
+                              @Value("${schedule.jobs.queue-capacity:16}") int queueCapacity,
+                              @Value("${schedule.jobs.retention-seconds:300}") long retentionSeconds,
+                              @Value("${schedule.jobs.sse-timeout-ms:60000}") long sseTimeoutMillis,
+                              @Value("${schedule.jobs.wait-timeout-ms:20000}") long waitTimeoutMillis) {
+        this.scheduleService = scheduleService;
+        this.scheduleCursorCodec = scheduleCursorCodec;
+        this.queueCapacity = queueCapacity;
+        this.retentionMillis = retentionSeconds * 1000;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // The priority queue is unbounded; its capacity is enforced in enqueue()
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "schedule-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.eventExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "schedule-job-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Jobs still finishing during shutdown have nobody left to send their events to
+        this.eventExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Generates schedules on the worker pool and waits for them, at most schedule.jobs.wait-timeout-ms.
+     * A search that takes longer keeps running, so its result is cached for a retry.
+     *
+     * @param sessionId The session asking; its previous search is cancelled.
+     * @throws RejectedExecutionException If too many searches are already queued.
+     * @throws CancellationException      If a newer request from the same session replaced this one.
+     * @throws TimeoutException           If the search didn't finish in time.
+     */
+    public ScheduleResult generate(String sessionId, List<Course> courses, ScheduleRequest request) throws TimeoutException {
+        try {
+            return generateAsync(sessionId, courses, request).get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for schedules");
+        }
+    }
+
+    /**
+     * Regenerates the schedules of an earlier request (deterministic for the same courses), e.g. to
+     * page through them, and waits for them. Unlike {@link #generate} this neither cancels the
+     * session's current search nor can be cancelled by a newer one.
+     *
+     * @throws RejectedExecutionException If too many searches are already queued.
+     * @throws TimeoutException           If the search didn't finish in time.
+     */
+    public ScheduleResult regenerate(List<Course> courses, ScheduleRequest request) throws TimeoutException {
+        return generate(null, courses, request);
+    }
+
+    /**
+     * Generates schedules on the worker pool without waiting. The future completes on a worker
+     * thread, or right away if the result was cached; it fails with
+     * {@link RejectedExecutionException} or {@link CancellationException} like {@link #generate}.
+     *
+     * @param sessionId The session asking; its previous search is cancelled.
+     */
+    public CompletableFuture<ScheduleResult> generateAsync(String sessionId, List<Course> courses, ScheduleRequest request) {
+        ScheduleResult prepared = scheduleService.prepare(courses, request);
+        ScheduleResult cached = scheduleService.generateIfCached(prepared, request);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        try {
+            // A copy, so callers can't complete the job's own future
+            return enqueue(sessionId, courses, request, ScheduleService.estimateCost(prepared), false).getResult().copy();
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Queues a schedule search whose progress is streamed from {@link #subscribe}.
+     *
+     * @param sessionId The session asking; its previous search is cancelled.
+     * @throws RejectedExecutionException If too many searches are already queued.
+     */
+    public ScheduleJob submit(String sessionId, List<Course> courses, ScheduleRequest request) {
+        double cost = ScheduleService.estimateCost(scheduleService.prepare(courses, request));
+        return enqueue(sessionId, courses, request, cost, true);
+    }
+
+    /**
+     * Opens an event stream for a job.
+     *
+     * @return The stream, or null if there is no such job (or it finished long ago).
+     */
+    public SseEmitter subscribe(String jobId) {
+        ScheduleJob job = jobs.get(jobId);
+        if (job == null) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private synchronized ScheduleJob enqueue(String sessionId, List<Course> courses, ScheduleRequest request,
+                                             double cost, boolean streamed) {
+        // The session's previous search is superseded whether or not this one gets a slot
+        QueuedJob previous = sessionId != null ? sessionJobs.remove(sessionId) : null;
+        if (previous != null) {
+            cancel(previous);
+        }
+        if (executor.getQueue().size() >= queueCapacity) {
+            throw new RejectedExecutionException("Schedule generation queue is full");
+        }
+
+        ScheduleJob job = new ScheduleJob(UUID.randomUUID().toString(), sessionId, courses, request, cost, eventExecutor);
+        QueuedJob queued = new QueuedJob(job, streamed, sequence.incrementAndGet());
+        if (streamed) {
+            jobs.put(job.getId(), job);
+        }
+        if (sessionId != null) {
+            sessionJobs.put(sessionId, queued);
+        }
+        executor.execute(queued);
+        return job;
+    }
+
+    private void cancel(QueuedJob queued) {
+        ScheduleJob job = queued.job;
+        job.cancel();
+        // A job that hasn't started is finished here; a running one stops at its next node
+        if (executor.remove(queued)) {
+            finishCancelled(queued);
+        }
+    }
+
+    private void run(QueuedJob queued) {
+        ScheduleJob job = queued.job;
+        if (job.isCancelled()) {
+            finishCancelled(queued);
+            return;
+        }
+
+        job.started();
+        try {
+            ScheduleResult result = scheduleService.generate(job.getCourses(), job.getRequest(), job);
+            job.getResult().complete(result);
+            if (queued.streamed) {
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("total", result.schedules().size());
+                event.put("cursor", result.schedules().isEmpty() ? null
+                        : scheduleCursorCodec.encode(ScheduleCursor.of(job.getRequest(), result.schedules(), 0)));
+                event.put("nonSchedulableSections", result.nonSchedulableSections());
+                job.finish(ScheduleJob.Status.COMPLETED, "complete", event);
+            } else {
+                job.finish(ScheduleJob.Status.COMPLETED, "complete", new LinkedHashMap<>());
+            }
+        } catch (CancellationException e) {
+            finishCancelled(queued);
+        } catch (Throwable e) {
+            // Errors too (e.g. a StackOverflowError deep in the search), or the result would never
+            // complete and event subscribers would never get a final event
+            logger.log(Level.WARNING, "Schedule job " + job.getId() + " failed", e);
+            job.getResult().completeExceptionally(e);
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("message", "Error generating schedules");
+            job.finish(ScheduleJob.Status.FAILED, "failed", event);
+        } finally {
+            if (job.getSessionId() != null) {
+                sessionJobs.remove(job.getSessionId(), queued);
+            }
+        }
+    }
+
+    private static void finishCancelled(QueuedJob queued) {
+        ScheduleJob job = queued.job;
+        job.getResult().completeExceptionally(new CancellationException("Replaced by a newer schedule request"));
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("message", "Replaced by a newer schedule request");
+        job.finish(ScheduleJob.Status.CANCELLED, "cancelled", event);
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.jobs.cleanup-interval-ms:60000}")
+    public void removeFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        jobs.values().removeIf(job -> job.getFinishedAt() > 0 && job.getFinishedAt() < cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        eventExecutor.shutdownNow();
+    }
+
+    /**
+     * A job waiting in the executor's priority queue: cheapest first, then first come first served.
+     */
+    private final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+
+        private final ScheduleJob job;
+        private final boolean streamed;
+        private final long sequence;
+
+        private QueuedJob(ScheduleJob job, boolean streamed, long sequence) {
+            this.job = job;
+            this.streamed = streamed;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            ScheduleJobService.this.run(this);
+        }
+
+        @Override
+        public int compareTo(QueuedJob other) {
+            int byCost = Double.compare(job.getCost(), other.job.getCost());
+            return byCost != 0 ? byCost : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferences;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.util.SingleFlight;
+import com.schedulebuilder.class_scheduler.util.WeightedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+
+/**
+ * Shares generated schedules between users who ask for the same thing, e.g. everyone scheduling
+ * the standard first-year bundle with default preferences. Entries are keyed by a hash of what the
+ * search actually sees: the period, each course's sections after filtering (in course ID order)
+ * with every listing field the search reads (days, times, format, instructor, location, credits,
+ * delivery mode), the parsed preferences and the uniqueness flag. Raw request JSON isn't part of
+ * the key, so filters that select the same sections share an entry, and a section whose listing
+ * changed hashes to a new entry. Open seats aren't part of the key because the search doesn't
+ * read them.
+ *
+ * <p>Values are the compact section index rows of {@link GeneratedSchedules}, re-attached on every
+ * hit to the caller's section instances, so results always show current seat counts.</p>
+ */
+@Service
+public class ScheduleResultCache {
+
+    private final WeightedCache<String, CachedSchedules> cache;
+    private final SingleFlight<String, CachedSchedules> flights = new SingleFlight<>();
+
+    public ScheduleResultCache(@Value("${schedule.result-cache.max-bytes:8388608}") long maxBytes,
+                               @Value("${schedule.result-cache.ttl-seconds:1800}") long ttlSeconds) {
+        // Entries are only read with getIfPresent, so there is nothing to refresh in the background
+        this.cache = new WeightedCache<>(maxBytes, ttlSeconds * 1000, ttlSeconds * 1000,
+                CachedSchedules::weight, Runnable::run);
+    }
+
+    /**
+     * Returns the schedules for the courses, generating them only if no equivalent search is
+     * cached or already running.
+     *
+     * @param academicPeriodId     The period the courses belong to.
+     * @param courses              The filtered in-person courses to schedule.
+     * @param preferences          The parsed preferences, or null.
+     * @param uniqueSchedulesOnly  Whether duplicate schedules are removed.
+     * @param generator            Runs the search on the given courses; a search that was cancelled
+     *                             throws {@link CancellationException} so it isn't cached.
+     * @return Schedules indexed against {@code courses}, in their order.
+     */
+    public GeneratedSchedules get(String academicPeriodId, List<Course> courses, SchedulePreferences preferences,
+                                  boolean uniqueSchedulesOnly, Function<List<Course>, GeneratedSchedules> generator) {
+        String key = key(academicPeriodId, courses, preferences, uniqueSchedulesOnly);
+        GeneratedSchedules schedules = getIfPresent(key, courses);
+        if (schedules != null) {
+            return schedules;
+        }
+
+        boolean[] generatedHere = new boolean[1];
+        CachedSchedules cached;
+        try {
+            cached = flights.execute(key, k -> {
+                generatedHere[0] = true;
+                CachedSchedules generated = CachedSchedules.of(generator.apply(courses));
+                cache.put(k, generated);
+                return generated;
+            });
+        } catch (CancellationException e) {
+            if (generatedHere[0]) {
+                throw e;
+            }
+            // Another caller's search was cancelled; that doesn't cancel this one
+            return generator.apply(courses);
+        }
+        schedules = cached.toSchedules(courses);
+        // Only happens if the caller's courses don't match the key they hashed to
+        return schedules != null ? schedules : generator.apply(courses);
+    }
+
+    /**
+     * Returns the cached schedules for the courses without generating anything.
+     *
+     * @return Schedules indexed against {@code courses}, or null on a miss.
+     */
+    public GeneratedSchedules getIfPresent(String academicPeriodId, List<Course> courses, SchedulePreferences preferences,
+                                           boolean uniqueSchedulesOnly) {
+        return getIfPresent(key(academicPeriodId, courses, preferences, uniqueSchedulesOnly), courses);
+    }
+
+    private GeneratedSchedules getIfPresent(String key, List<Course> courses) {
+        CachedSchedules cached = cache.getIfPresent(key);
+        return cached != null ? cached.toSchedules(courses) : null;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    static String key(String academicPeriodId, List<Course> courses, SchedulePreferences preferences,
+                      boolean uniqueSchedulesOnly) {
+        StringBuilder key = new StringBuilder(256)
+                .append(academicPeriodId).append('\n')
+                .append(uniqueSchedulesOnly).append('\n');
+        if (preferences == null) {
+            key.append("-\n");
+        } else {
+            // Preferred days are only checked for membership, so their order doesn't matter
+            key.append(preferences.getPreferredDays() != null ? new TreeSet<>(preferences.getPreferredDays()) : "[]").append('|')
+                    .append(preferences.getTimePreference()).append('|')
+                    .append(preferences.getGapPreference()).append('|')
+                    .append(preferences.getScheduleStyle()).append('\n');
+        }
+
+        List<Course> sorted = new ArrayList<>(courses);
+        sorted.sort(Comparator.comparing(Course::getCourseId));
+        for (Course course : sorted) {
+            key.append(course.getCourseId()).append(':');
+            for (Section section : course.getSections()) {
+                key.append(section.getSectionNumber()).append('|')
+                        .append(section.getDaysOfTheWeek()).append('|')
+                        .append(section.getTimeStart()).append('|')
+                        .append(section.getTimeEnd()).append('|')
+                        .append(section.getInstructionalFormat()).append('|')
+                        .append(section.getSectionType()).append('|')
+                        .append(section.getInstructor()).append('|')
+                        .append(section.getLocation()).append('|')
+                        .append(section.getCredits()).append('|')
+                        .append(section.getDeliveryMode()).append(',');
+            }
+            key.append('\n');
+        }
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Generated schedules detached from the course instances they were generated for, so they can
+     * be re-attached to an equivalent course list in any order. Rows index sections by position,
+     * and equal keys mean equal section lists, so only the section numbers are kept as a check.
+     */
+    private record CachedSchedules(List<String> courseIds, List<List<String>> sectionNumbers, short[] rows, int size) {
+
+        static CachedSchedules of(GeneratedSchedules schedules) {
+            List<String> courseIds = new ArrayList<>();
+            List<List<String>> sectionNumbers = new ArrayList<>();
+            for (Course course : schedules.getCourses()) {
+                courseIds.add(course.getCourseId());
+                sectionNumbers.add(sectionNumbers(course));
+            }
+            return new CachedSchedules(courseIds, sectionNumbers, schedules.getRows(), schedules.size());
+        }
+
+        /**
+         * Re-indexes the rows against the given courses.
+         *
+         * @return The schedules, or null if the courses don't have the cached sections.
+         */
+        GeneratedSchedules toSchedules(List<Course> courses) {
+            if (courses.size() != courseIds.size()) {
+                return null;
+            }
+
+            int[] source = new int[courses.size()];
+            for (int c = 0; c < courses.size(); c++) {
+                Course course = courses.get(c);
+                int cachedIndex = courseIds.indexOf(course.getCourseId());
+                if (cachedIndex < 0 || !sectionNumbers.get(cachedIndex).equals(sectionNumbers(course))) {
+                    return null;
+                }
+                source[c] = cachedIndex;
+            }
+
+            int slots = GeneratedSchedules.SLOTS_PER_COURSE;
+            int rowWidth = courses.size() * slots;
+            short[] remapped = new short[rows.length];
+            for (int row = 0; row < size; row++) {
+                for (int c = 0; c < source.length; c++) {
+                    System.arraycopy(rows, row * rowWidth + source[c] * slots, remapped, row * rowWidth + c * slots, slots);
+                }
+            }
+            return GeneratedSchedules.fromRows(courses, remapped, size);
+        }
+
+        long weight() {
+            int sectionCount = sectionNumbers.stream().mapToInt(List::size).sum();
+            // Rows, references to the (pooled) section numbers, and a rough allowance for the lists themselves
+            return (long) rows.length * Short.BYTES + sectionCount * 8L + courseIds.size() * 64L + 128;
+        }
+
+        private static List<String> sectionNumbers(Course course) {
+            List<String> numbers = new ArrayList<>(course.getSections().size());
+            course.getSections().forEach(section -> numbers.add(section.getSectionNumber()));
+            return numbers;
+        }
+    }
+}
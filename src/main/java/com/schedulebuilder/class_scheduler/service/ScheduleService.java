@@ -0,0 +1,360 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
+import com.schedulebuilder.class_scheduler.model.ScheduleBuilder;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferences;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleResult;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * The schedule generation pipeline shared by every endpoint that produces schedules. A course list
+ * and a {@link ScheduleRequest} go through these stages:
+ * <ol>
+ *   <li>filter: apply the selected-section and instructor filters ({@link #filter})</li>
+ *   <li>partition: set online and TBD sections aside ({@link #partition})</li>
+ *   <li>generate and rank: search the in-person sections and order the schedules by score, skipped
+ *       when an equivalent search is cached ({@link ScheduleResultCache})</li>
+ * </ol>
+ * Rendering the {@link ScheduleResult} (into the session, a cursor or JSON) is up to the caller.
+ * Holds no per-user state, so a request can be replayed on any instance.
+ */
+@Service
+public class ScheduleService {
+
+    private static final Logger logger = Logger.getLogger(ScheduleService.class.getName());
+    private static final int MAX_SCHEDULES = 100;
+
+    private final ApiService apiService;
+    private final CourseCatalogService courseCatalogService;
+    private final ScheduleResultCache scheduleResultCache;
+
+    public ScheduleService(ApiService apiService, CourseCatalogService courseCatalogService,
+                           ScheduleResultCache scheduleResultCache) {
+        this.apiService = apiService;
+        this.courseCatalogService = courseCatalogService;
+        this.scheduleResultCache = scheduleResultCache;
+    }
+
+    /**
+     * Looks up courses by ID, from the prefetched catalog where possible.
+     *
+     * @return The courses that were found, in request order.
+     */
+    public List<Course> findCourses(String academicPeriodId, List<String> courseIds) {
+        List<CompletableFuture<List<Course>>> lookups = new ArrayList<>();
+        for (String courseId : courseIds) {
+            int space = courseId.lastIndexOf(' ');
+            String subject = space > 0 ? courseId.substring(0, space) : courseId;
+            String number = space > 0 ? courseId.substring(space + 1) : "";
+            Optional<List<Course>> catalogCourses = courseCatalogService.findSubjectCourses(academicPeriodId, subject);
+            lookups.add(catalogCourses.isPresent()
+                    ? CompletableFuture.completedFuture(catalogCourses.get())
+                    : apiService.fetchCourseListAsync(academicPeriodId, subject, number));
+        }
+
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < courseIds.size(); i++) {
+            String courseId = courseIds.get(i);
+            lookups.get(i).join().stream()
+                    .filter(course -> course.getCourseId().equals(courseId))
+                    .findFirst()
+                    .ifPresentOrElse(courses::add, () -> logger.warning("Course " + courseId + " no longer found"));
+        }
+        return courses;
+    }
+
+    /**
+     * Filters the courses and generates schedules for their in-person sections.
+     */
+    public ScheduleResult generate(List<Course> courses, ScheduleRequest request) {
+        return generate(courses, request, ScheduleBuilder.ProgressListener.NONE);
+    }
+
+    /**
+     * Like {@link #generate(List, ScheduleRequest)}, reporting the search's progress to the listener.
+     * Nothing is reported when the schedules come from the cache.
+     *
+     * @throws CancellationException If the listener cancelled the search.
+     */
+    public ScheduleResult generate(List<Course> courses, ScheduleRequest request, ScheduleBuilder.ProgressListener listener) {
+        ScheduleResult prepared = prepare(courses, request);
+        if (prepared.inPersonCourses().isEmpty()) {
+            return prepared;
+        }
+
+        GeneratedSchedules schedules = scheduleResultCache.get(request.academicPeriodId(), prepared.inPersonCourses(),
+                prepared.preferences(), prepared.uniqueSchedulesOnly(), inPersonCourses -> {
+                    List<Map<Course, List<Section>>> generated = ScheduleBuilder.generateNonConflictingSchedules(
+                            inPersonCourses, MAX_SCHEDULES, prepared.preferences(), prepared.uniqueSchedulesOnly(), listener);
+                    // A cancelled search stops early, so its partial results must not be used or cached
+                    if (listener.isCancelled()) {
+                        throw new CancellationException("Schedule generation was cancelled");
+                    }
+                    return GeneratedSchedules.encode(inPersonCourses, generated);
+                });
+        return withSchedules(prepared, schedules);
+    }
+
+    /**
+     * Completes a {@link #prepare prepared} result from the cache, without searching.
+     *
+     * @return The result with its schedules, or null if they would have to be generated.
+     */
+    public ScheduleResult generateIfCached(ScheduleResult prepared, ScheduleRequest request) {
+        if (prepared.inPersonCourses().isEmpty()) {
+            return prepared;
+        }
+        GeneratedSchedules schedules = scheduleResultCache.getIfPresent(request.academicPeriodId(),
+                prepared.inPersonCourses(), prepared.preferences(), prepared.uniqueSchedulesOnly());
+        return schedules != null ? withSchedules(prepared, schedules) : null;
+    }
+
+    /**
+     * Rough cost of searching a {@link #prepare prepared} result: the number of section
+     * combinations the search could have to try, i.e. the product of each course's section count.
+     */
+    public static double estimateCost(ScheduleResult prepared) {
+        double cost = 1;
+        for (Course course : prepared.inPersonCourses()) {
+            cost *= course.getSections().size();
+        }
+        return cost;
+    }
+
+    private static ScheduleResult withSchedules(ScheduleResult prepared, GeneratedSchedules schedules) {
+        return new ScheduleResult(prepared.inPersonCourses(), prepared.onlineSections(), prepared.tbdSections(),
+                prepared.preferences(), prepared.uniqueSchedulesOnly(), schedules);
+    }
+
+    /**
+     * Applies the request's filters and splits out online and TBD sections without generating
+     * schedules; the result's schedules are empty. The preferences are converted here, once, and
+     * carried in the result for the later stages.
+     */
+    public ScheduleResult prepare(List<Course> courses, ScheduleRequest request) {
+        SchedulePreferencesForm form = request.autoGenerated() ? null : request.preferences();
+        return partition(filter(courses, request), request, form);
+    }
+
+    /**
+     * Filter stage: restricts each course to the selected sections and preferred instructors.
+     * Automatic generation ignores both.
+     */
+    private List<Course> filter(List<Course> courses, ScheduleRequest request) {
+        if (request.autoGenerated()) {
+            return courses;
+        }
+
+        // Apply selected section filtering first
+        List<Course> filteredCourses = courses;
+        if (request.selectedSections() != null) {
+            filteredCourses = applySelectedSections(courses, request.selectedSections());
+            logger.info("After section filtering: " + filteredCourses.size() + " courses");
+        }
+
+        // Apply instructor preferences to filter course sections
+        filteredCourses = applyInstructorPreferences(filteredCourses, request.instructorPreferences());
+        logger.info("After instructor filtering: " + filteredCourses.size() + " courses");
+        return filteredCourses;
+    }
+
+    /**
+     * Partition stage: separates sections by type. Only in-person sections participate in schedule
+     * generation; online and TBD ones are shown alongside every schedule.
+     */
+    private ScheduleResult partition(List<Course> filteredCourses, ScheduleRequest request, SchedulePreferencesForm form) {
+        List<Section> onlineSections = new ArrayList<>();
+        List<Section> tbdSections = new ArrayList<>();
+        List<Course> inPersonCourses = new ArrayList<>();
+
+        for (Course course : filteredCourses) {
+            List<Section> inPersonSections = new ArrayList<>();
+            for (Section section : course.getSections()) {
+                if (section.getSectionType() == SectionType.ONLINE) {
+                    // Collect online sections separately
+                    onlineSections.add(section);
+                } else if (section.getSectionType() == SectionType.TBD) {
+                    // Collect TBD sections separately
+                    tbdSections.add(section);
+                } else if (section.isSchedulable()) {
+                    // Keep schedulable in-person sections for schedule generation
+                    inPersonSections.add(section);
+                }
+            }
+
+            // Only add course if it has in-person sections
+            if (!inPersonSections.isEmpty()) {
+                inPersonCourses.add(withSections(course, inPersonSections));
+            }
+        }
+
+        logger.info("Separated " + onlineSections.size() + " online sections and " + tbdSections.size() + " TBD sections from schedule generation");
+        logger.info("Using " + inPersonCourses.size() + " in-person courses for schedule generation");
+
+        // Automatic generation only keeps unique schedules; otherwise it's up to the preferences, default off
+        boolean uniqueSchedulesOnly = request.autoGenerated() || (form != null && form.isUniqueSchedulesOnly());
+        return new ScheduleResult(inPersonCourses, onlineSections, tbdSections, toSchedulePreferences(form),
+                uniqueSchedulesOnly, GeneratedSchedules.encode(inPersonCourses, List.of()));
+    }
+
+    /**
+     * The schedule preferences a request's schedules are ranked by, or null if it has none.
+     */
+    public SchedulePreferences preferencesFor(ScheduleRequest request) {
+        return request.autoGenerated() ? null : toSchedulePreferences(request.preferences());
+    }
+
+    private static SchedulePreferences toSchedulePreferences(SchedulePreferencesForm form) {
+        if (form == null) {
+            return null;
+        }
+
+        SchedulePreferences schedulePreferences = form.toSchedulePreferences();
+        logger.info("Schedule preferences: " + schedulePreferences);
+        return schedulePreferences;
+    }
+
+    /**
+     * Apply selected section filtering to courses
+     * Only include sections that are explicitly selected for each course
+     */
+    private List<Course> applySelectedSections(List<Course> courses, Map<String, List<String>> selectedSections) {
+        List<Course> filteredCourses = new ArrayList<>();
+
+        for (Course course : courses) {
+            List<String> courseSections = selectedSections.get(course.getCourseId());
+
+            if (courseSections != null && !courseSections.isEmpty()) {
+                // Course has selected sections - filter to only include those
+                // Section IDs are in format "courseId-sectionNumber"
+                Set<String> selectedSectionNumbers = new HashSet<>();
+                courseSections.forEach(sectionId -> {
+                    // Extract section number from "courseId-sectionNumber" format
+                    int lastDash = sectionId.lastIndexOf('-');
+                    if (lastDash > 0) {
+                        selectedSectionNumbers.add(sectionId.substring(lastDash + 1));
+                    }
+                });
+
+                List<Section> filteredSections = course.getSections().stream()
+                    .filter(section -> selectedSectionNumbers.contains(section.getSectionNumber()))
+                    .collect(java.util.stream.Collectors.toList());
+
+                if (!filteredSections.isEmpty()) {
+                    filteredCourses.add(withSections(course, filteredSections));
+                    logger.info("Filtered " + course.getCourseId() + " to " + filteredSections.size() + " selected sections");
+                }
+            } else {
+                // No filtering for this course - include all sections
+                filteredCourses.add(course);
+            }
+        }
+
+        return filteredCourses;
+    }
+
+    /**
+     * Returns the course restricted to the given sections. Courses come from the shared catalog, so
+     * when the filter kept every section the original is reused instead of copied.
+     */
+    private static Course withSections(Course course, List<Section> sections) {
+        if (sections.size() == course.getSections().size()) {
+            return course;
+        }
+        return new Course(course.getCourseId(), course.getCourseName(), course.getDescription(), sections);
+    }
+
+    /**
+     * Apply instructor preferences to filter course sections
+     * Focus on Lecture/Studio instructors but apply filtering to other formats when possible
+     */
+    private List<Course> applyInstructorPreferences(List<Course> courses, Map<String, List<String>> instructorPreferences) {
+        if (instructorPreferences == null) {
+            return courses; // No preferences, return all courses unchanged
+        }
+        
+        List<Course> filteredCourses = new ArrayList<>();
+        
+        for (Course course : courses) {
+            List<String> coursePrefs = instructorPreferences.get(course.getCourseId());
+            
+            if (coursePrefs != null && !coursePrefs.isEmpty()) {
+                // Course has instructor preferences - filter sections
+                // Compare instructor IDs rather than names
+                BitSet preferredInstructors = new BitSet();
+                coursePrefs.forEach(name -> {
+                    int instructorId = Section.findInstructorId(name);
+                    if (instructorId >= 0) {
+                        preferredInstructors.set(instructorId);
+                    }
+                });
+                
+                List<Section> filteredSections = new ArrayList<>();
+                
+                for (Section section : course.getSections()) {
+                    // Apply filtering logic based on format priority
+                    String format = section.getInstructionalFormat();
+                    String instructor = section.getInstructor();
+                    
+                    if (format != null && instructor != null && !instructor.equals("N/A")) {
+                        // Always include preferred instructors regardless of format
+                        if (preferredInstructors.get(section.getInstructorId())) {
+                            filteredSections.add(section);
+                        }
+                        // For primary formats (Lecture/Studio) - include non-preferred only if no preferred options exist
+                        else if (format.equalsIgnoreCase("Lecture") || format.equalsIgnoreCase("Studio")) {
+                            // Check if any preferred instructors teach this specific primary format
+                            boolean hasPreferredForPrimaryFormat = course.getSections().stream()
+                                .anyMatch(s -> s.getInstructionalFormat() != null && 
+                                             s.getInstructionalFormat().equals(format) &&
+                                             s.getInstructorId() >= 0 &&
+                                             preferredInstructors.get(s.getInstructorId()));
+                            
+                            // If no preferred instructors teach this primary format, include all sections of this format
+                            if (!hasPreferredForPrimaryFormat) {
+                                filteredSections.add(section);
+                            }
+                        }
+                        // Other formats - include non-preferred only if no preferred options exist for this format
+                        else {
+                            // Check if any preferred instructors teach this format
+                            boolean hasPreferredForThisFormat = course.getSections().stream()
+                                .anyMatch(s -> s.getInstructionalFormat() != null && 
+                                             s.getInstructionalFormat().equals(format) &&
+                                             s.getInstructorId() >= 0 &&
+                                             preferredInstructors.get(s.getInstructorId()));
+                            
+                            // If no preferred instructors teach this format, include all sections of this format
+                            if (!hasPreferredForThisFormat) {
+                                filteredSections.add(section);
+                            }
+                        }
+                    } else {
+                        // No instructor info or N/A - always include
+                        filteredSections.add(section);
+                    }
+                }
+                
+                // Only add course if it has sections after filtering
+                if (!filteredSections.isEmpty()) {
+                    filteredCourses.add(withSections(course, filteredSections));
+                }
+            } else {
+                // No preferences for this course - include all sections
+                filteredCourses.add(course);
+            }
+        }
+        
+        return filteredCourses;
+    }
+}
@@ -0,0 +1,530 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import com.schedulebuilder.class_scheduler.util.SectionFields;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Encodes session attributes for a {@link SessionStore}. The schedule attributes (course and
+ * section lists, generated schedules, schedule requests) share one string table, one section
+ * table and one course table, so a section that appears in the course list, the selected sections
+ * and a filtered schedule course is written once and comes back as one instance.
+ *
+ * <p>Sections are written as references (academic period, course ID, section number) and resolved
+ * to the {@link CanonicalCatalog} instances on read, so loaded sessions share sections with the
+ * catalog and see its current seat counts. Their fields are stored as well, as primitives the same
+ * way {@link CatalogFileStore} stores them, and only used when the catalog doesn't have the section
+ * (e.g. right after a restart). Courses resolve the same way when their section list is unchanged.
+ *
+ * <p>Strings and integers are written inline; anything else that is {@link Serializable} (e.g.
+ * Spring's flash maps) falls back to Java serialization, restricted on read to JDK and Spring web
+ * classes.
+ */
+@Service
+public class SessionAttributeCodec {
+
+    private static final Logger logger = Logger.getLogger(SessionAttributeCodec.class.getName());
+    private static final int VERSION = 3;
+    private static final int NO_STRING = -1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_COURSES = 3;
+    private static final byte TYPE_SECTIONS = 4;
+    private static final byte TYPE_SCHEDULES = 5;
+    private static final byte TYPE_SCHEDULE_REQUEST = 6;
+    private static final byte TYPE_SERIALIZED = 7;
+
+    private static final ObjectInputFilter SERIALIZED_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;java.base/*;org.springframework.web.servlet.FlashMap;org.springframework.util.*;!*");
+
+    private final CanonicalCatalog canonicalCatalog;
+
+    public SessionAttributeCodec(CanonicalCatalog canonicalCatalog) {
+        this.canonicalCatalog = canonicalCatalog;
+    }
+
+    public byte[] encode(Map<String, Object> attributes) throws IOException {
+        Tables tables = new Tables();
+        List<Object[]> encoded = new ArrayList<>(attributes.size());
+
+        // Collect every string, section and course first so the tables can precede the attributes
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            Object value = attribute.getValue();
+            byte type = typeOf(value);
+            if (type == 0) {
+                logger.warning("Not persisting session attribute " + attribute.getKey() + " of type " + value.getClass().getName());
+                continue;
+            }
+            encoded.add(new Object[] {tables.string(attribute.getKey()), type, tables.collect(type, value)});
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(VERSION);
+        tables.write(out);
+
+        out.writeShort(encoded.size());
+        for (Object[] attribute : encoded) {
+            out.writeInt((Integer) attribute[0]);
+            out.writeByte((Byte) attribute[1]);
+            writeValue(out, (Byte) attribute[1], attribute[2], tables);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public Map<String, Object> decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported session encoding version " + version);
+        }
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] utf8 = new byte[in.readInt()];
+            in.readFully(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+        Section[] sections = readSections(in, strings);
+        Course[] courses = new Course[in.readInt()];
+        for (int i = 0; i < courses.length; i++) {
+            String courseId = strings[in.readInt()];
+            String courseName = strings[in.readInt()];
+            String description = strings[in.readInt()];
+            List<Section> courseSections = new ArrayList<>(readRefs(in, sections));
+            Course canonical = findCanonicalCourse(courseId, courseSections);
+            courses[i] = canonical != null ? canonical : new Course(courseId, courseName, description, courseSections);
+        }
+
+        int count = in.readUnsignedShort();
+        Map<String, Object> attributes = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String name = strings[in.readInt()];
+            byte type = in.readByte();
+            attributes.put(name, readValue(in, type, strings, sections, courses));
+        }
+        return attributes;
+    }
+
+    private static byte typeOf(Object value) {
+        if (value instanceof String) {
+            return TYPE_STRING;
+        } else if (value instanceof Integer) {
+            return TYPE_INTEGER;
+        } else if (value instanceof GeneratedSchedules) {
+            return TYPE_SCHEDULES;
+        } else if (value instanceof ScheduleRequest) {
+            return TYPE_SCHEDULE_REQUEST;
+        } else if (value instanceof List<?> list && !list.isEmpty() && list.stream().allMatch(Course.class::isInstance)) {
+            return TYPE_COURSES;
+        } else if (value instanceof List<?> list && !list.isEmpty() && list.stream().allMatch(Section.class::isInstance)) {
+            return TYPE_SECTIONS;
+        } else if (value instanceof Serializable) {
+            return TYPE_SERIALIZED;
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(DataOutputStream out, byte type, Object value, Tables tables) throws IOException {
+        switch (type) {
+            case TYPE_STRING -> out.writeInt(tables.string((String) value));
+            case TYPE_INTEGER -> out.writeInt((Integer) value);
+            case TYPE_COURSES -> writeRefs(out, (List<Course>) value, tables.courseRefs);
+            case TYPE_SECTIONS -> writeRefs(out, (List<Section>) value, tables.sectionRefs);
+            case TYPE_SCHEDULES -> {
+                GeneratedSchedules schedules = (GeneratedSchedules) value;
+                writeRefs(out, schedules.getCourses(), tables.courseRefs);
+                out.writeInt(schedules.size());
+                for (short slot : schedules.getRows()) {
+                    out.writeShort(slot);
+                }
+            }
+            case TYPE_SCHEDULE_REQUEST -> {
+                ScheduleRequest request = (ScheduleRequest) value;
+                out.writeInt(tables.string(request.academicPeriodId()));
+                out.writeShort(request.courseIds().size());
+                for (String courseId : request.courseIds()) {
+                    out.writeInt(tables.string(courseId));
+                }
+                writePreferences(out, request.preferences(), tables);
+                writeByCourse(out, request.instructorPreferences(), tables);
+                writeByCourse(out, request.selectedSections(), tables);
+                out.writeBoolean(request.autoGenerated());
+            }
+            default -> {
+                byte[] serialized = (byte[]) tables.serialized.get(value);
+                out.writeInt(serialized.length);
+                out.write(serialized);
+            }
+        }
+    }
+
+    private static Object readValue(DataInputStream in, byte type, String[] strings, Section[] sections, Course[] courses)
+            throws IOException {
+        switch (type) {
+            case TYPE_STRING:
+                return strings[in.readInt()];
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_COURSES:
+                // Session lists are mutated in place (e.g. removing a course), so hand out mutable copies
+                return new ArrayList<>(readRefs(in, courses));
+            case TYPE_SECTIONS:
+                return new ArrayList<>(readRefs(in, sections));
+            case TYPE_SCHEDULES: {
+                List<Course> scheduleCourses = readRefs(in, courses);
+                int size = in.readInt();
+                short[] rows = new short[size * scheduleCourses.size() * GeneratedSchedules.SLOTS_PER_COURSE];
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = in.readShort();
+                }
+                return GeneratedSchedules.fromRows(scheduleCourses, rows, size);
+            }
+            case TYPE_SCHEDULE_REQUEST: {
+                String academicPeriodId = strings[in.readInt()];
+                int courseCount = in.readUnsignedShort();
+                List<String> courseIds = new ArrayList<>(courseCount);
+                for (int i = 0; i < courseCount; i++) {
+                    courseIds.add(strings[in.readInt()]);
+                }
+                SchedulePreferencesForm preferences = readPreferences(in, strings);
+                Map<String, List<String>> instructorPreferences = readByCourse(in, strings);
+                Map<String, List<String>> selectedSections = readByCourse(in, strings);
+                return new ScheduleRequest(academicPeriodId, courseIds, preferences, instructorPreferences,
+                        selectedSections, in.readBoolean());
+            }
+            case TYPE_SERIALIZED: {
+                byte[] serialized = new byte[in.readInt()];
+                in.readFully(serialized);
+                try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                    objects.setObjectInputFilter(SERIALIZED_FILTER);
+                    return objects.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Unknown class in session attribute", e);
+                }
+            }
+            default:
+                throw new IOException("Unknown session attribute type " + type);
+        }
+    }
+
+    private Section[] readSections(DataInputStream in, String[] strings) throws IOException {
+        SectionType[] types = SectionType.values();
+        Section[] sections = new Section[in.readInt()];
+        for (int i = 0; i < sections.length; i++) {
+            String academicPeriodId = optionalString(strings, in.readInt());
+            String courseId = strings[in.readInt()];
+            String sectionNumber = strings[in.readInt()];
+            String instructor = strings[in.readInt()];
+            String location = strings[in.readInt()];
+            String format = strings[in.readInt()];
+            String deliveryMode = strings[in.readInt()];
+            String description = optionalString(strings, in.readInt());
+            int openSeats = in.readInt();
+            byte sectionType = in.readByte();
+
+            short startMinutes = in.readShort();
+            int timeStartText = in.readInt();
+            short endMinutes = in.readShort();
+            int timeEndText = in.readInt();
+            byte dayMask = in.readByte();
+            int daysText = in.readInt();
+            short creditsTenths = in.readShort();
+            int creditsText = in.readInt();
+
+            Section canonical = academicPeriodId != null
+                    ? canonicalCatalog.findSection(academicPeriodId, courseId, sectionNumber)
+                    : null;
+            if (canonical != null) {
+                sections[i] = canonical;
+                continue;
+            }
+
+            String timeStart = timeStartText != NO_STRING ? strings[timeStartText] : SectionFields.formatMinutes(startMinutes);
+            String timeEnd = timeEndText != NO_STRING ? strings[timeEndText] : SectionFields.formatMinutes(endMinutes);
+            String days = daysText != NO_STRING ? strings[daysText] : SectionFields.formatDayMask(dayMask);
+            String credits = creditsText != NO_STRING ? strings[creditsText] : SectionFields.formatCredits(creditsTenths);
+
+            sections[i] = new Section(days, openSeats, instructor, courseId, timeStart, timeEnd, sectionNumber,
+                    format, location, deliveryMode, credits, sectionType >= 0 ? types[sectionType] : null, description);
+        }
+        return sections;
+    }
+
+    // The catalog's course, if its sections are exactly the (already resolved) stored ones
+    private Course findCanonicalCourse(String courseId, List<Section> courseSections) {
+        if (courseSections.isEmpty()) {
+            return null;
+        }
+        String academicPeriodId = canonicalCatalog.findPeriod(courseSections.get(0));
+        Course canonical = academicPeriodId != null ? canonicalCatalog.findCourse(academicPeriodId, courseId) : null;
+        return canonical != null && canonical.getSections().equals(courseSections) ? canonical : null;
+    }
+
+    private static <T> void writeRefs(DataOutputStream out, List<T> values, Map<T, Integer> refs) throws IOException {
+        out.writeInt(values.size());
+        for (T value : values) {
+            out.writeInt(refs.get(value));
+        }
+    }
+
+    private static <T> List<T> readRefs(DataInputStream in, T[] table) throws IOException {
+        int count = in.readInt();
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(table[in.readInt()]);
+        }
+        return values;
+    }
+
+    private static String optionalString(String[] strings, int ref) {
+        return ref != NO_STRING ? strings[ref] : null;
+    }
+
+    private static void writePreferences(DataOutputStream out, SchedulePreferencesForm preferences, Tables tables)
+            throws IOException {
+        out.writeBoolean(preferences != null);
+        if (preferences == null) {
+            return;
+        }
+        List<String> preferredDays = preferences.preferredDays();
+        out.writeInt(preferredDays != null ? preferredDays.size() : -1);
+        if (preferredDays != null) {
+            writeStrings(out, preferredDays, tables);
+        }
+        out.writeInt(tables.optionalString(preferences.timePreference()));
+        out.writeInt(tables.optionalString(preferences.gapPreference()));
+        out.writeInt(tables.optionalString(preferences.scheduleStyle()));
+        Boolean uniqueSchedulesOnly = preferences.uniqueSchedulesOnly();
+        out.writeByte(uniqueSchedulesOnly == null ? -1 : uniqueSchedulesOnly ? 1 : 0);
+    }
+
+    private static SchedulePreferencesForm readPreferences(DataInputStream in, String[] strings) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int dayCount = in.readInt();
+        List<String> preferredDays = dayCount >= 0 ? readStrings(in, strings, dayCount) : null;
+        String timePreference = optionalString(strings, in.readInt());
+        String gapPreference = optionalString(strings, in.readInt());
+        String scheduleStyle = optionalString(strings, in.readInt());
+        byte uniqueSchedulesOnly = in.readByte();
+        return new SchedulePreferencesForm(preferredDays, timePreference, gapPreference, scheduleStyle,
+                uniqueSchedulesOnly < 0 ? null : uniqueSchedulesOnly == 1);
+    }
+
+    // A schedule request treats an absent map like an empty one, so both are written as no entries
+    private static void writeByCourse(DataOutputStream out, Map<String, List<String>> byCourse, Tables tables)
+            throws IOException {
+        out.writeInt(byCourse != null ? byCourse.size() : 0);
+        if (byCourse != null) {
+            for (Map.Entry<String, List<String>> entry : byCourse.entrySet()) {
+                out.writeInt(tables.string(entry.getKey()));
+                out.writeInt(entry.getValue().size());
+                writeStrings(out, entry.getValue(), tables);
+            }
+        }
+    }
+
+    private static Map<String, List<String>> readByCourse(DataInputStream in, String[] strings) throws IOException {
+        int count = in.readInt();
+        Map<String, List<String>> byCourse = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String courseId = strings[in.readInt()];
+            byCourse.put(courseId, readStrings(in, strings, in.readInt()));
+        }
+        return byCourse;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values, Tables tables) throws IOException {
+        for (String value : values) {
+            out.writeInt(tables.string(value));
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in, String[] strings, int count) throws IOException {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(strings[in.readInt()]);
+        }
+        return values;
+    }
+
+    // String, section and course tables for one encoding pass; sections and courses are keyed by identity
+    private final class Tables {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<Section, Integer> sectionRefs = new IdentityHashMap<>();
+        private final List<Section> sections = new ArrayList<>();
+        private final Map<Section, String> sectionPeriods = new IdentityHashMap<>();
+        private final Map<Course, Integer> courseRefs = new IdentityHashMap<>();
+        private final List<Course> courses = new ArrayList<>();
+        private final Map<Object, Object> serialized = new IdentityHashMap<>();
+
+        int string(String value) {
+            return strings.computeIfAbsent(value != null ? value : "", key -> strings.size());
+        }
+
+        int optionalString(String value) {
+            return value != null ? string(value) : NO_STRING;
+        }
+
+        @SuppressWarnings("unchecked")
+        Object collect(byte type, Object value) throws IOException {
+            switch (type) {
+                case TYPE_STRING -> string((String) value);
+                case TYPE_COURSES -> ((List<Course>) value).forEach(this::course);
+                case TYPE_SECTIONS -> ((List<Section>) value).forEach(this::section);
+                case TYPE_SCHEDULES -> ((GeneratedSchedules) value).getCourses().forEach(this::course);
+                case TYPE_SCHEDULE_REQUEST -> {
+                    ScheduleRequest request = (ScheduleRequest) value;
+                    string(request.academicPeriodId());
+                    request.courseIds().forEach(this::string);
+                    preferences(request.preferences());
+                    byCourse(request.instructorPreferences());
+                    byCourse(request.selectedSections());
+                }
+                case TYPE_SERIALIZED -> {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+                        objects.writeObject(value);
+                    }
+                    serialized.put(value, bytes.toByteArray());
+                }
+                default -> {
+                }
+            }
+            return value;
+        }
+
+        private void preferences(SchedulePreferencesForm preferences) {
+            if (preferences != null) {
+                if (preferences.preferredDays() != null) {
+                    preferences.preferredDays().forEach(this::string);
+                }
+                optionalString(preferences.timePreference());
+                optionalString(preferences.gapPreference());
+                optionalString(preferences.scheduleStyle());
+            }
+        }
+
+        private void byCourse(Map<String, List<String>> byCourse) {
+            if (byCourse != null) {
+                byCourse.forEach((courseId, values) -> {
+                    string(courseId);
+                    values.forEach(this::string);
+                });
+            }
+        }
+
+        private void course(Course course) {
+            if (courseRefs.putIfAbsent(course, courses.size()) == null) {
+                courses.add(course);
+                string(course.getCourseId());
+                string(course.getCourseName());
+                string(course.getDescription());
+                course.getSections().forEach(this::section);
+            }
+        }
+
+        private void section(Section section) {
+            if (sectionRefs.putIfAbsent(section, sections.size()) == null) {
+                sections.add(section);
+                String academicPeriodId = canonicalCatalog.findPeriod(section);
+                sectionPeriods.put(section, academicPeriodId);
+                optionalString(academicPeriodId);
+                string(section.getCourseId());
+                string(section.getSectionNumber());
+                string(section.getInstructor());
+                string(section.getLocation());
+                string(section.getInstructionalFormat());
+                string(section.getDeliveryMode());
+                optionalString(section.getDescription());
+                timeText(section.getTimeStart());
+                timeText(section.getTimeEnd());
+                daysText(section.getDaysOfTheWeek());
+                creditsText(section.getCredits());
+            }
+        }
+
+        // The original text is only kept when it can't be reproduced from the primitive
+        private int timeText(String time) {
+            int minutes = SectionFields.parseMinutes(time);
+            return minutes >= 0 && SectionFields.formatMinutes(minutes).equals(time) ? NO_STRING : string(time);
+        }
+
+        private int daysText(String days) {
+            int mask = SectionFields.parseDayMask(days);
+            return mask >= 0 && SectionFields.formatDayMask(mask).equals(days) ? NO_STRING : string(days);
+        }
+
+        private int creditsText(String credits) {
+            int tenths = SectionFields.parseCreditsTenths(credits);
+            return tenths >= 0 && SectionFields.formatCredits(tenths).equals(credits) ? NO_STRING : string(credits);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+
+            out.writeInt(sections.size());
+            for (Section section : sections) {
+                out.writeInt(optionalString(sectionPeriods.get(section)));
+                out.writeInt(string(section.getCourseId()));
+                out.writeInt(string(section.getSectionNumber()));
+                out.writeInt(string(section.getInstructor()));
+                out.writeInt(string(section.getLocation()));
+                out.writeInt(string(section.getInstructionalFormat()));
+                out.writeInt(string(section.getDeliveryMode()));
+                out.writeInt(optionalString(section.getDescription()));
+                out.writeInt(section.getOpenSeats());
+                out.writeByte(section.getSectionType() != null ? section.getSectionType().ordinal() : -1);
+
+                out.writeShort(SectionFields.parseMinutes(section.getTimeStart()));
+                out.writeInt(timeText(section.getTimeStart()));
+                out.writeShort(SectionFields.parseMinutes(section.getTimeEnd()));
+                out.writeInt(timeText(section.getTimeEnd()));
+                out.writeByte(SectionFields.parseDayMask(section.getDaysOfTheWeek()));
+                out.writeInt(daysText(section.getDaysOfTheWeek()));
+                out.writeShort(SectionFields.parseCreditsTenths(section.getCredits()));
+                out.writeInt(creditsText(section.getCredits()));
+            }
+
+            out.writeInt(courses.size());
+            for (Course course : courses) {
+                out.writeInt(string(course.getCourseId()));
+                out.writeInt(string(course.getCourseName()));
+                out.writeInt(string(course.getDescription()));
+                writeRefs(out, course.getSections(), sectionRefs);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.schedulebuilder.class_scheduler.service;
+
+/**
+ * Storage for user sessions outside the servlet container, so they survive restarts and don't
+ * occupy the heap between requests. Sessions are opaque byte payloads here; encoding attributes
+ * is {@link SessionAttributeCodec}'s job, so a backend only has to store and expire blobs.
+ */
+public interface SessionStore {
+
+    /**
+     * @return The session, or null if it doesn't exist or has expired.
+     */
+    StoredSession load(String sessionId);
+
+    void save(String sessionId, StoredSession session);
+
+    /**
+     * Records an access to an unchanged session, pushing back its expiry.
+     */
+    void touch(String sessionId, long lastAccessedTime);
+
+    void delete(String sessionId);
+
+    /**
+     * Removes every expired session.
+     */
+    void purgeExpired();
+
+    /**
+     * A persisted session.
+     *
+     * @param creationTime       When the session was created, in epoch milliseconds.
+     * @param lastAccessedTime   When the session was last used, in epoch milliseconds.
+     * @param maxInactiveSeconds How long the session lives without being used; 0 or less never expires.
+     * @param attributes         The encoded session attributes.
+     */
+    record StoredSession(long creationTime, long lastAccessedTime, int maxInactiveSeconds, byte[] attributes) {
+
+        public boolean isExpired(long now) {
+            return maxInactiveSeconds > 0 && now - lastAccessedTime > maxInactiveSeconds * 1000L;
+        }
+    }
+}
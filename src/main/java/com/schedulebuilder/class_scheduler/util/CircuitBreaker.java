@@ -0,0 +1,149 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failures in a row the
+ * circuit opens and calls fail immediately with {@link CircuitOpenException}. Once the open
+ * period has passed, a single probe call is let through (half-open): success closes the circuit,
+ * failure opens it again for another full period.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = Logger.getLogger(CircuitBreaker.class.getName());
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Predicate<Throwable> isFailure;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param name             Name used in log messages and exceptions.
+     * @param failureThreshold Consecutive failures that open the circuit.
+     * @param openMillis       How long the circuit stays open before a probe is allowed.
+     * @param isFailure        Which exceptions count as failures (e.g. not client errors).
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, Predicate<Throwable> isFailure) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.isFailure = isFailure;
+    }
+
+    /**
+     * Runs the action through the breaker.
+     *
+     * @throws CircuitOpenException If the circuit is open or another probe is already in flight.
+     */
+    public <T> T call(Supplier<T> action) {
+        boolean probe = acquire();
+        try {
+            T result = action.get();
+            onSuccess();
+            return result;
+        } catch (Throwable e) {
+            // Errors too, or a failed probe would stay in flight and keep the circuit open for good
+            onFailure(e, probe);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs an asynchronous action through the breaker; the outcome is recorded when its future completes.
+     *
+     * @return The action's future, or a future failed with {@link CircuitOpenException} if the circuit is open.
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> action) {
+        boolean probe;
+        CompletableFuture<T> result;
+        try {
+            probe = acquire();
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            result = action.get();
+        } catch (Throwable e) {
+            onFailure(e, probe);
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, error) -> {
+            if (error == null) {
+                onSuccess();
+            } else {
+                onFailure(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error, probe);
+            }
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized boolean acquire() {
+        switch (state) {
+            case CLOSED:
+                return false;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    throw new CircuitOpenException(name);
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                logger.info("Circuit " + name + " half-open, probing upstream");
+                return true;
+            default:
+                if (probeInFlight) {
+                    throw new CircuitOpenException(name);
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("Circuit " + name + " closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    private synchronized void onFailure(Throwable e, boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+        }
+        if (!isFailure.test(e)) {
+            // Not the upstream's fault (e.g. a bad request); the next call gets to probe instead
+            return;
+        }
+
+        consecutiveFailures++;
+        if (probe || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            logger.warning("Circuit " + name + " opened after " + consecutiveFailures + " consecutive failures: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Thrown instead of calling upstream while the circuit is open.
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String name) {
+            super("Circuit " + name + " is open");
+        }
+    }
+}
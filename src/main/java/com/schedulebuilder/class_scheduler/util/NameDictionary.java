@@ -0,0 +1,67 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only mapping between names (instructors, locations) and small integer IDs, so sections
+ * can store and compare an int instead of holding their own copy of each name. IDs are never
+ * reused, which is fine for catalog names: there are a few thousand distinct values at most.
+ */
+public final class NameDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[256];
+    private int size;
+
+    /**
+     * Returns the ID for a name, assigning the next free one on first use.
+     *
+     * @return The ID, or -1 for null.
+     */
+    public int idOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * Returns the ID of a name that has already been registered, without registering it.
+     *
+     * @return The ID, or -1 if the name has never been seen.
+     */
+    public int find(String name) {
+        Integer id = name != null ? ids.get(name) : null;
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the name for an ID from {@link #idOf}, or null for -1.
+     */
+    public String nameOf(int id) {
+        return id < 0 ? null : names[id];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized int register(String name) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        String[] current = names;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[size] = name;
+        // Publish the array before the ID so readers never see an ID they can't resolve
+        names = current;
+        ids.put(name, size);
+        return size++;
+    }
+}
@@ -0,0 +1,201 @@
+package com.schedulebuilder.class_scheduler.util;
+
+/**
+ * Conversions between the display strings stored on sections ("1:10 PM", "Mon,Wed,Fri", "3")
+ * and compact primitive forms (minutes since midnight, day bitmasks, credits in tenths).
+ * Every parse method returns -1 for values that have no primitive form, such as "TBD" or "Online".
+ */
+public final class SectionFields {
+
+    public static final int MONDAY = 1;
+    public static final int TUESDAY = 1 << 1;
+    public static final int WEDNESDAY = 1 << 2;
+    public static final int THURSDAY = 1 << 3;
+    public static final int FRIDAY = 1 << 4;
+    public static final int SATURDAY = 1 << 5;
+    public static final int SUNDAY = 1 << 6;
+
+    // Order matches the bit positions above
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    // Formatted values are shared so sections can render their primitive fields without allocating
+    private static final String[] DAY_MASK_TEXT = new String[1 << DAY_NAMES.length];
+    private static final String[] MINUTES_TEXT = new String[24 * 60];
+    private static final String[] CREDITS_TEXT = new String[256];
+
+    static {
+        for (int mask = 0; mask < DAY_MASK_TEXT.length; mask++) {
+            DAY_MASK_TEXT[mask] = buildDayMaskText(mask);
+        }
+        for (int minutes = 0; minutes < MINUTES_TEXT.length; minutes++) {
+            MINUTES_TEXT[minutes] = buildMinutesText(minutes);
+        }
+        for (int tenths = 0; tenths < CREDITS_TEXT.length; tenths++) {
+            CREDITS_TEXT[tenths] = buildCreditsText(tenths);
+        }
+    }
+
+    private SectionFields() {
+    }
+
+    /**
+     * Parses a 12-hour clock time such as "1:10 PM".
+     *
+     * @return Minutes since midnight, or -1 if the value isn't a clock time.
+     */
+    public static int parseMinutes(String time) {
+        if (time == null) {
+            return -1;
+        }
+
+        String[] parts = time.trim().split(" ");
+        if (parts.length != 2) {
+            return -1;
+        }
+
+        String[] timeParts = parts[0].split(":");
+        if (timeParts.length != 2) {
+            return -1;
+        }
+
+        int hours;
+        int minutes;
+        try {
+            hours = Integer.parseInt(timeParts[0]);
+            minutes = Integer.parseInt(timeParts[1]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+
+        if (hours < 1 || hours > 12 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+
+        String period = parts[1].toUpperCase();
+        if ("PM".equals(period) && hours != 12) {
+            hours += 12;
+        } else if ("AM".equals(period) && hours == 12) {
+            hours = 0;
+        } else if (!"AM".equals(period) && !"PM".equals(period)) {
+            return -1;
+        }
+
+        return hours * 60 + minutes;
+    }
+
+    /**
+     * Formats minutes since midnight the way the upstream API does, e.g. 790 -> "1:10 PM".
+     */
+    public static String formatMinutes(int minutesSinceMidnight) {
+        if (minutesSinceMidnight >= 0 && minutesSinceMidnight < MINUTES_TEXT.length) {
+            return MINUTES_TEXT[minutesSinceMidnight];
+        }
+        return buildMinutesText(minutesSinceMidnight);
+    }
+
+    private static String buildMinutesText(int minutesSinceMidnight) {
+        int hours = minutesSinceMidnight / 60;
+        int minutes = minutesSinceMidnight % 60;
+        String period = hours >= 12 ? "PM" : "AM";
+        int displayHours = hours % 12 == 0 ? 12 : hours % 12;
+        return displayHours + ":" + (minutes < 10 ? "0" : "") + minutes + " " + period;
+    }
+
+    /**
+     * Parses a comma-separated day list such as "Mon,Wed,Fri".
+     *
+     * @return A bitmask of the day constants, or -1 if any entry isn't a day.
+     */
+    public static int parseDayMask(String days) {
+        if (days == null || days.isEmpty()) {
+            return -1;
+        }
+
+        int mask = 0;
+        for (String day : days.split(",")) {
+            int bit = dayBit(day.trim());
+            if (bit == 0) {
+                return -1;
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Formats a day bitmask in week order, e.g. MONDAY | FRIDAY -> "Mon,Fri".
+     */
+    public static String formatDayMask(int mask) {
+        if (mask >= 0 && mask < DAY_MASK_TEXT.length) {
+            return DAY_MASK_TEXT[mask];
+        }
+        return buildDayMaskText(mask);
+    }
+
+    /**
+     * Returns the short name of the day at a bit position, e.g. 2 -> "Wed".
+     */
+    public static String dayName(int dayIndex) {
+        return DAY_NAMES[dayIndex];
+    }
+
+    public static int dayCount() {
+        return DAY_NAMES.length;
+    }
+
+    private static String buildDayMaskText(int mask) {
+        StringBuilder days = new StringBuilder();
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                if (days.length() > 0) {
+                    days.append(',');
+                }
+                days.append(DAY_NAMES[i]);
+            }
+        }
+        return days.toString();
+    }
+
+    /**
+     * Parses a credit value such as "3" or "4.5" into tenths of a credit.
+     *
+     * @return Credits in tenths, or -1 for ranges and anything else that isn't a plain number.
+     */
+    public static int parseCreditsTenths(String credits) {
+        if (credits == null || credits.isEmpty()) {
+            return -1;
+        }
+        try {
+            double value = Double.parseDouble(credits.trim());
+            if (value < 0 || value > 3000) {
+                return -1;
+            }
+            return (int) Math.round(value * 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Formats credits in tenths without a trailing ".0", e.g. 30 -> "3", 45 -> "4.5".
+     */
+    public static String formatCredits(int tenths) {
+        if (tenths >= 0 && tenths < CREDITS_TEXT.length) {
+            return CREDITS_TEXT[tenths];
+        }
+        return buildCreditsText(tenths);
+    }
+
+    private static String buildCreditsText(int tenths) {
+        return tenths % 10 == 0 ? Integer.toString(tenths / 10) : (tenths / 10) + "." + (tenths % 10);
+    }
+
+    private static int dayBit(String day) {
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            if (DAY_NAMES[i].equals(day)) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader and every caller
+ * that arrives while it is in flight waits on the same future instead of issuing its own request.
+ *
+ * @param <K> The key type.
+ * @param <V> The loaded value type.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the value for the key, sharing the result with any concurrent callers for the same key.
+     *
+     * @param key    The key being loaded.
+     * @param loader Performs the actual load; only invoked by the first caller.
+     * @return The loaded value.
+     */
+    public V execute(K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Errors too, or the callers waiting on this flight would never be released
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}: returns the in-flight future for the key if there
+     * is one, otherwise starts the load. Shares flights with {@link #execute} callers.
+     *
+     * @param key    The key being loaded.
+     * @param loader Starts the actual load; only invoked by the first caller.
+     * @return A future completed with the loaded value.
+     */
+    public CompletableFuture<V> executeAsync(K key, Function<K, CompletableFuture<V>> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            loader.apply(key).whenComplete((value, error) -> {
+                inFlight.remove(key, created);
+                if (error != null) {
+                    created.completeExceptionally(unwrap(error));
+                } else {
+                    created.complete(value);
+                }
+            });
+        } catch (Throwable e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.schedulebuilder.class_scheduler.util;
+
+/**
+ * Fixed-size deduplication table for strings that repeat across parses (course IDs, section
+ * numbers, delivery modes). Each value hashes to one slot; a colliding value simply replaces the
+ * previous one, so the pool never grows and never blocks, and at worst a value isn't shared.
+ */
+public final class StringPool {
+
+    private final String[] table;
+    private final int mask;
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two.
+     */
+    public StringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns a previously seen instance equal to the value, or the value itself.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        // Unsynchronized on purpose: Strings are safely published, and a lost update only costs sharing
+        String existing = table[slot];
+        if (value.equals(existing)) {
+            return existing;
+        }
+        table[slot] = value;
+        return value;
+    }
+}
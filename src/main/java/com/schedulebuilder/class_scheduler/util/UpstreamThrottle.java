@@ -0,0 +1,280 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Client-side limit on how hard we hit an upstream API: a token bucket caps the request rate and
+ * a concurrency limit caps requests in flight. Interactive requests are served before background
+ * ones and have a few concurrency slots reserved for them. Requests that can't be admitted within
+ * their priority's maximum wait fail with {@link ThrottledException} instead of queueing forever.
+ */
+public class UpstreamThrottle {
+
+    public enum Priority { INTERACTIVE, BACKGROUND }
+
+    /**
+     * Receives admission wait times and rejections, e.g. to publish them as metrics.
+     */
+    public interface WaitListener {
+        WaitListener NONE = new WaitListener() {
+            @Override
+            public void onAdmitted(Priority priority, long waitNanos) {
+            }
+
+            @Override
+            public void onRejected(Priority priority) {
+            }
+        };
+
+        void onAdmitted(Priority priority, long waitNanos);
+
+        void onRejected(Priority priority);
+    }
+
+    // Scheduled jobs (catalog refreshes) and cache refresh threads run as background for their duration
+    private static final ThreadLocal<Priority> CURRENT_PRIORITY = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final int maxConcurrent;
+    private final int interactiveReserve;
+    private final long interactiveMaxWaitNanos;
+    private final long backgroundMaxWaitNanos;
+    private final WaitListener waitListener;
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final ArrayDeque<Waiter> interactiveWaiters = new ArrayDeque<>();
+    private final ArrayDeque<Waiter> backgroundWaiters = new ArrayDeque<>();
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+    private int inFlight;
+    private boolean drainScheduled;
+
+    /**
+     * @param requestsPerSecond       Sustained request rate.
+     * @param burst                   Requests that may be sent back-to-back after a quiet period.
+     * @param maxConcurrent           Requests allowed in flight at once.
+     * @param interactiveReserve      Concurrency slots background requests may not use.
+     * @param interactiveMaxWaitMillis How long an interactive request may wait for admission.
+     * @param backgroundMaxWaitMillis  How long a background request may wait for admission.
+     * @param waitListener            Receives wait times and rejections.
+     */
+    public UpstreamThrottle(double requestsPerSecond, int burst, int maxConcurrent, int interactiveReserve,
+                            long interactiveMaxWaitMillis, long backgroundMaxWaitMillis, WaitListener waitListener) {
+        this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.interactiveReserve = Math.min(Math.max(0, interactiveReserve), this.maxConcurrent - 1);
+        this.interactiveMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(interactiveMaxWaitMillis);
+        this.backgroundMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(backgroundMaxWaitMillis);
+        this.waitListener = waitListener;
+        this.tokens = this.burst;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "upstream-throttle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most requests are admitted long before their wait limit; drop their expiry tasks right away
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * The priority upstream calls made from the current thread run at (interactive unless marked otherwise).
+     */
+    public static Priority currentPriority() {
+        return CURRENT_PRIORITY.get();
+    }
+
+    /**
+     * Runs the action with upstream calls on this thread treated as the given priority.
+     */
+    public static <T> T withPriority(Priority priority, Supplier<T> action) {
+        Priority previous = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(priority);
+        try {
+            return action.get();
+        } finally {
+            CURRENT_PRIORITY.set(previous);
+        }
+    }
+
+    /**
+     * Runs the action with upstream calls on this thread treated as the given priority. The previous
+     * priority is restored afterwards, so pooled threads (e.g. the shared scheduler) don't keep it.
+     */
+    public static void runWithPriority(Priority priority, Runnable action) {
+        withPriority(priority, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a blocking upstream call once admitted, waiting at most the priority's maximum wait.
+     *
+     * @throws ThrottledException If the call couldn't be admitted in time.
+     */
+    public <T> T call(Priority priority, Supplier<T> action) {
+        try {
+            acquire(priority).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        try {
+            return action.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Starts an asynchronous upstream call once admitted, without blocking the caller while it waits.
+     */
+    public <T> CompletableFuture<T> callAsync(Priority priority, Supplier<CompletableFuture<T>> action) {
+        return acquire(priority).thenCompose(admitted -> {
+            CompletableFuture<T> result;
+            try {
+                result = action.get();
+            } catch (Throwable e) {
+                // Errors too, or the slot would be lost for good
+                release();
+                return CompletableFuture.failedFuture(e);
+            }
+            return result.whenComplete((value, error) -> release());
+        });
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return interactiveWaiters.size() + backgroundWaiters.size();
+    }
+
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private CompletableFuture<Void> acquire(Priority priority) {
+        Waiter waiter = new Waiter(priority, System.nanoTime());
+        synchronized (this) {
+            (priority == Priority.INTERACTIVE ? interactiveWaiters : backgroundWaiters).add(waiter);
+        }
+        drain();
+
+        if (!waiter.admitted.isDone()) {
+            long maxWait = priority == Priority.INTERACTIVE ? interactiveMaxWaitNanos : backgroundMaxWaitNanos;
+            ScheduledFuture<?> expiry = timer.schedule(() -> expire(waiter), maxWait, TimeUnit.NANOSECONDS);
+            waiter.admitted.whenComplete((admitted, error) -> expiry.cancel(false));
+        }
+        return waiter.admitted;
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    private void expire(Waiter waiter) {
+        boolean removed;
+        synchronized (this) {
+            removed = interactiveWaiters.remove(waiter) || backgroundWaiters.remove(waiter);
+        }
+        if (removed) {
+            waitListener.onRejected(waiter.priority);
+            waiter.admitted.completeExceptionally(new ThrottledException(waiter.priority));
+        }
+    }
+
+    // Admits as many queued requests as tokens and free slots allow, interactive ones first
+    private void drain() {
+        List<Waiter> admitted = new ArrayList<>();
+        long retryInNanos = -1;
+
+        synchronized (this) {
+            refill();
+            while (true) {
+                Waiter next = null;
+                if (!interactiveWaiters.isEmpty() && inFlight < maxConcurrent) {
+                    next = interactiveWaiters.peek();
+                } else if (interactiveWaiters.isEmpty() && !backgroundWaiters.isEmpty()
+                        && inFlight < maxConcurrent - interactiveReserve) {
+                    next = backgroundWaiters.peek();
+                }
+                if (next == null) {
+                    break;
+                }
+                if (tokens < 1) {
+                    // Out of tokens: come back when the next one is due (releases will also retry)
+                    retryInNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                    break;
+                }
+                tokens -= 1;
+                inFlight++;
+                (next.priority == Priority.INTERACTIVE ? interactiveWaiters : backgroundWaiters).poll();
+                admitted.add(next);
+            }
+
+            if (retryInNanos >= 0 && !drainScheduled) {
+                drainScheduled = true;
+            } else {
+                retryInNanos = -1;
+            }
+        }
+
+        if (retryInNanos >= 0) {
+            timer.schedule(() -> {
+                synchronized (this) {
+                    drainScheduled = false;
+                }
+                drain();
+            }, Math.max(1, retryInNanos), TimeUnit.NANOSECONDS);
+        }
+
+        long now = System.nanoTime();
+        for (Waiter waiter : admitted) {
+            waitListener.onAdmitted(waiter.priority, now - waiter.enqueuedAt);
+            waiter.admitted.complete(null);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+
+    private static final class Waiter {
+        private final Priority priority;
+        private final long enqueuedAt;
+        private final CompletableFuture<Void> admitted = new CompletableFuture<>();
+
+        private Waiter(Priority priority, long enqueuedAt) {
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * Thrown when a request waited longer than its priority allows for an upstream slot.
+     */
+    public static class ThrottledException extends RuntimeException {
+        public ThrottledException(Priority priority) {
+            super("Upstream request throttled (" + priority.name().toLowerCase() + " queue wait exceeded)");
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Least-recently-used cache bounded by the total weight of its values rather than the entry count.
+ * Entries expire after a fixed TTL; entries older than the refresh interval are still served while
+ * a reload runs in the background on the supplied executor. Expired entries stay in the cache until
+ * evicted for space, so they can still be served as a last known good value if a reload fails.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class WeightedCache<K, V> {
+
+    private static final Logger logger = Logger.getLogger(WeightedCache.class.getName());
+
+    private final long maxWeight;
+    private final long refreshAfterMillis;
+    private final long expireAfterMillis;
+    private final ToLongFunction<V> weigher;
+    private final Executor refreshExecutor;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+    private long totalWeight;
+
+    public WeightedCache(long maxWeight, long refreshAfterMillis, long expireAfterMillis,
+                         ToLongFunction<V> weigher, Executor refreshExecutor) {
+        this.maxWeight = maxWeight;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.expireAfterMillis = expireAfterMillis;
+        this.weigher = weigher;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the cached value for the key, loading it on a miss or after expiry. A value past its
+     * refresh interval is returned as-is and reloaded in the background. If loading an expired
+     * value fails, the expired value is returned instead.
+     *
+     * @param key    The cache key.
+     * @param loader Loads a fresh value; exceptions propagate (when there is no stale value) and nothing is cached.
+     * @return The cached or freshly loaded value.
+     */
+    public V get(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < expireAfterMillis) {
+                if (age >= refreshAfterMillis) {
+                    scheduleRefresh(key, loader);
+                }
+                return entry.value;
+            }
+        }
+
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException e) {
+            if (entry == null) {
+                throw e;
+            }
+            logger.log(Level.WARNING, "Reload failed for " + key + ", serving last known good value: " + e.getMessage());
+            return entry.value;
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Non-blocking variant of {@link #get}: hits complete immediately, and misses complete when the
+     * loader's future does. Background refreshes run on the loader's own threads.
+     *
+     * @param key    The cache key.
+     * @param loader Starts loading a fresh value.
+     * @return A future completed with the cached or freshly loaded value.
+     */
+    public CompletableFuture<V> getAsync(K key, Function<K, CompletableFuture<V>> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < expireAfterMillis) {
+                if (age >= refreshAfterMillis) {
+                    scheduleAsyncRefresh(key, loader);
+                }
+                return CompletableFuture.completedFuture(entry.value);
+            }
+        }
+
+        CompletableFuture<V> load;
+        try {
+            load = loader.apply(key);
+        } catch (RuntimeException e) {
+            load = CompletableFuture.failedFuture(e);
+        }
+        load = load.thenApply(value -> {
+            put(key, value);
+            return value;
+        });
+        if (entry == null) {
+            return load;
+        }
+
+        return load.exceptionally(e -> {
+            logger.log(Level.WARNING, "Reload failed for " + key + ", serving last known good value: " + e.getMessage());
+            return entry.value;
+        });
+    }
+
+    /**
+     * Returns the cached value if present and not expired, without loading.
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAt >= expireAfterMillis) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (value == null) {
+            return;
+        }
+
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            // Never cache a single value that would flush the whole cache
+            invalidate(key);
+            return;
+        }
+
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight, System.currentTimeMillis()));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+        evict();
+    }
+
+    public synchronized void invalidate(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        // Access order puts the least recently used entries first
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            totalWeight -= iterator.next().getValue().weight;
+            iterator.remove();
+        }
+    }
+
+    private void scheduleRefresh(K key, Function<K, V> loader) {
+        if (!refreshing.add(key)) {
+            return; // A refresh for this key is already running
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    put(key, loader.apply(key));
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Background refresh failed for " + key + ", keeping cached value", e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            logger.log(Level.WARNING, "Could not schedule background refresh for " + key, e);
+        }
+    }
+
+    private void scheduleAsyncRefresh(K key, Function<K, CompletableFuture<V>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        CompletableFuture<V> refresh;
+        try {
+            refresh = loader.apply(key);
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            logger.log(Level.WARNING, "Background refresh failed for " + key + ", keeping cached value", e);
+            return;
+        }
+        refresh.whenComplete((value, error) -> {
+            if (error == null) {
+                put(key, value);
+            } else {
+                logger.log(Level.WARNING, "Background refresh failed for " + key + ", keeping cached value", error);
+            }
+            refreshing.remove(key);
+        });
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long loadedAt;
+
+        private Entry(V value, long weight, long loadedAt) {
+            this.value = value;
+            this.weight = weight;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
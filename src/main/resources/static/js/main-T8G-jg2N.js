@@ -0,0 +1,17 @@
+(function(){const t=document.createElement("link").relList;if(t&&t.supports&&t.supports("modulepreload"))return;for(const r of document.querySelectorAll('link[rel="modulepreload"]'))n(r);new MutationObserver(r=>{for(const i of r)if(i.type==="childList")for(const o of i.addedNodes)o.tagName==="LINK"&&o.rel==="modulepreload"&&n(o)}).observe(document,{childList:!0,subtree:!0});function s(r){const i={};return r.integrity&&(i.integrity=r.integrity),r.referrerPolicy&&(i.referrerPolicy=r.referrerPolicy),r.crossOrigin==="use-credentials"?i.credentials="include":r.crossOrigin==="anonymous"?i.credentials="omit":i.credentials="same-origin",i}function n(r){if(r.ep)return;r.ep=!0;const i=s(r);fetch(r.href,i)}})();/**
+* @vue/shared v3.5.22
+* (c) 2018-present Yuxi (Evan) You and Vue contributors
+* @license MIT
+**/function gr(e){const t=Object.create(null);for(const s of e.split(","))t[s]=1;return s=>s in t}const z={},Pt=[],Ve=()=>{},Pn=()=>!1,Es=e=>e.charCodeAt(0)===111&&e.charCodeAt(1)===110&&(e.charCodeAt(2)>122||e.charCodeAt(2)<97),mr=e=>e.startsWith("onUpdate:"),fe=Object.assign,br=(e,t)=>{const s=e.indexOf(t);s>-1&&e.splice(s,1)},Ui=Object.prototype.hasOwnProperty,W=(e,t)=>Ui.call(e,t),O=Array.isArray,Ct=e=>Qt(e)==="[object Map]",Ot=e=>Qt(e)==="[object Set]",Rr=e=>Qt(e)==="[object Date]",L=e=>typeof e=="function",le=e=>typeof e=="string",$e=e=>typeof e=="symbol",J=e=>e!==null&&typeof e=="object",Cn=e=>(J(e)||L(e))&&L(e.then)&&L(e.catch),Tn=Object.prototype.toString,Qt=e=>Tn.call(e),Wi=e=>Qt(e).slice(8,-1),In=e=>Qt(e)==="[object Object]",yr=e=>le(e)&&e!=="NaN"&&e[0]!=="-"&&""+parseInt(e,10)===e,Bt=gr(",key,ref,ref_for,ref_key,onVnodeBeforeMount,onVnodeMounted,onVnodeBeforeUpdate,onVnodeUpdated,onVnodeBeforeUnmount,onVnodeUnmounted"),Ds=e=>{const t=Object.create(null);return s=>t[s]||(t[s]=e(s))},Vi=/-\w/g,De=Ds(e=>e.replace(Vi,t=>t.slice(1).toUpperCase())),$i=/\B([A-Z])/g,ct=Ds(e=>e.replace($i,"-$1").toLowerCase()),ks=Ds(e=>e.charAt(0).toUpperCase()+e.slice(1)),Vs=Ds(e=>e?`on${ks(e)}`:""),xt=(e,t)=>!Object.is(e,t),ds=(e,...t)=>{for(let s=0;s<e.length;s++)e[s](...t)},Mn=(e,t,s,n=!1)=>{Object.defineProperty(e,t,{configurable:!0,enumerable:!1,writable:n,value:s})},bs=e=>{const t=parseFloat(e);return isNaN(t)?e:t},Ki=e=>{const t=le(e)?Number(e):NaN;return isNaN(t)?e:t};let Lr;const Fs=()=>Lr||(Lr=typeof globalThis<"u"?globalThis:typeof self<"u"?self:typeof window<"u"?window:typeof global<"u"?global:{});function Ze(e){if(O(e)){const t={};for(let s=0;s<e.length;s++){const n=e[s],r=le(n)?zi(n):Ze(n);if(r)for(const i in r)t[i]=r[i]}return t}else if(le(e)||J(e))return e}const qi=/;(?![^(]*\))/g,Ji=/:([^]+)/,Gi=/\/\*[^]*?\*\//g;function zi(e){const t={};return e.replace(Gi,"").split(qi).forEach(s=>{if(s){const n=s.split(Ji);n.length>1&&(t[n[0].trim()]=n[1].trim())}}),t}function ne(e){let t="";if(le(e))t=e;else if(O(e))for(let s=0;s<e.length;s++){const n=ne(e[s]);n&&(t+=n+" ")}else if(J(e))for(const s in e)e[s]&&(t+=s+" ");return t.trim()}const Yi="itemscope,allowfullscreen,formnovalidate,ismap,nomodule,novalidate,readonly",Xi=gr(Yi);function An(e){return!!e||e===""}function Zi(e,t){if(e.length!==t.length)return!1;let s=!0;for(let n=0;s&&n<e.length;n++)s=es(e[n],t[n]);return s}function es(e,t){if(e===t)return!0;let s=Rr(e),n=Rr(t);if(s||n)return s&&n?e.getTime()===t.getTime():!1;if(s=$e(e),n=$e(t),s||n)return e===t;if(s=O(e),n=O(t),s||n)return s&&n?Zi(e,t):!1;if(s=J(e),n=J(t),s||n){if(!s||!n)return!1;const r=Object.keys(e).length,i=Object.keys(t).length;if(r!==i)return!1;for(const o in e){const l=e.hasOwnProperty(o),c=t.hasOwnProperty(o);if(l&&!c||!l&&c||!es(e[o],t[o]))return!1}}return String(e)===String(t)}function xr(e,t){return e.findIndex(s=>es(s,t))}const On=e=>!!(e&&e.__v_isRef===!0),R=e=>le(e)?e:e==null?"":O(e)||J(e)&&(e.toString===Tn||!L(e.toString))?On(e)?R(e.value):JSON.stringify(e,En,2):String(e),En=(e,t)=>On(t)?En(e,t.value):Ct(t)?{[`Map(${t.size})`]:[...t.entries()].reduce((s,[n,r],i)=>(s[$s(n,i)+" =>"]=r,s),{})}:Ot(t)?{[`Set(${t.size})`]:[...t.values()].map(s=>$s(s))}:$e(t)?$s(t):J(t)&&!O(t)&&!In(t)?String(t):t,$s=(e,t="")=>{var s;return $e(e)?`Symbol(${(s=e.description)!=null?s:t})`:e};/**
+* @vue/reactivity v3.5.22
+* (c) 2018-present Yuxi (Evan) You and Vue contributors
+* @license MIT
+**/let Ce;class Qi{constructor(t=!1){this.detached=t,this._active=!0,this._on=0,this.effects=[],this.cleanups=[],this._isPaused=!1,this.parent=Ce,!t&&Ce&&(this.index=(Ce.scopes||(Ce.scopes=[])).push(this)-1)}get active(){return this._active}pause(){if(this._active){this._isPaused=!0;let t,s;if(this.scopes)for(t=0,s=this.scopes.length;t<s;t++)this.scopes[t].pause();for(t=0,s=this.effects.length;t<s;t++)this.effects[t].pause()}}resume(){if(this._active&&this._isPaused){this._isPaused=!1;let t,s;if(this.scopes)for(t=0,s=this.scopes.length;t<s;t++)this.scopes[t].resume();for(t=0,s=this.effects.length;t<s;t++)this.effects[t].resume()}}run(t){if(this._active){const s=Ce;try{return Ce=this,t()}finally{Ce=s}}}on(){++this._on===1&&(this.prevScope=Ce,Ce=this)}off(){this._on>0&&--this._on===0&&(Ce=this.prevScope,this.prevScope=void 0)}stop(t){if(this._active){this._active=!1;let s,n;for(s=0,n=this.effects.length;s<n;s++)this.effects[s].stop();for(this.effects.length=0,s=0,n=this.cleanups.length;s<n;s++)this.cleanups[s]();if(this.cleanups.length=0,this.scopes){for(s=0,n=this.scopes.length;s<n;s++)this.scopes[s].stop(!0);this.scopes.length=0}if(!this.detached&&this.parent&&!t){const r=this.parent.scopes.pop();r&&r!==this&&(this.parent.scopes[this.index]=r,r.index=this.index)}this.parent=void 0}}}function eo(){return Ce}let Q;const Ks=new WeakSet;class Dn{constructor(t){this.fn=t,this.deps=void 0,this.depsTail=void 0,this.flags=5,this.next=void 0,this.cleanup=void 0,this.scheduler=void 0,Ce&&Ce.active&&Ce.effects.push(this)}pause(){this.flags|=64}resume(){this.flags&64&&(this.flags&=-65,Ks.has(this)&&(Ks.delete(this),this.trigger()))}notify(){this.flags&2&&!(this.flags&32)||this.flags&8||Fn(this)}run(){if(!(this.flags&1))return this.fn();this.flags|=2,Br(this),Nn(this);const t=Q,s=ke;Q=this,ke=!0;try{return this.fn()}finally{Rn(this),Q=t,ke=s,this.flags&=-3}}stop(){if(this.flags&1){for(let t=this.deps;t;t=t.nextDep)wr(t);this.deps=this.depsTail=void 0,Br(this),this.onStop&&this.onStop(),this.flags&=-2}}trigger(){this.flags&64?Ks.add(this):this.scheduler?this.scheduler():this.runIfDirty()}runIfDirty(){tr(this)&&this.run()}get dirty(){return tr(this)}}let kn=0,jt,Ht;function Fn(e,t=!1){if(e.flags|=8,t){e.next=Ht,Ht=e;return}e.next=jt,jt=e}function vr(){kn++}function Sr(){if(--kn>0)return;if(Ht){let t=Ht;for(Ht=void 0;t;){const s=t.next;t.next=void 0,t.flags&=-9,t=s}}let e;for(;jt;){let t=jt;for(jt=void 0;t;){const s=t.next;if(t.next=void 0,t.flags&=-9,t.flags&1)try{t.trigger()}catch(n){e||(e=n)}t=s}}if(e)throw e}function Nn(e){for(let t=e.deps;t;t=t.nextDep)t.version=-1,t.prevActiveLink=t.dep.activeLink,t.dep.activeLink=t}function Rn(e){let t,s=e.depsTail,n=s;for(;n;){const r=n.prevDep;n.version===-1?(n===s&&(s=r),wr(n),to(n)):t=n,n.dep.activeLink=n.prevActiveLink,n.prevActiveLink=void 0,n=r}e.deps=t,e.depsTail=s}function tr(e){for(let t=e.deps;t;t=t.nextDep)if(t.dep.version!==t.version||t.dep.computed&&(Ln(t.dep.computed)||t.dep.version!==t.version))return!0;return!!e._dirty}function Ln(e){if(e.flags&4&&!(e.flags&16)||(e.flags&=-17,e.globalVersion===Kt)||(e.globalVersion=Kt,!e.isSSR&&e.flags&128&&(!e.deps&&!e._dirty||!tr(e))))return;e.flags|=2;const t=e.dep,s=Q,n=ke;Q=e,ke=!0;try{Nn(e);const r=e.fn(e._value);(t.version===0||xt(r,e._value))&&(e.flags|=128,e._value=r,t.version++)}catch(r){throw t.version++,r}finally{Q=s,ke=n,Rn(e),e.flags&=-3}}function wr(e,t=!1){const{dep:s,prevSub:n,nextSub:r}=e;if(n&&(n.nextSub=r,e.prevSub=void 0),r&&(r.prevSub=n,e.nextSub=void 0),s.subs===e&&(s.subs=n,!n&&s.computed)){s.computed.flags&=-5;for(let i=s.computed.deps;i;i=i.nextDep)wr(i,!0)}!t&&!--s.sc&&s.map&&s.map.delete(s.key)}function to(e){const{prevDep:t,nextDep:s}=e;t&&(t.nextDep=s,e.prevDep=void 0),s&&(s.prevDep=t,e.nextDep=void 0)}let ke=!0;const Bn=[];function et(){Bn.push(ke),ke=!1}function tt(){const e=Bn.pop();ke=e===void 0?!0:e}function Br(e){const{cleanup:t}=e;if(e.cleanup=void 0,t){const s=Q;Q=void 0;try{t()}finally{Q=s}}}let Kt=0;class so{constructor(t,s){this.sub=t,this.dep=s,this.version=s.version,this.nextDep=this.prevDep=this.nextSub=this.prevSub=this.prevActiveLink=void 0}}class jn{constructor(t){this.computed=t,this.version=0,this.activeLink=void 0,this.subs=void 0,this.map=void 0,this.key=void 0,this.sc=0,this.__v_skip=!0}track(t){if(!Q||!ke||Q===this.computed)return;let s=this.activeLink;if(s===void 0||s.sub!==Q)s=this.activeLink=new so(Q,this),Q.deps?(s.prevDep=Q.depsTail,Q.depsTail.nextDep=s,Q.depsTail=s):Q.deps=Q.depsTail=s,Hn(s);else if(s.version===-1&&(s.version=this.version,s.nextDep)){const n=s.nextDep;n.prevDep=s.prevDep,s.prevDep&&(s.prevDep.nextDep=n),s.prevDep=Q.depsTail,s.nextDep=void 0,Q.depsTail.nextDep=s,Q.depsTail=s,Q.deps===s&&(Q.deps=n)}return s}trigger(t){this.version++,Kt++,this.notify(t)}notify(t){vr();try{for(let s=this.subs;s;s=s.prevSub)s.sub.notify()&&s.sub.dep.notify()}finally{Sr()}}}function Hn(e){if(e.dep.sc++,e.sub.flags&4){const t=e.dep.computed;if(t&&!e.dep.subs){t.flags|=20;for(let n=t.deps;n;n=n.nextDep)Hn(n)}const s=e.dep.subs;s!==e&&(e.prevSub=s,s&&(s.nextSub=e)),e.dep.subs=e}}const sr=new WeakMap,vt=Symbol(""),rr=Symbol(""),qt=Symbol("");function pe(e,t,s){if(ke&&Q){let n=sr.get(e);n||sr.set(e,n=new Map);let r=n.get(s);r||(n.set(s,r=new jn),r.map=n,r.key=s),r.track()}}function Ye(e,t,s,n,r,i){const o=sr.get(e);if(!o){Kt++;return}const l=c=>{c&&c.trigger()};if(vr(),t==="clear")o.forEach(l);else{const c=O(e),h=c&&yr(s);if(c&&s==="length"){const d=Number(n);o.forEach((p,v)=>{(v==="length"||v===qt||!$e(v)&&v>=d)&&l(p)})}else switch((s!==void 0||o.has(void 0))&&l(o.get(s)),h&&l(o.get(qt)),t){case"add":c?h&&l(o.get("length")):(l(o.get(vt)),Ct(e)&&l(o.get(rr)));break;case"delete":c||(l(o.get(vt)),Ct(e)&&l(o.get(rr)));break;case"set":Ct(e)&&l(o.get(vt));break}}Sr()}function wt(e){const t=$(e);return t===e?t:(pe(t,"iterate",qt),Fe(e)?t:t.map(ye))}function Ns(e){return pe(e=$(e),"iterate",qt),e}const ro={__proto__:null,[Symbol.iterator](){return qs(this,Symbol.iterator,ye)},concat(...e){return wt(this).concat(...e.map(t=>O(t)?wt(t):t))},entries(){return qs(this,"entries",e=>(e[1]=ye(e[1]),e))},every(e,t){return qe(this,"every",e,t,void 0,arguments)},filter(e,t){return qe(this,"filter",e,t,s=>s.map(ye),arguments)},find(e,t){return qe(this,"find",e,t,ye,arguments)},findIndex(e,t){return qe(this,"findIndex",e,t,void 0,arguments)},findLast(e,t){return qe(this,"findLast",e,t,ye,arguments)},findLastIndex(e,t){return qe(this,"findLastIndex",e,t,void 0,arguments)},forEach(e,t){return qe(this,"forEach",e,t,void 0,arguments)},includes(...e){return Js(this,"includes",e)},indexOf(...e){return Js(this,"indexOf",e)},join(e){return wt(this).join(e)},lastIndexOf(...e){return Js(this,"lastIndexOf",e)},map(e,t){return qe(this,"map",e,t,void 0,arguments)},pop(){return Ft(this,"pop")},push(...e){return Ft(this,"push",e)},reduce(e,...t){return jr(this,"reduce",e,t)},reduceRight(e,...t){return jr(this,"reduceRight",e,t)},shift(){return Ft(this,"shift")},some(e,t){return qe(this,"some",e,t,void 0,arguments)},splice(...e){return Ft(this,"splice",e)},toReversed(){return wt(this).toReversed()},toSorted(e){return wt(this).toSorted(e)},toSpliced(...e){return wt(this).toSpliced(...e)},unshift(...e){return Ft(this,"unshift",e)},values(){return qs(this,"values",ye)}};function qs(e,t,s){const n=Ns(e),r=n[t]();return n!==e&&!Fe(e)&&(r._next=r.next,r.next=()=>{const i=r._next();return i.done||(i.value=s(i.value)),i}),r}const no=Array.prototype;function qe(e,t,s,n,r,i){const o=Ns(e),l=o!==e&&!Fe(e),c=o[t];if(c!==no[t]){const p=c.apply(e,i);return l?ye(p):p}let h=s;o!==e&&(l?h=function(p,v){return s.call(this,ye(p),v,e)}:s.length>2&&(h=function(p,v){return s.call(this,p,v,e)}));const d=c.call(o,h,n);return l&&r?r(d):d}function jr(e,t,s,n){const r=Ns(e);let i=s;return r!==e&&(Fe(e)?s.length>3&&(i=function(o,l,c){return s.call(this,o,l,c,e)}):i=function(o,l,c){return s.call(this,o,ye(l),c,e)}),r[t](i,...n)}function Js(e,t,s){const n=$(e);pe(n,"iterate",qt);const r=n[t](...s);return(r===-1||r===!1)&&Tr(s[0])?(s[0]=$(s[0]),n[t](...s)):r}function Ft(e,t,s=[]){et(),vr();const n=$(e)[t].apply(e,s);return Sr(),tt(),n}const io=gr("__proto__,__v_isRef,__isVue"),Un=new Set(Object.getOwnPropertyNames(Symbol).filter(e=>e!=="arguments"&&e!=="caller").map(e=>Symbol[e]).filter($e));function oo(e){$e(e)||(e=String(e));const t=$(this);return pe(t,"has",e),t.hasOwnProperty(e)}class Wn{constructor(t=!1,s=!1){this._isReadonly=t,this._isShallow=s}get(t,s,n){if(s==="__v_skip")return t.__v_skip;const r=this._isReadonly,i=this._isShallow;if(s==="__v_isReactive")return!r;if(s==="__v_isReadonly")return r;if(s==="__v_isShallow")return i;if(s==="__v_raw")return n===(r?i?bo:qn:i?Kn:$n).get(t)||Object.getPrototypeOf(t)===Object.getPrototypeOf(n)?t:void 0;const o=O(t);if(!r){let c;if(o&&(c=ro[s]))return c;if(s==="hasOwnProperty")return oo}const l=Reflect.get(t,s,Se(t)?t:n);if(($e(s)?Un.has(s):io(s))||(r||pe(t,"get",s),i))return l;if(Se(l)){const c=o&&yr(s)?l:l.value;return r&&J(c)?ir(c):c}return J(l)?r?ir(l):Pr(l):l}}class Vn extends Wn{constructor(t=!1){super(!1,t)}set(t,s,n,r){let i=t[s];if(!this._isShallow){const c=St(i);if(!Fe(n)&&!St(n)&&(i=$(i),n=$(n)),!O(t)&&Se(i)&&!Se(n))return c||(i.value=n),!0}const o=O(t)&&yr(s)?Number(s)<t.length:W(t,s),l=Reflect.set(t,s,n,Se(t)?t:r);return t===$(r)&&(o?xt(n,i)&&Ye(t,"set",s,n):Ye(t,"add",s,n)),l}deleteProperty(t,s){const n=W(t,s);t[s];const r=Reflect.deleteProperty(t,s);return r&&n&&Ye(t,"delete",s,void 0),r}has(t,s){const n=Reflect.has(t,s);return(!$e(s)||!Un.has(s))&&pe(t,"has",s),n}ownKeys(t){return pe(t,"iterate",O(t)?"length":vt),Reflect.ownKeys(t)}}class lo extends Wn{constructor(t=!1){super(!0,t)}set(t,s){return!0}deleteProperty(t,s){return!0}}const co=new Vn,ao=new lo,uo=new Vn(!0);const nr=e=>e,os=e=>Reflect.getPrototypeOf(e);function fo(e,t,s){return function(...n){const r=this.__v_raw,i=$(r),o=Ct(i),l=e==="entries"||e===Symbol.iterator&&o,c=e==="keys"&&o,h=r[e](...n),d=s?nr:t?ys:ye;return!t&&pe(i,"iterate",c?rr:vt),{next(){const{value:p,done:v}=h.next();return v?{value:p,done:v}:{value:l?[d(p[0]),d(p[1])]:d(p),done:v}},[Symbol.iterator](){return this}}}}function ls(e){return function(...t){return e==="delete"?!1:e==="clear"?void 0:this}}function ho(e,t){const s={get(r){const i=this.__v_raw,o=$(i),l=$(r);e||(xt(r,l)&&pe(o,"get",r),pe(o,"get",l));const{has:c}=os(o),h=t?nr:e?ys:ye;if(c.call(o,r))return h(i.get(r));if(c.call(o,l))return h(i.get(l));i!==o&&i.get(r)},get size(){const r=this.__v_raw;return!e&&pe($(r),"iterate",vt),r.size},has(r){const i=this.__v_raw,o=$(i),l=$(r);return e||(xt(r,l)&&pe(o,"has",r),pe(o,"has",l)),r===l?i.has(r):i.has(r)||i.has(l)},forEach(r,i){const o=this,l=o.__v_raw,c=$(l),h=t?nr:e?ys:ye;return!e&&pe(c,"iterate",vt),l.forEach((d,p)=>r.call(i,h(d),h(p),o))}};return fe(s,e?{add:ls("add"),set:ls("set"),delete:ls("delete"),clear:ls("clear")}:{add(r){!t&&!Fe(r)&&!St(r)&&(r=$(r));const i=$(this);return os(i).has.call(i,r)||(i.add(r),Ye(i,"add",r,r)),this},set(r,i){!t&&!Fe(i)&&!St(i)&&(i=$(i));const o=$(this),{has:l,get:c}=os(o);let h=l.call(o,r);h||(r=$(r),h=l.call(o,r));const d=c.call(o,r);return o.set(r,i),h?xt(i,d)&&Ye(o,"set",r,i):Ye(o,"add",r,i),this},delete(r){const i=$(this),{has:o,get:l}=os(i);let c=o.call(i,r);c||(r=$(r),c=o.call(i,r)),l&&l.call(i,r);const h=i.delete(r);return c&&Ye(i,"delete",r,void 0),h},clear(){const r=$(this),i=r.size!==0,o=r.clear();return i&&Ye(r,"clear",void 0,void 0),o}}),["keys","values","entries",Symbol.iterator].forEach(r=>{s[r]=fo(r,e,t)}),s}function _r(e,t){const s=ho(e,t);return(n,r,i)=>r==="__v_isReactive"?!e:r==="__v_isReadonly"?e:r==="__v_raw"?n:Reflect.get(W(s,r)&&r in n?s:n,r,i)}const po={get:_r(!1,!1)},go={get:_r(!1,!0)},mo={get:_r(!0,!1)};const $n=new WeakMap,Kn=new WeakMap,qn=new WeakMap,bo=new WeakMap;function yo(e){switch(e){case"Object":case"Array":return 1;case"Map":case"Set":case"WeakMap":case"WeakSet":return 2;default:return 0}}function xo(e){return e.__v_skip||!Object.isExtensible(e)?0:yo(Wi(e))}function Pr(e){return St(e)?e:Cr(e,!1,co,po,$n)}function vo(e){return Cr(e,!1,uo,go,Kn)}function ir(e){return Cr(e,!0,ao,mo,qn)}function Cr(e,t,s,n,r){if(!J(e)||e.__v_raw&&!(t&&e.__v_isReactive))return e;const i=xo(e);if(i===0)return e;const o=r.get(e);if(o)return o;const l=new Proxy(e,i===2?n:s);return r.set(e,l),l}function Tt(e){return St(e)?Tt(e.__v_raw):!!(e&&e.__v_isReactive)}function St(e){return!!(e&&e.__v_isReadonly)}function Fe(e){return!!(e&&e.__v_isShallow)}function Tr(e){return e?!!e.__v_raw:!1}function $(e){const t=e&&e.__v_raw;return t?$(t):e}function So(e){return!W(e,"__v_skip")&&Object.isExtensible(e)&&Mn(e,"__v_skip",!0),e}const ye=e=>J(e)?Pr(e):e,ys=e=>J(e)?ir(e):e;function Se(e){return e?e.__v_isRef===!0:!1}function wo(e){return Se(e)?e.value:e}const _o={get:(e,t,s)=>t==="__v_raw"?e:wo(Reflect.get(e,t,s)),set:(e,t,s,n)=>{const r=e[t];return Se(r)&&!Se(s)?(r.value=s,!0):Reflect.set(e,t,s,n)}};function Jn(e){return Tt(e)?e:new Proxy(e,_o)}class Po{constructor(t,s,n){this.fn=t,this.setter=s,this._value=void 0,this.dep=new jn(this),this.__v_isRef=!0,this.deps=void 0,this.depsTail=void 0,this.flags=16,this.globalVersion=Kt-1,this.next=void 0,this.effect=this,this.__v_isReadonly=!s,this.isSSR=n}notify(){if(this.flags|=16,!(this.flags&8)&&Q!==this)return Fn(this,!0),!0}get value(){const t=this.dep.track();return Ln(this),t&&(t.version=this.dep.version),this._value}set value(t){this.setter&&this.setter(t)}}function Co(e,t,s=!1){let n,r;return L(e)?n=e:(n=e.get,r=e.set),new Po(n,r,s)}const cs={},xs=new WeakMap;let bt;function To(e,t=!1,s=bt){if(s){let n=xs.get(s);n||xs.set(s,n=[]),n.push(e)}}function Io(e,t,s=z){const{immediate:n,deep:r,once:i,scheduler:o,augmentJob:l,call:c}=s,h=k=>r?k:Fe(k)||r===!1||r===0?Xe(k,1):Xe(k);let d,p,v,w,D=!1,T=!1;if(Se(e)?(p=()=>e.value,D=Fe(e)):Tt(e)?(p=()=>h(e),D=!0):O(e)?(T=!0,D=e.some(k=>Tt(k)||Fe(k)),p=()=>e.map(k=>{if(Se(k))return k.value;if(Tt(k))return h(k);if(L(k))return c?c(k,2):k()})):L(e)?t?p=c?()=>c(e,2):e:p=()=>{if(v){et();try{v()}finally{tt()}}const k=bt;bt=d;try{return c?c(e,3,[w]):e(w)}finally{bt=k}}:p=Ve,t&&r){const k=p,Y=r===!0?1/0:r;p=()=>Xe(k(),Y)}const te=eo(),B=()=>{d.stop(),te&&te.active&&br(te.effects,d)};if(i&&t){const k=t;t=(...Y)=>{k(...Y),B()}}let U=T?new Array(e.length).fill(cs):cs;const G=k=>{if(!(!(d.flags&1)||!d.dirty&&!k))if(t){const Y=d.run();if(r||D||(T?Y.some((ae,me)=>xt(ae,U[me])):xt(Y,U))){v&&v();const ae=bt;bt=d;try{const me=[Y,U===cs?void 0:T&&U[0]===cs?[]:U,w];U=Y,c?c(t,3,me):t(...me)}finally{bt=ae}}}else d.run()};return l&&l(G),d=new Dn(p),d.scheduler=o?()=>o(G,!1):G,w=k=>To(k,!1,d),v=d.onStop=()=>{const k=xs.get(d);if(k){if(c)c(k,4);else for(const Y of k)Y();xs.delete(d)}},t?n?G(!0):U=d.run():o?o(G.bind(null,!0),!0):d.run(),B.pause=d.pause.bind(d),B.resume=d.resume.bind(d),B.stop=B,B}function Xe(e,t=1/0,s){if(t<=0||!J(e)||e.__v_skip||(s=s||new Map,(s.get(e)||0)>=t))return e;if(s.set(e,t),t--,Se(e))Xe(e.value,t,s);else if(O(e))for(let n=0;n<e.length;n++)Xe(e[n],t,s);else if(Ot(e)||Ct(e))e.forEach(n=>{Xe(n,t,s)});else if(In(e)){for(const n in e)Xe(e[n],t,s);for(const n of Object.getOwnPropertySymbols(e))Object.prototype.propertyIsEnumerable.call(e,n)&&Xe(e[n],t,s)}return e}/**
+* @vue/runtime-core v3.5.22
+* (c) 2018-present Yuxi (Evan) You and Vue contributors
+* @license MIT
+**/function ts(e,t,s,n){try{return n?e(...n):e()}catch(r){Rs(r,t,s)}}function Ne(e,t,s,n){if(L(e)){const r=ts(e,t,s,n);return r&&Cn(r)&&r.catch(i=>{Rs(i,t,s)}),r}if(O(e)){const r=[];for(let i=0;i<e.length;i++)r.push(Ne(e[i],t,s,n));return r}}function Rs(e,t,s,n=!0){const r=t?t.vnode:null,{errorHandler:i,throwUnhandledErrorInProduction:o}=t&&t.appContext.config||z;if(t){let l=t.parent;const c=t.proxy,h=`https://vuejs.org/error-reference/#runtime-${s}`;for(;l;){const d=l.ec;if(d){for(let p=0;p<d.length;p++)if(d[p](e,c,h)===!1)return}l=l.parent}if(i){et(),ts(i,null,10,[e,c,h]),tt();return}}Mo(e,s,r,n,o)}function Mo(e,t,s,n=!0,r=!1){if(r)throw e;console.error(e)}const xe=[];let Ue=-1;const It=[];let nt=null,_t=0;const Gn=Promise.resolve();let vs=null;function zn(e){const t=vs||Gn;return e?t.then(this?e.bind(this):e):t}function Ao(e){let t=Ue+1,s=xe.length;for(;t<s;){const n=t+s>>>1,r=xe[n],i=Jt(r);i<e||i===e&&r.flags&2?t=n+1:s=n}return t}function Ir(e){if(!(e.flags&1)){const t=Jt(e),s=xe[xe.length-1];!s||!(e.flags&2)&&t>=Jt(s)?xe.push(e):xe.splice(Ao(t),0,e),e.flags|=1,Yn()}}function Yn(){vs||(vs=Gn.then(Zn))}function Oo(e){O(e)?It.push(...e):nt&&e.id===-1?nt.splice(_t+1,0,e):e.flags&1||(It.push(e),e.flags|=1),Yn()}function Hr(e,t,s=Ue+1){for(;s<xe.length;s++){const n=xe[s];if(n&&n.flags&2){if(e&&n.id!==e.uid)continue;xe.splice(s,1),s--,n.flags&4&&(n.flags&=-2),n(),n.flags&4||(n.flags&=-2)}}}function Xn(e){if(It.length){const t=[...new Set(It)].sort((s,n)=>Jt(s)-Jt(n));if(It.length=0,nt){nt.push(...t);return}for(nt=t,_t=0;_t<nt.length;_t++){const s=nt[_t];s.flags&4&&(s.flags&=-2),s.flags&8||s(),s.flags&=-2}nt=null,_t=0}}const Jt=e=>e.id==null?e.flags&2?-1:1/0:e.id;function Zn(e){try{for(Ue=0;Ue<xe.length;Ue++){const t=xe[Ue];t&&!(t.flags&8)&&(t.flags&4&&(t.flags&=-2),ts(t,t.i,t.i?15:14),t.flags&4||(t.flags&=-2))}}finally{for(;Ue<xe.length;Ue++){const t=xe[Ue];t&&(t.flags&=-2)}Ue=-1,xe.length=0,Xn(),vs=null,(xe.length||It.length)&&Zn()}}let Ae=null,Qn=null;function Ss(e){const t=Ae;return Ae=e,Qn=e&&e.type.__scopeId||null,t}function ws(e,t=Ae,s){if(!t||e._n)return e;const n=(...r)=>{n._d&&Cs(-1);const i=Ss(t);let o;try{o=e(...r)}finally{Ss(i),n._d&&Cs(1)}return o};return n._n=!0,n._c=!0,n._d=!0,n}function Te(e,t){if(Ae===null)return e;const s=Us(Ae),n=e.dirs||(e.dirs=[]);for(let r=0;r<t.length;r++){let[i,o,l,c=z]=t[r];i&&(L(i)&&(i={mounted:i,updated:i}),i.deep&&Xe(o),n.push({dir:i,instance:s,value:o,oldValue:void 0,arg:l,modifiers:c}))}return e}function ft(e,t,s,n){const r=e.dirs,i=t&&t.dirs;for(let o=0;o<r.length;o++){const l=r[o];i&&(l.oldValue=i[o].value);let c=l.dir[n];c&&(et(),Ne(c,s,8,[e.el,l,e,t]),tt())}}const Eo=Symbol("_vte"),ei=e=>e.__isTeleport,ze=Symbol("_leaveCb"),as=Symbol("_enterCb");function Do(){const e={isMounted:!1,isLeaving:!1,isUnmounting:!1,leavingVNodes:new Map};return ci(()=>{e.isMounted=!0}),ai(()=>{e.isUnmounting=!0}),e}const Ee=[Function,Array],ti={mode:String,appear:Boolean,persisted:Boolean,onBeforeEnter:Ee,onEnter:Ee,onAfterEnter:Ee,onEnterCancelled:Ee,onBeforeLeave:Ee,onLeave:Ee,onAfterLeave:Ee,onLeaveCancelled:Ee,onBeforeAppear:Ee,onAppear:Ee,onAfterAppear:Ee,onAppearCancelled:Ee},si=e=>{const t=e.subTree;return t.component?si(t.component):t},ko={name:"BaseTransition",props:ti,setup(e,{slots:t}){const s=Oi(),n=Do();return()=>{const r=t.default&&ii(t.default(),!0);if(!r||!r.length)return;const i=ri(r),o=$(e),{mode:l}=o;if(n.isLeaving)return Gs(i);const c=Ur(i);if(!c)return Gs(i);let h=or(c,o,n,s,p=>h=p);c.type!==ve&&Gt(c,h);let d=s.subTree&&Ur(s.subTree);if(d&&d.type!==ve&&!yt(d,c)&&si(s).type!==ve){let p=or(d,o,n,s);if(Gt(d,p),l==="out-in"&&c.type!==ve)return n.isLeaving=!0,p.afterLeave=()=>{n.isLeaving=!1,s.job.flags&8||s.update(),delete p.afterLeave,d=void 0},Gs(i);l==="in-out"&&c.type!==ve?p.delayLeave=(v,w,D)=>{const T=ni(n,d);T[String(d.key)]=d,v[ze]=()=>{w(),v[ze]=void 0,delete h.delayedLeave,d=void 0},h.delayedLeave=()=>{D(),delete h.delayedLeave,d=void 0}}:d=void 0}else d&&(d=void 0);return i}}};function ri(e){let t=e[0];if(e.length>1){for(const s of e)if(s.type!==ve){t=s;break}}return t}const Fo=ko;function ni(e,t){const{leavingVNodes:s}=e;let n=s.get(t.type);return n||(n=Object.create(null),s.set(t.type,n)),n}function or(e,t,s,n,r){const{appear:i,mode:o,persisted:l=!1,onBeforeEnter:c,onEnter:h,onAfterEnter:d,onEnterCancelled:p,onBeforeLeave:v,onLeave:w,onAfterLeave:D,onLeaveCancelled:T,onBeforeAppear:te,onAppear:B,onAfterAppear:U,onAppearCancelled:G}=t,k=String(e.key),Y=ni(s,e),ae=(j,K)=>{j&&Ne(j,n,9,K)},me=(j,K)=>{const ie=K[1];ae(j,K),O(j)?j.every(A=>A.length<=1)&&ie():j.length<=1&&ie()},we={mode:o,persisted:l,beforeEnter(j){let K=c;if(!s.isMounted)if(i)K=te||c;else return;j[ze]&&j[ze](!0);const ie=Y[k];ie&&yt(e,ie)&&ie.el[ze]&&ie.el[ze](),ae(K,[j])},enter(j){let K=h,ie=d,A=p;if(!s.isMounted)if(i)K=B||h,ie=U||d,A=G||p;else return;let se=!1;const he=j[as]=Ke=>{se||(se=!0,Ke?ae(A,[j]):ae(ie,[j]),we.delayedLeave&&we.delayedLeave(),j[as]=void 0)};K?me(K,[j,he]):he()},leave(j,K){const ie=String(e.key);if(j[as]&&j[as](!0),s.isUnmounting)return K();ae(v,[j]);let A=!1;const se=j[ze]=he=>{A||(A=!0,K(),he?ae(T,[j]):ae(D,[j]),j[ze]=void 0,Y[ie]===e&&delete Y[ie])};Y[ie]=e,w?me(w,[j,se]):se()},clone(j){const K=or(j,t,s,n,r);return r&&r(K),K}};return we}function Gs(e){if(Ls(e))return e=lt(e),e.children=null,e}function Ur(e){if(!Ls(e))return ei(e.type)&&e.children?ri(e.children):e;if(e.component)return e.component.subTree;const{shapeFlag:t,children:s}=e;if(s){if(t&16)return s[0];if(t&32&&L(s.default))return s.default()}}function Gt(e,t){e.shapeFlag&6&&e.component?(e.transition=t,Gt(e.component.subTree,t)):e.shapeFlag&128?(e.ssContent.transition=t.clone(e.ssContent),e.ssFallback.transition=t.clone(e.ssFallback)):e.transition=t}function ii(e,t=!1,s){let n=[],r=0;for(let i=0;i<e.length;i++){let o=e[i];const l=s==null?o.key:String(s)+String(o.key!=null?o.key:i);o.type===q?(o.patchFlag&128&&r++,n=n.concat(ii(o.children,t,l))):(t||o.type!==ve)&&n.push(l!=null?lt(o,{key:l}):o)}if(r>1)for(let i=0;i<n.length;i++)n[i].patchFlag=-2;return n}function oi(e){e.ids=[e.ids[0]+e.ids[2]+++"-",0,0]}const _s=new WeakMap;function Ut(e,t,s,n,r=!1){if(O(e)){e.forEach((D,T)=>Ut(D,t&&(O(t)?t[T]:t),s,n,r));return}if(Wt(n)&&!r){n.shapeFlag&512&&n.type.__asyncResolved&&n.component.subTree.component&&Ut(e,t,s,n.component.subTree);return}const i=n.shapeFlag&4?Us(n.component):n.el,o=r?null:i,{i:l,r:c}=e,h=t&&t.r,d=l.refs===z?l.refs={}:l.refs,p=l.setupState,v=$(p),w=p===z?Pn:D=>W(v,D);if(h!=null&&h!==c){if(Wr(t),le(h))d[h]=null,w(h)&&(p[h]=null);else if(Se(h)){h.value=null;const D=t;D.k&&(d[D.k]=null)}}if(L(c))ts(c,l,12,[o,d]);else{const D=le(c),T=Se(c);if(D||T){const te=()=>{if(e.f){const B=D?w(c)?p[c]:d[c]:c.value;if(r)O(B)&&br(B,i);else if(O(B))B.includes(i)||B.push(i);else if(D)d[c]=[i],w(c)&&(p[c]=d[c]);else{const U=[i];c.value=U,e.k&&(d[e.k]=U)}}else D?(d[c]=o,w(c)&&(p[c]=o)):T&&(c.value=o,e.k&&(d[e.k]=o))};if(o){const B=()=>{te(),_s.delete(e)};B.id=-1,_s.set(e,B),Me(B,s)}else Wr(e),te()}}}function Wr(e){const t=_s.get(e);t&&(t.flags|=8,_s.delete(e))}Fs().requestIdleCallback;Fs().cancelIdleCallback;const Wt=e=>!!e.type.__asyncLoader,Ls=e=>e.type.__isKeepAlive;function No(e,t){li(e,"a",t)}function Ro(e,t){li(e,"da",t)}function li(e,t,s=ge){const n=e.__wdc||(e.__wdc=()=>{let r=s;for(;r;){if(r.isDeactivated)return;r=r.parent}return e()});if(Bs(t,n,s),s){let r=s.parent;for(;r&&r.parent;)Ls(r.parent.vnode)&&Lo(n,t,s,r),r=r.parent}}function Lo(e,t,s,n){const r=Bs(t,e,n,!0);ui(()=>{br(n[t],r)},s)}function Bs(e,t,s=ge,n=!1){if(s){const r=s[e]||(s[e]=[]),i=t.__weh||(t.__weh=(...o)=>{et();const l=ss(s),c=Ne(t,s,e,o);return l(),tt(),c});return n?r.unshift(i):r.push(i),i}}const st=e=>(t,s=ge)=>{(!Yt||e==="sp")&&Bs(e,(...n)=>t(...n),s)},Bo=st("bm"),ci=st("m"),jo=st("bu"),Ho=st("u"),ai=st("bum"),ui=st("um"),Uo=st("sp"),Wo=st("rtg"),Vo=st("rtc");function $o(e,t=ge){Bs("ec",e,t)}const Ko="components";function ht(e,t){return Jo(Ko,e,!0,t)||e}const qo=Symbol.for("v-ndc");function Jo(e,t,s=!0,n=!1){const r=Ae||ge;if(r){const i=r.type;{const l=Nl(i,!1);if(l&&(l===t||l===De(t)||l===ks(De(t))))return i}const o=Vr(r[e]||i[e],t)||Vr(r.appContext[e],t);return!o&&n?i:o}}function Vr(e,t){return e&&(e[t]||e[De(t)]||e[ks(De(t))])}function de(e,t,s,n){let r;const i=s,o=O(e);if(o||le(e)){const l=o&&Tt(e);let c=!1,h=!1;l&&(c=!Fe(e),h=St(e),e=Ns(e)),r=new Array(e.length);for(let d=0,p=e.length;d<p;d++)r[d]=t(c?h?ys(ye(e[d])):ye(e[d]):e[d],d,void 0,i)}else if(typeof e=="number"){r=new Array(e);for(let l=0;l<e;l++)r[l]=t(l+1,l,void 0,i)}else if(J(e))if(e[Symbol.iterator])r=Array.from(e,(l,c)=>t(l,c,void 0,i));else{const l=Object.keys(e);r=new Array(l.length);for(let c=0,h=l.length;c<h;c++){const d=l[c];r[c]=t(e[d],d,c,i)}}else r=[];return r}const lr=e=>e?Ei(e)?Us(e):lr(e.parent):null,Vt=fe(Object.create(null),{$:e=>e,$el:e=>e.vnode.el,$data:e=>e.data,$props:e=>e.props,$attrs:e=>e.attrs,$slots:e=>e.slots,$refs:e=>e.refs,$parent:e=>lr(e.parent),$root:e=>lr(e.root),$host:e=>e.ce,$emit:e=>e.emit,$options:e=>fi(e),$forceUpdate:e=>e.f||(e.f=()=>{Ir(e.update)}),$nextTick:e=>e.n||(e.n=zn.bind(e.proxy)),$watch:e=>gl.bind(e)}),zs=(e,t)=>e!==z&&!e.__isScriptSetup&&W(e,t),Go={get({_:e},t){if(t==="__v_skip")return!0;const{ctx:s,setupState:n,data:r,props:i,accessCache:o,type:l,appContext:c}=e;let h;if(t[0]!=="$"){const w=o[t];if(w!==void 0)switch(w){case 1:return n[t];case 2:return r[t];case 4:return s[t];case 3:return i[t]}else{if(zs(n,t))return o[t]=1,n[t];if(r!==z&&W(r,t))return o[t]=2,r[t];if((h=e.propsOptions[0])&&W(h,t))return o[t]=3,i[t];if(s!==z&&W(s,t))return o[t]=4,s[t];cr&&(o[t]=0)}}const d=Vt[t];let p,v;if(d)return t==="$attrs"&&pe(e.attrs,"get",""),d(e);if((p=l.__cssModules)&&(p=p[t]))return p;if(s!==z&&W(s,t))return o[t]=4,s[t];if(v=c.config.globalProperties,W(v,t))return v[t]},set({_:e},t,s){const{data:n,setupState:r,ctx:i}=e;return zs(r,t)?(r[t]=s,!0):n!==z&&W(n,t)?(n[t]=s,!0):W(e.props,t)||t[0]==="$"&&t.slice(1)in e?!1:(i[t]=s,!0)},has({_:{data:e,setupState:t,accessCache:s,ctx:n,appContext:r,propsOptions:i,type:o}},l){let c,h;return!!(s[l]||e!==z&&l[0]!=="$"&&W(e,l)||zs(t,l)||(c=i[0])&&W(c,l)||W(n,l)||W(Vt,l)||W(r.config.globalProperties,l)||(h=o.__cssModules)&&h[l])},defineProperty(e,t,s){return s.get!=null?e._.accessCache[t]=0:W(s,"value")&&this.set(e,t,s.value,null),Reflect.defineProperty(e,t,s)}};function $r(e){return O(e)?e.reduce((t,s)=>(t[s]=null,t),{}):e}let cr=!0;function zo(e){const t=fi(e),s=e.proxy,n=e.ctx;cr=!1,t.beforeCreate&&Kr(t.beforeCreate,e,"bc");const{data:r,computed:i,methods:o,watch:l,provide:c,inject:h,created:d,beforeMount:p,mounted:v,beforeUpdate:w,updated:D,activated:T,deactivated:te,beforeDestroy:B,beforeUnmount:U,destroyed:G,unmounted:k,render:Y,renderTracked:ae,renderTriggered:me,errorCaptured:we,serverPrefetch:j,expose:K,inheritAttrs:ie,components:A,directives:se,filters:he}=t;if(h&&Yo(h,n,null),o)for(const oe in o){const X=o[oe];L(X)&&(n[oe]=X.bind(s))}if(r){const oe=r.call(s,s);J(oe)&&(e.data=Pr(oe))}if(cr=!0,i)for(const oe in i){const X=i[oe],ut=L(X)?X.bind(s,s):L(X.get)?X.get.bind(s,s):Ve,ns=!L(X)&&L(X.set)?X.set.bind(s):Ve,dt=Ll({get:ut,set:ns});Object.defineProperty(n,oe,{enumerable:!0,configurable:!0,get:()=>dt.value,set:Re=>dt.value=Re})}if(l)for(const oe in l)di(l[oe],n,s,oe);if(c){const oe=L(c)?c.call(s):c;Reflect.ownKeys(oe).forEach(X=>{sl(X,oe[X])})}d&&Kr(d,e,"c");function ue(oe,X){O(X)?X.forEach(ut=>oe(ut.bind(s))):X&&oe(X.bind(s))}if(ue(Bo,p),ue(ci,v),ue(jo,w),ue(Ho,D),ue(No,T),ue(Ro,te),ue($o,we),ue(Vo,ae),ue(Wo,me),ue(ai,U),ue(ui,k),ue(Uo,j),O(K))if(K.length){const oe=e.exposed||(e.exposed={});K.forEach(X=>{Object.defineProperty(oe,X,{get:()=>s[X],set:ut=>s[X]=ut,enumerable:!0})})}else e.exposed||(e.exposed={});Y&&e.render===Ve&&(e.render=Y),ie!=null&&(e.inheritAttrs=ie),A&&(e.components=A),se&&(e.directives=se),j&&oi(e)}function Yo(e,t,s=Ve){O(e)&&(e=ar(e));for(const n in e){const r=e[n];let i;J(r)?"default"in r?i=fs(r.from||n,r.default,!0):i=fs(r.from||n):i=fs(r),Se(i)?Object.defineProperty(t,n,{enumerable:!0,configurable:!0,get:()=>i.value,set:o=>i.value=o}):t[n]=i}}function Kr(e,t,s){Ne(O(e)?e.map(n=>n.bind(t.proxy)):e.bind(t.proxy),t,s)}function di(e,t,s,n){let r=n.includes(".")?Ci(s,n):()=>s[n];if(le(e)){const i=t[e];L(i)&&Xs(r,i)}else if(L(e))Xs(r,e.bind(s));else if(J(e))if(O(e))e.forEach(i=>di(i,t,s,n));else{const i=L(e.handler)?e.handler.bind(s):t[e.handler];L(i)&&Xs(r,i,e)}}function fi(e){const t=e.type,{mixins:s,extends:n}=t,{mixins:r,optionsCache:i,config:{optionMergeStrategies:o}}=e.appContext,l=i.get(t);let c;return l?c=l:!r.length&&!s&&!n?c=t:(c={},r.length&&r.forEach(h=>Ps(c,h,o,!0)),Ps(c,t,o)),J(t)&&i.set(t,c),c}function Ps(e,t,s,n=!1){const{mixins:r,extends:i}=t;i&&Ps(e,i,s,!0),r&&r.forEach(o=>Ps(e,o,s,!0));for(const o in t)if(!(n&&o==="expose")){const l=Xo[o]||s&&s[o];e[o]=l?l(e[o],t[o]):t[o]}return e}const Xo={data:qr,props:Jr,emits:Jr,methods:Lt,computed:Lt,beforeCreate:be,created:be,beforeMount:be,mounted:be,beforeUpdate:be,updated:be,beforeDestroy:be,beforeUnmount:be,destroyed:be,unmounted:be,activated:be,deactivated:be,errorCaptured:be,serverPrefetch:be,components:Lt,directives:Lt,watch:Qo,provide:qr,inject:Zo};function qr(e,t){return t?e?function(){return fe(L(e)?e.call(this,this):e,L(t)?t.call(this,this):t)}:t:e}function Zo(e,t){return Lt(ar(e),ar(t))}function ar(e){if(O(e)){const t={};for(let s=0;s<e.length;s++)t[e[s]]=e[s];return t}return e}function be(e,t){return e?[...new Set([].concat(e,t))]:t}function Lt(e,t){return e?fe(Object.create(null),e,t):t}function Jr(e,t){return e?O(e)&&O(t)?[...new Set([...e,...t])]:fe(Object.create(null),$r(e),$r(t??{})):t}function Qo(e,t){if(!e)return t;if(!t)return e;const s=fe(Object.create(null),e);for(const n in t)s[n]=be(e[n],t[n]);return s}function hi(){return{app:null,config:{isNativeTag:Pn,performance:!1,globalProperties:{},optionMergeStrategies:{},errorHandler:void 0,warnHandler:void 0,compilerOptions:{}},mixins:[],components:{},directives:{},provides:Object.create(null),optionsCache:new WeakMap,propsCache:new WeakMap,emitsCache:new WeakMap}}let el=0;function tl(e,t){return function(n,r=null){L(n)||(n=fe({},n)),r!=null&&!J(r)&&(r=null);const i=hi(),o=new WeakSet,l=[];let c=!1;const h=i.app={_uid:el++,_component:n,_props:r,_container:null,_context:i,_instance:null,version:jl,get config(){return i.config},set config(d){},use(d,...p){return o.has(d)||(d&&L(d.install)?(o.add(d),d.install(h,...p)):L(d)&&(o.add(d),d(h,...p))),h},mixin(d){return i.mixins.includes(d)||i.mixins.push(d),h},component(d,p){return p?(i.components[d]=p,h):i.components[d]},directive(d,p){return p?(i.directives[d]=p,h):i.directives[d]},mount(d,p,v){if(!c){const w=h._ceVNode||re(n,r);return w.appContext=i,v===!0?v="svg":v===!1&&(v=void 0),e(w,d,v),c=!0,h._container=d,d.__vue_app__=h,Us(w.component)}},onUnmount(d){l.push(d)},unmount(){c&&(Ne(l,h._instance,16),e(null,h._container),delete h._container.__vue_app__)},provide(d,p){return i.provides[d]=p,h},runWithContext(d){const p=Mt;Mt=h;try{return d()}finally{Mt=p}}};return h}}let Mt=null;function sl(e,t){if(ge){let s=ge.provides;const n=ge.parent&&ge.parent.provides;n===s&&(s=ge.provides=Object.create(n)),s[e]=t}}function fs(e,t,s=!1){const n=Oi();if(n||Mt){let r=Mt?Mt._context.provides:n?n.parent==null||n.ce?n.vnode.appContext&&n.vnode.appContext.provides:n.parent.provides:void 0;if(r&&e in r)return r[e];if(arguments.length>1)return s&&L(t)?t.call(n&&n.proxy):t}}const pi={},gi=()=>Object.create(pi),mi=e=>Object.getPrototypeOf(e)===pi;function rl(e,t,s,n=!1){const r={},i=gi();e.propsDefaults=Object.create(null),bi(e,t,r,i);for(const o in e.propsOptions[0])o in r||(r[o]=void 0);s?e.props=n?r:vo(r):e.type.props?e.props=r:e.props=i,e.attrs=i}function nl(e,t,s,n){const{props:r,attrs:i,vnode:{patchFlag:o}}=e,l=$(r),[c]=e.propsOptions;let h=!1;if((n||o>0)&&!(o&16)){if(o&8){const d=e.vnode.dynamicProps;for(let p=0;p<d.length;p++){let v=d[p];if(js(e.emitsOptions,v))continue;const w=t[v];if(c)if(W(i,v))w!==i[v]&&(i[v]=w,h=!0);else{const D=De(v);r[D]=ur(c,l,D,w,e,!1)}else w!==i[v]&&(i[v]=w,h=!0)}}}else{bi(e,t,r,i)&&(h=!0);let d;for(const p in l)(!t||!W(t,p)&&((d=ct(p))===p||!W(t,d)))&&(c?s&&(s[p]!==void 0||s[d]!==void 0)&&(r[p]=ur(c,l,p,void 0,e,!0)):delete r[p]);if(i!==l)for(const p in i)(!t||!W(t,p))&&(delete i[p],h=!0)}h&&Ye(e.attrs,"set","")}function bi(e,t,s,n){const[r,i]=e.propsOptions;let o=!1,l;if(t)for(let c in t){if(Bt(c))continue;const h=t[c];let d;r&&W(r,d=De(c))?!i||!i.includes(d)?s[d]=h:(l||(l={}))[d]=h:js(e.emitsOptions,c)||(!(c in n)||h!==n[c])&&(n[c]=h,o=!0)}if(i){const c=$(s),h=l||z;for(let d=0;d<i.length;d++){const p=i[d];s[p]=ur(r,c,p,h[p],e,!W(h,p))}}return o}function ur(e,t,s,n,r,i){const o=e[s];if(o!=null){const l=W(o,"default");if(l&&n===void 0){const c=o.default;if(o.type!==Function&&!o.skipFactory&&L(c)){const{propsDefaults:h}=r;if(s in h)n=h[s];else{const d=ss(r);n=h[s]=c.call(null,t),d()}}else n=c;r.ce&&r.ce._setProp(s,n)}o[0]&&(i&&!l?n=!1:o[1]&&(n===""||n===ct(s))&&(n=!0))}return n}const il=new WeakMap;function yi(e,t,s=!1){const n=s?il:t.propsCache,r=n.get(e);if(r)return r;const i=e.props,o={},l=[];let c=!1;if(!L(e)){const d=p=>{c=!0;const[v,w]=yi(p,t,!0);fe(o,v),w&&l.push(...w)};!s&&t.mixins.length&&t.mixins.forEach(d),e.extends&&d(e.extends),e.mixins&&e.mixins.forEach(d)}if(!i&&!c)return J(e)&&n.set(e,Pt),Pt;if(O(i))for(let d=0;d<i.length;d++){const p=De(i[d]);Gr(p)&&(o[p]=z)}else if(i)for(const d in i){const p=De(d);if(Gr(p)){const v=i[d],w=o[p]=O(v)||L(v)?{type:v}:fe({},v),D=w.type;let T=!1,te=!0;if(O(D))for(let B=0;B<D.length;++B){const U=D[B],G=L(U)&&U.name;if(G==="Boolean"){T=!0;break}else G==="String"&&(te=!1)}else T=L(D)&&D.name==="Boolean";w[0]=T,w[1]=te,(T||W(w,"default"))&&l.push(p)}}const h=[o,l];return J(e)&&n.set(e,h),h}function Gr(e){return e[0]!=="$"&&!Bt(e)}const Mr=e=>e==="_"||e==="_ctx"||e==="$stable",Ar=e=>O(e)?e.map(We):[We(e)],ol=(e,t,s)=>{if(t._n)return t;const n=ws((...r)=>Ar(t(...r)),s);return n._c=!1,n},xi=(e,t,s)=>{const n=e._ctx;for(const r in e){if(Mr(r))continue;const i=e[r];if(L(i))t[r]=ol(r,i,n);else if(i!=null){const o=Ar(i);t[r]=()=>o}}},vi=(e,t)=>{const s=Ar(t);e.slots.default=()=>s},Si=(e,t,s)=>{for(const n in t)(s||!Mr(n))&&(e[n]=t[n])},ll=(e,t,s)=>{const n=e.slots=gi();if(e.vnode.shapeFlag&32){const r=t._;r?(Si(n,t,s),s&&Mn(n,"_",r,!0)):xi(t,n)}else t&&vi(e,t)},cl=(e,t,s)=>{const{vnode:n,slots:r}=e;let i=!0,o=z;if(n.shapeFlag&32){const l=t._;l?s&&l===1?i=!1:Si(r,t,s):(i=!t.$stable,xi(t,r)),o=t}else t&&(vi(e,t),o={default:1});if(i)for(const l in r)!Mr(l)&&o[l]==null&&delete r[l]},Me=_l;function al(e){return ul(e)}function ul(e,t){const s=Fs();s.__VUE__=!0;const{insert:n,remove:r,patchProp:i,createElement:o,createText:l,createComment:c,setText:h,setElementText:d,parentNode:p,nextSibling:v,setScopeId:w=Ve,insertStaticContent:D}=e,T=(u,f,g,y=null,m=null,b=null,P=void 0,_=null,S=!!f.dynamicChildren)=>{if(u===f)return;u&&!yt(u,f)&&(y=is(u),Re(u,m,b,!0),u=null),f.patchFlag===-2&&(S=!1,f.dynamicChildren=null);const{type:x,ref:F,shapeFlag:I}=f;switch(x){case Hs:te(u,f,g,y);break;case ve:B(u,f,g,y);break;case hs:u==null&&U(f,g,y,P);break;case q:A(u,f,g,y,m,b,P,_,S);break;default:I&1?Y(u,f,g,y,m,b,P,_,S):I&6?se(u,f,g,y,m,b,P,_,S):(I&64||I&128)&&x.process(u,f,g,y,m,b,P,_,S,Dt)}F!=null&&m?Ut(F,u&&u.ref,b,f||u,!f):F==null&&u&&u.ref!=null&&Ut(u.ref,null,b,u,!0)},te=(u,f,g,y)=>{if(u==null)n(f.el=l(f.children),g,y);else{const m=f.el=u.el;f.children!==u.children&&h(m,f.children)}},B=(u,f,g,y)=>{u==null?n(f.el=c(f.children||""),g,y):f.el=u.el},U=(u,f,g,y)=>{[u.el,u.anchor]=D(u.children,f,g,y,u.el,u.anchor)},G=({el:u,anchor:f},g,y)=>{let m;for(;u&&u!==f;)m=v(u),n(u,g,y),u=m;n(f,g,y)},k=({el:u,anchor:f})=>{let g;for(;u&&u!==f;)g=v(u),r(u),u=g;r(f)},Y=(u,f,g,y,m,b,P,_,S)=>{f.type==="svg"?P="svg":f.type==="math"&&(P="mathml"),u==null?ae(f,g,y,m,b,P,_,S):j(u,f,m,b,P,_,S)},ae=(u,f,g,y,m,b,P,_)=>{let S,x;const{props:F,shapeFlag:I,transition:E,dirs:N}=u;if(S=u.el=o(u.type,b,F&&F.is,F),I&8?d(S,u.children):I&16&&we(u.children,S,null,y,m,Ys(u,b),P,_),N&&ft(u,null,y,"created"),me(S,u,u.scopeId,P,y),F){for(const Z in F)Z!=="value"&&!Bt(Z)&&i(S,Z,null,F[Z],b,y);"value"in F&&i(S,"value",null,F.value,b),(x=F.onVnodeBeforeMount)&&He(x,y,u)}N&&ft(u,null,y,"beforeMount");const H=dl(m,E);H&&E.beforeEnter(S),n(S,f,g),((x=F&&F.onVnodeMounted)||H||N)&&Me(()=>{x&&He(x,y,u),H&&E.enter(S),N&&ft(u,null,y,"mounted")},m)},me=(u,f,g,y,m)=>{if(g&&w(u,g),y)for(let b=0;b<y.length;b++)w(u,y[b]);if(m){let b=m.subTree;if(f===b||Ii(b.type)&&(b.ssContent===f||b.ssFallback===f)){const P=m.vnode;me(u,P,P.scopeId,P.slotScopeIds,m.parent)}}},we=(u,f,g,y,m,b,P,_,S=0)=>{for(let x=S;x<u.length;x++){const F=u[x]=_?it(u[x]):We(u[x]);T(null,F,f,g,y,m,b,P,_)}},j=(u,f,g,y,m,b,P)=>{const _=f.el=u.el;let{patchFlag:S,dynamicChildren:x,dirs:F}=f;S|=u.patchFlag&16;const I=u.props||z,E=f.props||z;let N;if(g&&pt(g,!1),(N=E.onVnodeBeforeUpdate)&&He(N,g,f,u),F&&ft(f,u,g,"beforeUpdate"),g&&pt(g,!0),(I.innerHTML&&E.innerHTML==null||I.textContent&&E.textContent==null)&&d(_,""),x?K(u.dynamicChildren,x,_,g,y,Ys(f,m),b):P||X(u,f,_,null,g,y,Ys(f,m),b,!1),S>0){if(S&16)ie(_,I,E,g,m);else if(S&2&&I.class!==E.class&&i(_,"class",null,E.class,m),S&4&&i(_,"style",I.style,E.style,m),S&8){const H=f.dynamicProps;for(let Z=0;Z<H.length;Z++){const V=H[Z],_e=I[V],Pe=E[V];(Pe!==_e||V==="value")&&i(_,V,_e,Pe,m,g)}}S&1&&u.children!==f.children&&d(_,f.children)}else!P&&x==null&&ie(_,I,E,g,m);((N=E.onVnodeUpdated)||F)&&Me(()=>{N&&He(N,g,f,u),F&&ft(f,u,g,"updated")},y)},K=(u,f,g,y,m,b,P)=>{for(let _=0;_<f.length;_++){const S=u[_],x=f[_],F=S.el&&(S.type===q||!yt(S,x)||S.shapeFlag&198)?p(S.el):g;T(S,x,F,null,y,m,b,P,!0)}},ie=(u,f,g,y,m)=>{if(f!==g){if(f!==z)for(const b in f)!Bt(b)&&!(b in g)&&i(u,b,f[b],null,m,y);for(const b in g){if(Bt(b))continue;const P=g[b],_=f[b];P!==_&&b!=="value"&&i(u,b,_,P,m,y)}"value"in g&&i(u,"value",f.value,g.value,m)}},A=(u,f,g,y,m,b,P,_,S)=>{const x=f.el=u?u.el:l(""),F=f.anchor=u?u.anchor:l("");let{patchFlag:I,dynamicChildren:E,slotScopeIds:N}=f;N&&(_=_?_.concat(N):N),u==null?(n(x,g,y),n(F,g,y),we(f.children||[],g,F,m,b,P,_,S)):I>0&&I&64&&E&&u.dynamicChildren?(K(u.dynamicChildren,E,g,m,b,P,_),(f.key!=null||m&&f===m.subTree)&&wi(u,f,!0)):X(u,f,g,F,m,b,P,_,S)},se=(u,f,g,y,m,b,P,_,S)=>{f.slotScopeIds=_,u==null?f.shapeFlag&512?m.ctx.activate(f,g,y,P,S):he(f,g,y,m,b,P,S):Ke(u,f,S)},he=(u,f,g,y,m,b,P)=>{const _=u.component=Ol(u,y,m);if(Ls(u)&&(_.ctx.renderer=Dt),El(_,!1,P),_.asyncDep){if(m&&m.registerDep(_,ue,P),!u.el){const S=_.subTree=re(ve);B(null,S,f,g),u.placeholder=S.el}}else ue(_,u,f,g,m,b,P)},Ke=(u,f,g)=>{const y=f.component=u.component;if(Sl(u,f,g))if(y.asyncDep&&!y.asyncResolved){oe(y,f,g);return}else y.next=f,y.update();else f.el=u.el,y.vnode=f},ue=(u,f,g,y,m,b,P)=>{const _=()=>{if(u.isMounted){let{next:I,bu:E,u:N,parent:H,vnode:Z}=u;{const Be=_i(u);if(Be){I&&(I.el=Z.el,oe(u,I,P)),Be.asyncDep.then(()=>{u.isUnmounted||_()});return}}let V=I,_e;pt(u,!1),I?(I.el=Z.el,oe(u,I,P)):I=Z,E&&ds(E),(_e=I.props&&I.props.onVnodeBeforeUpdate)&&He(_e,H,I,Z),pt(u,!0);const Pe=Yr(u),Le=u.subTree;u.subTree=Pe,T(Le,Pe,p(Le.el),is(Le),u,m,b),I.el=Pe.el,V===null&&wl(u,Pe.el),N&&Me(N,m),(_e=I.props&&I.props.onVnodeUpdated)&&Me(()=>He(_e,H,I,Z),m)}else{let I;const{el:E,props:N}=f,{bm:H,m:Z,parent:V,root:_e,type:Pe}=u,Le=Wt(f);pt(u,!1),H&&ds(H),!Le&&(I=N&&N.onVnodeBeforeMount)&&He(I,V,f),pt(u,!0);{_e.ce&&_e.ce._def.shadowRoot!==!1&&_e.ce._injectChildStyle(Pe);const Be=u.subTree=Yr(u);T(null,Be,g,y,u,m,b),f.el=Be.el}if(Z&&Me(Z,m),!Le&&(I=N&&N.onVnodeMounted)){const Be=f;Me(()=>He(I,V,Be),m)}(f.shapeFlag&256||V&&Wt(V.vnode)&&V.vnode.shapeFlag&256)&&u.a&&Me(u.a,m),u.isMounted=!0,f=g=y=null}};u.scope.on();const S=u.effect=new Dn(_);u.scope.off();const x=u.update=S.run.bind(S),F=u.job=S.runIfDirty.bind(S);F.i=u,F.id=u.uid,S.scheduler=()=>Ir(F),pt(u,!0),x()},oe=(u,f,g)=>{f.component=u;const y=u.vnode.props;u.vnode=f,u.next=null,nl(u,f.props,y,g),cl(u,f.children,g),et(),Hr(u),tt()},X=(u,f,g,y,m,b,P,_,S=!1)=>{const x=u&&u.children,F=u?u.shapeFlag:0,I=f.children,{patchFlag:E,shapeFlag:N}=f;if(E>0){if(E&128){ns(x,I,g,y,m,b,P,_,S);return}else if(E&256){ut(x,I,g,y,m,b,P,_,S);return}}N&8?(F&16&&Et(x,m,b),I!==x&&d(g,I)):F&16?N&16?ns(x,I,g,y,m,b,P,_,S):Et(x,m,b,!0):(F&8&&d(g,""),N&16&&we(I,g,y,m,b,P,_,S))},ut=(u,f,g,y,m,b,P,_,S)=>{u=u||Pt,f=f||Pt;const x=u.length,F=f.length,I=Math.min(x,F);let E;for(E=0;E<I;E++){const N=f[E]=S?it(f[E]):We(f[E]);T(u[E],N,g,null,m,b,P,_,S)}x>F?Et(u,m,b,!0,!1,I):we(f,g,y,m,b,P,_,S,I)},ns=(u,f,g,y,m,b,P,_,S)=>{let x=0;const F=f.length;let I=u.length-1,E=F-1;for(;x<=I&&x<=E;){const N=u[x],H=f[x]=S?it(f[x]):We(f[x]);if(yt(N,H))T(N,H,g,null,m,b,P,_,S);else break;x++}for(;x<=I&&x<=E;){const N=u[I],H=f[E]=S?it(f[E]):We(f[E]);if(yt(N,H))T(N,H,g,null,m,b,P,_,S);else break;I--,E--}if(x>I){if(x<=E){const N=E+1,H=N<F?f[N].el:y;for(;x<=E;)T(null,f[x]=S?it(f[x]):We(f[x]),g,H,m,b,P,_,S),x++}}else if(x>E)for(;x<=I;)Re(u[x],m,b,!0),x++;else{const N=x,H=x,Z=new Map;for(x=H;x<=E;x++){const Ie=f[x]=S?it(f[x]):We(f[x]);Ie.key!=null&&Z.set(Ie.key,x)}let V,_e=0;const Pe=E-H+1;let Le=!1,Be=0;const kt=new Array(Pe);for(x=0;x<Pe;x++)kt[x]=0;for(x=N;x<=I;x++){const Ie=u[x];if(_e>=Pe){Re(Ie,m,b,!0);continue}let je;if(Ie.key!=null)je=Z.get(Ie.key);else for(V=H;V<=E;V++)if(kt[V-H]===0&&yt(Ie,f[V])){je=V;break}je===void 0?Re(Ie,m,b,!0):(kt[je-H]=x+1,je>=Be?Be=je:Le=!0,T(Ie,f[je],g,null,m,b,P,_,S),_e++)}const kr=Le?fl(kt):Pt;for(V=kr.length-1,x=Pe-1;x>=0;x--){const Ie=H+x,je=f[Ie],Fr=f[Ie+1],Nr=Ie+1<F?Fr.el||Fr.placeholder:y;kt[x]===0?T(null,je,g,Nr,m,b,P,_,S):Le&&(V<0||x!==kr[V]?dt(je,g,Nr,2):V--)}}},dt=(u,f,g,y,m=null)=>{const{el:b,type:P,transition:_,children:S,shapeFlag:x}=u;if(x&6){dt(u.component.subTree,f,g,y);return}if(x&128){u.suspense.move(f,g,y);return}if(x&64){P.move(u,f,g,Dt);return}if(P===q){n(b,f,g);for(let I=0;I<S.length;I++)dt(S[I],f,g,y);n(u.anchor,f,g);return}if(P===hs){G(u,f,g);return}if(y!==2&&x&1&&_)if(y===0)_.beforeEnter(b),n(b,f,g),Me(()=>_.enter(b),m);else{const{leave:I,delayLeave:E,afterLeave:N}=_,H=()=>{u.ctx.isUnmounted?r(b):n(b,f,g)},Z=()=>{b._isLeaving&&b[ze](!0),I(b,()=>{H(),N&&N()})};E?E(b,H,Z):Z()}else n(b,f,g)},Re=(u,f,g,y=!1,m=!1)=>{const{type:b,props:P,ref:_,children:S,dynamicChildren:x,shapeFlag:F,patchFlag:I,dirs:E,cacheIndex:N}=u;if(I===-2&&(m=!1),_!=null&&(et(),Ut(_,null,g,u,!0),tt()),N!=null&&(f.renderCache[N]=void 0),F&256){f.ctx.deactivate(u);return}const H=F&1&&E,Z=!Wt(u);let V;if(Z&&(V=P&&P.onVnodeBeforeUnmount)&&He(V,f,u),F&6)Hi(u.component,g,y);else{if(F&128){u.suspense.unmount(g,y);return}H&&ft(u,null,f,"beforeUnmount"),F&64?u.type.remove(u,f,g,Dt,y):x&&!x.hasOnce&&(b!==q||I>0&&I&64)?Et(x,f,g,!1,!0):(b===q&&I&384||!m&&F&16)&&Et(S,f,g),y&&Er(u)}(Z&&(V=P&&P.onVnodeUnmounted)||H)&&Me(()=>{V&&He(V,f,u),H&&ft(u,null,f,"unmounted")},g)},Er=u=>{const{type:f,el:g,anchor:y,transition:m}=u;if(f===q){ji(g,y);return}if(f===hs){k(u);return}const b=()=>{r(g),m&&!m.persisted&&m.afterLeave&&m.afterLeave()};if(u.shapeFlag&1&&m&&!m.persisted){const{leave:P,delayLeave:_}=m,S=()=>P(g,b);_?_(u.el,b,S):S()}else b()},ji=(u,f)=>{let g;for(;u!==f;)g=v(u),r(u),u=g;r(f)},Hi=(u,f,g)=>{const{bum:y,scope:m,job:b,subTree:P,um:_,m:S,a:x}=u;zr(S),zr(x),y&&ds(y),m.stop(),b&&(b.flags|=8,Re(P,u,f,g)),_&&Me(_,f),Me(()=>{u.isUnmounted=!0},f)},Et=(u,f,g,y=!1,m=!1,b=0)=>{for(let P=b;P<u.length;P++)Re(u[P],f,g,y,m)},is=u=>{if(u.shapeFlag&6)return is(u.component.subTree);if(u.shapeFlag&128)return u.suspense.next();const f=v(u.anchor||u.el),g=f&&f[Eo];return g?v(g):f};let Ws=!1;const Dr=(u,f,g)=>{u==null?f._vnode&&Re(f._vnode,null,null,!0):T(f._vnode||null,u,f,null,null,null,g),f._vnode=u,Ws||(Ws=!0,Hr(),Xn(),Ws=!1)},Dt={p:T,um:Re,m:dt,r:Er,mt:he,mc:we,pc:X,pbc:K,n:is,o:e};return{render:Dr,hydrate:void 0,createApp:tl(Dr)}}function Ys({type:e,props:t},s){return s==="svg"&&e==="foreignObject"||s==="mathml"&&e==="annotation-xml"&&t&&t.encoding&&t.encoding.includes("html")?void 0:s}function pt({effect:e,job:t},s){s?(e.flags|=32,t.flags|=4):(e.flags&=-33,t.flags&=-5)}function dl(e,t){return(!e||e&&!e.pendingBranch)&&t&&!t.persisted}function wi(e,t,s=!1){const n=e.children,r=t.children;if(O(n)&&O(r))for(let i=0;i<n.length;i++){const o=n[i];let l=r[i];l.shapeFlag&1&&!l.dynamicChildren&&((l.patchFlag<=0||l.patchFlag===32)&&(l=r[i]=it(r[i]),l.el=o.el),!s&&l.patchFlag!==-2&&wi(o,l)),l.type===Hs&&l.patchFlag!==-1&&(l.el=o.el),l.type===ve&&!l.el&&(l.el=o.el)}}function fl(e){const t=e.slice(),s=[0];let n,r,i,o,l;const c=e.length;for(n=0;n<c;n++){const h=e[n];if(h!==0){if(r=s[s.length-1],e[r]<h){t[n]=r,s.push(n);continue}for(i=0,o=s.length-1;i<o;)l=i+o>>1,e[s[l]]<h?i=l+1:o=l;h<e[s[i]]&&(i>0&&(t[n]=s[i-1]),s[i]=n)}}for(i=s.length,o=s[i-1];i-- >0;)s[i]=o,o=t[o];return s}function _i(e){const t=e.subTree.component;if(t)return t.asyncDep&&!t.asyncResolved?t:_i(t)}function zr(e){if(e)for(let t=0;t<e.length;t++)e[t].flags|=8}const hl=Symbol.for("v-scx"),pl=()=>fs(hl);function Xs(e,t,s){return Pi(e,t,s)}function Pi(e,t,s=z){const{immediate:n,deep:r,flush:i,once:o}=s,l=fe({},s),c=t&&n||!t&&i!=="post";let h;if(Yt){if(i==="sync"){const w=pl();h=w.__watcherHandles||(w.__watcherHandles=[])}else if(!c){const w=()=>{};return w.stop=Ve,w.resume=Ve,w.pause=Ve,w}}const d=ge;l.call=(w,D,T)=>Ne(w,d,D,T);let p=!1;i==="post"?l.scheduler=w=>{Me(w,d&&d.suspense)}:i!=="sync"&&(p=!0,l.scheduler=(w,D)=>{D?w():Ir(w)}),l.augmentJob=w=>{t&&(w.flags|=4),p&&(w.flags|=2,d&&(w.id=d.uid,w.i=d))};const v=Io(e,t,l);return Yt&&(h?h.push(v):c&&v()),v}function gl(e,t,s){const n=this.proxy,r=le(e)?e.includes(".")?Ci(n,e):()=>n[e]:e.bind(n,n);let i;L(t)?i=t:(i=t.handler,s=t);const o=ss(this),l=Pi(r,i.bind(n),s);return o(),l}function Ci(e,t){const s=t.split(".");return()=>{let n=e;for(let r=0;r<s.length&&n;r++)n=n[s[r]];return n}}const ml=(e,t)=>t==="modelValue"||t==="model-value"?e.modelModifiers:e[`${t}Modifiers`]||e[`${De(t)}Modifiers`]||e[`${ct(t)}Modifiers`];function bl(e,t,...s){if(e.isUnmounted)return;const n=e.vnode.props||z;let r=s;const i=t.startsWith("update:"),o=i&&ml(n,t.slice(7));o&&(o.trim&&(r=s.map(d=>le(d)?d.trim():d)),o.number&&(r=s.map(bs)));let l,c=n[l=Vs(t)]||n[l=Vs(De(t))];!c&&i&&(c=n[l=Vs(ct(t))]),c&&Ne(c,e,6,r);const h=n[l+"Once"];if(h){if(!e.emitted)e.emitted={};else if(e.emitted[l])return;e.emitted[l]=!0,Ne(h,e,6,r)}}const yl=new WeakMap;function Ti(e,t,s=!1){const n=s?yl:t.emitsCache,r=n.get(e);if(r!==void 0)return r;const i=e.emits;let o={},l=!1;if(!L(e)){const c=h=>{const d=Ti(h,t,!0);d&&(l=!0,fe(o,d))};!s&&t.mixins.length&&t.mixins.forEach(c),e.extends&&c(e.extends),e.mixins&&e.mixins.forEach(c)}return!i&&!l?(J(e)&&n.set(e,null),null):(O(i)?i.forEach(c=>o[c]=null):fe(o,i),J(e)&&n.set(e,o),o)}function js(e,t){return!e||!Es(t)?!1:(t=t.slice(2).replace(/Once$/,""),W(e,t[0].toLowerCase()+t.slice(1))||W(e,ct(t))||W(e,t))}function Yr(e){const{type:t,vnode:s,proxy:n,withProxy:r,propsOptions:[i],slots:o,attrs:l,emit:c,render:h,renderCache:d,props:p,data:v,setupState:w,ctx:D,inheritAttrs:T}=e,te=Ss(e);let B,U;try{if(s.shapeFlag&4){const k=r||n,Y=k;B=We(h.call(Y,k,d,p,w,v,D)),U=l}else{const k=t;B=We(k.length>1?k(p,{attrs:l,slots:o,emit:c}):k(p,null)),U=t.props?l:xl(l)}}catch(k){$t.length=0,Rs(k,e,1),B=re(ve)}let G=B;if(U&&T!==!1){const k=Object.keys(U),{shapeFlag:Y}=G;k.length&&Y&7&&(i&&k.some(mr)&&(U=vl(U,i)),G=lt(G,U,!1,!0))}return s.dirs&&(G=lt(G,null,!1,!0),G.dirs=G.dirs?G.dirs.concat(s.dirs):s.dirs),s.transition&&Gt(G,s.transition),B=G,Ss(te),B}const xl=e=>{let t;for(const s in e)(s==="class"||s==="style"||Es(s))&&((t||(t={}))[s]=e[s]);return t},vl=(e,t)=>{const s={};for(const n in e)(!mr(n)||!(n.slice(9)in t))&&(s[n]=e[n]);return s};function Sl(e,t,s){const{props:n,children:r,component:i}=e,{props:o,children:l,patchFlag:c}=t,h=i.emitsOptions;if(t.dirs||t.transition)return!0;if(s&&c>=0){if(c&1024)return!0;if(c&16)return n?Xr(n,o,h):!!o;if(c&8){const d=t.dynamicProps;for(let p=0;p<d.length;p++){const v=d[p];if(o[v]!==n[v]&&!js(h,v))return!0}}}else return(r||l)&&(!l||!l.$stable)?!0:n===o?!1:n?o?Xr(n,o,h):!0:!!o;return!1}function Xr(e,t,s){const n=Object.keys(t);if(n.length!==Object.keys(e).length)return!0;for(let r=0;r<n.length;r++){const i=n[r];if(t[i]!==e[i]&&!js(s,i))return!0}return!1}function wl({vnode:e,parent:t},s){for(;t;){const n=t.subTree;if(n.suspense&&n.suspense.activeBranch===e&&(n.el=e.el),n===e)(e=t.vnode).el=s,t=t.parent;else break}}const Ii=e=>e.__isSuspense;function _l(e,t){t&&t.pendingBranch?O(e)?t.effects.push(...e):t.effects.push(e):Oo(e)}const q=Symbol.for("v-fgt"),Hs=Symbol.for("v-txt"),ve=Symbol.for("v-cmt"),hs=Symbol.for("v-stc"),$t=[];let Oe=null;function C(e=!1){$t.push(Oe=e?null:[])}function Pl(){$t.pop(),Oe=$t[$t.length-1]||null}let zt=1;function Cs(e,t=!1){zt+=e,e<0&&Oe&&t&&(Oe.hasOnce=!0)}function Mi(e){return e.dynamicChildren=zt>0?Oe||Pt:null,Pl(),zt>0&&Oe&&Oe.push(e),e}function M(e,t,s,n,r,i){return Mi(a(e,t,s,n,r,i,!0))}function Ts(e,t,s,n,r){return Mi(re(e,t,s,n,r,!0))}function Is(e){return e?e.__v_isVNode===!0:!1}function yt(e,t){return e.type===t.type&&e.key===t.key}const Ai=({key:e})=>e??null,ps=({ref:e,ref_key:t,ref_for:s})=>(typeof e=="number"&&(e=""+e),e!=null?le(e)||Se(e)||L(e)?{i:Ae,r:e,k:t,f:!!s}:e:null);function a(e,t=null,s=null,n=0,r=null,i=e===q?0:1,o=!1,l=!1){const c={__v_isVNode:!0,__v_skip:!0,type:e,props:t,key:t&&Ai(t),ref:t&&ps(t),scopeId:Qn,slotScopeIds:null,children:s,component:null,suspense:null,ssContent:null,ssFallback:null,dirs:null,transition:null,el:null,anchor:null,target:null,targetStart:null,targetAnchor:null,staticCount:0,shapeFlag:i,patchFlag:n,dynamicProps:r,dynamicChildren:null,appContext:null,ctx:Ae};return l?(Or(c,s),i&128&&e.normalize(c)):s&&(c.shapeFlag|=le(s)?8:16),zt>0&&!o&&Oe&&(c.patchFlag>0||i&6)&&c.patchFlag!==32&&Oe.push(c),c}const re=Cl;function Cl(e,t=null,s=null,n=0,r=null,i=!1){if((!e||e===qo)&&(e=ve),Is(e)){const l=lt(e,t,!0);return s&&Or(l,s),zt>0&&!i&&Oe&&(l.shapeFlag&6?Oe[Oe.indexOf(e)]=l:Oe.push(l)),l.patchFlag=-2,l}if(Rl(e)&&(e=e.__vccOpts),t){t=Tl(t);let{class:l,style:c}=t;l&&!le(l)&&(t.class=ne(l)),J(c)&&(Tr(c)&&!O(c)&&(c=fe({},c)),t.style=Ze(c))}const o=le(e)?1:Ii(e)?128:ei(e)?64:J(e)?4:L(e)?2:0;return a(e,t,s,n,r,o,i,!0)}function Tl(e){return e?Tr(e)||mi(e)?fe({},e):e:null}function lt(e,t,s=!1,n=!1){const{props:r,ref:i,patchFlag:o,children:l,transition:c}=e,h=t?Il(r||{},t):r,d={__v_isVNode:!0,__v_skip:!0,type:e.type,props:h,key:h&&Ai(h),ref:t&&t.ref?s&&i?O(i)?i.concat(ps(t)):[i,ps(t)]:ps(t):i,scopeId:e.scopeId,slotScopeIds:e.slotScopeIds,children:l,target:e.target,targetStart:e.targetStart,targetAnchor:e.targetAnchor,staticCount:e.staticCount,shapeFlag:e.shapeFlag,patchFlag:t&&e.type!==q?o===-1?16:o|16:o,dynamicProps:e.dynamicProps,dynamicChildren:e.dynamicChildren,appContext:e.appContext,dirs:e.dirs,transition:c,component:e.component,suspense:e.suspense,ssContent:e.ssContent&&lt(e.ssContent),ssFallback:e.ssFallback&&lt(e.ssFallback),placeholder:e.placeholder,el:e.el,anchor:e.anchor,ctx:e.ctx,ce:e.ce};return c&&n&&Gt(d,c.clone(d)),d}function ee(e=" ",t=0){return re(Hs,null,e,t)}function Zr(e,t){const s=re(hs,null,e);return s.staticCount=t,s}function ce(e="",t=!1){return t?(C(),Ts(ve,null,e)):re(ve,null,e)}function We(e){return e==null||typeof e=="boolean"?re(ve):O(e)?re(q,null,e.slice()):Is(e)?it(e):re(Hs,null,String(e))}function it(e){return e.el===null&&e.patchFlag!==-1||e.memo?e:lt(e)}function Or(e,t){let s=0;const{shapeFlag:n}=e;if(t==null)t=null;else if(O(t))s=16;else if(typeof t=="object")if(n&65){const r=t.default;r&&(r._c&&(r._d=!1),Or(e,r()),r._c&&(r._d=!0));return}else{s=32;const r=t._;!r&&!mi(t)?t._ctx=Ae:r===3&&Ae&&(Ae.slots._===1?t._=1:(t._=2,e.patchFlag|=1024))}else L(t)?(t={default:t,_ctx:Ae},s=32):(t=String(t),n&64?(s=16,t=[ee(t)]):s=8);e.children=t,e.shapeFlag|=s}function Il(...e){const t={};for(let s=0;s<e.length;s++){const n=e[s];for(const r in n)if(r==="class")t.class!==n.class&&(t.class=ne([t.class,n.class]));else if(r==="style")t.style=Ze([t.style,n.style]);else if(Es(r)){const i=t[r],o=n[r];o&&i!==o&&!(O(i)&&i.includes(o))&&(t[r]=i?[].concat(i,o):o)}else r!==""&&(t[r]=n[r])}return t}function He(e,t,s,n=null){Ne(e,t,7,[s,n])}const Ml=hi();let Al=0;function Ol(e,t,s){const n=e.type,r=(t?t.appContext:e.appContext)||Ml,i={uid:Al++,vnode:e,type:n,parent:t,appContext:r,root:null,next:null,subTree:null,effect:null,update:null,job:null,scope:new Qi(!0),render:null,proxy:null,exposed:null,exposeProxy:null,withProxy:null,provides:t?t.provides:Object.create(r.provides),ids:t?t.ids:["",0,0],accessCache:null,renderCache:[],components:null,directives:null,propsOptions:yi(n,r),emitsOptions:Ti(n,r),emit:null,emitted:null,propsDefaults:z,inheritAttrs:n.inheritAttrs,ctx:z,data:z,props:z,attrs:z,slots:z,refs:z,setupState:z,setupContext:null,suspense:s,suspenseId:s?s.pendingId:0,asyncDep:null,asyncResolved:!1,isMounted:!1,isUnmounted:!1,isDeactivated:!1,bc:null,c:null,bm:null,m:null,bu:null,u:null,um:null,bum:null,da:null,a:null,rtg:null,rtc:null,ec:null,sp:null};return i.ctx={_:i},i.root=t?t.root:i,i.emit=bl.bind(null,i),e.ce&&e.ce(i),i}let ge=null;const Oi=()=>ge||Ae;let Ms,dr;{const e=Fs(),t=(s,n)=>{let r;return(r=e[s])||(r=e[s]=[]),r.push(n),i=>{r.length>1?r.forEach(o=>o(i)):r[0](i)}};Ms=t("__VUE_INSTANCE_SETTERS__",s=>ge=s),dr=t("__VUE_SSR_SETTERS__",s=>Yt=s)}const ss=e=>{const t=ge;return Ms(e),e.scope.on(),()=>{e.scope.off(),Ms(t)}},Qr=()=>{ge&&ge.scope.off(),Ms(null)};function Ei(e){return e.vnode.shapeFlag&4}let Yt=!1;function El(e,t=!1,s=!1){t&&dr(t);const{props:n,children:r}=e.vnode,i=Ei(e);rl(e,n,i,t),ll(e,r,s||t);const o=i?Dl(e,t):void 0;return t&&dr(!1),o}function Dl(e,t){const s=e.type;e.accessCache=Object.create(null),e.proxy=new Proxy(e.ctx,Go);const{setup:n}=s;if(n){et();const r=e.setupContext=n.length>1?Fl(e):null,i=ss(e),o=ts(n,e,0,[e.props,r]),l=Cn(o);if(tt(),i(),(l||e.sp)&&!Wt(e)&&oi(e),l){if(o.then(Qr,Qr),t)return o.then(c=>{en(e,c)}).catch(c=>{Rs(c,e,0)});e.asyncDep=o}else en(e,o)}else Di(e)}function en(e,t,s){L(t)?e.type.__ssrInlineRender?e.ssrRender=t:e.render=t:J(t)&&(e.setupState=Jn(t)),Di(e)}function Di(e,t,s){const n=e.type;e.render||(e.render=n.render||Ve);{const r=ss(e);et();try{zo(e)}finally{tt(),r()}}}const kl={get(e,t){return pe(e,"get",""),e[t]}};function Fl(e){const t=s=>{e.exposed=s||{}};return{attrs:new Proxy(e.attrs,kl),slots:e.slots,emit:e.emit,expose:t}}function Us(e){return e.exposed?e.exposeProxy||(e.exposeProxy=new Proxy(Jn(So(e.exposed)),{get(t,s){if(s in t)return t[s];if(s in Vt)return Vt[s](e)},has(t,s){return s in t||s in Vt}})):e.proxy}function Nl(e,t=!0){return L(e)?e.displayName||e.name:e.name||t&&e.__name}function Rl(e){return L(e)&&"__vccOpts"in e}const Ll=(e,t)=>Co(e,t,Yt);function Bl(e,t,s){try{Cs(-1);const n=arguments.length;return n===2?J(t)&&!O(t)?Is(t)?re(e,null,[t]):re(e,t):re(e,null,t):(n>3?s=Array.prototype.slice.call(arguments,2):n===3&&Is(s)&&(s=[s]),re(e,t,s))}finally{Cs(1)}}const jl="3.5.22";/**
+* @vue/runtime-dom v3.5.22
+* (c) 2018-present Yuxi (Evan) You and Vue contributors
+* @license MIT
+**/let fr;const tn=typeof window<"u"&&window.trustedTypes;if(tn)try{fr=tn.createPolicy("vue",{createHTML:e=>e})}catch{}const ki=fr?e=>fr.createHTML(e):e=>e,Hl="http://www.w3.org/2000/svg",Ul="http://www.w3.org/1998/Math/MathML",Ge=typeof document<"u"?document:null,sn=Ge&&Ge.createElement("template"),Wl={insert:(e,t,s)=>{t.insertBefore(e,s||null)},remove:e=>{const t=e.parentNode;t&&t.removeChild(e)},createElement:(e,t,s,n)=>{const r=t==="svg"?Ge.createElementNS(Hl,e):t==="mathml"?Ge.createElementNS(Ul,e):s?Ge.createElement(e,{is:s}):Ge.createElement(e);return e==="select"&&n&&n.multiple!=null&&r.setAttribute("multiple",n.multiple),r},createText:e=>Ge.createTextNode(e),createComment:e=>Ge.createComment(e),setText:(e,t)=>{e.nodeValue=t},setElementText:(e,t)=>{e.textContent=t},parentNode:e=>e.parentNode,nextSibling:e=>e.nextSibling,querySelector:e=>Ge.querySelector(e),setScopeId(e,t){e.setAttribute(t,"")},insertStaticContent(e,t,s,n,r,i){const o=s?s.previousSibling:t.lastChild;if(r&&(r===i||r.nextSibling))for(;t.insertBefore(r.cloneNode(!0),s),!(r===i||!(r=r.nextSibling)););else{sn.innerHTML=ki(n==="svg"?`<svg>${e}</svg>`:n==="mathml"?`<math>${e}</math>`:e);const l=sn.content;if(n==="svg"||n==="mathml"){const c=l.firstChild;for(;c.firstChild;)l.appendChild(c.firstChild);l.removeChild(c)}t.insertBefore(l,s)}return[o?o.nextSibling:t.firstChild,s?s.previousSibling:t.lastChild]}},rt="transition",Nt="animation",Xt=Symbol("_vtc"),Fi={name:String,type:String,css:{type:Boolean,default:!0},duration:[String,Number,Object],enterFromClass:String,enterActiveClass:String,enterToClass:String,appearFromClass:String,appearActiveClass:String,appearToClass:String,leaveFromClass:String,leaveActiveClass:String,leaveToClass:String},Vl=fe({},ti,Fi),$l=e=>(e.displayName="Transition",e.props=Vl,e),hr=$l((e,{slots:t})=>Bl(Fo,Kl(e),t)),gt=(e,t=[])=>{O(e)?e.forEach(s=>s(...t)):e&&e(...t)},rn=e=>e?O(e)?e.some(t=>t.length>1):e.length>1:!1;function Kl(e){const t={};for(const A in e)A in Fi||(t[A]=e[A]);if(e.css===!1)return t;const{name:s="v",type:n,duration:r,enterFromClass:i=`${s}-enter-from`,enterActiveClass:o=`${s}-enter-active`,enterToClass:l=`${s}-enter-to`,appearFromClass:c=i,appearActiveClass:h=o,appearToClass:d=l,leaveFromClass:p=`${s}-leave-from`,leaveActiveClass:v=`${s}-leave-active`,leaveToClass:w=`${s}-leave-to`}=e,D=ql(r),T=D&&D[0],te=D&&D[1],{onBeforeEnter:B,onEnter:U,onEnterCancelled:G,onLeave:k,onLeaveCancelled:Y,onBeforeAppear:ae=B,onAppear:me=U,onAppearCancelled:we=G}=t,j=(A,se,he,Ke)=>{A._enterCancelled=Ke,mt(A,se?d:l),mt(A,se?h:o),he&&he()},K=(A,se)=>{A._isLeaving=!1,mt(A,p),mt(A,w),mt(A,v),se&&se()},ie=A=>(se,he)=>{const Ke=A?me:U,ue=()=>j(se,A,he);gt(Ke,[se,ue]),nn(()=>{mt(se,A?c:i),Je(se,A?d:l),rn(Ke)||on(se,n,T,ue)})};return fe(t,{onBeforeEnter(A){gt(B,[A]),Je(A,i),Je(A,o)},onBeforeAppear(A){gt(ae,[A]),Je(A,c),Je(A,h)},onEnter:ie(!1),onAppear:ie(!0),onLeave(A,se){A._isLeaving=!0;const he=()=>K(A,se);Je(A,p),A._enterCancelled?(Je(A,v),an(A)):(an(A),Je(A,v)),nn(()=>{A._isLeaving&&(mt(A,p),Je(A,w),rn(k)||on(A,n,te,he))}),gt(k,[A,he])},onEnterCancelled(A){j(A,!1,void 0,!0),gt(G,[A])},onAppearCancelled(A){j(A,!0,void 0,!0),gt(we,[A])},onLeaveCancelled(A){K(A),gt(Y,[A])}})}function ql(e){if(e==null)return null;if(J(e))return[Zs(e.enter),Zs(e.leave)];{const t=Zs(e);return[t,t]}}function Zs(e){return Ki(e)}function Je(e,t){t.split(/\s+/).forEach(s=>s&&e.classList.add(s)),(e[Xt]||(e[Xt]=new Set)).add(t)}function mt(e,t){t.split(/\s+/).forEach(n=>n&&e.classList.remove(n));const s=e[Xt];s&&(s.delete(t),s.size||(e[Xt]=void 0))}function nn(e){requestAnimationFrame(()=>{requestAnimationFrame(e)})}let Jl=0;function on(e,t,s,n){const r=e._endId=++Jl,i=()=>{r===e._endId&&n()};if(s!=null)return setTimeout(i,s);const{type:o,timeout:l,propCount:c}=Gl(e,t);if(!o)return n();const h=o+"end";let d=0;const p=()=>{e.removeEventListener(h,v),i()},v=w=>{w.target===e&&++d>=c&&p()};setTimeout(()=>{d<c&&p()},l+1),e.addEventListener(h,v)}function Gl(e,t){const s=window.getComputedStyle(e),n=D=>(s[D]||"").split(", "),r=n(`${rt}Delay`),i=n(`${rt}Duration`),o=ln(r,i),l=n(`${Nt}Delay`),c=n(`${Nt}Duration`),h=ln(l,c);let d=null,p=0,v=0;t===rt?o>0&&(d=rt,p=o,v=i.length):t===Nt?h>0&&(d=Nt,p=h,v=c.length):(p=Math.max(o,h),d=p>0?o>h?rt:Nt:null,v=d?d===rt?i.length:c.length:0);const w=d===rt&&/\b(?:transform|all)(?:,|$)/.test(n(`${rt}Property`).toString());return{type:d,timeout:p,propCount:v,hasTransform:w}}function ln(e,t){for(;e.length<t.length;)e=e.concat(e);return Math.max(...t.map((s,n)=>cn(s)+cn(e[n])))}function cn(e){return e==="auto"?0:Number(e.slice(0,-1).replace(",","."))*1e3}function an(e){return(e?e.ownerDocument:document).body.offsetHeight}function zl(e,t,s){const n=e[Xt];n&&(t=(t?[t,...n]:[...n]).join(" ")),t==null?e.removeAttribute("class"):s?e.setAttribute("class",t):e.className=t}const As=Symbol("_vod"),Ni=Symbol("_vsh"),rs={name:"show",beforeMount(e,{value:t},{transition:s}){e[As]=e.style.display==="none"?"":e.style.display,s&&t?s.beforeEnter(e):Rt(e,t)},mounted(e,{value:t},{transition:s}){s&&t&&s.enter(e)},updated(e,{value:t,oldValue:s},{transition:n}){!t!=!s&&(n?t?(n.beforeEnter(e),Rt(e,!0),n.enter(e)):n.leave(e,()=>{Rt(e,!1)}):Rt(e,t))},beforeUnmount(e,{value:t}){Rt(e,t)}};function Rt(e,t){e.style.display=t?e[As]:"none",e[Ni]=!t}const Yl=Symbol(""),Xl=/(?:^|;)\s*display\s*:/;function Zl(e,t,s){const n=e.style,r=le(s);let i=!1;if(s&&!r){if(t)if(le(t))for(const o of t.split(";")){const l=o.slice(0,o.indexOf(":")).trim();s[l]==null&&gs(n,l,"")}else for(const o in t)s[o]==null&&gs(n,o,"");for(const o in s)o==="display"&&(i=!0),gs(n,o,s[o])}else if(r){if(t!==s){const o=n[Yl];o&&(s+=";"+o),n.cssText=s,i=Xl.test(s)}}else t&&e.removeAttribute("style");As in e&&(e[As]=i?n.display:"",e[Ni]&&(n.display="none"))}const un=/\s*!important$/;function gs(e,t,s){if(O(s))s.forEach(n=>gs(e,t,n));else if(s==null&&(s=""),t.startsWith("--"))e.setProperty(t,s);else{const n=Ql(e,t);un.test(s)?e.setProperty(ct(n),s.replace(un,""),"important"):e[n]=s}}const dn=["Webkit","Moz","ms"],Qs={};function Ql(e,t){const s=Qs[t];if(s)return s;let n=De(t);if(n!=="filter"&&n in e)return Qs[t]=n;n=ks(n);for(let r=0;r<dn.length;r++){const i=dn[r]+n;if(i in e)return Qs[t]=i}return t}const fn="http://www.w3.org/1999/xlink";function hn(e,t,s,n,r,i=Xi(t)){n&&t.startsWith("xlink:")?s==null?e.removeAttributeNS(fn,t.slice(6,t.length)):e.setAttributeNS(fn,t,s):s==null||i&&!An(s)?e.removeAttribute(t):e.setAttribute(t,i?"":$e(s)?String(s):s)}function pn(e,t,s,n,r){if(t==="innerHTML"||t==="textContent"){s!=null&&(e[t]=t==="innerHTML"?ki(s):s);return}const i=e.tagName;if(t==="value"&&i!=="PROGRESS"&&!i.includes("-")){const l=i==="OPTION"?e.getAttribute("value")||"":e.value,c=s==null?e.type==="checkbox"?"on":"":String(s);(l!==c||!("_value"in e))&&(e.value=c),s==null&&e.removeAttribute(t),e._value=s;return}let o=!1;if(s===""||s==null){const l=typeof e[t];l==="boolean"?s=An(s):s==null&&l==="string"?(s="",o=!0):l==="number"&&(s=0,o=!0)}try{e[t]=s}catch{}o&&e.removeAttribute(r||t)}function ot(e,t,s,n){e.addEventListener(t,s,n)}function ec(e,t,s,n){e.removeEventListener(t,s,n)}const gn=Symbol("_vei");function tc(e,t,s,n,r=null){const i=e[gn]||(e[gn]={}),o=i[t];if(n&&o)o.value=n;else{const[l,c]=sc(t);if(n){const h=i[t]=ic(n,r);ot(e,l,h,c)}else o&&(ec(e,l,o,c),i[t]=void 0)}}const mn=/(?:Once|Passive|Capture)$/;function sc(e){let t;if(mn.test(e)){t={};let n;for(;n=e.match(mn);)e=e.slice(0,e.length-n[0].length),t[n[0].toLowerCase()]=!0}return[e[2]===":"?e.slice(3):ct(e.slice(2)),t]}let er=0;const rc=Promise.resolve(),nc=()=>er||(rc.then(()=>er=0),er=Date.now());function ic(e,t){const s=n=>{if(!n._vts)n._vts=Date.now();else if(n._vts<=s.attached)return;Ne(oc(n,s.value),t,5,[n])};return s.value=e,s.attached=nc(),s}function oc(e,t){if(O(t)){const s=e.stopImmediatePropagation;return e.stopImmediatePropagation=()=>{s.call(e),e._stopped=!0},t.map(n=>r=>!r._stopped&&n&&n(r))}else return t}const bn=e=>e.charCodeAt(0)===111&&e.charCodeAt(1)===110&&e.charCodeAt(2)>96&&e.charCodeAt(2)<123,lc=(e,t,s,n,r,i)=>{const o=r==="svg";t==="class"?zl(e,n,o):t==="style"?Zl(e,s,n):Es(t)?mr(t)||tc(e,t,s,n,i):(t[0]==="."?(t=t.slice(1),!0):t[0]==="^"?(t=t.slice(1),!1):cc(e,t,n,o))?(pn(e,t,n),!e.tagName.includes("-")&&(t==="value"||t==="checked"||t==="selected")&&hn(e,t,n,o,i,t!=="value")):e._isVueCE&&(/[A-Z]/.test(t)||!le(n))?pn(e,De(t),n,i,t):(t==="true-value"?e._trueValue=n:t==="false-value"&&(e._falseValue=n),hn(e,t,n,o))};function cc(e,t,s,n){if(n)return!!(t==="innerHTML"||t==="textContent"||t in e&&bn(t)&&L(s));if(t==="spellcheck"||t==="draggable"||t==="translate"||t==="autocorrect"||t==="form"||t==="list"&&e.tagName==="INPUT"||t==="type"&&e.tagName==="TEXTAREA")return!1;if(t==="width"||t==="height"){const r=e.tagName;if(r==="IMG"||r==="VIDEO"||r==="CANVAS"||r==="SOURCE")return!1}return bn(t)&&le(s)?!1:t in e}const At=e=>{const t=e.props["onUpdate:modelValue"]||!1;return O(t)?s=>ds(t,s):t};function ac(e){e.target.composing=!0}function yn(e){const t=e.target;t.composing&&(t.composing=!1,t.dispatchEvent(new Event("input")))}const Qe=Symbol("_assign"),pr={created(e,{modifiers:{lazy:t,trim:s,number:n}},r){e[Qe]=At(r);const i=n||r.props&&r.props.type==="number";ot(e,t?"change":"input",o=>{if(o.target.composing)return;let l=e.value;s&&(l=l.trim()),i&&(l=bs(l)),e[Qe](l)}),s&&ot(e,"change",()=>{e.value=e.value.trim()}),t||(ot(e,"compositionstart",ac),ot(e,"compositionend",yn),ot(e,"change",yn))},mounted(e,{value:t}){e.value=t??""},beforeUpdate(e,{value:t,oldValue:s,modifiers:{lazy:n,trim:r,number:i}},o){if(e[Qe]=At(o),e.composing)return;const l=(i||e.type==="number")&&!/^0\d/.test(e.value)?bs(e.value):e.value,c=t??"";l!==c&&(document.activeElement===e&&e.type!=="range"&&(n&&t===s||r&&e.value.trim()===c)||(e.value=c))}},xn={deep:!0,created(e,t,s){e[Qe]=At(s),ot(e,"change",()=>{const n=e._modelValue,r=Zt(e),i=e.checked,o=e[Qe];if(O(n)){const l=xr(n,r),c=l!==-1;if(i&&!c)o(n.concat(r));else if(!i&&c){const h=[...n];h.splice(l,1),o(h)}}else if(Ot(n)){const l=new Set(n);i?l.add(r):l.delete(r),o(l)}else o(Ri(e,i))})},mounted:vn,beforeUpdate(e,t,s){e[Qe]=At(s),vn(e,t,s)}};function vn(e,{value:t,oldValue:s},n){e._modelValue=t;let r;if(O(t))r=xr(t,n.props.value)>-1;else if(Ot(t))r=t.has(n.props.value);else{if(t===s)return;r=es(t,Ri(e,!0))}e.checked!==r&&(e.checked=r)}const ms={deep:!0,created(e,{value:t,modifiers:{number:s}},n){const r=Ot(t);ot(e,"change",()=>{const i=Array.prototype.filter.call(e.options,o=>o.selected).map(o=>s?bs(Zt(o)):Zt(o));e[Qe](e.multiple?r?new Set(i):i:i[0]),e._assigning=!0,zn(()=>{e._assigning=!1})}),e[Qe]=At(n)},mounted(e,{value:t}){Sn(e,t)},beforeUpdate(e,t,s){e[Qe]=At(s)},updated(e,{value:t}){e._assigning||Sn(e,t)}};function Sn(e,t){const s=e.multiple,n=O(t);if(!(s&&!n&&!Ot(t))){for(let r=0,i=e.options.length;r<i;r++){const o=e.options[r],l=Zt(o);if(s)if(n){const c=typeof l;c==="string"||c==="number"?o.selected=t.some(h=>String(h)===String(l)):o.selected=xr(t,l)>-1}else o.selected=t.has(l);else if(es(Zt(o),t)){e.selectedIndex!==r&&(e.selectedIndex=r);return}}!s&&e.selectedIndex!==-1&&(e.selectedIndex=-1)}}function Zt(e){return"_value"in e?e._value:e.value}function Ri(e,t){const s=t?"_trueValue":"_falseValue";return s in e?e[s]:t}const uc=["ctrl","shift","alt","meta"],dc={stop:e=>e.stopPropagation(),prevent:e=>e.preventDefault(),self:e=>e.target!==e.currentTarget,ctrl:e=>!e.ctrlKey,shift:e=>!e.shiftKey,alt:e=>!e.altKey,meta:e=>!e.metaKey,left:e=>"button"in e&&e.button!==0,middle:e=>"button"in e&&e.button!==1,right:e=>"button"in e&&e.button!==2,exact:(e,t)=>uc.some(s=>e[`${s}Key`]&&!t.includes(s))},wn=(e,t)=>{const s=e._withMods||(e._withMods={}),n=t.join(".");return s[n]||(s[n]=(r,...i)=>{for(let o=0;o<t.length;o++){const l=dc[t[o]];if(l&&l(r,t))return}return e(r,...i)})},fc={esc:"escape",space:" ",up:"arrow-up",left:"arrow-left",right:"arrow-right",down:"arrow-down",delete:"backspace"},Os=(e,t)=>{const s=e._withKeys||(e._withKeys={}),n=t.join(".");return s[n]||(s[n]=r=>{if(!("key"in r))return;const i=ct(r.key);if(t.some(o=>o===i||fc[o]===i))return e(r)})},hc=fe({patchProp:lc},Wl);let _n;function pc(){return _n||(_n=al(hc))}const gc=(...e)=>{const t=pc().createApp(...e),{mount:s}=t;return t.mount=n=>{const r=bc(n);if(!r)return;const i=t._component;!L(i)&&!i.render&&!i.template&&(i.template=r.innerHTML),r.nodeType===1&&(r.textContent="");const o=s(r,!1,mc(r));return r instanceof Element&&(r.removeAttribute("v-cloak"),r.setAttribute("data-v-app","")),o},t};function mc(e){if(e instanceof SVGElement)return"svg";if(typeof MathMLElement=="function"&&e instanceof MathMLElement)return"mathml"}function bc(e){return le(e)?document.querySelector(e):e}function us(e){if(!e||e==="N/A")return 0;const t=e.match(/(\d+):(\d+)\s*(AM|PM)/i);if(!t)return 0;let s=parseInt(t[1]);const n=parseInt(t[2]),r=t[3].toUpperCase();return r==="PM"&&s!==12&&(s+=12),r==="AM"&&s===12&&(s=0),s*60+n}const at=(e,t)=>{const s=e.__vccOpts||e;for(const[n,r]of t)s[n]=r;return s},yc={name:"CalendarGrid",props:{sections:{type:Array,default:()=>[]},hourHeight:{type:Number,default:80}},emits:["course-click"],data(){return{weekDays:["Monday","Tuesday","Wednesday","Thursday","Friday"],windowWidth:typeof window<"u"?window.innerWidth:1024}},mounted(){typeof window<"u"&&(window.addEventListener("resize",this.handleResize),this.handleResize())},beforeUnmount(){typeof window<"u"&&window.removeEventListener("resize",this.handleResize)},computed:{gridColsClass(){return"grid-cols-[40px_repeat(5,1fr)] sm:grid-cols-[60px_repeat(5,1fr)]"},responsiveHourHeight(){return this.windowWidth<640?Math.max(50,this.hourHeight*.75):this.windowWidth<1024?Math.max(65,this.hourHeight*.85):this.hourHeight},maxCalendarHeight(){return this.windowWidth<640?"calc(100vh - 300px)":this.windowWidth<1024?"calc(100vh - 250px)":"calc(100vh - 200px)"},timeRange(){if(!this.sections||this.sections.length===0)return{min:8,max:17};let e=24*60,t=0;if(this.sections.forEach(r=>{r.timeStart&&r.timeStart!=="N/A"&&r.timeStart!=="TBD"&&r.timeStart!=="Online"&&(e=Math.min(e,us(r.timeStart))),r.timeEnd&&r.timeEnd!=="N/A"&&r.timeEnd!=="TBD"&&r.timeEnd!=="Online"&&(t=Math.max(t,us(r.timeEnd)))}),e>t)return{min:8,max:17};let s=Math.max(0,Math.floor(e/60)-1),n=Math.min(23,Math.ceil(t/60)+1);return{min:s,max:n}},timeSlots(){const e=[];for(let t=this.timeRange.min;t<=this.timeRange.max;t++)e.push(t);return e},totalHeight(){return this.timeSlots.length*this.hourHeight},calendarEvents(){const e=[],t=["#C8102E","#2E86AB","#A23B72","#F18F01","#06A77D","#8338EC"],s={};return[...new Set(this.sections.map(r=>r.courseId))].forEach((r,i)=>{s[r]=t[i%t.length]}),this.sections.forEach(r=>{if(!r.daysOfTheWeek||r.daysOfTheWeek==="Online"||r.daysOfTheWeek==="N/A"||r.daysOfTheWeek==="TBD"||!r.timeStart||!r.timeEnd||r.timeStart==="N/A"||r.timeStart==="TBD"||r.timeStart==="Online")return;const i=r.daysOfTheWeek.split(",").map(w=>w.trim()),o=us(r.timeStart),c=us(r.timeEnd)-o,d=(o-this.timeRange.min*60)/60*this.responsiveHourHeight,p=Math.max(44,c/60*this.responsiveHourHeight),v={Mon:"Monday",Tue:"Tuesday",Wed:"Wednesday",Thu:"Thursday",Fri:"Friday"};i.forEach(w=>{const D=v[w]||w,T=this.weekDays.indexOf(D);if(T===-1)return;const te=this.windowWidth<640?"40px":"60px",B=`calc((100% - ${te}) / 5)`,U=`calc(${te} + ${B} * ${T})`;e.push({id:`${r.sectionId}-${w}`,section:r,title:r.courseId||`${r.courseSubject||""} ${r.courseNumber||""}`.trim()||"Course",time:`${r.timeStart} - ${r.timeEnd}`,location:r.building||r.location||"TBA",color:s[r.courseId]||t[0],style:{top:`${d}px`,left:U,width:B,height:`${p}px`,minHeight:"44px",paddingLeft:"4px",paddingRight:"4px"}})})}),e}},methods:{formatHour(e){return e===0?"12 AM":e===12?"12 PM":e>12?`${e-12} PM`:`${e} AM`},handleResize(){this.windowWidth=window.innerWidth}}},xc={class:"bg-white rounded-lg shadow-sm border border-gray-200"},vc={class:"p-2 sm:p-4 overflow-x-hidden"},Sc={class:"relative"},wc=["onClick"],_c={class:"font-bold leading-tight"},Pc={class:"opacity-90 mt-0.5 hidden sm:block"},Cc={class:"opacity-75 mt-0.5 text-[9px] sm:text-xs hidden sm:block"};function Tc(e,t,s,n,r,i){return C(),M("div",xc,[t[1]||(t[1]=a("div",{class:"px-2 sm:px-4 py-3 border-b border-gray-200"},[a("h3",{class:"text-base sm:text-lg font-semibold text-gray-800"},"Weekly Schedule")],-1)),a("div",vc,[a("div",{class:ne(["grid gap-0 mb-2",i.gridColsClass])},[t[0]||(t[0]=a("div",{class:""},null,-1)),(C(!0),M(q,null,de(r.weekDays,o=>(C(),M("div",{key:`header-${o}`,class:"bg-gradient-to-b from-isu-cardinal to-red-700 text-white text-center py-2 sm:py-3 font-semibold border-b-2 border-gray-300 text-xs sm:text-sm"},R(o.substring(0,3)),1))),128))],2),a("div",Sc,[a("div",{class:ne(["grid gap-0",i.gridColsClass])},[(C(!0),M(q,null,de(i.timeSlots,(o,l)=>(C(),M(q,{key:`slot-${o}`},[a("div",{class:"text-right pr-1 sm:pr-2 pt-1 text-[10px] sm:text-xs text-gray-500 border-r border-gray-200 w-[40px] sm:w-[60px]",style:Ze({height:i.responsiveHourHeight+"px"})},R(i.formatHour(o)),5),(C(!0),M(q,null,de(r.weekDays,c=>(C(),M("div",{key:`${c}-${o}`,class:"border-r border-b border-gray-100 relative bg-white",style:Ze({height:i.responsiveHourHeight+"px"})},null,4))),128))],64))),128))],2),(C(!0),M(q,null,de(i.calendarEvents,o=>(C(),M("div",{key:o.id,class:"absolute rounded shadow-lg border-l-4 overflow-hidden cursor-pointer transition-all hover:shadow-xl hover:z-20 touch-manipulation",style:Ze(o.style),onClick:l=>e.$emit("course-click",o.section)},[a("div",{class:"h-full px-1.5 sm:px-2 py-1 sm:py-1.5 text-white text-[10px] sm:text-xs",style:Ze({backgroundColor:o.color})},[a("div",_c,R(o.title),1),a("div",Pc,R(o.time),1),a("div",Cc,R(o.location),1)],4)],12,wc))),128))])])])}const Ic=at(yc,[["render",Tc]]),Mc={name:"DailyClassList",props:{sections:{type:Array,default:()=>[]}},data(){return{weekDays:["Monday","Tuesday","Wednesday","Thursday","Friday","Online","TBD"],collapsedDays:{}}},computed:{hasClasses(){return this.sections&&this.sections.length>0},classesByDay(){const e={Mon:"Monday",Tue:"Tuesday",Wed:"Wednesday",Thu:"Thursday",Fri:"Friday"},t=["#C8102E","#2E86AB","#A23B72","#F18F01","#06A77D","#8338EC"],s={};[...new Set(this.sections.map(i=>i.courseId))].forEach((i,o)=>{s[i]=t[o%t.length]});const r={Monday:[],Tuesday:[],Wednesday:[],Thursday:[],Friday:[],Online:[],TBD:[]};return this.sections.forEach(i=>{if(i.daysOfTheWeek==="Online"||i.deliveryMode==="Online"||i.daysOfTheWeek==="N/A"&&i.deliveryMode==="Online"){r.Online.push({id:`${i.sectionId||i.courseId}-Online`,courseId:i.courseId,time:"Online - No set meeting time",location:i.location||"Online",instructor:i.instructor||"TBA",color:s[i.courseId]||t[0]});return}if(i.daysOfTheWeek==="TBD"||i.timeStart==="TBD"||i.timeEnd==="TBD"){r.TBD.push({id:`${i.sectionId||i.courseId}-TBD`,courseId:i.courseId,time:i.timeStart==="TBD"||i.timeEnd==="TBD"?"Time TBD":i.timeStart&&i.timeEnd?`${i.timeStart} - ${i.timeEnd}`:"Time TBD",location:i.location||"TBA",instructor:i.instructor||"TBA",color:s[i.courseId]||t[0]});return}if(!i.daysOfTheWeek||i.daysOfTheWeek==="N/A"||!i.timeStart||!i.timeEnd||i.timeStart==="N/A")return;i.daysOfTheWeek.split(",").map(l=>l.trim()).forEach(l=>{const c=e[l]||l;r[c]&&r[c].push({id:`${i.sectionId}-${l}`,courseId:i.courseId,time:`${i.timeStart} - ${i.timeEnd}`,location:i.location||"TBA",instructor:i.instructor||"TBA",color:s[i.courseId]||t[0]})})}),Object.keys(r).forEach(i=>{r[i].sort((o,l)=>{const c=this.timeToMinutes(o.time.split(" - ")[0]),h=this.timeToMinutes(l.time.split(" - ")[0]);return c-h})}),r},visibleDays(){const e=this.classesByDay.Online&&this.classesByDay.Online.length>0,t=this.classesByDay.TBD&&this.classesByDay.TBD.length>0;return this.weekDays.filter(s=>["Monday","Tuesday","Wednesday","Thursday","Friday"].includes(s)?!0:s==="Online"?e:s==="TBD"?t:!1)},gridColsClass(){const e=this.visibleDays.length;return e===7?"grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-7":e===6?"grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-6":"grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5"}},methods:{timeToMinutes(e){if(!e||e==="N/A"||e==="TBD"||e==="Time TBD"||e==="Online"||e.startsWith("Online -"))return 0;const t=e.match(/(\d+):(\d+)\s*(AM|PM)/i);if(!t)return 0;let s=parseInt(t[1]);const n=parseInt(t[2]),r=t[3].toUpperCase();return r==="PM"&&s!==12&&(s+=12),r==="AM"&&s===12&&(s=0),s*60+n}}},Ac={class:"bg-white rounded-lg shadow-sm border border-gray-200 p-4 sm:p-6"},Oc={key:0,class:"text-center py-8 text-gray-500"},Ec=["onClick"],Dc={class:"p-3"},kc={key:0,class:"space-y-3"},Fc={class:"font-semibold text-sm text-gray-800"},Nc={class:"text-xs text-gray-600 mt-1"},Rc={class:"text-xs text-gray-600"},Lc={class:"text-xs text-gray-600"},Bc={key:1,class:"text-center py-4 text-gray-400 text-sm"};function jc(e,t,s,n,r,i){return C(),M("div",Ac,[t[4]||(t[4]=a("h3",{class:"text-lg sm:text-xl font-semibold text-isu-cardinal mb-4"},"Classes by Day",-1)),i.hasClasses?(C(),M("div",{key:1,class:ne(["grid gap-4",i.gridColsClass]),style:{"grid-auto-rows":"min-content","align-items":"start"}},[(C(!0),M(q,null,de(i.visibleDays,o=>(C(),M("div",{key:o,class:ne(["border rounded-lg overflow-hidden w-full",{"border-amber-300":o==="TBD","border-blue-300":o==="Online","border-gray-200":!["TBD","Online"].includes(o)}]),style:Ze({height:(r.collapsedDays[o],"auto")})},[a("button",{onClick:l=>r.collapsedDays[o]=!r.collapsedDays[o],class:ne(["w-full text-white text-center py-2 font-semibold transition-colors flex items-center justify-between px-4",{"bg-amber-600 hover:bg-amber-700":o==="TBD","bg-blue-600 hover:bg-blue-700":o==="Online","bg-isu-cardinal hover:bg-red-700":!["TBD","Online"].includes(o)}])},[a("span",null,R(o),1),a("i",{class:ne([r.collapsedDays[o]?"bi bi-chevron-down":"bi bi-chevron-up","text-sm"])},null,2)],10,Ec),Te(a("div",Dc,[i.classesByDay[o]&&i.classesByDay[o].length>0?(C(),M("div",kc,[(C(!0),M(q,null,de(i.classesByDay[o],l=>(C(),M("div",{key:l.id,class:"border-l-4 pl-2 py-1",style:Ze({borderColor:l.color})},[a("div",Fc,R(l.courseId),1),a("div",Nc,[t[1]||(t[1]=a("i",{class:"bi bi-clock"},null,-1)),ee(" "+R(l.time),1)]),a("div",Rc,[t[2]||(t[2]=a("i",{class:"bi bi-geo-alt"},null,-1)),ee(" "+R(l.location),1)]),a("div",Lc,[t[3]||(t[3]=a("i",{class:"bi bi-person"},null,-1)),ee(" "+R(l.instructor),1)])],4))),128))])):(C(),M("div",Bc," No classes "))],512),[[rs,!r.collapsedDays[o]]])],6))),128))],2)):(C(),M("div",Oc,[...t[0]||(t[0]=[a("i",{class:"bi bi-calendar-x text-4xl mb-2 block"},null,-1),a("p",null,"No classes scheduled yet",-1),a("p",{class:"text-sm"},"Add courses to see your weekly schedule",-1)])]))])}const Hc=at(Mc,[["render",jc]]),Uc={name:"CourseSearch",props:{departments:{type:Array,default:()=>[]},academicPeriods:{type:Array,default:()=>[]},currentPeriod:{type:String,default:""}},emits:["add-course","period-change"],data(){return{departmentInput:"",courseNumber:"",selectedPeriod:this.currentPeriod,filteredDepartments:[],showDropdown:!1,showError:!1,errorMessage:"",loading:!1,departmentJustSelected:!1,allAcademicPeriods:[],allDepartments:[],loadingPeriods:!1,loadingDepartments:!1,isInitialLoad:!0}},mounted(){this.fetchAcademicPeriods()},watch:{currentPeriod(e){this.selectedPeriod=e},selectedPeriod(e,t){e&&e!==t&&this.fetchDepartments(e)}},methods:{async fetchAcademicPeriods(){this.loadingPeriods=!0;try{const t=await(await fetch("/api/academic-periods",{credentials:"include"})).json();this.allAcademicPeriods=t.data.map(n=>({code:n.id,description:n.name}));const s=t.data.find(n=>n.isCurrent);s&&!this.selectedPeriod?(this.selectedPeriod=s.id,setTimeout(()=>{this.isInitialLoad=!1},100)):this.isInitialLoad=!1}catch(e){console.error("Error fetching academic periods:",e),this.errorMessage="Failed to load academic periods",this.isInitialLoad=!1}finally{this.loadingPeriods=!1}},async fetchDepartments(e){this.loadingDepartments=!0;try{const s=await(await fetch(`/api/departments?academicPeriod=${e}`,{credentials:"include"})).json();this.allDepartments=s.data,this.filteredDepartments=s.data.slice(0,10)}catch(t){console.error("Error fetching departments:",t),this.errorMessage="Failed to load departments"}finally{this.loadingDepartments=!1}},filterDepartments(){this.departmentJustSelected&&(this.departmentInput="",this.departmentJustSelected=!1);const e=this.allDepartments.length>0?this.allDepartments:this.departments,t=this.departmentInput.toUpperCase();if(!t)this.filteredDepartments=e.slice(0,10);else{const s=[],n=[],r=[];e.forEach(i=>{const o=i.toUpperCase(),l=i.split(/[\s-]/)[0].toUpperCase();l===t?s.push(i):l.startsWith(t)?n.push(i):o.includes(t)&&r.push(i)}),this.filteredDepartments=[...s,...n,...r].slice(0,10)}this.showDropdown=this.filteredDepartments.length>0,this.errorMessage=""},selectDepartment(e){this.departmentInput=e,this.showDropdown=!1,this.departmentJustSelected=!0,this.errorMessage="",this.$nextTick(()=>{var t;(t=this.$refs.courseNumberInput)==null||t.focus()})},selectFirstDepartment(e){e.preventDefault(),this.filteredDepartments.length>0&&this.selectDepartment(this.filteredDepartments[0])},hideDropdown(){setTimeout(()=>{this.showDropdown=!1},200)},handleAddCourse(){if(this.showError=!0,this.errorMessage="",!this.departmentInput||!this.courseNumber){this.errorMessage="Please fill in both department and course number";return}if(!this.selectedPeriod){this.errorMessage="Please select an academic period";return}const e=this.allDepartments.length>0?this.allDepartments:this.departments,t=this.departmentInput.toUpperCase();let s=this.departmentInput;for(const n of e)if(n.split(/[\s-]/)[0].toUpperCase()===t||n.toUpperCase()===t){s=n;break}console.log("Adding course:",{courseSubject:s,courseNumber:this.courseNumber,academicPeriodId:this.selectedPeriod}),this.loading=!0,this.$emit("add-course",{courseSubject:s,courseNumber:this.courseNumber,academicPeriodId:this.selectedPeriod}),setTimeout(()=>{this.loading=!1},500)},reset(){this.departmentInput="",this.courseNumber="",this.showError=!1,this.errorMessage=""},setError(e){this.errorMessage=e,this.loading=!1}}},Wc={class:"bg-white rounded-lg shadow-sm border border-gray-200 p-4"},Vc={class:"mb-4"},$c=["disabled"],Kc={value:""},qc=["value"],Jc={class:"mb-4 relative"},Gc=["disabled","placeholder"],zc={class:"absolute z-[100] w-full mt-1 bg-white border border-gray-300 rounded-lg shadow-lg max-h-60 overflow-y-auto"},Yc=["onMousedown"],Xc={class:"mb-4"},Zc=["disabled"],Qc={key:0,class:"mt-3 p-3 bg-red-50 border border-red-200 rounded-lg text-red-700 text-sm"};function ea(e,t,s,n,r,i){return C(),M("div",Wc,[t[14]||(t[14]=a("h3",{class:"text-lg font-semibold text-isu-cardinal mb-4"},"Add a Course",-1)),a("div",Vc,[t[9]||(t[9]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"}," Academic Period ",-1)),Te(a("select",{"onUpdate:modelValue":t[0]||(t[0]=o=>r.selectedPeriod=o),disabled:r.loadingPeriods,class:"w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-isu-cardinal focus:border-transparent disabled:bg-gray-100 disabled:cursor-not-allowed"},[a("option",Kc,R(r.loadingPeriods?"Loading periods...":"Select Period"),1),(C(!0),M(q,null,de(r.allAcademicPeriods,o=>(C(),M("option",{key:o.code,value:o.code},R(o.description),9,qc))),128))],8,$c),[[ms,r.selectedPeriod]])]),a("div",Jc,[t[10]||(t[10]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"},[ee(" Department "),a("span",{class:"text-red-500"},"*")],-1)),Te(a("input",{"onUpdate:modelValue":t[1]||(t[1]=o=>r.departmentInput=o),onInput:t[2]||(t[2]=(...o)=>i.filterDepartments&&i.filterDepartments(...o)),onFocus:t[3]||(t[3]=o=>r.showDropdown=!0),onBlur:t[4]||(t[4]=(...o)=>i.hideDropdown&&i.hideDropdown(...o)),onKeydown:t[5]||(t[5]=Os((...o)=>i.selectFirstDepartment&&i.selectFirstDepartment(...o),["enter"])),disabled:r.loadingDepartments||!r.selectedPeriod,type:"text",placeholder:r.loadingDepartments?"Loading departments...":r.selectedPeriod?"Type to search (e.g., COMS, SE)":"Select a period first",class:ne(["w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-isu-cardinal focus:border-transparent disabled:bg-gray-100 disabled:cursor-not-allowed",{"border-red-500":r.showError&&!r.departmentInput}])},null,42,Gc),[[pr,r.departmentInput]]),Te(a("div",zc,[(C(!0),M(q,null,de(r.filteredDepartments,o=>(C(),M("button",{key:o,onMousedown:l=>i.selectDepartment(o),class:"w-full text-left px-4 py-2 hover:bg-isu-cardinal hover:text-white transition-colors border-b border-gray-100 last:border-0"},R(o),41,Yc))),128))],512),[[rs,r.showDropdown&&r.filteredDepartments.length>0]])]),a("div",Xc,[t[11]||(t[11]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"},[ee(" Course Number "),a("span",{class:"text-red-500"},"*")],-1)),Te(a("input",{ref:"courseNumberInput","onUpdate:modelValue":t[6]||(t[6]=o=>r.courseNumber=o),onKeydown:t[7]||(t[7]=Os((...o)=>i.handleAddCourse&&i.handleAddCourse(...o),["enter"])),type:"text",placeholder:"e.g., 227 or 227, 228",class:ne(["w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-isu-cardinal focus:border-transparent",{"border-red-500":r.showError&&!r.courseNumber}])},null,34),[[pr,r.courseNumber]])]),a("button",{onClick:t[8]||(t[8]=(...o)=>i.handleAddCourse&&i.handleAddCourse(...o)),disabled:r.loading,class:ne(["w-full btn-isu flex items-center justify-center gap-2",{"opacity-50 cursor-not-allowed":r.loading}])},[t[12]||(t[12]=a("i",{class:"bi bi-plus-circle"},null,-1)),ee(" "+R(r.loading?"Adding...":"Add Course"),1)],10,Zc),r.errorMessage?(C(),M("div",Qc,[t[13]||(t[13]=a("i",{class:"bi bi-exclamation-triangle"},null,-1)),ee(" "+R(r.errorMessage),1)])):ce("",!0)])}const ta=at(Uc,[["render",ea]]);function Li(e){return e?e.deliveryMode==="Online"||e.daysOfTheWeek==="Online"||e.timeStart==="Online"||e.location==="Online"||e.daysOfTheWeek==="N/A"&&e.deliveryMode==="Online":!1}function Bi(e){return e?e.daysOfTheWeek==="TBD"||e.timeStart==="TBD"||e.timeEnd==="TBD":!1}function sa(e){return e?!Li(e)&&!Bi(e)&&e.daysOfTheWeek&&e.daysOfTheWeek!=="N/A"&&e.timeStart&&e.timeStart!=="N/A":!1}function ra(e){return sa(e)}const na={name:"CourseList",props:{courses:{type:Array,default:()=>[]},selectedSectionIds:{type:Object,default:()=>({})}},emits:["remove-course","toggle-sections","toggle-section-selection","instructor-preferences-changed"],data(){return{instructorPreferences:{}}},mounted(){const e=localStorage.getItem("instructorPreferences");if(e)try{this.instructorPreferences=JSON.parse(e)}catch(t){console.error("Failed to load instructor preferences:",t),this.instructorPreferences={}}},methods:{isOnlineSection:Li,isTBDSection:Bi,toggleSections(e){this.$emit("toggle-sections",e.courseId)},toggleSection(e,t){this.$emit("toggle-section-selection",{courseId:e,section:t})},isSectionSelected(e,t){return!this.selectedSectionIds[e]||this.selectedSectionIds[e].length===0?!1:this.selectedSectionIds[e].includes(t)},getCourseCredits(e){return e.sections&&e.sections.length>0&&e.sections[0].credits||0},getSectionsCount(e){return e.sections?e.sections.length:0},getUniqueInstructors(e){if(!e.sections||e.sections.length===0)return[];const t=new Set;return e.sections.forEach(s=>{s.instructor&&s.instructor!=="N/A"&&s.instructor.trim()!==""&&t.add(s.instructor)}),Array.from(t).sort()},isInstructorPreferred(e,t){var s;return((s=this.instructorPreferences[e])==null?void 0:s.includes(t))||!1},toggleInstructorPreference(e,t){this.instructorPreferences[e]||(this.instructorPreferences[e]=[]);const s=this.instructorPreferences[e].indexOf(t);s===-1?this.instructorPreferences[e].push(t):this.instructorPreferences[e].splice(s,1),localStorage.setItem("instructorPreferences",JSON.stringify(this.instructorPreferences)),this.$emit("instructor-preferences-changed",this.instructorPreferences)}}},ia={class:"bg-white rounded-lg shadow-sm border border-gray-200 p-4"},oa={key:0,class:"text-center py-8 text-gray-500"},la={key:1,class:"space-y-3"},ca={class:"flex justify-between items-start mb-2"},aa={class:"font-bold text-gray-800"},ua={class:"text-sm text-gray-600"},da=["onClick"],fa={class:"flex gap-4 text-xs text-gray-600 mb-2"},ha=["onClick"],pa={class:"mt-3 space-y-2"},ga={key:0,class:"mb-3 p-3 bg-isu-gold/10 border border-isu-gold/30 rounded-lg"},ma={class:"flex flex-wrap gap-2"},ba=["checked","onChange"],ya=["onClick"],xa={class:"flex justify-between items-start"},va={class:"flex items-start gap-2"},Sa={class:"font-semibold"},wa={key:0,class:"ml-2 px-2 py-0.5 bg-blue-100 text-blue-700 text-xs rounded"},_a={key:1,class:"ml-2 px-2 py-0.5 bg-amber-100 text-amber-700 text-xs rounded"},Pa={class:"text-gray-600 ml-2"},Ca={class:"text-gray-600 ml-2"},Ta={class:"text-xs text-gray-500 mt-1"},Ia={key:0,class:"ml-2"};function Ma(e,t,s,n,r,i){return C(),M("div",ia,[t[7]||(t[7]=a("h3",{class:"text-lg font-semibold text-isu-cardinal mb-4"},"Your Courses",-1)),s.courses.length===0?(C(),M("div",oa,[...t[0]||(t[0]=[a("i",{class:"bi bi-inbox text-4xl mb-2 block"},null,-1),a("p",null,"No courses added yet",-1),a("p",{class:"text-sm"},"Add courses above to build your schedule",-1)])])):(C(),M("div",la,[(C(!0),M(q,null,de(s.courses,o=>(C(),M("div",{key:o.courseId,class:"border border-gray-200 rounded-lg p-3 hover:border-isu-cardinal transition-colors"},[a("div",ca,[a("div",null,[a("h4",aa,R(o.courseId),1),a("p",ua,R(o.courseName),1)]),a("button",{onClick:l=>e.$emit("remove-course",o),class:"text-red-500 hover:text-red-700 transition-colors",title:"Remove course"},[...t[1]||(t[1]=[a("i",{class:"bi bi-trash"},null,-1)])],8,da)]),a("div",fa,[a("span",null,[t[2]||(t[2]=a("i",{class:"bi bi-award"},null,-1)),ee(" "+R(i.getCourseCredits(o))+" credits ",1)]),a("span",null,[t[3]||(t[3]=a("i",{class:"bi bi-people"},null,-1)),ee(" "+R(i.getSectionsCount(o))+" sections ",1)])]),a("button",{onClick:l=>i.toggleSections(o),class:"text-sm text-isu-cardinal hover:underline font-medium"},[a("i",{class:ne(o.showSections?"bi-chevron-up":"bi-chevron-down")},null,2),ee(" "+R(o.showSections?"Hide":"Show")+" Sections ",1)],8,ha),Te(a("div",pa,[t[6]||(t[6]=a("div",{class:"text-xs text-gray-600 mb-2 italic"},[a("i",{class:"bi bi-info-circle"}),ee(" By default, all sections are considered. Click to include/exclude specific sections. ")],-1)),i.getUniqueInstructors(o).length>1?(C(),M("div",ga,[t[4]||(t[4]=a("div",{class:"text-xs font-semibold text-gray-700 mb-2 flex items-center gap-1"},[a("i",{class:"bi bi-person-check"}),ee(" Preferred Instructors (optional) ")],-1)),a("div",ma,[(C(!0),M(q,null,de(i.getUniqueInstructors(o),l=>(C(),M("label",{key:l,class:ne(["flex items-center gap-1.5 px-2 py-1 text-xs rounded border cursor-pointer transition-colors",i.isInstructorPreferred(o.courseId,l)?"bg-isu-cardinal text-white border-isu-cardinal":"bg-white text-gray-700 border-gray-300 hover:border-isu-cardinal"])},[a("input",{type:"checkbox",checked:i.isInstructorPreferred(o.courseId,l),onChange:c=>i.toggleInstructorPreference(o.courseId,l),class:"hidden"},null,40,ba),a("span",null,R(l),1)],2))),128))]),t[5]||(t[5]=a("div",{class:"text-[10px] text-gray-500 mt-1 italic"}," Selecting instructors will prioritize sections taught by them ",-1))])):ce("",!0),(C(!0),M(q,null,de(o.sections,l=>(C(),M("div",{key:`${o.courseId}-${l.sectionNumber}`,class:ne(["rounded p-2 text-sm transition-all cursor-pointer",i.isSectionSelected(o.courseId,l.sectionNumber)?"bg-green-50 border-2 border-green-500":"bg-gray-50 border-2 border-transparent hover:border-gray-300"]),onClick:c=>i.toggleSection(o.courseId,l)},[a("div",xa,[a("div",va,[a("i",{class:ne([i.isSectionSelected(o.courseId,l.sectionNumber)?"bi bi-check-circle-fill text-green-600":"bi bi-circle text-gray-400","mt-0.5"])},null,2),a("div",null,[a("span",Sa,"Section "+R(l.sectionNumber),1),i.isOnlineSection(l)?(C(),M("span",wa," Online ")):ce("",!0),i.isTBDSection(l)?(C(),M("span",_a," TBD ")):ce("",!0),a("span",Pa,R(l.daysOfTheWeek),1),a("span",Ca,R(l.timeStart)+" - "+R(l.timeEnd),1),a("div",Ta,[ee(R(l.instructor)+" • "+R(l.location)+" ",1),l.openSeats!==void 0?(C(),M("span",Ia," ("+R(l.openSeats)+" seats) ",1)):ce("",!0)])])])])],10,ya))),128))],512),[[rs,o.showSections]])]))),128))]))])}const Aa=at(na,[["render",Ma]]),Oa={name:"SchedulePreferences",emits:["preferences-changed"],data(){return{expanded:!1,daysOfWeek:["Monday","Tuesday","Wednesday","Thursday","Friday"],preferences:{preferredDays:[],timePreference:"",gapPreference:"",scheduleStyle:"",uniqueSchedulesOnly:!1}}},mounted(){const e=localStorage.getItem("schedulePreferences");if(e)try{this.preferences=JSON.parse(e)}catch(t){console.error("Failed to load saved preferences:",t)}},methods:{applyPreferences(){localStorage.setItem("schedulePreferences",JSON.stringify(this.preferences)),this.$emit("preferences-changed",this.preferences),this.expanded=!1},resetPreferences(){this.preferences={preferredDays:[],timePreference:"",gapPreference:"",scheduleStyle:"",uniqueSchedulesOnly:!1},localStorage.removeItem("schedulePreferences"),this.$emit("preferences-changed",this.preferences)},expand(){this.expanded=!0}}},Ea={class:"bg-white rounded-lg shadow-sm border border-gray-200 p-4"},Da={class:"mt-4 space-y-4"},ka={class:"flex flex-wrap gap-2"},Fa=["value"],Na={class:"text-sm"},Ra={class:"border-t border-gray-200 pt-4"},La={class:"flex items-start gap-3 cursor-pointer group"},Ba={class:"flex gap-2 pt-2"};function ja(e,t,s,n,r,i){return C(),M("div",Ea,[a("button",{onClick:t[0]||(t[0]=o=>r.expanded=!r.expanded),class:"w-full flex items-center justify-between text-left"},[t[8]||(t[8]=a("div",{class:"flex items-center gap-2"},[a("i",{class:"bi bi-sliders text-isu-cardinal"}),a("h3",{class:"text-lg font-semibold text-isu-cardinal"},"Schedule Preferences")],-1)),a("i",{class:ne([r.expanded?"bi bi-chevron-up":"bi bi-chevron-down","text-gray-500"])},null,2)]),Te(a("div",Da,[a("div",null,[t[9]||(t[9]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"},[a("i",{class:"bi bi-calendar-week"}),ee(" Preferred Days ")],-1)),a("div",ka,[(C(!0),M(q,null,de(r.daysOfWeek,o=>(C(),M("label",{key:o,class:ne(["flex items-center gap-2 px-3 py-2 border rounded-lg cursor-pointer transition-colors",r.preferences.preferredDays.includes(o)?"bg-isu-cardinal text-white border-isu-cardinal":"bg-white text-gray-700 border-gray-300 hover:border-isu-cardinal"])},[Te(a("input",{type:"checkbox",value:o,"onUpdate:modelValue":t[1]||(t[1]=l=>r.preferences.preferredDays=l),class:"hidden"},null,8,Fa),[[xn,r.preferences.preferredDays]]),a("span",Na,R(o),1)],2))),128))])]),a("div",null,[t[11]||(t[11]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"},[a("i",{class:"bi bi-clock"}),ee(" Time Preference ")],-1)),Te(a("select",{"onUpdate:modelValue":t[2]||(t[2]=o=>r.preferences.timePreference=o),class:"w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-isu-cardinal focus:border-transparent"},[...t[10]||(t[10]=[a("option",{value:""},"No Preference",-1),a("option",{value:"morning"},"Morning Classes (Before 12 PM)",-1),a("option",{value:"afternoon"},"Afternoon Classes (12 PM - 5 PM)",-1),a("option",{value:"evening"},"Evening Classes (After 5 PM)",-1)])],512),[[ms,r.preferences.timePreference]])]),a("div",null,[t[13]||(t[13]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"},[a("i",{class:"bi bi-pause-circle"}),ee(" Gap Between Classes ")],-1)),Te(a("select",{"onUpdate:modelValue":t[3]||(t[3]=o=>r.preferences.gapPreference=o),class:"w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-isu-cardinal focus:border-transparent"},[...t[12]||(t[12]=[a("option",{value:""},"No Preference",-1),a("option",{value:"none"},"Minimize Gaps (Back-to-back classes)",-1),a("option",{value:"short"},"Allow Short Gaps (15-30 min)",-1),a("option",{value:"any"},"Any Gaps (No preference)",-1)])],512),[[ms,r.preferences.gapPreference]])]),a("div",null,[t[15]||(t[15]=a("label",{class:"block text-sm font-medium text-gray-700 mb-2"},[a("i",{class:"bi bi-grid"}),ee(" Schedule Style ")],-1)),Te(a("select",{"onUpdate:modelValue":t[4]||(t[4]=o=>r.preferences.scheduleStyle=o),class:"w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-isu-cardinal focus:border-transparent"},[...t[14]||(t[14]=[a("option",{value:""},"No Preference",-1),a("option",{value:"compact"},"Compact (Fewer days, longer days)",-1),a("option",{value:"spread"},"Spread Out (More days, shorter days)",-1),a("option",{value:"balanced"},"Balanced (Even distribution)",-1)])],512),[[ms,r.preferences.scheduleStyle]])]),a("div",Ra,[a("label",La,[Te(a("input",{type:"checkbox","onUpdate:modelValue":t[5]||(t[5]=o=>r.preferences.uniqueSchedulesOnly=o),class:"mt-1 w-4 h-4 text-isu-cardinal border-gray-300 rounded focus:ring-isu-cardinal"},null,512),[[xn,r.preferences.uniqueSchedulesOnly]]),t[16]||(t[16]=a("div",{class:"flex-1"},[a("div",{class:"text-sm font-medium text-gray-700 group-hover:text-isu-cardinal transition-colors"},[a("i",{class:"bi bi-filter-circle"}),ee(" Show only unique schedules ")]),a("p",{class:"text-xs text-gray-500 mt-1"}," When enabled, hides schedule variations that differ only by location or instructor. Uncheck to see all schedule variations. ")],-1))])]),a("div",Ba,[a("button",{onClick:t[6]||(t[6]=(...o)=>i.applyPreferences&&i.applyPreferences(...o)),class:"flex-1 bg-isu-cardinal text-white px-4 py-2 rounded-lg hover:bg-red-700 transition-colors font-medium"},[...t[17]||(t[17]=[a("i",{class:"bi bi-check-circle"},null,-1),ee(" Apply Preferences ",-1)])]),a("button",{onClick:t[7]||(t[7]=(...o)=>i.resetPreferences&&i.resetPreferences(...o)),class:"px-4 py-2 border border-gray-300 text-gray-700 rounded-lg hover:bg-gray-50 transition-colors"},[...t[18]||(t[18]=[a("i",{class:"bi bi-arrow-clockwise"},null,-1),ee(" Reset ",-1)])])]),t[19]||(t[19]=a("p",{class:"text-xs text-gray-500 italic"},[a("i",{class:"bi bi-info-circle"}),ee(" Preferences are not requirements. Schedules are ordered by match quality, with Schedule 1 being the best match. ")],-1))],512),[[rs,r.expanded]])])}const Ha=at(Oa,[["render",ja]]),Ua={name:"FlashMessage",props:{message:{type:String,default:""},type:{type:String,default:"info",validator:e=>["success","danger","warning","info"].includes(e)},dismissible:{type:Boolean,default:!0},duration:{type:Number,default:3e3}},emits:["dismiss"],data(){return{timeoutId:null}},computed:{typeClasses(){const e={success:"bg-green-500",danger:"bg-red-500",warning:"bg-yellow-500",info:"bg-blue-500"};return e[this.type]||e.info},iconClass(){const e={success:"bi bi-check-circle",danger:"bi bi-exclamation-triangle",warning:"bi bi-exclamation-circle",info:"bi bi-info-circle"};return e[this.type]||e.info}},watch:{message(e){e&&this.duration>0&&this.startTimer()}},mounted(){this.message&&this.duration>0&&this.startTimer()},beforeUnmount(){this.clearTimer()},methods:{startTimer(){this.clearTimer(),this.timeoutId=setTimeout(()=>{this.dismiss()},this.duration)},clearTimer(){this.timeoutId&&(clearTimeout(this.timeoutId),this.timeoutId=null)},dismiss(){this.clearTimer(),this.$emit("dismiss")}}},Wa={class:"flex items-center gap-3"};function Va(e,t,s,n,r,i){return C(),Ts(hr,{name:"fade"},{default:ws(()=>[s.message?(C(),M("div",{key:0,class:ne(["fixed top-4 right-4 z-[100] px-6 py-4 rounded-lg shadow-lg text-white max-w-md",i.typeClasses]),role:"alert"},[a("div",Wa,[a("i",{class:ne(i.iconClass)},null,2),a("span",null,R(s.message),1),s.dismissible?(C(),M("button",{key:0,onClick:t[0]||(t[0]=(...o)=>i.dismiss&&i.dismiss(...o)),class:"ml-auto text-white hover:text-gray-200 transition-colors","aria-label":"Dismiss message"},[...t[1]||(t[1]=[a("i",{class:"bi bi-x-lg"},null,-1)])])):ce("",!0)])],2)):ce("",!0)]),_:1})}const $a=at(Ua,[["render",Va]]),Ka={name:"ActiveFilters",props:{instructorPreferences:{type:Object,default:()=>({})},sectionSelections:{type:Object,default:()=>({})},schedulePreferences:{type:Object,default:()=>({})}},emits:["remove-instructor-filter","remove-section-filter","remove-preferred-days","remove-time-preference","remove-gap-preference","remove-schedule-style","remove-unique-schedules-filter","clear-all-filters"],computed:{hasActiveFilters(){const e=Object.keys(this.instructorPreferences).some(n=>this.instructorPreferences[n].length>0),t=Object.keys(this.sectionSelections).some(n=>this.sectionSelections[n].length>0),s=this.schedulePreferences.preferredDays&&this.schedulePreferences.preferredDays.length>0||this.schedulePreferences.timePreference||this.schedulePreferences.gapPreference||this.schedulePreferences.scheduleStyle||this.schedulePreferences.uniqueSchedulesOnly;return e||t||s}},methods:{removeInstructorFilter(e,t){this.$emit("remove-instructor-filter",{courseId:e,instructor:t})},removeSectionFilter(e,t){this.$emit("remove-section-filter",{courseId:e,sectionNumber:t})},removePreferredDays(){this.$emit("remove-preferred-days")},removeTimePreference(){this.$emit("remove-time-preference")},removeGapPreference(){this.$emit("remove-gap-preference")},removeScheduleStyle(){this.$emit("remove-schedule-style")},removeUniqueSchedulesFilter(){this.$emit("remove-unique-schedules-filter")},clearAllFilters(){this.$emit("clear-all-filters")},formatTimePreference(e){return{morning:"Morning",afternoon:"Afternoon",evening:"Evening"}[e]||e},formatGapPreference(e){return{none:"Minimize Gaps",short:"Short Gaps (15-30 min)",any:"Any Gaps"}[e]||e},formatScheduleStyle(e){return{compact:"Compact",spread:"Spread Out",balanced:"Balanced"}[e]||e}}},qa={key:0,class:"bg-blue-50 border border-blue-200 rounded-lg p-1.5 sm:p-2 mb-2 sm:mb-3"},Ja={class:"flex items-start justify-between gap-1.5 sm:gap-2 flex-wrap"},Ga={class:"flex-1 min-w-0"},za={class:"flex flex-wrap gap-1 sm:gap-1.5"},Ya={class:"font-medium text-gray-700"},Xa={class:"text-gray-600"},Za=["onClick"],Qa={class:"font-medium text-gray-700"},eu={class:"text-gray-600"},tu=["onClick"],su={key:0,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-green-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"},ru={class:"text-gray-600"},nu={key:1,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-green-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"},iu={class:"text-gray-600"},ou={key:2,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-green-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"},lu={class:"text-gray-600"},cu={key:3,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-green-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"},au={class:"text-gray-600"},uu={key:4,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-amber-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"};function du(e,t,s,n,r,i){return i.hasActiveFilters?(C(),M("div",qa,[a("div",Ja,[a("div",Ga,[t[21]||(t[21]=a("div",{class:"flex items-center gap-1 sm:gap-1.5 mb-1 sm:mb-1.5"},[a("i",{class:"bi bi-funnel text-blue-600 text-[9px] sm:text-xs"}),a("h4",{class:"text-[9px] sm:text-xs font-semibold text-blue-900"},"Active Filters")],-1)),a("div",za,[(C(!0),M(q,null,de(s.instructorPreferences,(o,l)=>(C(),M("div",{key:"instructor-"+l},[(C(!0),M(q,null,de(o,c=>(C(),M("div",{key:c,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-blue-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"},[t[7]||(t[7]=a("i",{class:"bi bi-person-check text-blue-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),a("span",Ya,R(l)+":",1),a("span",Xa,R(c),1),a("button",{onClick:h=>i.removeInstructorFilter(l,c),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Remove instructor filter"},[...t[6]||(t[6]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])],8,Za)]))),128))]))),128)),(C(!0),M(q,null,de(s.sectionSelections,(o,l)=>(C(),M("div",{key:"section-"+l},[(C(!0),M(q,null,de(o,c=>(C(),M("div",{key:c,class:"inline-flex items-center gap-0.5 sm:gap-1 bg-white border border-purple-300 rounded-full px-1.5 py-0 sm:px-2 sm:py-0.5 text-[8px] sm:text-[9px] leading-none sm:leading-tight h-4 sm:h-auto"},[t[9]||(t[9]=a("i",{class:"bi bi-check-circle text-purple-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),a("span",Qa,R(l)+":",1),a("span",eu,"Sec "+R(c),1),a("button",{onClick:h=>i.removeSectionFilter(l,c),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Remove section filter"},[...t[8]||(t[8]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])],8,tu)]))),128))]))),128)),s.schedulePreferences.preferredDays&&s.schedulePreferences.preferredDays.length>0?(C(),M("div",su,[t[11]||(t[11]=a("i",{class:"bi bi-calendar-week text-green-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),a("span",ru,R(s.schedulePreferences.preferredDays.join(", ")),1),a("button",{onClick:t[0]||(t[0]=(...o)=>i.removePreferredDays&&i.removePreferredDays(...o)),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Remove day preference"},[...t[10]||(t[10]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])])])):ce("",!0),s.schedulePreferences.timePreference?(C(),M("div",nu,[t[13]||(t[13]=a("i",{class:"bi bi-clock text-green-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),a("span",iu,R(i.formatTimePreference(s.schedulePreferences.timePreference)),1),a("button",{onClick:t[1]||(t[1]=(...o)=>i.removeTimePreference&&i.removeTimePreference(...o)),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Remove time preference"},[...t[12]||(t[12]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])])])):ce("",!0),s.schedulePreferences.gapPreference?(C(),M("div",ou,[t[15]||(t[15]=a("i",{class:"bi bi-pause-circle text-green-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),a("span",lu,R(i.formatGapPreference(s.schedulePreferences.gapPreference)),1),a("button",{onClick:t[2]||(t[2]=(...o)=>i.removeGapPreference&&i.removeGapPreference(...o)),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Remove gap preference"},[...t[14]||(t[14]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])])])):ce("",!0),s.schedulePreferences.scheduleStyle?(C(),M("div",cu,[t[17]||(t[17]=a("i",{class:"bi bi-grid text-green-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),a("span",au,R(i.formatScheduleStyle(s.schedulePreferences.scheduleStyle)),1),a("button",{onClick:t[3]||(t[3]=(...o)=>i.removeScheduleStyle&&i.removeScheduleStyle(...o)),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Remove style preference"},[...t[16]||(t[16]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])])])):ce("",!0),s.schedulePreferences.uniqueSchedulesOnly?(C(),M("div",uu,[t[19]||(t[19]=a("i",{class:"bi bi-filter-circle text-amber-600 flex-shrink-0 text-[8px] sm:text-[9px]"},null,-1)),t[20]||(t[20]=a("span",{class:"text-gray-600"},"Unique only",-1)),a("button",{onClick:t[4]||(t[4]=(...o)=>i.removeUniqueSchedulesFilter&&i.removeUniqueSchedulesFilter(...o)),class:"text-gray-400 hover:text-red-600 transition-colors flex items-center justify-center w-2.5 h-2.5 sm:w-3 sm:h-3 flex-shrink-0 -mr-0.5",title:"Show all schedule variations"},[...t[18]||(t[18]=[a("i",{class:"bi bi-x-lg text-[7px] sm:text-[8px]"},null,-1)])])])):ce("",!0)])]),a("button",{onClick:t[5]||(t[5]=(...o)=>i.clearAllFilters&&i.clearAllFilters(...o)),class:"flex-shrink-0 text-[8px] sm:text-[9px] text-red-600 hover:text-red-700 font-medium border border-red-300 rounded-full px-2 py-0 sm:px-2.5 sm:py-0.5 hover:bg-red-50 transition-colors whitespace-nowrap h-4 sm:h-auto leading-none sm:leading-tight"}," Clear All ")])])):ce("",!0)}const fu=at(Ka,[["render",du]]),hu="/assets/CyPlan_Logo-DW6f3io0.png",pu={name:"App",components:{CalendarGrid:Ic,DailyClassList:Hc,CourseSearch:ta,CourseList:Aa,SchedulePreferences:Ha,FlashMessage:$a,ActiveFilters:fu},data(){var e,t,s,n,r,i,o,l;return{departments:((e=window.serverData)==null?void 0:e.departments)||[],academicPeriods:((t=window.serverData)==null?void 0:t.academicPeriods)||[],currentAcademicPeriod:((s=window.serverData)==null?void 0:s.selectedAcademicPeriod)||"",courses:((r=(n=window.serverData)==null?void 0:n.courses)==null?void 0:r.map(c=>({...c,showSections:!1})))||[],selectedSections:((i=window.serverData)==null?void 0:i.selectedSections)||[],currentScheduleIndex:((o=window.serverData)==null?void 0:o.currentScheduleIndex)||0,scheduleCount:((l=window.serverData)==null?void 0:l.scheduleCount)||0,scheduleCursor:((l=window.serverData)==null?void 0:l.scheduleCursor)||"",sidebarCollapsed:!1,showSavedSchedules:!1,showMobileSidebar:!1,savedSchedules:[],loading:!1,flashMessage:null,scheduleNameInput:"",showSaveInput:!1,selectedSectionIds:{},instructorPreferences:{},schedulePreferences:{}}},mounted(){this.loadSavedSchedules(),this.checkForTBDSections();const e=localStorage.getItem("instructorPreferences");if(e)try{this.instructorPreferences=JSON.parse(e)}catch(n){console.error("Failed to load instructor preferences:",n)}const t=localStorage.getItem("selectedSectionIds");if(t)try{this.selectedSectionIds=JSON.parse(t)}catch(n){console.error("Failed to load selected section IDs:",n)}const s=localStorage.getItem("schedulePreferences");if(s)try{this.schedulePreferences=JSON.parse(s)}catch(n){console.error("Failed to load schedule preferences:",n),this.schedulePreferences={uniqueSchedulesOnly:!1}}else this.schedulePreferences={preferredDays:[],timePreference:"",gapPreference:"",scheduleStyle:"",uniqueSchedulesOnly:!1}},computed:{academicPeriodName(){const e=this.academicPeriods.find(t=>t.code===this.currentAcademicPeriod);return e?e.description:"Fall 2024"},inPersonSections(){return this.selectedSections.filter(e=>ra(e))}},methods:{handleCourseClick(e){console.log("Course clicked:",e)},async handleAddCourse(e){var s,n;if(/[,;\n]/.test(e.courseNumber)){await this.handleAddCourses(e);return}this.loading=!0;const t=new URLSearchParams;t.append("courseSubject",e.courseSubject),t.append("courseNumber",e.courseNumber),e.academicPeriodId&&t.append("academicPeriodId",e.academicPeriodId),console.log("Sending add course request:",{courseSubject:e.courseSubject,courseNumber:e.courseNumber,academicPeriodId:e.academicPeriodId});try{const r=await fetch("/addCourse",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:t});console.log("Response status:",r.status);const i=await r.json();console.log("Response data:",i),i.success?(this.showFlashMessage(i.message,"success"),setTimeout(()=>{window.location.reload()},800)):(this.showFlashMessage(i.message,"danger"),(s=this.$refs.courseSearch)==null||s.setError(i.message),(n=this.$refs.courseSearchMobile)==null||n.setError(i.message))}catch(r){console.error("Error adding course:",r),this.showFlashMessage("Error adding course: "+r.message,"danger")}finally{this.loading=!1}},async handleAddCourses(e){var s,n;this.loading=!0;const a=e.courseSubject.split(/[\s-]/)[0],l=e.courseNumber.split(/[,;\n]+/).map(c=>c.trim()).filter(c=>c).map(c=>/^[A-Za-z]/.test(c)?c:`${a} ${c}`),t=new URLSearchParams;t.append("courseList",l.join(", ")),e.academicPeriodId&&t.append("academicPeriodId",e.academicPeriodId);try{const i=await(await fetch("/addCourses",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:t})).json(),o=(i.results||[]).filter(c=>!c.success).map(c=>`${c.course}: ${c.message}`),r=[i.message,...o].join(" ");i.success?(this.showFlashMessage(r,o.length>0?"warning":"success"),setTimeout(()=>{window.location.reload()},800)):(this.showFlashMessage(r,"danger"),(s=this.$refs.courseSearch)==null||s.setError(r),(n=this.$refs.courseSearchMobile)==null||n.setError(r))}catch(i){console.error("Error adding courses:",i),this.showFlashMessage("Error adding courses: "+i.message,"danger")}finally{this.loading=!1}},async handleRemoveCourse(e){if(!confirm(`Remove ${e.courseId}?`))return;this.loading=!0;const t=new URLSearchParams;t.append("courseId",e.courseId);try{const n=await(await fetch("/removeCourse",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:t})).json();n.success?(this.instructorPreferences[e.courseId]&&(delete this.instructorPreferences[e.courseId],localStorage.setItem("instructorPreferences",JSON.stringify(this.instructorPreferences))),this.selectedSectionIds[e.courseId]&&(delete this.selectedSectionIds[e.courseId],localStorage.setItem("selectedSectionIds",JSON.stringify(this.selectedSectionIds))),this.showFlashMessage(n.message,"success"),window.location.reload()):this.showFlashMessage(n.message,"danger")}catch(s){console.error("Error removing course:",s),this.showFlashMessage("Error removing course","danger")}finally{this.loading=!1}},handleToggleSectionSelection({courseId:e,section:t}){this.selectedSectionIds[e]||(this.selectedSectionIds[e]=[]);const s=t.sectionNumber,n=this.selectedSectionIds[e].indexOf(s);n===-1?this.selectedSectionIds[e].push(s):this.selectedSectionIds[e].splice(n,1),localStorage.setItem("selectedSectionIds",JSON.stringify(this.selectedSectionIds)),this.expandPreferences(),this.regenerateWithSelectedSections()},async regenerateWithSelectedSections(){if(this.courses.length!==0){this.loading=!0,this.showFlashMessage("Regenerating schedules with selected sections...","info");try{const e=new URLSearchParams;if(Object.keys(this.selectedSectionIds).length>0){const s={};for(const[n,r]of Object.entries(this.selectedSectionIds))if(r&&r.length>0){const i=r.map(o=>`${n}-${o}`);s[n]=i}Object.keys(s).length>0&&e.append("selectedSections",JSON.stringify(s))}Object.keys(this.instructorPreferences).length>0&&e.append("instructorPreferences",JSON.stringify(this.instructorPreferences)),(await fetch("/generateSchedules",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:e})).ok?window.location.reload():this.showFlashMessage("Error regenerating schedules","danger")}catch(e){console.error("Error regenerating schedules:",e),this.showFlashMessage("Error regenerating schedules","danger")}finally{this.loading=!1}}},async handleGenerateSchedules(){this.loading=!0,this.showFlashMessage("Generating schedules...","info");try{const e=await fetch("/api/schedule-jobs",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include"}),t=await e.json();e.ok&&t.success?await this.streamScheduleJob(t.jobId):this.showFlashMessage(t.message||"Error generating schedules","danger")}catch(e){console.error("Error generating schedules:",e),this.showFlashMessage("Error generating schedules","danger")}finally{this.loading=!1}},streamScheduleJob(e){return new Promise(t=>{const s=new EventSource(`/api/schedule-jobs/${encodeURIComponent(e)}/events`);let n=null;s.addEventListener("progress",r=>{const i=JSON.parse(r.data);this.flashMessage={message:`Searching... ${i.schedulesFound} schedules found (${i.nodesExplored} combinations tried)`,type:"info"}}),s.addEventListener("schedule",r=>{const i=JSON.parse(r.data);(n===null||i.score>n)&&(n=i.score,this.selectedSections=i.sections)}),s.addEventListener("complete",async r=>{s.close();const i=JSON.parse(r.data);i.cursor?(this.scheduleCursor=i.cursor,await this.loadSchedule(0),this.showFlashMessage(`Generated ${i.total} schedules`,"success")):(this.selectedSections=i.nonSchedulableSections,this.scheduleCount=0,this.showFlashMessage("No valid schedules found","danger")),t()}),s.addEventListener("failed",()=>{s.close(),this.showFlashMessage("Error generating schedules","danger"),t()}),s.addEventListener("cancelled",()=>{s.close(),t()}),s.onerror=()=>{s.readyState===EventSource.CLOSED&&(this.showFlashMessage("Error generating schedules","danger"),t())}})},async handlePeriodChange(e){this.loading=!0;const t=new URLSearchParams;t.append("academicPeriod",e);try{(await fetch("/changeAcademicPeriod",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:t})).ok?window.location.reload():this.showFlashMessage("Error changing period","danger")}catch(s){console.error("Error changing period:",s),this.showFlashMessage("Error changing period","danger")}finally{this.loading=!1}},showFlashMessage(e,t){this.flashMessage={message:e,type:t},setTimeout(()=>{this.flashMessage=null},3e3)},handleToggleSections(e){const t=this.courses.find(s=>s.courseId===e);t&&(t.showSections=!t.showSections)},handleInstructorPreferencesChanged(e){this.instructorPreferences=e,this.expandPreferences(),this.courses.length>0&&this.regenerateWithPreferences()},async regenerateWithPreferences(){if(this.courses.length===0)return;this.loading=!0,this.showFlashMessage("Applying your preferences...","info");const e=new URLSearchParams;Object.keys(this.instructorPreferences).length>0&&e.append("instructorPreferences",JSON.stringify(this.instructorPreferences));try{(await fetch("/generateSchedules",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:e})).ok?(this.showFlashMessage("Schedules updated with your preferences!","success"),setTimeout(()=>{window.location.reload()},500)):this.showFlashMessage("Error applying preferences","danger")}catch(t){console.error("Error applying preferences:",t),this.showFlashMessage("Error applying preferences","danger")}finally{this.loading=!1}},async handleNextSchedule(){await this.loadSchedule(this.currentScheduleIndex+1)},async handlePreviousSchedule(){await this.loadSchedule(this.currentScheduleIndex-1+this.scheduleCount)},async loadSchedule(e){this.loading=!0;try{const t=new URLSearchParams({index:String(e)});this.scheduleCursor&&t.append("cursor",this.scheduleCursor);const s=await fetch("/api/schedules?"+t.toString(),{credentials:"include"}),n=await s.json();if(s.ok&&n.success&&n.schedules.length>0){const r=n.schedules[0];if(this.selectedSections=r.sections,this.currentScheduleIndex=r.index,this.scheduleCount=n.total,r.cursor){this.scheduleCursor=r.cursor;const i=new URL(window.location.href);i.searchParams.set("academicPeriod",this.currentAcademicPeriod),i.searchParams.set("cursor",r.cursor),window.history.replaceState(null,"",i)}}else this.showFlashMessage(n.message||"No schedules available.","danger")}catch(t){console.error("Error navigating schedules:",t),this.showFlashMessage("Error navigating schedules","danger")}finally{this.loading=!1}},async handlePreferencesChanged(e){this.schedulePreferences=e,this.expandPreferences(),this.loading=!0,this.showFlashMessage("Regenerating schedules with your preferences...","info");const t=new URLSearchParams,s={preferredDays:e.preferredDays||[],timePreference:e.timePreference||"",gapPreference:e.gapPreference||"",scheduleStyle:e.scheduleStyle||"",uniqueSchedulesOnly:e.uniqueSchedulesOnly!==!1};t.append("preferences",JSON.stringify(s)),Object.keys(this.instructorPreferences).length>0&&t.append("instructorPreferences",JSON.stringify(this.instructorPreferences));try{(await fetch("/generateSchedules",{method:"POST",headers:{"Content-Type":"application/x-www-form-urlencoded"},credentials:"include",body:t})).ok?(this.showFlashMessage("Schedules regenerated with your preferences!","success"),setTimeout(()=>{window.location.reload()},500)):this.showFlashMessage("Error applying preferences","danger")}catch(n){console.error("Error applying preferences:",n),this.showFlashMessage("Error applying preferences","danger")}finally{this.loading=!1}},loadSavedSchedules(){const e=localStorage.getItem("cyplan_saved_schedules");if(e)try{this.savedSchedules=JSON.parse(e)}catch(t){console.error("Failed to load saved schedules:",t),this.savedSchedules=[]}},handleSaveSchedule(){if(!this.scheduleNameInput.trim()){this.showFlashMessage("Please enter a schedule name","warning");return}const e={id:Date.now().toString(),name:this.scheduleNameInput.trim(),timestamp:new Date().toLocaleString(),courses:this.courses,sections:this.selectedSections,academicPeriod:this.currentAcademicPeriod,scheduleIndex:this.currentScheduleIndex};this.savedSchedules.push(e),localStorage.setItem("cyplan_saved_schedules",JSON.stringify(this.savedSchedules)),this.showFlashMessage(`Schedule "${e.name}" saved successfully!`,"success"),this.showSaveInput=!1,this.scheduleNameInput=""},handleDeleteSchedule(e){confirm("Are you sure you want to delete this saved schedule?")&&(this.savedSchedules=this.savedSchedules.filter(t=>t.id!==e),localStorage.setItem("cyplan_saved_schedules",JSON.stringify(this.savedSchedules)),this.showFlashMessage("Schedule deleted successfully","success"))},async handleLoadSchedule(e){this.showFlashMessage("Loading schedule...","info"),this.loading=!0;try{this.courses=e.courses,this.selectedSections=e.sections,this.currentAcademicPeriod=e.academicPeriod,this.currentScheduleIndex=e.scheduleIndex||0,this.showSavedSchedules=!1,this.showFlashMessage("Schedule loaded! Add or remove courses to regenerate.","success")}catch(t){console.error("Error loading schedule:",t),this.showFlashMessage("Error loading schedule","danger")}finally{this.loading=!1}},handleRemoveInstructorFilter({courseId:e,instructor:t}){if(this.instructorPreferences[e]){const s=this.instructorPreferences[e].indexOf(t);s>-1&&(this.instructorPreferences[e].splice(s,1),this.instructorPreferences[e].length===0&&delete this.instructorPreferences[e],localStorage.setItem("instructorPreferences",JSON.stringify(this.instructorPreferences)),this.regenerateWithPreferences())}},handleRemoveSectionFilter({courseId:e,sectionNumber:t}){if(this.selectedSectionIds[e]){const s=this.selectedSectionIds[e].indexOf(t);s>-1&&(this.selectedSectionIds[e].splice(s,1),this.selectedSectionIds[e].length===0&&delete this.selectedSectionIds[e],localStorage.setItem("selectedSectionIds",JSON.stringify(this.selectedSectionIds)),this.regenerateWithSelectedSections())}},handleRemovePreferredDays(){this.schedulePreferences.preferredDays=[],this.updateSchedulePreferencesAndRegenerate()},handleRemoveTimePreference(){this.schedulePreferences.timePreference="",this.updateSchedulePreferencesAndRegenerate()},handleRemoveGapPreference(){this.schedulePreferences.gapPreference="",this.updateSchedulePreferencesAndRegenerate()},handleRemoveScheduleStyle(){this.schedulePreferences.scheduleStyle="",this.updateSchedulePreferencesAndRegenerate()},handleRemoveUniqueSchedulesFilter(){this.schedulePreferences.uniqueSchedulesOnly=!1,this.updateSchedulePreferencesAndRegenerate()},handleClearAllFilters(){this.instructorPreferences={},localStorage.removeItem("instructorPreferences"),this.selectedSectionIds={},localStorage.removeItem("selectedSectionIds"),this.schedulePreferences={preferredDays:[],timePreference:"",gapPreference:"",scheduleStyle:"",uniqueSchedulesOnly:!1},localStorage.removeItem("schedulePreferences"),this.handleGenerateSchedules()},updateSchedulePreferencesAndRegenerate(){localStorage.setItem("schedulePreferences",JSON.stringify(this.schedulePreferences)),this.handlePreferencesChanged(this.schedulePreferences)},expandPreferences(){this.$refs.schedulePreferences&&this.$refs.schedulePreferences.expand(),this.$refs.schedulePreferencesMobile&&this.$refs.schedulePreferencesMobile.expand()},checkForTBDSections(){const e=this.selectedSections.filter(t=>t.daysOfTheWeek==="TBD"||t.timeStart==="TBD"||t.timeEnd==="TBD");if(e.length>0){const t=[...new Set(e.map(n=>n.courseId))],s=t.join(", ");this.showFlashMessage(`Note: ${s} ${t.length===1?"has":"have"} sections with TBD meeting times/days. Check the TBD tab for details.`,"warning")}}}},gu={class:"min-h-screen bg-gray-50"},mu={class:"bg-isu-cardinal text-white shadow-lg"},bu={class:"flex items-center justify-between gap-4 py-4"},yu={class:"flex flex-col lg:flex-row min-h-[calc(100vh-100px)]"},xu={class:"flex flex-col h-full"},vu={class:"p-4 flex-shrink-0"},Su={class:"flex-1 overflow-y-auto px-4 pb-4 space-y-4"},wu=["title"],_u={class:"flex justify-between items-center mb-4 sticky top-0 bg-white pb-3 border-b border-gray-200 z-10"},Pu=["aria-label"],Cu={class:"font-semibold text-sm sm:text-base"},Tu={class:"flex-1 p-2 sm:p-4 lg:p-6"},Iu={class:"bg-white rounded-lg shadow-lg p-3 sm:p-6"},Mu={key:0,class:"flex items-center justify-between border border-gray-200 rounded-lg px-3 py-2 mb-4 bg-white"},Au={class:"flex items-center gap-2"},Ou=["disabled"],Eu={class:"text-sm font-medium text-gray-700"},Du=["disabled"],ku={key:1,class:"flex gap-2"},Fu={class:"mt-6"},Nu={class:"bg-white rounded-lg shadow-2xl max-w-4xl w-full max-h-[90vh] overflow-y-auto"},Ru={class:"sticky top-0 bg-white border-b border-gray-200 px-6 py-4 flex justify-between items-center"},Lu={class:"p-6"},Bu={key:0,class:"text-center py-8 text-gray-500"},ju={key:1,class:"space-y-4"},Hu={class:"flex justify-between items-start mb-2"},Uu={class:"font-bold text-gray-800"},Wu={class:"text-xs text-gray-500"},Vu=["onClick"],$u={class:"text-sm text-gray-600 mb-3"},Ku=["onClick"];function qu(e,t,s,n,r,i){var w,D;const o=ht("FlashMessage"),l=ht("CourseSearch"),c=ht("CourseList"),h=ht("SchedulePreferences"),d=ht("ActiveFilters"),p=ht("CalendarGrid"),v=ht("DailyClassList");return C(),M("div",gu,[re(o,{message:(w=r.flashMessage)==null?void 0:w.message,type:((D=r.flashMessage)==null?void 0:D.type)||"info",onDismiss:t[0]||(t[0]=T=>r.flashMessage=null)},null,8,["message","type"]),a("header",mu,[a("div",bu,[t[18]||(t[18]=Zr('<div class="flex items-center gap-3 sm:gap-4 min-w-0 pl-4 sm:pl-6"><img src="'+hu+'" alt="ISU Logo" class="w-12 h-12 sm:w-16 sm:h-16 object-contain flex-shrink-0"><div class="min-w-0"><h1 class="text-2xl sm:text-3xl font-bold whitespace-nowrap"><span class="text-isu-gold">Cy</span>Plan </h1><p class="text-xs sm:text-sm text-gray-200 hidden sm:block">Iowa State University Class Scheduler</p></div></div>',1)),a("button",{onClick:t[1]||(t[1]=T=>r.showSavedSchedules=!0),class:"btn-isu-outline border-white text-white hover:bg-white hover:text-isu-cardinal flex-shrink-0 text-sm sm:text-base mr-4 sm:mr-6"},[...t[17]||(t[17]=[a("i",{class:"bi bi-bookmark-star"},null,-1),ee(),a("span",{class:"hidden sm:inline"},"Saved Schedules",-1)])])])]),a("div",yu,[a("aside",{class:ne([["transition-all duration-300 ease-in-out",r.sidebarCollapsed?"lg:w-0":"lg:w-96"],"hidden lg:flex lg:flex-col bg-white shadow-lg relative overflow-hidden"])},[Te(a("div",xu,[a("div",vu,[re(l,{departments:r.departments,"academic-periods":r.academicPeriods,"current-period":r.currentAcademicPeriod,onAddCourse:i.handleAddCourse,onPeriodChange:i.handlePeriodChange,ref:"courseSearch"},null,8,["departments","academic-periods","current-period","onAddCourse","onPeriodChange"])]),a("div",Su,[re(c,{courses:r.courses,"selected-section-ids":r.selectedSectionIds,onRemoveCourse:i.handleRemoveCourse,onToggleSections:i.handleToggleSections,onToggleSectionSelection:i.handleToggleSectionSelection,onInstructorPreferencesChanged:i.handleInstructorPreferencesChanged},null,8,["courses","selected-section-ids","onRemoveCourse","onToggleSections","onToggleSectionSelection","onInstructorPreferencesChanged"]),r.courses.length>0?(C(),Ts(h,{key:0,ref:"schedulePreferences",onPreferencesChanged:i.handlePreferencesChanged},null,8,["onPreferencesChanged"])):ce("",!0)])],512),[[rs,!r.sidebarCollapsed]]),a("button",{onClick:t[2]||(t[2]=T=>r.sidebarCollapsed=!r.sidebarCollapsed),class:"absolute top-1/2 -translate-y-1/2 -right-[48px] bg-isu-cardinal text-white py-8 px-3 rounded-r-lg hover:bg-red-700 transition-colors z-40 shadow-xl flex items-center justify-center",title:r.sidebarCollapsed?"Open sidebar":"Close sidebar"},[a("i",{class:ne(r.sidebarCollapsed?"bi bi-chevron-right text-xl":"bi bi-chevron-left text-xl")},null,2)],8,wu)],2),re(hr,{name:"fade"},{default:ws(()=>[r.showMobileSidebar?(C(),M("div",{key:0,class:"lg:hidden fixed inset-0 z-[60] bg-black bg-opacity-50 backdrop-blur-sm",onClick:t[5]||(t[5]=T=>r.showMobileSidebar=!1)},[re(hr,{name:"slide-up"},{default:ws(()=>[r.showMobileSidebar?(C(),M("div",{key:0,onClick:t[4]||(t[4]=wn(()=>{},["stop"])),class:"w-full h-full bg-white overflow-y-auto p-4 space-y-4 animate-slide-up"},[a("div",_u,[t[20]||(t[20]=a("h3",{class:"text-xl font-bold text-isu-cardinal"},"Build Schedule",-1)),a("button",{onClick:t[3]||(t[3]=T=>r.showMobileSidebar=!1),class:"text-gray-500 hover:text-gray-700 p-2 hover:bg-gray-100 rounded-lg transition-colors","aria-label":"Close sidebar"},[...t[19]||(t[19]=[a("i",{class:"bi bi-x-lg text-2xl"},null,-1)])])]),re(l,{departments:r.departments,"academic-periods":r.academicPeriods,"current-period":r.currentAcademicPeriod,onAddCourse:i.handleAddCourse,onPeriodChange:i.handlePeriodChange,ref:"courseSearchMobile"},null,8,["departments","academic-periods","current-period","onAddCourse","onPeriodChange"]),re(c,{courses:r.courses,"selected-section-ids":r.selectedSectionIds,onRemoveCourse:i.handleRemoveCourse,onToggleSections:i.handleToggleSections,onToggleSectionSelection:i.handleToggleSectionSelection,onInstructorPreferencesChanged:i.handleInstructorPreferencesChanged},null,8,["courses","selected-section-ids","onRemoveCourse","onToggleSections","onToggleSectionSelection","onInstructorPreferencesChanged"]),r.courses.length>0?(C(),Ts(h,{key:0,ref:"schedulePreferencesMobile",onPreferencesChanged:i.handlePreferencesChanged,class:"mt-4"},null,8,["onPreferencesChanged"])):ce("",!0)])):ce("",!0)]),_:1})])):ce("",!0)]),_:1}),a("button",{onClick:t[6]||(t[6]=T=>r.showMobileSidebar=!r.showMobileSidebar),class:ne(["lg:hidden fixed bottom-6 right-6 text-white rounded-full shadow-2xl active:scale-95 transition-all z-[70] flex items-center gap-2 px-5 py-4",r.showMobileSidebar?"bg-gray-600 hover:bg-gray-700":"bg-isu-cardinal hover:bg-red-700 hover:shadow-isu-cardinal/50"]),"aria-label":r.showMobileSidebar?"Close courses":"Add courses"},[a("i",{class:ne(r.showMobileSidebar?"bi bi-x-lg text-xl sm:text-2xl":"bi bi-plus-lg text-xl sm:text-2xl")},null,2),a("span",Cu,R(r.showMobileSidebar?"Close":"Add Courses"),1)],10,Pu),a("main",Tu,[a("div",Iu,[t[26]||(t[26]=a("div",{class:"mb-6"},[a("h2",{class:"text-2xl font-bold text-isu-cardinal"},"Your Schedule")],-1)),re(d,{"instructor-preferences":r.instructorPreferences,"section-selections":r.selectedSectionIds,"schedule-preferences":r.schedulePreferences,onRemoveInstructorFilter:i.handleRemoveInstructorFilter,onRemoveSectionFilter:i.handleRemoveSectionFilter,onRemovePreferredDays:i.handleRemovePreferredDays,onRemoveTimePreference:i.handleRemoveTimePreference,onRemoveGapPreference:i.handleRemoveGapPreference,onRemoveScheduleStyle:i.handleRemoveScheduleStyle,onRemoveUniqueSchedulesFilter:i.handleRemoveUniqueSchedulesFilter,onClearAllFilters:i.handleClearAllFilters},null,8,["instructor-preferences","section-selections","schedule-preferences","onRemoveInstructorFilter","onRemoveSectionFilter","onRemovePreferredDays","onRemoveTimePreference","onRemoveGapPreference","onRemoveScheduleStyle","onRemoveUniqueSchedulesFilter","onClearAllFilters"]),r.scheduleCount>0?(C(),M("div",Mu,[a("div",Au,[a("button",{onClick:t[7]||(t[7]=(...T)=>i.handlePreviousSchedule&&i.handlePreviousSchedule(...T)),class:"text-isu-cardinal hover:bg-gray-100 rounded p-1 transition-colors",disabled:r.loading},[...t[21]||(t[21]=[a("i",{class:"bi bi-chevron-left text-lg"},null,-1)])],8,Ou),a("span",Eu,R(r.currentScheduleIndex+1)+" / "+R(r.scheduleCount),1),a("button",{onClick:t[8]||(t[8]=(...T)=>i.handleNextSchedule&&i.handleNextSchedule(...T)),class:"text-isu-cardinal hover:bg-gray-100 rounded p-1 transition-colors",disabled:r.loading},[...t[22]||(t[22]=[a("i",{class:"bi bi-chevron-right text-lg"},null,-1)])],8,Du)]),a("div",null,[r.showSaveInput?(C(),M("div",ku,[Te(a("input",{"onUpdate:modelValue":t[10]||(t[10]=T=>r.scheduleNameInput=T),type:"text",placeholder:"Schedule name",class:"w-40 px-2 py-1 border border-gray-300 rounded text-sm focus:ring-1 focus:ring-isu-cardinal focus:border-transparent",onKeydown:[t[11]||(t[11]=Os((...T)=>i.handleSaveSchedule&&i.handleSaveSchedule(...T),["enter"])),t[12]||(t[12]=Os(T=>{r.showSaveInput=!1,r.scheduleNameInput=""},["esc"]))]},null,544),[[pr,r.scheduleNameInput]]),a("button",{onClick:t[13]||(t[13]=(...T)=>i.handleSaveSchedule&&i.handleSaveSchedule(...T)),class:"bg-isu-cardinal text-white px-2 py-1 rounded hover:bg-red-700 transition-colors text-sm"},[...t[24]||(t[24]=[a("i",{class:"bi bi-check"},null,-1)])]),a("button",{onClick:t[14]||(t[14]=T=>{r.showSaveInput=!1,r.scheduleNameInput=""}),class:"px-2 py-1 border border-gray-300 text-gray-700 rounded hover:bg-gray-50 transition-colors text-sm"},[...t[25]||(t[25]=[a("i",{class:"bi bi-x"},null,-1)])])])):(C(),M("button",{key:0,onClick:t[9]||(t[9]=T=>r.showSaveInput=!0),class:"flex items-center gap-1.5 bg-isu-gold text-gray-800 px-3 py-1.5 rounded text-sm hover:bg-yellow-500 transition-colors"},[...t[23]||(t[23]=[a("i",{class:"bi bi-bookmark-plus text-sm"},null,-1),a("span",null,"Save",-1)])]))])])):ce("",!0),re(p,{sections:i.inPersonSections,"hour-height":80,onCourseClick:i.handleCourseClick},null,8,["sections","onCourseClick"]),a("div",Fu,[re(v,{sections:r.selectedSections},null,8,["sections"])])])])]),r.showSavedSchedules?(C(),M("div",{key:0,class:"fixed inset-0 bg-black bg-opacity-50 flex items-center justify-center z-[80] p-4",onClick:t[16]||(t[16]=wn(T=>r.showSavedSchedules=!1,["self"]))},[a("div",Nu,[a("div",Ru,[t[28]||(t[28]=a("h3",{class:"text-2xl font-bold text-isu-cardinal"},"Saved Schedules",-1)),a("button",{onClick:t[15]||(t[15]=T=>r.showSavedSchedules=!1),class:"text-gray-500 hover:text-gray-700"},[...t[27]||(t[27]=[a("i",{class:"bi bi-x-lg text-2xl"},null,-1)])])]),a("div",Lu,[r.savedSchedules.length===0?(C(),M("div",Bu,[...t[29]||(t[29]=[a("i",{class:"bi bi-bookmark-x text-4xl mb-2 block"},null,-1),a("p",null,"No saved schedules yet",-1),a("p",{class:"text-sm"},"Save your favorite schedules to access them later",-1)])])):(C(),M("div",ju,[(C(!0),M(q,null,de(r.savedSchedules,T=>(C(),M("div",{key:T.id,class:"border border-gray-200 rounded-lg p-4 hover:border-isu-cardinal transition-colors"},[a("div",Hu,[a("div",null,[a("h4",Uu,R(T.name),1),a("p",Wu,"Saved on "+R(T.timestamp),1)]),a("button",{onClick:te=>i.handleDeleteSchedule(T.id),class:"text-red-500 hover:text-red-700 transition-colors",title:"Delete schedule"},[...t[30]||(t[30]=[a("i",{class:"bi bi-trash"},null,-1)])],8,Vu)]),a("div",$u,[t[31]||(t[31]=a("i",{class:"bi bi-book"},null,-1)),ee(" "+R(T.courses.length)+" courses ",1)]),a("button",{onClick:te=>i.handleLoadSchedule(T),class:"w-full bg-isu-cardinal text-white px-4 py-2 rounded-lg hover:bg-red-700 transition-colors text-sm font-medium"},[...t[32]||(t[32]=[a("i",{class:"bi bi-arrow-clockwise"},null,-1),ee(" Load This Schedule ",-1)])],8,Ku)]))),128))]))])])])):ce("",!0),t[33]||(t[33]=Zr('<footer class="bg-gray-50 border-t border-gray-200 py-6 text-center text-xs text-gray-500"><div class="max-w-7xl mx-auto px-4"><p class="mb-1">© 2025 CyPlan. All rights reserved.</p><p class="mb-2">Not directly affiliated with Iowa State University</p><p class="text-gray-400">Created by Jeremiah Baccam, Luke Patterson, Jared Cheney</p></div></footer>',1))])}const Ju=at(pu,[["render",qu]]);gc(Ju).mount("#app");
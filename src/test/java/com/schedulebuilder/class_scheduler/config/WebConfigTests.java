@@ -0,0 +1,71 @@
+package com.schedulebuilder.class_scheduler.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WebConfigTests {
+
+    private static final String DEPARTMENTS = "[{\"code\":\"COMS\",\"name\":\"Computer Science\"}]";
+
+    private final FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new WebConfig().apiEtagFilter();
+
+    @Test
+    void coversOnlyTheApi() {
+        assertEquals(List.of("/api/*"), List.copyOf(registration.getUrlPatterns()));
+    }
+
+    @Test
+    void repeatedGetsWithTheTagAreNotModified() throws Exception {
+        MockHttpServletResponse first = get(null, DEPARTMENTS);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(DEPARTMENTS, first.getContentAsString());
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("W/\""), etag);
+
+        MockHttpServletResponse second = get(etag, DEPARTMENTS);
+
+        assertEquals(304, second.getStatus());
+        assertEquals(etag, second.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, second.getContentAsByteArray().length);
+    }
+
+    @Test
+    void changedBodiesGetANewTag() throws Exception {
+        String etag = get(null, DEPARTMENTS).getHeader(HttpHeaders.ETAG);
+        String changed = "[{\"code\":\"MATH\",\"name\":\"Mathematics\"}]";
+
+        MockHttpServletResponse response = get(etag, changed);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(changed, response.getContentAsString());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletResponse get(String ifNoneMatch, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/departments");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain controller = (req, res) -> {
+            res.setContentType("application/json");
+            res.getWriter().write(body);
+        };
+        registration.getFilter().doFilter(request, response, controller);
+        return response;
+    }
+}
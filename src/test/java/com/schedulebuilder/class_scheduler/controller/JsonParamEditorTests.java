@@ -0,0 +1,45 @@
+package com.schedulebuilder.class_scheduler.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JsonParamEditorTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void bindsPreferencesAndIgnoresUnknownFields() {
+        Object bound = bind(JsonParamEditor.preferences(objectMapper), "{\"preferredDays\":[\"Mon\",\"Wed\"],"
+                + "\"timePreference\":\"morning\",\"uniqueSchedulesOnly\":true,\"addedLater\":{\"x\":1}}");
+
+        assertEquals(new SchedulePreferencesForm(List.of("Mon", "Wed"), "morning", null, null, true), bound);
+    }
+
+    @Test
+    void bindsPerCourseLists() {
+        Object bound = bind(JsonParamEditor.byCourse(objectMapper),
+                "{\"COMS 2280\":[\"COMS 2280-1\",\"COMS 2280-A\"],\"MATH 1650\":[]}");
+
+        assertEquals(Map.of("COMS 2280", List.of("COMS 2280-1", "COMS 2280-A"), "MATH 1650", List.of()), bound);
+    }
+
+    @Test
+    void blankOrMalformedJsonBindsNull() {
+        for (String json : new String[] {"", " ", "{\"timePreference\":", "[1, 2]"}) {
+            assertNull(bind(JsonParamEditor.preferences(objectMapper), json));
+            assertNull(bind(JsonParamEditor.byCourse(objectMapper), json));
+        }
+    }
+
+    private static Object bind(JsonParamEditor editor, String text) {
+        editor.setAsText(text);
+        return editor.getValue();
+    }
+}
@@ -0,0 +1,133 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulebuilder.class_scheduler.model.AcademicPeriod;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.stub.UpstreamStubServer;
+import com.schedulebuilder.class_scheduler.util.UpstreamThrottle;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs ApiService against the local upstream stub instead of the live university API.
+ */
+class ApiServiceStubServerTests {
+
+    private static final String PERIOD = "ACADEMIC_PERIOD-2026Fall";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UpstreamStubServer stub;
+    private CloseableHttpAsyncClient asyncHttpClient;
+    // Loose enough that it never delays these tests
+    private final UpstreamThrottle upstreamThrottle = new UpstreamThrottle(1000, 1000, 32, 0, 5000, 5000,
+            UpstreamThrottle.WaitListener.NONE);
+    private final List<ApiService> services = new ArrayList<>();
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = UpstreamStubServer.start(0, List.of("COMS", "MATH"), 10, 3);
+        asyncHttpClient = HttpAsyncClients.createDefault();
+        asyncHttpClient.start();
+    }
+
+    @AfterEach
+    void stopStub() throws Exception {
+        services.forEach(ApiService::shutdown);
+        upstreamThrottle.shutdown();
+        asyncHttpClient.close();
+        stub.close();
+    }
+
+    @Test
+    void fetchesPeriodsAndCoursesFromStub() throws Exception {
+        ApiService apiService = apiService(300, 5);
+
+        List<AcademicPeriod> periods = apiService.fetchAcademicPeriods();
+        assertEquals(2, periods.size());
+        assertTrue(periods.get(0).getId().startsWith("ACADEMIC_PERIOD-"));
+
+        List<Course> courses = apiService.fetchCourseList(PERIOD, "COMS", "1010");
+        assertEquals(1, courses.size());
+        assertEquals("COMS 1010", courses.get(0).getCourseId());
+        assertEquals(3, courses.get(0).getSections().size());
+
+        List<Course> asyncCourses = apiService.fetchCourseListAsync(PERIOD, "MATH", "1020").get(5, TimeUnit.SECONDS);
+        assertEquals(1, asyncCourses.size());
+    }
+
+    @Test
+    void concurrentIdenticalSearchesShareOneUpstreamRequest() throws Exception {
+        ApiService apiService = apiService(300, 5);
+        stub.setLatency(300, 0);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Course>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return apiService.fetchCourseList(PERIOD, "COMS", "1030");
+            }));
+        }
+        start.countDown();
+
+        for (Future<List<Course>> result : results) {
+            assertFalse(result.get(5, TimeUnit.SECONDS).isEmpty());
+        }
+        callers.shutdown();
+        assertEquals(1, stub.getRequestCount(UpstreamStubServer.COURSE_SEARCH_PATH));
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedFailures() {
+        ApiService apiService = apiService(300, 2);
+        stub.setFailures(1.0, 503);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(apiService.fetchCourseList(PERIOD, "COMS", Integer.toString(1010 + i * 10)).isEmpty());
+        }
+
+        // Only the calls before the circuit opened reached upstream
+        assertEquals(2, stub.getRequestCount(UpstreamStubServer.COURSE_SEARCH_PATH));
+    }
+
+    @Test
+    void servesLastKnownGoodResultWhenUpstreamFails() {
+        // Zero TTL: every lookup reloads, so the second one has to fall back to the stale entry
+        ApiService apiService = apiService(0, 5);
+
+        List<Course> first = apiService.fetchCourseList(PERIOD, "MATH", "1010");
+        assertEquals(1, first.size());
+
+        stub.setFailures(1.0, 503);
+        List<Course> second = apiService.fetchCourseList(PERIOD, "MATH", "1010");
+        assertEquals(first, second);
+        assertEquals(2, stub.getRequestCount(UpstreamStubServer.COURSE_SEARCH_PATH));
+    }
+
+    private ApiService apiService(long cacheTtlSeconds, int circuitFailureThreshold) {
+        ApiService apiService = new ApiService(stub.getBaseUrl(), new RestTemplate(), asyncHttpClient,
+                upstreamThrottle, objectMapper, new CourseService(objectMapper), new CanonicalCatalog(),
+                1 << 20, cacheTtlSeconds, cacheTtlSeconds,
+                600, 3600,
+                circuitFailureThreshold, 60);
+        services.add(apiService);
+        return apiService;
+    }
+}
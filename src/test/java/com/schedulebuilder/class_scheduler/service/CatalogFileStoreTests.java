@@ -0,0 +1,100 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.CatalogSnapshot;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes catalog snapshots through the binary file store and reads them back.
+ */
+class CatalogFileStoreTests {
+
+    private static final String PERIOD = "ACADEMIC_PERIOD-2026Fall";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotSurvivesARoundTrip() throws Exception {
+        Section lecture = section("COMS 2280", "1", "Mon,Wed,Fri", "9:00 AM", "9:50 AM", "3", SectionType.IN_PERSON);
+        Section lab = section("COMS 2280", "A", "Tue", "1:10 PM", "3:00 PM", "3", SectionType.IN_PERSON);
+        // Values without a primitive form keep their text
+        Section arranged = section("COMS 2280", "XW", "TBD", "TBD", "TBD", "1-3", SectionType.ONLINE);
+        Section evening = section("MATH 1650", "2", "Tue,Thu", "6:00 PM", "7:15 PM", "4.5", null);
+        Instant refreshedAt = Instant.ofEpochMilli(1_760_000_000_000L);
+        CatalogSnapshot snapshot = new CatalogSnapshot(PERIOD, Map.of(
+                "COMS", List.of(new Course("COMS 2280", "Data Structures", "", List.of(lecture, lab, arranged))),
+                "MATH", List.of(new Course("MATH 1650", "Calculus I", "", List.of(evening)))), refreshedAt);
+
+        new CatalogFileStore(directory.toString()).save(snapshot);
+        List<CatalogSnapshot> loaded = new CatalogFileStore(directory.toString()).loadAll();
+
+        assertEquals(1, loaded.size());
+        CatalogSnapshot read = loaded.get(0);
+        assertEquals(PERIOD, read.getAcademicPeriodId());
+        assertEquals(refreshedAt, read.getRefreshedAt());
+        assertEquals("Data Structures", read.findCourse("COMS 2280").getCourseName());
+
+        List<Section> sections = read.findCourse("COMS 2280").getSections();
+        assertEquals(3, sections.size());
+        assertSameFields(lecture, sections.get(0));
+        assertSameFields(lab, sections.get(1));
+        assertSameFields(arranged, sections.get(2));
+        assertSameFields(evening, read.findSubject("MATH").get(0).getSections().get(0));
+        assertEquals(540, sections.get(0).getStartMinutes());
+        assertEquals(45, read.findSubject("MATH").get(0).getSections().get(0).getCreditsTenths());
+    }
+
+    @Test
+    void corruptFilesAreSkipped() throws Exception {
+        CatalogFileStore store = new CatalogFileStore(directory.toString());
+        store.save(new CatalogSnapshot(PERIOD, Map.of("COMS", List.of()), Instant.now()));
+        Path file = directory.resolve("ACADEMIC_PERIOD-2026Fall.cat");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(directory.resolve("truncated.cat"), java.util.Arrays.copyOf(bytes, bytes.length / 2));
+
+        List<CatalogSnapshot> loaded = store.loadAll();
+        assertEquals(1, loaded.size());
+        assertEquals(PERIOD, loaded.get(0).getAcademicPeriodId());
+    }
+
+    @Test
+    void nothingIsPersistedWithoutADirectory() {
+        CatalogFileStore store = new CatalogFileStore("");
+        store.save(new CatalogSnapshot(PERIOD, Map.of(), Instant.now()));
+        assertTrue(store.loadAll().isEmpty());
+    }
+
+    private static void assertSameFields(Section expected, Section actual) {
+        assertEquals(expected.getCourseId(), actual.getCourseId());
+        assertEquals(expected.getSectionNumber(), actual.getSectionNumber());
+        assertEquals(expected.getDaysOfTheWeek(), actual.getDaysOfTheWeek());
+        assertEquals(expected.getTimeStart(), actual.getTimeStart());
+        assertEquals(expected.getTimeEnd(), actual.getTimeEnd());
+        assertEquals(expected.getCredits(), actual.getCredits());
+        assertEquals(expected.getInstructor(), actual.getInstructor());
+        assertEquals(expected.getLocation(), actual.getLocation());
+        assertEquals(expected.getInstructionalFormat(), actual.getInstructionalFormat());
+        assertEquals(expected.getDeliveryMode(), actual.getDeliveryMode());
+        assertEquals(expected.getOpenSeats(), actual.getOpenSeats());
+        assertEquals(expected.getSectionType(), actual.getSectionType());
+    }
+
+    private static Section section(String courseId, String number, String days, String start, String end,
+                                   String credits, SectionType type) {
+        return new Section(days, 12, "Jane Doe", courseId, start, end, number, "Lecture", "Carver 0101",
+                type == SectionType.ONLINE ? "Online" : "In Person", credits, type);
+    }
+}
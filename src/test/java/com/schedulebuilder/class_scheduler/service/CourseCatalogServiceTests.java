@@ -0,0 +1,100 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.ConditionalCourseResult;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import com.schedulebuilder.class_scheduler.model.UpstreamValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CourseCatalogServiceTests {
+
+    private static final String PERIOD = "ACADEMIC_PERIOD-2026Fall";
+
+    private final FakeApiService apiService = new FakeApiService();
+    private final CourseCatalogService catalogService = new CourseCatalogService(apiService, new CatalogFileStore(""),
+            new CanonicalCatalog(), true, 3, 0, true);
+
+    @Test
+    void seatRefreshPublishesChangedSeatCounts() {
+        apiService.serve(List.of(coms(10, "9:00 AM")));
+        catalogService.refreshPeriod(PERIOD);
+
+        apiService.serve(List.of(coms(7, "9:00 AM")));
+
+        assertEquals(1, catalogService.refreshSeats(PERIOD));
+        assertEquals(7, secondSection().getOpenSeats());
+    }
+
+    @Test
+    void seatRefreshPublishesChangesOtherThanSeats() {
+        apiService.serve(List.of(coms(10, "9:00 AM")));
+        catalogService.refreshPeriod(PERIOD);
+
+        // Same seats, new start time
+        apiService.serve(List.of(coms(10, "10:00 AM")));
+
+        assertEquals(0, catalogService.refreshSeats(PERIOD));
+        assertEquals("10:00 AM", secondSection().getTimeStart());
+
+        // Both refreshes now get "not modified" and must keep the new listing
+        catalogService.refreshSeats(PERIOD);
+        catalogService.refreshPeriod(PERIOD);
+        assertEquals("10:00 AM", secondSection().getTimeStart());
+        assertEquals(2, apiService.notModified);
+    }
+
+    private Section secondSection() {
+        return catalogService.findSubjectCourses(PERIOD, "COMS").orElseThrow().get(0).getSections().get(1);
+    }
+
+    private static Course coms(int openSeats, String secondStart) {
+        return new Course("COMS 2280", "Data Structures", "", List.of(
+                section("A", 10, "8:00 AM", "8:50 AM"),
+                section("B", openSeats, secondStart, "10:50 AM")));
+    }
+
+    private static Section section(String number, int openSeats, String start, String end) {
+        return new Section("Mon,Wed,Fri", openSeats, "Jane Doe", "COMS 2280", start, end, number, "Lecture",
+                "Atanasoff 310", "In Person", "3", SectionType.IN_PERSON);
+    }
+
+    /**
+     * Serves one subject whose body is whatever the test last set, validated by a version number.
+     */
+    private static final class FakeApiService extends ApiService {
+
+        private List<Course> body;
+        private int version;
+        private int notModified;
+
+        private FakeApiService() {
+            super("http://upstream.test", null, null, null, null, null, null, 1 << 20, 60, 300, 600, 3600, 5, 30);
+        }
+
+        private void serve(List<Course> courses) {
+            body = courses;
+            version++;
+        }
+
+        @Override
+        public List<String> fetchSubjects(String academicPeriod) {
+            return List.of("COMS");
+        }
+
+        @Override
+        public ConditionalCourseResult fetchSubjectCoursesIfChanged(String academicPeriodId, String subject,
+                                                                    UpstreamValidator previous) {
+            UpstreamValidator current = new UpstreamValidator(null, null, "v" + version);
+            if (current.equals(previous)) {
+                notModified++;
+                return new ConditionalCourseResult(null, current);
+            }
+            return new ConditionalCourseResult(body, current);
+        }
+    }
+}
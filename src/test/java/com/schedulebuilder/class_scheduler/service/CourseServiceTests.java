@@ -0,0 +1,153 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.CourseSearchResult;
+import com.schedulebuilder.class_scheduler.model.InstructionalFormat;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import com.schedulebuilder.class_scheduler.util.SectionFields;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CourseServiceTests {
+
+    // Shaped like the upstream course search response, including fields the parser skips
+    private static final String RESPONSE = """
+            {
+              "meta": {"total": 3, "filters": ["COMS"]},
+              "data": [
+                {
+                  "courseNumber": "COMS 2280",
+                  "title": "Data Structures",
+                  "description": "A long description that is never displayed.",
+                  "prerequisites": {"all": ["COMS 2270"]},
+                  "sections": [
+                    {"courseNumber": "COMS 2280", "number": "1", "meetingPatterns": "MWF | 9:00 AM - 9:50 AM",
+                     "instructionalFormat": "Lecture", "locations": "Atanasoff 310", "instructors": "Jane Doe",
+                     "deliveryMode": "In-Person", "openSeats": 12, "credits": "3", "notes": ["Majors only"]},
+                    {"courseNumber": "COMS 2280", "number": "A", "meetingPatterns": "TR | 1:10 PM - 3:00 PM",
+                     "instructionalFormat": "Laboratory", "locations": "Pearson 145", "instructors": "John Roe",
+                     "deliveryMode": "In-Person", "openSeats": "7", "credits": "3"},
+                    {"courseNumber": "COMS 2280", "number": "XW", "meetingPatterns": "",
+                     "instructionalFormat": "Lecture", "locations": null, "instructors": null,
+                     "deliveryMode": "Online", "openSeats": 40.9, "credits": "3"},
+                    {"courseNumber": "COMS 2280", "number": "X", "meetingPatterns": "ARR",
+                     "instructionalFormat": "Independent Study", "instructors": "Staff",
+                     "deliveryMode": "In-Person", "openSeats": null, "credits": "1-3"},
+                    {"courseNumber": "COMS 2280", "meetingPatterns": "MWF | 9:00 AM - 9:50 AM"}
+                  ]
+                },
+                {
+                  "number": "MATH 1650",
+                  "title": "Calculus I",
+                  "sections": [
+                    {"courseId": "MATH 1650", "number": "2", "meetingPatterns": "MTWRF | 8:00 AM - 8:50 AM",
+                     "instructionalFormat": "Lecture", "locations": "Carver 0101", "instructors": "Ada Poe",
+                     "openSeats": 3, "credits": "4.5"}
+                  ]
+                },
+                {"courseNumber": "ENGL 1500", "title": "Critical Thinking", "sections": []},
+                {"title": "No course number", "sections": [{"courseNumber": "X 1", "number": "1"}]}
+              ]
+            }
+            """;
+
+    private final CourseService courseService = new CourseService(new ObjectMapper());
+
+    @Test
+    void parsesCoursesAndSkipsTheRest() throws Exception {
+        CourseSearchResult result = parse(RESPONSE);
+
+        // ENGL has no sections and the last course has no number
+        List<Course> courses = result.courses();
+        assertEquals(2, courses.size());
+        assertEquals("COMS 2280", courses.get(0).getCourseId());
+        assertEquals("Data Structures", courses.get(0).getCourseName());
+        assertEquals("", courses.get(0).getDescription());
+        assertEquals("MATH 1650", courses.get(1).getCourseId());
+        // Read up to the closing brace
+        assertEquals(RESPONSE.stripTrailing().getBytes(StandardCharsets.UTF_8).length, result.responseBytes());
+
+        // The section without a number is dropped
+        assertEquals(List.of("1", "A", "XW", "X"),
+                courses.get(0).getSections().stream().map(Section::getSectionNumber).toList());
+    }
+
+    @Test
+    void derivesDaysTimesFormatsAndCredits() throws Exception {
+        List<Course> courses = parse(RESPONSE).courses();
+        List<Section> coms = courses.get(0).getSections();
+
+        Section lecture = coms.get(0);
+        assertEquals("Mon,Wed,Fri", lecture.getDaysOfTheWeek());
+        assertEquals(SectionFields.MONDAY | SectionFields.WEDNESDAY | SectionFields.FRIDAY, lecture.getDayMask());
+        assertEquals("9:00 AM", lecture.getTimeStart());
+        assertEquals(540, lecture.getStartMinutes());
+        assertEquals(590, lecture.getEndMinutes());
+        assertEquals(InstructionalFormat.LECTURE, lecture.getFormat());
+        assertTrue(lecture.isLecture());
+        assertEquals("Jane Doe", lecture.getInstructor());
+        assertEquals("Atanasoff 310", lecture.getLocation());
+        assertEquals(12, lecture.getOpenSeats());
+        assertEquals(30, lecture.getCreditsTenths());
+        assertEquals(SectionType.IN_PERSON, lecture.getSectionType());
+        assertTrue(lecture.isSchedulable());
+
+        Section lab = coms.get(1);
+        assertEquals("Tue,Thu", lab.getDaysOfTheWeek());
+        assertEquals("1:10 PM", lab.getTimeStart());
+        assertEquals("3:00 PM", lab.getTimeEnd());
+        assertTrue(lab.isLab());
+        assertEquals(7, lab.getOpenSeats());
+
+        Section math = courses.get(1).getSections().get(0);
+        assertEquals("MATH 1650", math.getCourseId());
+        assertEquals("Mon,Tue,Wed,Thu,Fri", math.getDaysOfTheWeek());
+        assertEquals(45, math.getCreditsTenths());
+        assertEquals("4.5", math.getCredits());
+        assertEquals("In-Person", math.getDeliveryMode());
+    }
+
+    @Test
+    void classifiesOnlineAndUnscheduledSections() throws Exception {
+        List<Section> coms = parse(RESPONSE).courses().get(0).getSections();
+
+        Section online = coms.get(2);
+        assertEquals(SectionType.ONLINE, online.getSectionType());
+        assertEquals("Online", online.getDaysOfTheWeek());
+        assertEquals("Online", online.getTimeStart());
+        assertEquals(-1, online.getStartMinutes());
+        assertEquals("TBA", online.getInstructor());
+        assertEquals("TBA", online.getLocation());
+        assertEquals(40, online.getOpenSeats());
+
+        Section arranged = coms.get(3);
+        assertEquals(SectionType.TBD, arranged.getSectionType());
+        assertEquals("TBD", arranged.getDaysOfTheWeek());
+        assertEquals("TBD", arranged.getTimeEnd());
+        assertEquals(0, arranged.getOpenSeats());
+        assertEquals(InstructionalFormat.OTHER, arranged.getFormat());
+        assertEquals("Independent Study", arranged.getInstructionalFormat());
+        assertEquals("1-3", arranged.getCredits());
+        assertEquals(-1, arranged.getCreditsTenths());
+        assertFalse(arranged.isSchedulable());
+    }
+
+    @Test
+    void responsesWithoutADataArrayAreEmpty() throws Exception {
+        assertEquals(List.of(), parse("[]").courses());
+        assertEquals(List.of(), parse("{\"data\": null}").courses());
+    }
+
+    private CourseSearchResult parse(String json) throws Exception {
+        return courseService.parseCourses(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
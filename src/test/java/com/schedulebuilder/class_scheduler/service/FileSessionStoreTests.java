@@ -0,0 +1,186 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round-trips session attributes through the codec and the embedded file store.
+ */
+class FileSessionStoreTests {
+
+    private static final String SESSION_ID = "abcdefghijklmnopqrstuvwxyz012345";
+
+    private final CanonicalCatalog canonicalCatalog = new CanonicalCatalog();
+    private final SessionAttributeCodec codec = new SessionAttributeCodec(canonicalCatalog);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sessionSurvivesANewStoreInstance() throws Exception {
+        Section lecture = section("COMS 2280", "A", "Mon,Wed,Fri", "9:00 AM", "9:50 AM", SectionType.IN_PERSON);
+        Section otherLecture = section("COMS 2280", "B", "Tue,Thu", "11:00 AM", "12:15 PM", SectionType.IN_PERSON);
+        Section online = section("COMS 2280", "XW", "", "", "", SectionType.ONLINE);
+        Course course = new Course("COMS 2280", "Data Structures", "", new ArrayList<>(List.of(lecture, otherLecture, online)));
+        // Schedules are generated from a filtered copy sharing the same sections
+        Course inPerson = new Course("COMS 2280", "Data Structures", "", List.of(lecture, otherLecture));
+        GeneratedSchedules schedules = GeneratedSchedules.encode(List.of(inPerson),
+                List.of(Map.of(inPerson, List.of(otherLecture)), Map.of(inPerson, List.of(lecture))));
+        ScheduleRequest request = new ScheduleRequest("ACADEMIC_PERIOD-2026Fall", List.of("COMS 2280"),
+                new SchedulePreferencesForm(List.of("Tue"), "afternoon", null, null, true),
+                Map.of("COMS 2280", List.of("Jane Doe")), Map.of("COMS 2280", List.of("COMS 2280-B")), false);
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("courses", new ArrayList<>(List.of(course)));
+        attributes.put("selectedSections", new ArrayList<>(List.of(otherLecture, online)));
+        attributes.put("onlineSections", new ArrayList<>(List.of(online)));
+        attributes.put("generatedSchedules", schedules);
+        attributes.put("currentScheduleIndex", 1);
+        attributes.put("currentAcademicPeriod", "ACADEMIC_PERIOD-2026Fall");
+        attributes.put("scheduleRequest", request);
+        attributes.put("flash", new HashMap<>(Map.of("successMessage", "Saved")));
+
+        long now = System.currentTimeMillis();
+        new FileSessionStore(directory.toString())
+                .save(SESSION_ID, new SessionStore.StoredSession(now, now, 1800, codec.encode(attributes)));
+
+        SessionStore.StoredSession stored = new FileSessionStore(directory.toString()).load(SESSION_ID);
+        Map<String, Object> loaded = codec.decode(stored.attributes());
+
+        @SuppressWarnings("unchecked")
+        List<Course> courses = (List<Course>) loaded.get("courses");
+        @SuppressWarnings("unchecked")
+        List<Section> selected = (List<Section>) loaded.get("selectedSections");
+        GeneratedSchedules loadedSchedules = (GeneratedSchedules) loaded.get("generatedSchedules");
+
+        assertEquals(now, stored.creationTime());
+        assertEquals("Data Structures", courses.get(0).getCourseName());
+        assertEquals(3, courses.get(0).getSections().size());
+        assertEquals("Tue,Thu", selected.get(0).getDaysOfTheWeek());
+        assertEquals("12:15 PM", selected.get(0).getTimeEnd());
+        assertEquals(SectionType.ONLINE, selected.get(1).getSectionType());
+        // Each section comes back as one instance wherever it was referenced
+        assertSame(courses.get(0).getSections().get(1), selected.get(0));
+        assertSame(selected.get(0), loadedSchedules.getSections(0).get(0));
+        assertEquals(2, loadedSchedules.size());
+        assertEquals("A", loadedSchedules.getSections(1).get(0).getSectionNumber());
+        assertEquals(1, loaded.get("currentScheduleIndex"));
+        assertEquals(request, loaded.get("scheduleRequest"));
+        assertEquals(Map.of("successMessage", "Saved"), loaded.get("flash"));
+    }
+
+    @Test
+    void sectionFieldsSurviveTheRoundTrip() throws Exception {
+        Section lecture = new Section("Mon,Wed,Fri", 12, "Jane Doe", "COMS 2280", "1:10 PM", "2:00 PM", "A",
+                "Lecture", "Atanasoff 310", "In Person", "3.5", SectionType.IN_PERSON, "Meets in the first half of the term");
+        // Values without a primitive form are kept as text
+        Section arranged = new Section("TBD", 0, "Staff", "COMS 2280", "TBD", "TBD", "XW",
+                "Independent Study", "Online", "Online", "1-3", SectionType.ONLINE);
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("selectedSections", new ArrayList<>(List.of(lecture, arranged)));
+        @SuppressWarnings("unchecked")
+        List<Section> loaded = (List<Section>) codec.decode(codec.encode(attributes)).get("selectedSections");
+
+        for (int i = 0; i < 2; i++) {
+            Section original = i == 0 ? lecture : arranged;
+            Section copy = loaded.get(i);
+            assertEquals(original.toString(), copy.toString());
+            assertEquals(original.getDayMask(), copy.getDayMask());
+            assertEquals(original.getStartMinutes(), copy.getStartMinutes());
+            assertEquals(original.getEndMinutes(), copy.getEndMinutes());
+            assertEquals(original.getCreditsTenths(), copy.getCreditsTenths());
+            assertEquals(original.getFormat(), copy.getFormat());
+            assertEquals(original.getInstructorId(), copy.getInstructorId());
+            assertEquals(original.getLocationId(), copy.getLocationId());
+            assertEquals(original.getSectionType(), copy.getSectionType());
+            assertEquals(original.getOpenSeats(), copy.getOpenSeats());
+        }
+        assertEquals(790, loaded.get(0).getStartMinutes());
+        assertEquals(35, loaded.get(0).getCreditsTenths());
+        assertEquals("Meets in the first half of the term", loaded.get(0).getDescription());
+        assertEquals(-1, loaded.get(1).getStartMinutes());
+        assertEquals("1-3", loaded.get(1).getCredits());
+        assertEquals("Independent Study", loaded.get(1).getInstructionalFormat());
+    }
+
+    @Test
+    void catalogSectionsResolveToTheCurrentCatalogInstances() throws Exception {
+        Section lecture = section("COMS 2280", "A", "Mon,Wed,Fri", "9:00 AM", "9:50 AM", SectionType.IN_PERSON);
+        Section lab = section("COMS 2280", "1", "Tue,Thu", "11:00 AM", "12:15 PM", SectionType.IN_PERSON);
+        Course course = canonicalCatalog.intern("ACADEMIC_PERIOD-2026Fall",
+                List.of(new Course("COMS 2280", "Data Structures", "", List.of(lecture, lab)))).get(0);
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("courses", new ArrayList<>(List.of(course)));
+        attributes.put("selectedSections", new ArrayList<>(List.of(lab)));
+        byte[] encoded = codec.encode(attributes);
+
+        // The lab's seat count changes after the session was saved
+        Section refreshedLab = new Section("Tue,Thu", 2, "Jane Doe", "COMS 2280", "11:00 AM", "12:15 PM", "1", "Lecture",
+                "Atanasoff 310", "In Person", "3", SectionType.IN_PERSON);
+        Course refreshed = canonicalCatalog.intern("ACADEMIC_PERIOD-2026Fall",
+                List.of(new Course("COMS 2280", "Data Structures", "", List.of(lecture, refreshedLab)))).get(0);
+
+        Map<String, Object> loaded = codec.decode(encoded);
+        @SuppressWarnings("unchecked")
+        List<Course> courses = (List<Course>) loaded.get("courses");
+        @SuppressWarnings("unchecked")
+        List<Section> selected = (List<Section>) loaded.get("selectedSections");
+
+        assertSame(refreshed, courses.get(0));
+        assertSame(refreshedLab, selected.get(0));
+        assertEquals(2, selected.get(0).getOpenSeats());
+    }
+
+    @Test
+    void expiredSessionsAreDroppedAndPurged() throws Exception {
+        FileSessionStore store = new FileSessionStore(directory.toString());
+        long longAgo = System.currentTimeMillis() - 120_000;
+        store.save(SESSION_ID, new SessionStore.StoredSession(longAgo, longAgo, 60, codec.encode(Map.of("k", "v"))));
+        store.save("fresh-session-0123456789", new SessionStore.StoredSession(longAgo, System.currentTimeMillis(), 60,
+                codec.encode(Map.of("k", "v"))));
+
+        store.purgeExpired();
+        assertFalse(Files.exists(directory.resolve(SESSION_ID + ".session")));
+        assertNull(store.load(SESSION_ID));
+        assertTrue(store.load("fresh-session-0123456789") != null);
+
+        // Touching pushes the expiry back without rewriting the payload
+        long later = System.currentTimeMillis() + 30_000;
+        store.touch("fresh-session-0123456789", later);
+        assertEquals(later, store.load("fresh-session-0123456789").lastAccessedTime());
+    }
+
+    @Test
+    void rejectsSessionIdsThatAreNotPlainTokens() {
+        FileSessionStore store = new FileSessionStore(directory.toString());
+        assertNull(store.load("../../etc/passwd"));
+        assertNull(store.load(null));
+    }
+
+    private static Section section(String courseId, String number, String days, String start, String end, SectionType type) {
+        return new Section(days, 10, "Jane Doe", courseId, start, end, number, "Lecture", "Atanasoff 310",
+                type == SectionType.ONLINE ? "Online" : "In Person", "3", type);
+    }
+}
@@ -0,0 +1,92 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.ScheduleCursor;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScheduleCursorCodecTests {
+
+    private static final Instant ISSUED = Instant.parse("2025-01-13T15:00:00Z");
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+
+    private final ScheduleCursorCodec codec = codecAt("secret", ISSUED);
+
+    @Test
+    void decodesWhatItSigned() {
+        ScheduleCursor cursor = cursor();
+
+        ScheduleCursor decoded = codec.decode(codec.encode(cursor));
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decodesRequestsWithoutPreferencesOrFilters() {
+        ScheduleRequest request = new ScheduleRequest("ACADEMIC_PERIOD-Spring2025", List.of("COMS 2270"),
+                new SchedulePreferencesForm(null, null, "short", null, null), null, Map.of(), false);
+        ScheduleCursor cursor = new ScheduleCursor(request, 0, 1, List.of(List.of("1")));
+
+        ScheduleCursor decoded = codec.decode(codec.encode(cursor));
+
+        assertEquals(cursor, decoded);
+        assertNull(decoded.request().selectedSections());
+    }
+
+    @Test
+    void instancesSharingTheSecretAcceptEachOthersCursors() {
+        String token = codec.encode(cursor());
+
+        assertEquals(cursor(), codecAt("secret", ISSUED).decode(token));
+        assertThrows(IllegalArgumentException.class, () -> codecAt("other secret", ISSUED).decode(token));
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        byte[] token = Base64.getUrlDecoder().decode(codec.encode(cursor()));
+
+        // Flip one bit in the payload and one in the signature
+        for (int position : new int[] {token.length - 20, token.length - 1}) {
+            byte[] tampered = token.clone();
+            tampered[position] ^= 1;
+            String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(tampered);
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(encoded));
+        }
+        assertThrows(IllegalArgumentException.class, () -> codec.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(""));
+    }
+
+    @Test
+    void rejectsExpiredCursors() {
+        String token = codec.encode(cursor());
+
+        assertEquals(cursor(), codecAt("secret", ISSUED.plus(MAX_AGE)).decode(token));
+        ScheduleCursorCodec later = codecAt("secret", ISSUED.plus(MAX_AGE).plusSeconds(1));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> later.decode(token));
+        assertEquals("Schedule cursor has expired", e.getMessage());
+    }
+
+    private static ScheduleCursorCodec codecAt(String secret, Instant now) {
+        return new ScheduleCursorCodec(secret, MAX_AGE, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static ScheduleCursor cursor() {
+        SchedulePreferencesForm preferences = new SchedulePreferencesForm(List.of("Mon", "Wed"), "morning", null,
+                "compact", true);
+        ScheduleRequest request = new ScheduleRequest("ACADEMIC_PERIOD-Spring2025", List.of("COMS 2270", "MATH 1650"),
+                preferences, Map.of("MATH 1650", List.of("Ada Poe")), Map.of("COMS 2270", List.of("COMS 2270-1")), false);
+        return new ScheduleCursor(request, 3, 12, List.of(List.of("1", "A"), List.of("4")));
+    }
+}
@@ -0,0 +1,179 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
+import com.schedulebuilder.class_scheduler.model.ScheduleBuilder;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleJobServiceTests {
+
+    private static final String BLOCKING = "ACADEMIC_PERIOD-Blocking";
+    private static final String INSTANT = "ACADEMIC_PERIOD-Instant";
+    private static final String OVERFLOWING = "ACADEMIC_PERIOD-Overflowing";
+
+    private final BlockingScheduleService scheduleService = new BlockingScheduleService();
+    private ScheduleJobService jobService;
+
+    @AfterEach
+    void shutdown() {
+        scheduleService.release.countDown();
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsSearchesOnceTheQueueIsFull() throws Exception {
+        jobService = jobService(1, 1, 5000);
+        CompletableFuture<ScheduleResult> running = jobService.generateAsync("a", List.of(), request(BLOCKING));
+        scheduleService.awaitStarted();
+        CompletableFuture<ScheduleResult> queued = jobService.generateAsync("b", List.of(), request(BLOCKING));
+
+        CompletableFuture<ScheduleResult> rejected = jobService.generateAsync("c", List.of(), request(BLOCKING));
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertThrows(RejectedExecutionException.class, () -> jobService.generate("c", List.of(), request(BLOCKING)));
+        assertThrows(RejectedExecutionException.class, () -> jobService.submit("c", List.of(), request(BLOCKING)));
+
+        scheduleService.release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aNewSearchCancelsTheSessionsPreviousOne() throws Exception {
+        jobService = jobService(1, 4, 5000);
+        CompletableFuture<ScheduleResult> running = jobService.generateAsync("a", List.of(), request(BLOCKING));
+        scheduleService.awaitStarted();
+        CompletableFuture<ScheduleResult> queued = jobService.generateAsync("a", List.of(), request(BLOCKING));
+
+        // Replaces both the running search and the queued one
+        ScheduleResult latest = jobService.generate("a", List.of(), request(INSTANT));
+
+        assertNotNull(latest);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> running.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CancellationException);
+        e = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CancellationException);
+    }
+
+    @Test
+    void otherSessionsAndRegeneratedPagesDontCancel() throws Exception {
+        jobService = jobService(3, 4, 5000);
+        CompletableFuture<ScheduleResult> running = jobService.generateAsync("a", List.of(), request(BLOCKING));
+        scheduleService.awaitStarted();
+
+        assertNotNull(jobService.regenerate(List.of(), request(INSTANT)));
+        assertNotNull(jobService.generate("b", List.of(), request(INSTANT)));
+
+        assertFalse(running.isDone());
+        scheduleService.release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void stopsWaitingAfterTheTimeoutButKeepsSearching() throws Exception {
+        jobService = jobService(1, 1, 50);
+
+        assertThrows(TimeoutException.class, () -> jobService.generate("a", List.of(), request(BLOCKING)));
+
+        // Still running, so a second session's search waits in the queue behind it
+        scheduleService.awaitStarted();
+        CompletableFuture<ScheduleResult> queued = jobService.generateAsync("b", List.of(), request(INSTANT));
+        assertFalse(queued.isDone());
+        scheduleService.release.countDown();
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void searchesThatThrowAnErrorFail() throws Exception {
+        jobService = jobService(1, 1, 5000);
+
+        ScheduleJob job = jobService.submit("a", List.of(), request(OVERFLOWING));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> job.getResult().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof StackOverflowError);
+        // The only worker is still there for the next search, which also means the failed job has finished
+        assertNotNull(jobService.generate("a", List.of(), request(INSTANT)));
+        assertEquals(ScheduleJob.Status.FAILED, job.getStatus());
+    }
+
+    private ScheduleJobService jobService(int threads, int queueCapacity, long waitTimeoutMillis) {
+        return new ScheduleJobService(scheduleService, new ScheduleCursorCodec("secret", 604800), threads,
+                queueCapacity, 300, 60000, waitTimeoutMillis);
+    }
+
+    private static ScheduleRequest request(String academicPeriodId) {
+        return new ScheduleRequest(academicPeriodId, List.of(), null, null, null, false);
+    }
+
+    /**
+     * Searches for the blocking period run until released or cancelled, and searches for the
+     * overflowing period throw a StackOverflowError; others finish at once.
+     */
+    private static final class BlockingScheduleService extends ScheduleService {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Semaphore started = new Semaphore(0);
+
+        private BlockingScheduleService() {
+            super(null, null, new ScheduleResultCache(1 << 20, 600));
+        }
+
+        @Override
+        public ScheduleResult prepare(List<Course> courses, ScheduleRequest request) {
+            return new ScheduleResult(courses, List.of(), List.of(), null, false,
+                    GeneratedSchedules.encode(courses, List.of()));
+        }
+
+        @Override
+        public ScheduleResult generateIfCached(ScheduleResult prepared, ScheduleRequest request) {
+            return null;
+        }
+
+        @Override
+        public ScheduleResult generate(List<Course> courses, ScheduleRequest request,
+                                       ScheduleBuilder.ProgressListener listener) {
+            if (request.academicPeriodId().equals(OVERFLOWING)) {
+                throw new StackOverflowError("simulated");
+            }
+            if (request.academicPeriodId().equals(BLOCKING)) {
+                started.release();
+                try {
+                    while (!release.await(10, TimeUnit.MILLISECONDS)) {
+                        if (listener.isCancelled()) {
+                            throw new CancellationException("Schedule generation was cancelled");
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted");
+                }
+            }
+            return prepare(courses, request);
+        }
+
+        private void awaitStarted() throws InterruptedException {
+            assertTrue(started.tryAcquire(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.GeneratedSchedules;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScheduleResultCacheTests {
+
+    private static final String PERIOD = "ACADEMIC_PERIOD-2026Fall";
+
+    private final ScheduleResultCache cache = new ScheduleResultCache(1 << 20, 600);
+    private int generated;
+
+    @Test
+    void equalListingsShareAnEntryAndGetTheCallersSections() {
+        List<Course> courses = List.of(coms(10, "9:00 AM"), math(5));
+        GeneratedSchedules first = cache.get(PERIOD, courses, null, true, this::secondSections);
+
+        // Freshly parsed copies, listed in another order, with a different seat count
+        List<Course> copies = List.of(math(5), coms(0, "9:00 AM"));
+        GeneratedSchedules second = cache.get(PERIOD, copies, null, true, this::secondSections);
+
+        assertEquals(1, generated);
+        assertEquals(first.size(), second.size());
+        Section comsSection = second.getSections(0).stream()
+                .filter(section -> section.getCourseId().equals("COMS 2280")).findFirst().orElseThrow();
+        assertSame(copies.get(1).getSections().get(1), comsSection);
+        assertEquals(0, comsSection.getOpenSeats());
+    }
+
+    @Test
+    void changedListingsMissTheCache() {
+        cache.get(PERIOD, List.of(coms(10, "9:00 AM")), null, true, this::secondSections);
+
+        assertNull(cache.getIfPresent(PERIOD, List.of(coms(10, "10:00 AM")), null, true));
+        assertNull(cache.getIfPresent(PERIOD, List.of(coms(10, "9:00 AM")), null, false));
+        cache.get(PERIOD, List.of(coms(10, "10:00 AM")), null, true, this::secondSections);
+        assertEquals(2, generated);
+    }
+
+    @Test
+    void cancelledSearchesAreNotCached() {
+        List<Course> courses = List.of(coms(10, "9:00 AM"));
+        Function<List<Course>, GeneratedSchedules> cancelled = c -> {
+            throw new CancellationException("Replaced by a newer schedule request");
+        };
+
+        assertThrows(CancellationException.class, () -> cache.get(PERIOD, courses, null, true, cancelled));
+        assertNull(cache.getIfPresent(PERIOD, courses, null, true));
+        assertEquals(0, cache.size());
+    }
+
+    // One schedule per course, using each course's second section
+    private GeneratedSchedules secondSections(List<Course> courses) {
+        generated++;
+        Map<Course, List<Section>> schedule = new HashMap<>();
+        courses.forEach(course -> schedule.put(course, List.of(course.getSections().get(1))));
+        return GeneratedSchedules.encode(courses, List.of(schedule));
+    }
+
+    private static Course coms(int openSeats, String secondStart) {
+        return new Course("COMS 2280", "Data Structures", "", List.of(
+                section("COMS 2280", "A", 10, "Mon,Wed,Fri", "8:00 AM", "8:50 AM"),
+                section("COMS 2280", "B", openSeats, "Mon,Wed,Fri", secondStart, "10:50 AM")));
+    }
+
+    private static Course math(int openSeats) {
+        return new Course("MATH 1650", "Calculus I", "", List.of(
+                section("MATH 1650", "1", openSeats, "Tue,Thu", "11:00 AM", "12:15 PM"),
+                section("MATH 1650", "2", openSeats, "Tue,Thu", "2:10 PM", "3:25 PM")));
+    }
+
+    private static Section section(String courseId, String number, int openSeats, String days, String start, String end) {
+        return new Section(days, openSeats, "Jane Doe", courseId, start, end, number, "Lecture",
+                "Atanasoff 310", "In Person", "3", SectionType.IN_PERSON);
+    }
+}
@@ -0,0 +1,100 @@
+package com.schedulebuilder.class_scheduler.service;
+
+import com.schedulebuilder.class_scheduler.model.Course;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferences;
+import com.schedulebuilder.class_scheduler.model.SchedulePreferencesForm;
+import com.schedulebuilder.class_scheduler.model.ScheduleRequest;
+import com.schedulebuilder.class_scheduler.model.ScheduleResult;
+import com.schedulebuilder.class_scheduler.model.Section;
+import com.schedulebuilder.class_scheduler.model.SectionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleServiceTests {
+
+    private final ScheduleService scheduleService =
+            new ScheduleService(null, null, new ScheduleResultCache(1 << 20, 600));
+
+    @Test
+    void convertsThePreferences() {
+        ScheduleResult prepared = prepare(new SchedulePreferencesForm(List.of("Mon", "Wed"), "morning", "short",
+                "compact", null), false);
+
+        SchedulePreferences preferences = prepared.preferences();
+        assertEquals(List.of("Mon", "Wed"), preferences.getPreferredDays());
+        assertEquals("morning", preferences.getTimePreference());
+        assertEquals("short", preferences.getGapPreference());
+        assertEquals("compact", preferences.getScheduleStyle());
+        assertFalse(prepared.uniqueSchedulesOnly());
+    }
+
+    @Test
+    void missingFieldsAreEmpty() {
+        SchedulePreferences preferences = prepare(new SchedulePreferencesForm(null, null, null, null, null), false)
+                .preferences();
+
+        assertEquals(List.of(), preferences.getPreferredDays());
+        assertEquals("", preferences.getTimePreference());
+        assertEquals("", preferences.getGapPreference());
+        assertEquals("", preferences.getScheduleStyle());
+    }
+
+    @Test
+    void absentPreferencesAreNull() {
+        ScheduleResult prepared = prepare(null, false);
+
+        assertNull(prepared.preferences());
+        assertFalse(prepared.uniqueSchedulesOnly());
+    }
+
+    @Test
+    void uniqueSchedulesAreOptInUnlessGeneratedAutomatically() {
+        assertTrue(prepare(unique(true), false).uniqueSchedulesOnly());
+        assertFalse(prepare(unique(false), false).uniqueSchedulesOnly());
+        assertFalse(prepare(unique(null), false).uniqueSchedulesOnly());
+
+        // Automatic generation ignores the preferences entirely
+        ScheduleResult automatic = prepare(new SchedulePreferencesForm(null, "morning", null, null, false), true);
+        assertNull(automatic.preferences());
+        assertTrue(automatic.uniqueSchedulesOnly());
+    }
+
+    @Test
+    void keepsOnlyTheSelectedSectionsAndSplitsOutOnlineOnes() {
+        Section lecture = section("A", SectionType.IN_PERSON);
+        Section otherLecture = section("B", SectionType.IN_PERSON);
+        Section online = section("XW", SectionType.ONLINE);
+        Course course = new Course("COMS 2280", "Data Structures", "", List.of(lecture, otherLecture, online));
+        ScheduleRequest request = new ScheduleRequest("ACADEMIC_PERIOD-2026Fall", List.of("COMS 2280"), null, null,
+                Map.of("COMS 2280", List.of("COMS 2280-B", "COMS 2280-XW"), "MATH 1650", List.of()), false);
+
+        ScheduleResult prepared = scheduleService.prepare(List.of(course), request);
+
+        assertEquals(List.of(otherLecture), prepared.inPersonCourses().get(0).getSections());
+        assertEquals(List.of(online), prepared.onlineSections());
+        // The empty MATH entry means "no filter" and isn't carried
+        assertEquals(Map.of("COMS 2280", List.of("COMS 2280-B", "COMS 2280-XW")), request.selectedSections());
+    }
+
+    private ScheduleResult prepare(SchedulePreferencesForm preferences, boolean autoGenerated) {
+        ScheduleRequest request = new ScheduleRequest("ACADEMIC_PERIOD-2026Fall", List.of(), preferences, null, null,
+                autoGenerated);
+        return scheduleService.prepare(List.of(), request);
+    }
+
+    private static SchedulePreferencesForm unique(Boolean uniqueSchedulesOnly) {
+        return new SchedulePreferencesForm(null, null, null, null, uniqueSchedulesOnly);
+    }
+
+    private static Section section(String number, SectionType type) {
+        return new Section("Mon,Wed,Fri", 10, "Jane Doe", "COMS 2280", "9:00 AM", "9:50 AM", number, "Lecture",
+                "Atanasoff 310", "In Person", "3", type);
+    }
+}
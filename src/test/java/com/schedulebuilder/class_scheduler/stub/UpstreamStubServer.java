@@ -0,0 +1,255 @@
+package com.schedulebuilder.class_scheduler.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded stand-in for the university class API, serving the three endpoints ApiService uses
+ * from synthetic data (or fixed fixture bodies). Latency and failures can be injected so caching,
+ * request coalescing and the circuit breaker can be exercised without the live service.
+ *
+ * <p>Run {@link #main} to use it for local load tests, then start the app with
+ * {@code --upstream.base-url=http://localhost:8089}.
+ */
+public class UpstreamStubServer implements AutoCloseable {
+
+    public static final String ACADEMIC_PERIODS_PATH = "/api/academic-periods";
+    public static final String COURSE_SUBJECTS_PATH = "/api/course-subjects";
+    public static final String COURSE_SEARCH_PATH = "/api/courses/search";
+
+    private static final String[] MEETING_DAYS = {"MWF", "TR", "MW", "R", "F"};
+    private static final String[] MEETING_TIMES = {
+            "8:00 AM - 8:50 AM", "9:30 AM - 10:45 AM", "11:00 AM - 11:50 AM",
+            "12:40 PM - 1:55 PM", "2:10 PM - 3:00 PM", "4:25 PM - 5:40 PM"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> subjects;
+    private final int coursesPerSubject;
+    private final int sectionsPerCourse;
+    private final Map<String, String> fixtures = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    private volatile long latencyMillis;
+    private volatile long latencyJitterMillis;
+    private volatile double failureRate;
+    private volatile int failureStatus = 503;
+
+    /**
+     * @param port              Port to listen on, or 0 for any free port.
+     * @param subjects          Subject codes to generate courses for.
+     * @param coursesPerSubject Synthetic courses per subject.
+     * @param sectionsPerCourse Synthetic sections per course.
+     */
+    public UpstreamStubServer(int port, List<String> subjects, int coursesPerSubject, int sectionsPerCourse) throws IOException {
+        this.subjects = List.copyOf(subjects);
+        this.coursesPerSubject = coursesPerSubject;
+        this.sectionsPerCourse = sectionsPerCourse;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext(ACADEMIC_PERIODS_PATH, exchange -> handle(exchange, ACADEMIC_PERIODS_PATH));
+        server.createContext(COURSE_SUBJECTS_PATH, exchange -> handle(exchange, COURSE_SUBJECTS_PATH));
+        server.createContext(COURSE_SEARCH_PATH, exchange -> handle(exchange, COURSE_SEARCH_PATH));
+        // One thread per request so injected latency overlaps like a real slow upstream
+        server.setExecutor(executor);
+    }
+
+    public static UpstreamStubServer start(int port, List<String> subjects, int coursesPerSubject, int sectionsPerCourse) throws IOException {
+        UpstreamStubServer stub = new UpstreamStubServer(port, subjects, coursesPerSubject, sectionsPerCourse);
+        stub.server.start();
+        return stub;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Delays every response by {@code latencyMillis} plus a random amount up to {@code jitterMillis}.
+     */
+    public void setLatency(long latencyMillis, long jitterMillis) {
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = jitterMillis;
+    }
+
+    /**
+     * Fails this fraction of requests (0 to 1) with the given HTTP status.
+     */
+    public void setFailures(double failureRate, int status) {
+        this.failureRate = failureRate;
+        this.failureStatus = status;
+    }
+
+    /**
+     * Serves a fixed body for a path instead of synthetic data, e.g. a recorded upstream response.
+     */
+    public void setFixture(String path, String body) {
+        fixtures.put(path, body);
+    }
+
+    public int getRequestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public void resetRequestCounts() {
+        requestCounts.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, String path) throws IOException {
+        try (exchange) {
+            requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+            delay();
+
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                respond(exchange, failureStatus, "{\"error\": \"Injected failure\"}");
+                return;
+            }
+
+            String fixture = fixtures.get(path);
+            if (fixture != null) {
+                respond(exchange, 200, fixture);
+                return;
+            }
+
+            String body = switch (path) {
+                case ACADEMIC_PERIODS_PATH -> academicPeriods();
+                case COURSE_SUBJECTS_PATH -> courseSubjects();
+                default -> courseSearch(objectMapper.readTree(exchange.getRequestBody()));
+            };
+            respond(exchange, 200, body);
+        }
+    }
+
+    private void delay() {
+        long delay = latencyMillis + (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String academicPeriods() throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode data = root.putArray("data");
+        int year = LocalDate.now().getYear();
+        addPeriod(data, "ACADEMIC_PERIOD-" + year + "Fall", year + " Fall Semester (08/24/" + year + "-12/18/" + year + ")",
+                LocalDate.of(year, 8, 24), true);
+        addPeriod(data, "ACADEMIC_PERIOD-" + (year + 1) + "Spring", (year + 1) + " Spring Semester (01/11/" + (year + 1) + "-05/07/" + (year + 1) + ")",
+                LocalDate.of(year + 1, 1, 11), false);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private static void addPeriod(ArrayNode data, String id, String name, LocalDate start, boolean current) {
+        ObjectNode period = data.addObject();
+        period.put("id", id);
+        period.put("name", name);
+        period.put("isCurrent", current);
+        period.put("startDate", start.atStartOfDay(ZoneOffset.UTC).toEpochSecond());
+    }
+
+    private String courseSubjects() throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode data = root.putArray("data");
+        subjects.forEach(data::add);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private String courseSearch(JsonNode request) throws IOException {
+        String subject = request.path("courseSubject").asText("").toUpperCase(Locale.ROOT);
+        String number = request.path("courseNumber").asText("");
+
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode data = root.putArray("data");
+        if (!subjects.contains(subject)) {
+            return objectMapper.writeValueAsString(root);
+        }
+
+        // Seeded per subject so repeated searches return identical data
+        Random random = new Random(subject.hashCode());
+        for (int i = 0; i < coursesPerSubject; i++) {
+            String courseNumber = Integer.toString(1010 + i * 10);
+            if (!number.isEmpty() && !courseNumber.startsWith(number)) {
+                continue;
+            }
+
+            String courseId = subject + " " + courseNumber;
+            ObjectNode course = data.addObject();
+            course.put("courseNumber", courseId);
+            course.put("title", "Synthetic Course " + courseId);
+            course.put("description", "Generated by the upstream stub server.");
+            ArrayNode sections = course.putArray("sections");
+            for (int s = 0; s < sectionsPerCourse; s++) {
+                ObjectNode section = sections.addObject();
+                section.put("courseNumber", courseId);
+                section.put("number", Character.toString((char) ('A' + s % 26)) + (s / 26 == 0 ? "" : Integer.toString(s / 26)));
+                section.put("meetingPatterns", MEETING_DAYS[random.nextInt(MEETING_DAYS.length)] + " | "
+                        + MEETING_TIMES[random.nextInt(MEETING_TIMES.length)]);
+                section.put("instructionalFormat", s == 0 ? "Lecture" : "Laboratory");
+                section.put("locations", "Building " + (100 + random.nextInt(50)));
+                section.put("instructors", "Instructor " + (char) ('A' + random.nextInt(26)));
+                section.put("deliveryMode", "In-Person");
+                section.put("openSeats", random.nextInt(40));
+                section.put("credits", "3");
+            }
+        }
+        return objectMapper.writeValueAsString(root);
+    }
+
+    /**
+     * Runs the stub standalone. Arguments: {@code [port] [latencyMs] [failureRate]}.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        UpstreamStubServer stub = start(port, List.of("COMS", "MATH", "PHYS", "ENGL", "CPRE", "STAT"), 40, 6);
+        if (args.length > 1) {
+            stub.setLatency(Long.parseLong(args[1]), Long.parseLong(args[1]) / 2);
+        }
+        if (args.length > 2) {
+            stub.setFailures(Double.parseDouble(args[2]), 503);
+        }
+        System.out.println("Upstream stub listening on " + stub.getBaseUrl()
+                + " (use --upstream.base-url=" + stub.getBaseUrl() + ")");
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+    }
+}
@@ -0,0 +1,141 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import com.schedulebuilder.class_scheduler.util.CircuitBreaker.CircuitOpenException;
+import com.schedulebuilder.class_scheduler.util.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTests {
+
+    private static final long NEVER = 60_000;
+
+    private int calls;
+
+    @Test
+    void opensAfterConsecutiveFailuresAndFailsFast() {
+        CircuitBreaker breaker = breaker(3, NEVER);
+
+        fail(breaker);
+        fail(breaker);
+        assertEquals("ok", breaker.call(this::succeed));
+        fail(breaker);
+        fail(breaker);
+        assertEquals(State.CLOSED, breaker.getState());
+        fail(breaker);
+        assertEquals(State.OPEN, breaker.getState());
+
+        int callsBefore = calls;
+        assertThrows(CircuitOpenException.class, () -> breaker.call(this::succeed));
+        assertTrue(breaker.callAsync(() -> CompletableFuture.completedFuture("ok")).isCompletedExceptionally());
+        assertEquals(callsBefore, calls);
+    }
+
+    @Test
+    void aSuccessfulProbeClosesTheCircuit() {
+        CircuitBreaker breaker = breaker(1, 0);
+        fail(breaker);
+        assertEquals(State.OPEN, breaker.getState());
+
+        State duringProbe = breaker.call(breaker::getState);
+
+        assertEquals(State.HALF_OPEN, duringProbe);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void aFailedProbeReopensTheCircuit() {
+        CircuitBreaker breaker = breaker(3, 0);
+        fail(breaker);
+        fail(breaker);
+        fail(breaker);
+
+        // A single failure is enough while half-open
+        fail(breaker);
+        assertEquals(State.OPEN, breaker.getState());
+
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        CompletableFuture<String> result = breaker.callAsync(() -> probe);
+        probe.completeExceptionally(new IllegalStateException("upstream down"));
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void onlyOneProbeAtATime() throws Exception {
+        CircuitBreaker breaker = breaker(1, 0);
+        fail(breaker);
+
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        CompletableFuture<String> result = breaker.callAsync(() -> probe);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        assertThrows(CircuitOpenException.class, () -> breaker.call(this::succeed));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> breaker.callAsync(() -> CompletableFuture.completedFuture("ok")).get());
+        assertTrue(e.getCause() instanceof CircuitOpenException);
+
+        probe.complete("ok");
+        assertEquals("ok", result.get());
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void exceptionsTheUpstreamIsNotBlamedForDontCount() {
+        CircuitBreaker breaker = breaker(1, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> breaker.call(this::rejectRequest));
+        assertEquals(State.CLOSED, breaker.getState());
+
+        // They still release a probe, so the next call can probe instead
+        fail(breaker);
+        assertThrows(IllegalArgumentException.class, () -> breaker.call(this::rejectRequest));
+        assertEquals("ok", breaker.call(this::succeed));
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void aProbeThatThrowsAnErrorIsReleased() {
+        CircuitBreaker breaker = breaker(1, 0);
+        fail(breaker);
+
+        assertThrows(StackOverflowError.class, () -> breaker.call(() -> {
+            throw new StackOverflowError("simulated");
+        }));
+        assertEquals(State.OPEN, breaker.getState());
+        CompletableFuture<String> result = breaker.callAsync(() -> {
+            throw new StackOverflowError("simulated");
+        });
+        assertTrue(result.isCompletedExceptionally());
+
+        assertEquals("ok", breaker.call(this::succeed));
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    // Illegal arguments stand in for client errors
+    private CircuitBreaker breaker(int failureThreshold, long openMillis) {
+        return new CircuitBreaker("test", failureThreshold, openMillis, e -> !(e instanceof IllegalArgumentException));
+    }
+
+    private void fail(CircuitBreaker breaker) {
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+            calls++;
+            throw new IllegalStateException("upstream down");
+        }));
+    }
+
+    private String succeed() {
+        calls++;
+        return "ok";
+    }
+
+    private String rejectRequest() {
+        calls++;
+        throw new IllegalArgumentException("bad request");
+    }
+}
@@ -0,0 +1,69 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTests {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int[] loads = new int[1];
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute("key", k -> {
+            loads[0]++;
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = flights.executeAsync("key",
+                k -> CompletableFuture.completedFuture("other"));
+        release.countDown();
+
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    void waitersAreReleasedWhenTheLoaderThrowsAnError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute("key", k -> {
+            started.countDown();
+            await(release);
+            throw new OutOfMemoryError("simulated");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flights.execute("key", k -> "unused"));
+        // Give the follower time to join the leader's flight before it fails
+        Thread.sleep(100);
+        release.countDown();
+
+        Throwable followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause();
+        assertTrue(followerError instanceof OutOfMemoryError);
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        // The failed flight is gone, so the next caller loads again
+        assertEquals("fresh", flights.execute("key", k -> "fresh"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import com.schedulebuilder.class_scheduler.util.UpstreamThrottle.Priority;
+import com.schedulebuilder.class_scheduler.util.UpstreamThrottle.ThrottledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamThrottleTests {
+
+    private static final long LONG_WAIT = 5000;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final List<Long> waits = new CopyOnWriteArrayList<>();
+    private final UpstreamThrottle.WaitListener listener = new UpstreamThrottle.WaitListener() {
+        @Override
+        public void onAdmitted(Priority priority, long waitNanos) {
+            waits.add(waitNanos);
+        }
+
+        @Override
+        public void onRejected(Priority priority) {
+            events.add("rejected " + priority);
+        }
+    };
+    private UpstreamThrottle throttle;
+
+    @AfterEach
+    void shutdown() {
+        if (throttle != null) {
+            throttle.shutdown();
+        }
+    }
+
+    @Test
+    void interactiveRequestsAreAdmittedBeforeBackgroundOnes() throws Exception {
+        throttle = throttle(1000, 100, 1, 0, LONG_WAIT, LONG_WAIT);
+        CompletableFuture<String> occupying = new CompletableFuture<>();
+        CompletableFuture<String> first = throttle.callAsync(Priority.BACKGROUND, () -> occupying);
+
+        // Queued while the only slot is taken, background first
+        CompletableFuture<String> background = throttle.callAsync(Priority.BACKGROUND, () -> record("background"));
+        CompletableFuture<String> interactive = throttle.callAsync(Priority.INTERACTIVE, () -> record("interactive"));
+        assertEquals(2, throttle.getQueued());
+
+        occupying.complete("done");
+        first.get(5, TimeUnit.SECONDS);
+        background.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("interactive", "background"), events);
+    }
+
+    @Test
+    void backgroundRequestsDontUseTheInteractiveReserve() throws Exception {
+        throttle = throttle(1000, 100, 2, 1, LONG_WAIT, LONG_WAIT);
+        CompletableFuture<String> occupying = new CompletableFuture<>();
+        CompletableFuture<String> first = throttle.callAsync(Priority.BACKGROUND, () -> occupying);
+
+        CompletableFuture<String> background = throttle.callAsync(Priority.BACKGROUND, () -> record("background"));
+        assertEquals(1, throttle.getInFlight());
+        assertEquals(1, throttle.getQueued());
+
+        // The reserved slot is still free for interactive requests
+        assertEquals("interactive", throttle.call(Priority.INTERACTIVE, () -> "interactive"));
+        assertFalse(background.isDone());
+
+        occupying.complete("done");
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals("background", background.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void requestsThatWaitTooLongAreRejected() throws Exception {
+        throttle = throttle(1000, 100, 1, 0, 50, 50);
+        CompletableFuture<String> occupying = new CompletableFuture<>();
+        throttle.callAsync(Priority.INTERACTIVE, () -> occupying);
+
+        CompletableFuture<String> queued = throttle.callAsync(Priority.BACKGROUND, () -> record("background"));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof ThrottledException);
+        assertThrows(ThrottledException.class, () -> throttle.call(Priority.INTERACTIVE, () -> record("interactive")));
+
+        assertEquals(List.of("rejected BACKGROUND", "rejected INTERACTIVE"), events);
+        assertEquals(0, throttle.getQueued());
+        occupying.complete("done");
+    }
+
+    @Test
+    void tokensRefillOverTime() {
+        // One token to start with, then one every 50 ms
+        throttle = throttle(20, 1, 10, 0, LONG_WAIT, LONG_WAIT);
+
+        long started = System.nanoTime();
+        throttle.call(Priority.INTERACTIVE, () -> "first");
+        throttle.call(Priority.INTERACTIVE, () -> "second");
+        throttle.call(Priority.INTERACTIVE, () -> "third");
+        long elapsed = System.nanoTime() - started;
+
+        assertTrue(waits.get(0) < TimeUnit.MILLISECONDS.toNanos(20), "first wait " + waits.get(0));
+        assertTrue(waits.get(1) >= TimeUnit.MILLISECONDS.toNanos(30), "second wait " + waits.get(1));
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(80), "elapsed " + elapsed);
+    }
+
+    @Test
+    void failedAsyncActionsReleaseTheirSlot() throws Exception {
+        throttle = throttle(1000, 100, 1, 0, 200, 200);
+
+        CompletableFuture<String> thrown = throttle.callAsync(Priority.INTERACTIVE, () -> {
+            throw new IllegalStateException("could not start");
+        });
+        assertTrue(thrown.isCompletedExceptionally());
+        CompletableFuture<String> error = throttle.callAsync(Priority.INTERACTIVE, () -> {
+            throw new StackOverflowError("simulated");
+        });
+        assertTrue(error.isCompletedExceptionally());
+        CompletableFuture<String> failed = throttle.callAsync(Priority.INTERACTIVE,
+                () -> CompletableFuture.failedFuture(new IllegalStateException("upstream down")));
+        assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> throttle.call(Priority.INTERACTIVE, () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+
+        assertEquals(0, throttle.getInFlight());
+        assertEquals("ok", throttle.callAsync(Priority.INTERACTIVE, () -> CompletableFuture.completedFuture("ok"))
+                .get(5, TimeUnit.SECONDS));
+    }
+
+    private UpstreamThrottle throttle(double requestsPerSecond, int burst, int maxConcurrent, int interactiveReserve,
+                                      long interactiveMaxWaitMillis, long backgroundMaxWaitMillis) {
+        return new UpstreamThrottle(requestsPerSecond, burst, maxConcurrent, interactiveReserve,
+                interactiveMaxWaitMillis, backgroundMaxWaitMillis, listener);
+    }
+
+    private CompletableFuture<String> record(String event) {
+        events.add(event);
+        return CompletableFuture.completedFuture(event);
+    }
+}
@@ -0,0 +1,129 @@
+package com.schedulebuilder.class_scheduler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeightedCacheTests {
+
+    private static final long NEVER = 60_000;
+
+    // Runs background refreshes only when the test says so
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private int loads;
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesByWeight() {
+        WeightedCache<String, String> cache = cache(10, NEVER, NEVER);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.getIfPresent("a");
+
+        cache.put("c", "ccc");
+
+        assertNull(cache.getIfPresent("b"));
+        assertEquals("aaaa", cache.getIfPresent("a"));
+        assertEquals("ccc", cache.getIfPresent("c"));
+        assertEquals(7, cache.weight());
+    }
+
+    @Test
+    void valuesHeavierThanTheCacheAreNotCached() {
+        WeightedCache<String, String> cache = cache(10, NEVER, NEVER);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+
+        cache.put("a", "x".repeat(11));
+
+        // The old value is dropped rather than kept, and nothing else is evicted for it
+        assertNull(cache.getIfPresent("a"));
+        assertEquals("bbbb", cache.getIfPresent("b"));
+        assertEquals(4, cache.weight());
+    }
+
+    @Test
+    void expiredEntriesAreLoadedAgain() throws Exception {
+        WeightedCache<String, String> cache = cache(100, NEVER, 30);
+        assertEquals("value 1", cache.get("key", this::load));
+        assertEquals("value 1", cache.get("key", this::load));
+
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        assertNull(cache.getIfPresent("key"));
+        assertEquals("value 2", cache.get("key", this::load));
+        assertEquals(2, loads);
+    }
+
+    @Test
+    void staleEntriesAreServedWhileOneRefreshRuns() {
+        WeightedCache<String, String> cache = cache(100, 0, NEVER);
+        assertEquals("value 1", cache.get("key", this::load));
+
+        assertEquals("value 1", cache.get("key", this::load));
+        assertEquals("value 1", cache.get("key", this::load));
+        assertEquals(1, refreshes.size());
+
+        refreshes.remove(0).run();
+        assertEquals("value 2", cache.getIfPresent("key"));
+        // Finished, so the next stale hit refreshes again
+        cache.get("key", this::load);
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    void staleEntriesAreServedWhileOneAsyncRefreshRuns() throws Exception {
+        WeightedCache<String, String> cache = cache(100, 0, NEVER);
+        assertEquals("value 1", cache.getAsync("key", key -> CompletableFuture.completedFuture(load(key))).get());
+
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        List<String> started = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("value 1", cache.getAsync("key", key -> {
+                started.add(key);
+                return refresh;
+            }).get());
+        }
+        assertEquals(1, started.size());
+
+        refresh.complete("refreshed");
+        assertEquals("refreshed", cache.getIfPresent("key"));
+    }
+
+    @Test
+    void failedReloadsServeTheExpiredValue() throws Exception {
+        WeightedCache<String, String> cache = cache(100, NEVER, 20);
+        cache.put("key", "last good");
+        TimeUnit.MILLISECONDS.sleep(40);
+
+        assertEquals("last good", cache.get("key", key -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        assertEquals("last good", cache.getAsync("key", key -> {
+            throw new IllegalStateException("upstream down");
+        }).get());
+        assertEquals("last good", cache.getAsync("key",
+                key -> CompletableFuture.failedFuture(new IllegalStateException("upstream down"))).get());
+
+        // With nothing to fall back on, the failure propagates
+        assertThrows(IllegalStateException.class, () -> cache.get("other", key -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        assertEquals(1, cache.size());
+    }
+
+    private WeightedCache<String, String> cache(long maxWeight, long refreshAfterMillis, long expireAfterMillis) {
+        return new WeightedCache<>(maxWeight, refreshAfterMillis, expireAfterMillis, String::length, refreshes::add);
+    }
+
+    private String load(String key) {
+        loads++;
+        return "value " + loads;
+    }
+}
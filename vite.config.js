@@ -37,6 +37,10 @@ export default defineConfig({
         target: 'http://localhost:8080',
         changeOrigin: true
       },
+      '/addCourses': {
+        target: 'http://localhost:8080',
+        changeOrigin: true
+      },
       '/removeCourse': {
         target: 'http://localhost:8080',
         changeOrigin: true